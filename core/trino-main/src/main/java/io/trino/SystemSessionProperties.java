@@ -213,6 +213,7 @@ public final class SystemSessionProperties
     public static final String MIN_INPUT_ROWS_PER_TASK = "min_input_rows_per_task";
     public static final String USE_EXACT_PARTITIONING = "use_exact_partitioning";
     public static final String USE_COST_BASED_PARTITIONING = "use_cost_based_partitioning";
+    public static final String USE_ESTIMATED_AGGREGATION_GROUP_COUNT = "use_estimated_aggregation_group_count";
     public static final String PUSH_FILTER_INTO_VALUES_MAX_ROW_COUNT = "push_filter_into_values_max_row_count";
     public static final String FORCE_SPILLING_JOIN = "force_spilling_join";
     public static final String PAGE_PARTITIONING_BUFFER_POOL_SIZE = "page_partitioning_buffer_pool_size";
@@ -1099,6 +1100,11 @@ public final class SystemSessionProperties
                         "When enabled the cost based optimizer is used to determine if repartitioning the output of an already partitioned stage is necessary",
                         optimizerConfig.isUseCostBasedPartitioning(),
                         false),
+                booleanProperty(
+                        USE_ESTIMATED_AGGREGATION_GROUP_COUNT,
+                        "When enabled the estimated number of groups is used to size the hash tables of final aggregations",
+                        optimizerConfig.isUseEstimatedAggregationGroupCount(),
+                        false),
                 integerProperty(
                         PUSH_FILTER_INTO_VALUES_MAX_ROW_COUNT,
                         "Maximum number of rows in values for which filter is pushed down into values",
@@ -2000,6 +2006,11 @@ public final class SystemSessionProperties
         return session.getSystemProperty(USE_COST_BASED_PARTITIONING, Boolean.class);
     }
 
+    public static boolean isUseEstimatedAggregationGroupCount(Session session)
+    {
+        return session.getSystemProperty(USE_ESTIMATED_AGGREGATION_GROUP_COUNT, Boolean.class);
+    }
+
     public static int getPushFilterIntoValuesMaxRowCount(Session session)
     {
         return session.getSystemProperty(PUSH_FILTER_INTO_VALUES_MAX_ROW_COUNT, Integer.class);
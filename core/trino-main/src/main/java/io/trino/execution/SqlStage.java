@@ -255,6 +255,7 @@ public final class SqlStage
             int attempt,
             Optional<int[]> bucketToPartition,
             OptionalInt skewedBucketCount,
+            Optional<Integer> partitionCount,
             OutputBuffers outputBuffers,
             Multimap<PlanNodeId, Split> splits,
             Set<PlanNodeId> noMoreSplits,
@@ -272,6 +273,9 @@ public final class SqlStage
         // set partitioning information on coordinator side
         PlanFragment fragment = stateMachine.getFragment();
         fragment = fragment.withOutputPartitioning(bucketToPartition, skewedBucketCount);
+        if (partitionCount.isPresent()) {
+            fragment = fragment.withPartitionCount(partitionCount);
+        }
         PlanNode newRoot = fragment.getRoot();
         LocalExchangePartitionRewriter rewriter = new LocalExchangePartitionRewriter(handle -> bucketCountProvider.getBucketCount(session, handle));
         newRoot = SimplePlanRewriter.rewriteWith(rewriter, newRoot);
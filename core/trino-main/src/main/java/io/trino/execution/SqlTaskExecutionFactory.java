@@ -25,6 +25,7 @@ import io.trino.sql.planner.LocalExecutionPlanner;
 import io.trino.sql.planner.LocalExecutionPlanner.LocalExecutionPlan;
 import io.trino.sql.planner.PlanFragment;
 
+import java.util.Optional;
 import java.util.concurrent.Executor;
 
 import static com.google.common.base.Throwables.throwIfUnchecked;
@@ -79,6 +80,9 @@ public class SqlTaskExecutionFactory
                 localExecutionPlan = planner.plan(
                         taskContext,
                         fragment.getRoot(),
+                        fragment.getStatsAndCosts(),
+                        // a single node fragment runs in a single task
+                        fragment.getPartitioning().isSingleNode() ? Optional.of(1) : fragment.getPartitionCount(),
                         fragment.getOutputPartitioningScheme(),
                         fragment.getOutputSkewedBucketCount(),
                         fragment.getPartitionedSources(),
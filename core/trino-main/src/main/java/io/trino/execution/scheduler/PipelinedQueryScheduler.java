@@ -572,6 +572,7 @@ public class PipelinedQueryScheduler
                         executor,
                         bucketToPartitionForStagesConsumedByCoordinator.get(stage.getFragment().getId()).map(BucketToPartition::bucketToPartition),
                         OptionalInt.empty(),
+                        Optional.empty(),
                         0);
                 stageExecutions.add(stageExecution);
                 taskLifecycleListener = stageExecution.getTaskLifecycleListener();
@@ -937,6 +938,7 @@ public class PipelinedQueryScheduler
                         executor,
                         bucketToPartition.map(BucketToPartition::bucketToPartition),
                         skewedBucketCount,
+                        getStagePartitionCount(queryStateMachine.getSession(), fragment, partitioningCache),
                         attempt);
                 stageExecutions.put(stage.getStageId(), stageExecution);
             }
@@ -1190,6 +1192,19 @@ public class PipelinedQueryScheduler
                     tableExecuteContextManager);
         }
 
+        /**
+         * Returns the number of tasks of a hash partitioned stage, which is the number of nodes the
+         * partitions are assigned to. The tasks use it to size their hash tables.
+         */
+        private static Optional<Integer> getStagePartitionCount(Session session, PlanFragment fragment, Function<PartitioningKey, NodePartitionMap> partitioningCache)
+        {
+            if (!fragment.getPartitioning().equals(FIXED_HASH_DISTRIBUTION)) {
+                return fragment.getPartitionCount();
+            }
+            NodePartitionMap nodePartitionMap = partitioningCache.apply(new PartitioningKey(FIXED_HASH_DISTRIBUTION, getFragmentMaxPartitionCount(session, fragment)));
+            return Optional.of(nodePartitionMap.getPartitionToNode().size());
+        }
+
         private static int getFragmentMaxPartitionCount(Session session, PlanFragment fragment)
         {
             return fragment.getPartitionCount().orElseGet(() -> PlanNodeSearcher.searchFrom(fragment.getRoot())
@@ -114,6 +114,7 @@ public class PipelinedStageExecution
     private final InternalNodeManager nodeManager;
     private final Optional<int[]> bucketToPartition;
     private final OptionalInt skewedBucketCount;
+    private final Optional<Integer> partitionCount;
     private final Map<PlanFragmentId, RemoteSourceNode> exchangeSources;
     private final int attempt;
 
@@ -141,6 +142,7 @@ public class PipelinedStageExecution
             Executor executor,
             Optional<int[]> bucketToPartition,
             OptionalInt skewedBucketCount,
+            Optional<Integer> partitionCount,
             int attempt)
     {
         PipelinedStageStateMachine stateMachine = new PipelinedStageStateMachine(stage.getStageId(), executor);
@@ -158,6 +160,7 @@ public class PipelinedStageExecution
                 nodeManager,
                 bucketToPartition,
                 skewedBucketCount,
+                partitionCount,
                 exchangeSources.buildOrThrow(),
                 attempt);
         execution.initialize();
@@ -172,6 +175,7 @@ public class PipelinedStageExecution
             InternalNodeManager nodeManager,
             Optional<int[]> bucketToPartition,
             OptionalInt skewedBucketCount,
+            Optional<Integer> partitionCount,
             Map<PlanFragmentId, RemoteSourceNode> exchangeSources,
             int attempt)
     {
@@ -182,6 +186,7 @@ public class PipelinedStageExecution
         this.nodeManager = requireNonNull(nodeManager, "nodeManager is null");
         this.bucketToPartition = requireNonNull(bucketToPartition, "bucketToPartition is null");
         this.skewedBucketCount = requireNonNull(skewedBucketCount, "skewedBucketCount is null");
+        this.partitionCount = requireNonNull(partitionCount, "partitionCount is null");
         this.exchangeSources = ImmutableMap.copyOf(requireNonNull(exchangeSources, "exchangeSources is null"));
         this.attempt = attempt;
     }
@@ -302,6 +307,7 @@ public class PipelinedStageExecution
                 attempt,
                 bucketToPartition,
                 skewedBucketCount,
+                partitionCount,
                 outputBuffers,
                 initialSplits,
                 ImmutableSet.of(),
@@ -2357,6 +2357,7 @@ public class EventDrivenFaultTolerantQueryScheduler
                     sinkPartitioningScheme.getBucketToPartitionMap(),
                     // FTE does not support writer scaling
                     OptionalInt.empty(),
+                    stage.getFragment().getPartitionCount(),
                     outputBuffers,
                     splits,
                     noMoreSplits,
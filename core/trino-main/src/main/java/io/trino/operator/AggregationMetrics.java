@@ -29,11 +29,13 @@ public class AggregationMetrics
     static final String INPUT_ROWS_WITH_PARTIAL_AGGREGATION_DISABLED_METRIC_NAME = "Input rows processed without partial aggregation enabled";
     private static final String ACCUMULATOR_TIME_METRIC_NAME = "Accumulator update CPU time";
     private static final String GROUP_BY_HASH_TIME_METRIC_NAME = "Group by hash update CPU time";
+    public static final String GROUP_BY_HASH_REHASHES_METRIC_NAME = "Group by hash rehashes";
 
     private final SpillMetrics spillMetrics = new SpillMetrics();
 
     private long accumulatorTimeNanos;
     private long groupByHashTimeNanos;
+    private long groupByHashRehashes;
     private long inputRowsProcessedWithPartialAggregationDisabled;
 
     public void recordAccumulatorUpdateTimeSince(long startNanos)
@@ -46,6 +48,14 @@ public class AggregationMetrics
         groupByHashTimeNanos += System.nanoTime() - startNanos;
     }
 
+    public void recordGroupByHashCapacityChange(int oldCapacity, int newCapacity)
+    {
+        // each rehash doubles the capacity of the hash table
+        if (newCapacity > oldCapacity) {
+            groupByHashRehashes += Integer.numberOfLeadingZeros(oldCapacity) - Integer.numberOfLeadingZeros(newCapacity);
+        }
+    }
+
     public void recordInputRowsProcessedWithPartialAggregationDisabled(long rows)
     {
         inputRowsProcessedWithPartialAggregationDisabled += rows;
@@ -67,6 +77,7 @@ public class AggregationMetrics
                 .put(INPUT_ROWS_WITH_PARTIAL_AGGREGATION_DISABLED_METRIC_NAME, new LongCount(inputRowsProcessedWithPartialAggregationDisabled))
                 .put(ACCUMULATOR_TIME_METRIC_NAME, new DurationTiming(new Duration(accumulatorTimeNanos, NANOSECONDS)))
                 .put(GROUP_BY_HASH_TIME_METRIC_NAME, new DurationTiming(new Duration(groupByHashTimeNanos, NANOSECONDS)))
+                .put(GROUP_BY_HASH_REHASHES_METRIC_NAME, new LongCount(groupByHashRehashes))
                 .putAll(spillMetrics.getMetrics().getMetrics())
                 .buildOrThrow());
     }
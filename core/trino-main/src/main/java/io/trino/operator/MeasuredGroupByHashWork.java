@@ -19,20 +19,24 @@ public class MeasuredGroupByHashWork<T>
         implements Work<T>
 {
     private final Work<T> delegate;
+    private final GroupByHash groupByHash;
     private final AggregationMetrics metrics;
 
-    public MeasuredGroupByHashWork(Work<T> delegate, AggregationMetrics metrics)
+    public MeasuredGroupByHashWork(Work<T> delegate, GroupByHash groupByHash, AggregationMetrics metrics)
     {
         this.delegate = requireNonNull(delegate, "delegate is null");
+        this.groupByHash = requireNonNull(groupByHash, "groupByHash is null");
         this.metrics = requireNonNull(metrics, "metrics is null");
     }
 
     @Override
     public boolean process()
     {
+        int capacity = groupByHash.getCapacity();
         long start = System.nanoTime();
         boolean result = delegate.process();
         metrics.recordGroupByHashUpdateTimeSince(start);
+        metrics.recordGroupByHashCapacityChange(capacity, groupByHash.getCapacity());
         return result;
     }
 
@@ -22,6 +22,8 @@ import static java.util.Objects.requireNonNull;
 public class InputPageProjection
         implements PageProjection
 {
+    private static final double MIN_SELECTED_FRACTION_FOR_VIEW = 0.5;
+
     private final InputChannels inputChannels;
 
     public InputPageProjection(int inputChannel)
@@ -48,7 +50,15 @@ public class InputPageProjection
         requireNonNull(selectedPositions, "selectedPositions is null");
 
         if (selectedPositions.isList()) {
-            block = block.copyPositions(selectedPositions.getPositions(), selectedPositions.getOffset(), selectedPositions.size());
+            if (isMostlySelected(selectedPositions, block)) {
+                // Return a view over the selected positions. Operators which need compact blocks, like the ones
+                // buffering or serializing pages, compact them, so the positions are copied at most once.
+                // The view retains the positions array, so PageProcessor passes positions which are not reused.
+                block = block.getPositions(selectedPositions.getPositions(), selectedPositions.getOffset(), selectedPositions.size());
+            }
+            else {
+                block = block.copyPositions(selectedPositions.getPositions(), selectedPositions.getOffset(), selectedPositions.size());
+            }
         }
         else if (selectedPositions.size() == block.getPositionCount()) {
             return block;
@@ -58,4 +68,10 @@ public class InputPageProjection
         }
         return block;
     }
+
+    private static boolean isMostlySelected(SelectedPositions selectedPositions, Block block)
+    {
+        // A view retains the whole block, so copying is preferred when most of the positions are filtered out
+        return selectedPositions.size() >= block.getPositionCount() * MIN_SELECTED_FRACTION_FOR_VIEW;
+    }
 }
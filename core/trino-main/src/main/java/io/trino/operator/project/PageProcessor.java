@@ -48,6 +48,7 @@ import static io.airlift.slice.SizeOf.sizeOf;
 import static io.trino.operator.WorkProcessor.ProcessState.finished;
 import static io.trino.operator.WorkProcessor.ProcessState.ofResult;
 import static io.trino.operator.WorkProcessor.ProcessState.yielded;
+import static io.trino.operator.project.SelectedPositions.positionsList;
 import static io.trino.operator.project.SelectedPositions.positionsRange;
 import static io.trino.spi.block.DictionaryId.randomDictionaryId;
 import static java.util.Objects.requireNonNull;
@@ -64,6 +65,7 @@ public class PageProcessor
     private final Optional<FilterEvaluator> filterEvaluator;
     private final Optional<FilterEvaluator> dynamicFilterEvaluator;
     private final List<PageProjection> projections;
+    private final boolean projectionsRetainPositions;
 
     private int projectBatchSize;
 
@@ -77,6 +79,7 @@ public class PageProcessor
     {
         this.filterEvaluator = requireNonNull(filterEvaluator, "filterEvaluator is null");
         this.dynamicFilterEvaluator = requireNonNull(dynamicFilterEvaluator, "dynamicFilterEvaluator is null");
+        this.projectionsRetainPositions = projections.stream().anyMatch(InputPageProjection.class::isInstance);
         this.projections = projections.stream()
                 .map(projection -> {
                     if (projection.getInputChannels().size() == 1 && projection.isDeterministic()) {
@@ -138,6 +141,13 @@ public class PageProcessor
             return WorkProcessor.of(new Page(selectedPositions.size()));
         }
 
+        if (projectionsRetainPositions && selectedPositions.isList()) {
+            // Input projections may return views over the selected positions, while filter evaluators reuse
+            // their positions array for the next page. Copy the positions once for all the projected columns.
+            int offset = selectedPositions.getOffset();
+            selectedPositions = positionsList(Arrays.copyOfRange(selectedPositions.getPositions(), offset, offset + selectedPositions.size()), 0, selectedPositions.size());
+        }
+
         return WorkProcessor.create(new ProjectSelectedPositions(session, yieldSignal, memoryContext, metrics, page, selectedPositions));
     }
 
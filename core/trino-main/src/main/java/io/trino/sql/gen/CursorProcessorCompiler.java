@@ -34,6 +34,7 @@ import io.airlift.bytecode.control.IfStatement;
 import io.airlift.bytecode.control.WhileLoop;
 import io.airlift.bytecode.instruction.LabelNode;
 import io.airlift.slice.Slice;
+import io.airlift.stats.TimeStat;
 import io.trino.cache.CacheStatsMBean;
 import io.trino.cache.NonEvictableLoadingCache;
 import io.trino.metadata.FunctionManager;
@@ -87,6 +88,7 @@ import static io.trino.util.CompilerUtils.defineClass;
 import static io.trino.util.CompilerUtils.makeClassName;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 public class CursorProcessorCompiler
 {
@@ -96,6 +98,7 @@ public class CursorProcessorCompiler
 
     private final NonEvictableLoadingCache<CacheKey, Class<? extends CursorProcessor>> cursorProcessors;
     private final CacheStatsMBean cacheStatsMBean;
+    private final TimeStat cursorProcessorCompilationTime = new TimeStat(MILLISECONDS);
 
     @Inject
     public CursorProcessorCompiler(FunctionManager functionManager)
@@ -104,7 +107,11 @@ public class CursorProcessorCompiler
         this.cursorProcessors = buildNonEvictableCache(CacheBuilder.newBuilder()
                         .recordStats()
                         .maximumSize(1000),
-                CacheLoader.from(key -> compile(key.filter(), key.projections())));
+                CacheLoader.from(key -> {
+                    try (TimeStat.BlockTimer _ = cursorProcessorCompilationTime.time()) {
+                        return compile(key.filter(), key.projections());
+                    }
+                }));
         this.cacheStatsMBean = new CacheStatsMBean(cursorProcessors);
     }
 
@@ -115,6 +122,13 @@ public class CursorProcessorCompiler
         return cacheStatsMBean;
     }
 
+    @Managed
+    @Nested
+    public TimeStat getCursorProcessorCompilationTime()
+    {
+        return cursorProcessorCompilationTime;
+    }
+
     public Supplier<CursorProcessor> compileCursorProcessor(Optional<RowExpression> filter, List<RowExpression> projections, Object uniqueKey)
     {
         Class<? extends CursorProcessor> cursorProcessor;
@@ -32,6 +32,7 @@ import io.airlift.bytecode.expression.BytecodeExpression;
 import io.airlift.bytecode.expression.BytecodeExpressions;
 import io.airlift.bytecode.instruction.LabelNode;
 import io.airlift.slice.SizeOf;
+import io.airlift.stats.TimeStat;
 import io.trino.Session;
 import io.trino.annotation.UsedByGeneratedCode;
 import io.trino.cache.CacheStatsMBean;
@@ -97,25 +98,35 @@ import static io.trino.sql.gen.SqlTypeBytecodeExpression.constantType;
 import static io.trino.util.CompilerUtils.defineClass;
 import static io.trino.util.CompilerUtils.makeClassName;
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 public class JoinCompiler
 {
     private final TypeOperators typeOperators;
     private final boolean enableSingleChannelBigintLookupSource;
 
+    private final TimeStat lookupSourceCompilationTime = new TimeStat(MILLISECONDS);
+    private final TimeStat hashStrategyCompilationTime = new TimeStat(MILLISECONDS);
+
     private final NonEvictableLoadingCache<CacheKey, LookupSourceSupplierFactory> lookupSourceFactories = buildNonEvictableCache(
             CacheBuilder.newBuilder()
                     .recordStats()
                     .maximumSize(1000),
-            CacheLoader.from(key ->
-                    internalCompileLookupSourceFactory(key.getTypes(), key.getOutputChannels(), key.getJoinChannels(), key.getSortChannel())));
+            CacheLoader.from(key -> {
+                try (TimeStat.BlockTimer _ = lookupSourceCompilationTime.time()) {
+                    return internalCompileLookupSourceFactory(key.getTypes(), key.getOutputChannels(), key.getJoinChannels(), key.getSortChannel());
+                }
+            }));
 
     private final NonEvictableLoadingCache<CacheKey, Class<? extends PagesHashStrategy>> hashStrategies = buildNonEvictableCache(
             CacheBuilder.newBuilder()
                     .recordStats()
                     .maximumSize(1000),
-            CacheLoader.from(key ->
-                    internalCompileHashStrategy(key.getTypes(), key.getOutputChannels(), key.getJoinChannels(), key.getSortChannel())));
+            CacheLoader.from(key -> {
+                try (TimeStat.BlockTimer _ = hashStrategyCompilationTime.time()) {
+                    return internalCompileHashStrategy(key.getTypes(), key.getOutputChannels(), key.getJoinChannels(), key.getSortChannel());
+                }
+            }));
 
     @Inject
     public JoinCompiler(TypeOperators typeOperators)
@@ -144,6 +155,20 @@ public class JoinCompiler
         return new CacheStatsMBean(hashStrategies);
     }
 
+    @Managed
+    @Nested
+    public TimeStat getLookupSourceCompilationTime()
+    {
+        return lookupSourceCompilationTime;
+    }
+
+    @Managed
+    @Nested
+    public TimeStat getHashStrategyCompilationTime()
+    {
+        return hashStrategyCompilationTime;
+    }
+
     public LookupSourceSupplierFactory compileLookupSourceFactory(List<? extends Type> types, List<Integer> joinChannels, Optional<Integer> sortChannel, Optional<List<Integer>> outputChannels)
     {
         return lookupSourceFactories.getUnchecked(new CacheKey(
@@ -27,6 +27,7 @@ import io.airlift.bytecode.Variable;
 import io.airlift.bytecode.expression.BytecodeExpression;
 import io.airlift.bytecode.instruction.LabelNode;
 import io.airlift.log.Logger;
+import io.airlift.stats.TimeStat;
 import io.trino.cache.CacheStatsMBean;
 import io.trino.cache.NonEvictableLoadingCache;
 import io.trino.operator.PageWithPositionComparator;
@@ -67,22 +68,34 @@ import static io.trino.sql.gen.Bootstrap.BOOTSTRAP_METHOD;
 import static io.trino.util.CompilerUtils.defineClass;
 import static io.trino.util.CompilerUtils.makeClassName;
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 public class OrderingCompiler
 {
     private static final Logger log = Logger.get(OrderingCompiler.class);
 
+    private final TimeStat pagesIndexOrderingCompilationTime = new TimeStat(MILLISECONDS);
+    private final TimeStat pageWithPositionComparatorCompilationTime = new TimeStat(MILLISECONDS);
+
     private final NonEvictableLoadingCache<PagesIndexComparatorCacheKey, PagesIndexOrdering> pagesIndexOrderings = buildNonEvictableCache(
             CacheBuilder.newBuilder()
                     .recordStats()
                     .maximumSize(1000),
-            CacheLoader.from(key -> internalCompilePagesIndexOrdering(key.getSortTypes(), key.getSortChannels(), key.getSortOrders())));
+            CacheLoader.from(key -> {
+                try (TimeStat.BlockTimer _ = pagesIndexOrderingCompilationTime.time()) {
+                    return internalCompilePagesIndexOrdering(key.getSortTypes(), key.getSortChannels(), key.getSortOrders());
+                }
+            }));
 
     private final NonEvictableLoadingCache<PagesIndexComparatorCacheKey, PageWithPositionComparator> pageWithPositionComparators = buildNonEvictableCache(
             CacheBuilder.newBuilder()
                     .recordStats()
                     .maximumSize(1000),
-            CacheLoader.from(key -> internalCompilePageWithPositionComparator(key.getSortTypes(), key.getSortChannels(), key.getSortOrders())));
+            CacheLoader.from(key -> {
+                try (TimeStat.BlockTimer _ = pageWithPositionComparatorCompilationTime.time()) {
+                    return internalCompilePageWithPositionComparator(key.getSortTypes(), key.getSortChannels(), key.getSortOrders());
+                }
+            }));
 
     private final TypeOperators typeOperators;
 
@@ -106,6 +119,20 @@ public class OrderingCompiler
         return new CacheStatsMBean(pageWithPositionComparators);
     }
 
+    @Managed
+    @Nested
+    public TimeStat getPagesIndexOrderingCompilationTime()
+    {
+        return pagesIndexOrderingCompilationTime;
+    }
+
+    @Managed
+    @Nested
+    public TimeStat getPageWithPositionComparatorCompilationTime()
+    {
+        return pageWithPositionComparatorCompilationTime;
+    }
+
     public PagesIndexOrdering compilePagesIndexOrdering(List<Type> sortTypes, List<Integer> sortChannels, List<SortOrder> sortOrders)
     {
         requireNonNull(sortTypes, "sortTypes is null");
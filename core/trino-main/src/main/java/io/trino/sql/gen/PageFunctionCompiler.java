@@ -32,6 +32,7 @@ import io.airlift.bytecode.Scope;
 import io.airlift.bytecode.Variable;
 import io.airlift.bytecode.control.ForLoop;
 import io.airlift.bytecode.control.IfStatement;
+import io.airlift.stats.TimeStat;
 import io.trino.cache.CacheStatsMBean;
 import io.trino.cache.NonEvictableLoadingCache;
 import io.trino.metadata.FunctionManager;
@@ -99,6 +100,7 @@ import static io.trino.util.CompilerUtils.defineClass;
 import static io.trino.util.CompilerUtils.makeClassName;
 import static io.trino.util.Reflection.constructorMethodHandle;
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 public class PageFunctionCompiler
 {
@@ -110,6 +112,9 @@ public class PageFunctionCompiler
     private final CacheStatsMBean projectionCacheStats;
     private final CacheStatsMBean filterCacheStats;
 
+    private final TimeStat projectionCompilationTime = new TimeStat(MILLISECONDS);
+    private final TimeStat filterCompilationTime = new TimeStat(MILLISECONDS);
+
     @Inject
     public PageFunctionCompiler(FunctionManager functionManager, CompilerConfig config)
     {
@@ -163,6 +168,20 @@ public class PageFunctionCompiler
         return filterCacheStats;
     }
 
+    @Managed
+    @Nested
+    public TimeStat getProjectionCompilationTime()
+    {
+        return projectionCompilationTime;
+    }
+
+    @Managed
+    @Nested
+    public TimeStat getFilterCompilationTime()
+    {
+        return filterCompilationTime;
+    }
+
     public Supplier<PageProjection> compileProjection(RowExpression projection, Optional<String> classNameSuffix)
     {
         if (projectionCache == null) {
@@ -178,6 +197,13 @@ public class PageFunctionCompiler
     }
 
     private Supplier<PageProjection> compileProjectionInternal(RowExpression projection, Optional<String> classNameSuffix)
+    {
+        try (TimeStat.BlockTimer _ = projectionCompilationTime.time()) {
+            return doCompileProjection(projection, classNameSuffix);
+        }
+    }
+
+    private Supplier<PageProjection> doCompileProjection(RowExpression projection, Optional<String> classNameSuffix)
     {
         requireNonNull(projection, "projection is null");
 
@@ -375,6 +401,13 @@ public class PageFunctionCompiler
     }
 
     private Supplier<PageFilter> compileFilterInternal(RowExpression filter, Optional<String> classNameSuffix)
+    {
+        try (TimeStat.BlockTimer _ = filterCompilationTime.time()) {
+            return doCompileFilter(filter, classNameSuffix);
+        }
+    }
+
+    private Supplier<PageFilter> doCompileFilter(RowExpression filter, Optional<String> classNameSuffix)
     {
         requireNonNull(filter, "filter is null");
 
@@ -25,6 +25,7 @@ import io.airlift.bytecode.Variable;
 import io.airlift.bytecode.expression.BytecodeExpression;
 import io.airlift.bytecode.expression.BytecodeExpressions;
 import io.airlift.log.Logger;
+import io.airlift.stats.TimeStat;
 import io.trino.cache.CacheStatsMBean;
 import io.trino.cache.NonEvictableLoadingCache;
 import io.trino.metadata.FunctionManager;
@@ -73,6 +74,7 @@ import static io.trino.sql.relational.SpecialForm.Form.IS_NULL;
 import static io.trino.util.CompilerUtils.defineClass;
 import static java.util.Collections.nCopies;
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 public class ColumnarFilterCompiler
 {
@@ -82,6 +84,7 @@ public class ColumnarFilterCompiler
     // Optional is used to cache failure to generate filter for unsupported cases
     private final NonEvictableLoadingCache<RowExpression, Optional<Supplier<ColumnarFilter>>> filterCache;
     private final CacheStatsMBean filterCacheStats;
+    private final TimeStat filterCompilationTime = new TimeStat(MILLISECONDS);
 
     @Inject
     public ColumnarFilterCompiler(FunctionManager functionManager, CompilerConfig config)
@@ -122,7 +125,21 @@ public class ColumnarFilterCompiler
         return filterCache.getUnchecked(filter);
     }
 
+    @Managed
+    @Nested
+    public TimeStat getFilterCompilationTime()
+    {
+        return filterCompilationTime;
+    }
+
     private Optional<Supplier<ColumnarFilter>> generateFilterInternal(RowExpression filter)
+    {
+        try (TimeStat.BlockTimer _ = filterCompilationTime.time()) {
+            return doGenerateFilter(filter);
+        }
+    }
+
+    private Optional<Supplier<ColumnarFilter>> doGenerateFilter(RowExpression filter)
     {
         try {
             if (filter instanceof CallExpression callExpression) {
@@ -0,0 +1,214 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.sql.planner;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import io.trino.Session;
+import io.trino.metadata.Metadata;
+import io.trino.metadata.ResolvedFunction;
+import io.trino.metadata.TableHandle;
+import io.trino.spi.connector.ColumnHandle;
+import io.trino.spi.function.CatalogSchemaFunctionName;
+import io.trino.spi.predicate.TupleDomain;
+import io.trino.sql.ir.Reference;
+import io.trino.sql.planner.plan.AggregationNode;
+import io.trino.sql.planner.plan.AggregationNode.Aggregation;
+import io.trino.sql.planner.plan.Assignments;
+import io.trino.sql.planner.plan.PlanNode;
+import io.trino.sql.planner.plan.ProjectNode;
+import io.trino.sql.planner.plan.TableScanNode;
+import io.trino.sql.planner.plan.UnionNode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.trino.metadata.GlobalFunctionCatalog.builtinFunctionName;
+import static io.trino.spi.RefreshType.INCREMENTAL;
+import static io.trino.sql.analyzer.TypeSignatureProvider.fromTypes;
+import static io.trino.sql.planner.plan.AggregationNode.Step.SINGLE;
+import static io.trino.sql.planner.plan.AggregationNode.singleAggregation;
+import static io.trino.sql.planner.plan.AggregationNode.singleGroupingSet;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Plans the refresh of a materialized view defined as a grouped aggregation of the source tables.
+ * The aggregation is computed over the rows appended to the source tables only, and then combined
+ * with the current rows of the storage table, e.g. {@code count(x)} is refreshed as
+ * {@code sum(count)} of the new and the current rows of the storage table.
+ * The connector must replace the contents of the storage table with the result.
+ */
+public class IncrementalAggregationRefreshPlanner
+{
+    // functions which combine the values of the aggregation computed over separate sets of rows
+    private static final Map<CatalogSchemaFunctionName, String> COMBINE_FUNCTIONS = ImmutableMap.of(
+            builtinFunctionName("count"), "sum",
+            builtinFunctionName("sum"), "sum",
+            builtinFunctionName("min"), "min",
+            builtinFunctionName("max"), "max");
+
+    private final Metadata metadata;
+    private final Session session;
+    private final SymbolAllocator symbolAllocator;
+    private final PlanNodeIdAllocator idAllocator;
+
+    public IncrementalAggregationRefreshPlanner(Metadata metadata, Session session, SymbolAllocator symbolAllocator, PlanNodeIdAllocator idAllocator)
+    {
+        this.metadata = requireNonNull(metadata, "metadata is null");
+        this.session = requireNonNull(session, "session is null");
+        this.symbolAllocator = requireNonNull(symbolAllocator, "symbolAllocator is null");
+        this.idAllocator = requireNonNull(idAllocator, "idAllocator is null");
+    }
+
+    /**
+     * @param fields the output symbols of the refresh query, stored in the corresponding storage table columns
+     * @return the rewritten refresh query producing the same output symbols, or empty if the query cannot be refreshed this way
+     */
+    public Optional<PlanNode> plan(PlanNode root, List<Symbol> fields, TableHandle storageTable, List<ColumnHandle> storageColumns)
+    {
+        checkArgument(fields.size() == storageColumns.size(), "fields and storage columns do not match");
+
+        // the projections above the aggregation may only forward the aggregation outputs
+        List<ProjectNode> projections = new ArrayList<>();
+        PlanNode node = root;
+        List<Symbol> symbols = fields;
+        while (node instanceof ProjectNode project) {
+            ImmutableList.Builder<Symbol> sourceSymbols = ImmutableList.builder();
+            for (Symbol symbol : symbols) {
+                if (!(project.getAssignments().get(symbol) instanceof Reference reference)) {
+                    return Optional.empty();
+                }
+                sourceSymbols.add(Symbol.from(reference));
+            }
+            symbols = sourceSymbols.build();
+            projections.add(project);
+            node = project.getSource();
+        }
+        if (!(node instanceof AggregationNode aggregation) || !isSupported(aggregation)) {
+            return Optional.empty();
+        }
+
+        Map<Symbol, ColumnHandle> outputColumns = new HashMap<>();
+        for (int i = 0; i < symbols.size(); i++) {
+            outputColumns.putIfAbsent(symbols.get(i), storageColumns.get(i));
+        }
+        for (Symbol output : aggregation.getOutputSymbols()) {
+            ColumnHandle column = outputColumns.get(output);
+            if (column == null || !metadata.getColumnMetadata(session, storageTable, column).getType().equals(output.type())) {
+                return Optional.empty();
+            }
+        }
+
+        Map<Symbol, ResolvedFunction> combineFunctions = new HashMap<>();
+        for (Map.Entry<Symbol, Aggregation> entry : aggregation.getAggregations().entrySet()) {
+            Optional<ResolvedFunction> combineFunction = getCombineFunction(entry.getValue(), entry.getKey());
+            if (combineFunction.isEmpty()) {
+                return Optional.empty();
+            }
+            combineFunctions.put(entry.getKey(), combineFunction.get());
+        }
+
+        // union the aggregation over the appended rows with the current rows of the storage table
+        List<Symbol> outputs = aggregation.getOutputSymbols();
+        NodeAndMappings appended = PlanCopier.copyPlan(aggregation, outputs, symbolAllocator, idAllocator);
+        ImmutableList.Builder<Symbol> storageSymbols = ImmutableList.builder();
+        ImmutableMap.Builder<Symbol, ColumnHandle> storageAssignments = ImmutableMap.builder();
+        ImmutableListMultimap.Builder<Symbol, Symbol> unionMappings = ImmutableListMultimap.builder();
+        Map<Symbol, Symbol> unionSymbols = new HashMap<>();
+        for (int i = 0; i < outputs.size(); i++) {
+            Symbol output = outputs.get(i);
+            Symbol storageSymbol = symbolAllocator.newSymbol(output);
+            storageSymbols.add(storageSymbol);
+            storageAssignments.put(storageSymbol, outputColumns.get(output));
+            Symbol unionSymbol = symbolAllocator.newSymbol(output);
+            unionMappings.putAll(unionSymbol, appended.getFields().get(i), storageSymbol);
+            unionSymbols.put(output, unionSymbol);
+        }
+        TableScanNode storageScan = new TableScanNode(
+                idAllocator.getNextId(),
+                storageTable,
+                storageSymbols.build(),
+                storageAssignments.buildOrThrow(),
+                TupleDomain.all(),
+                Optional.empty(),
+                false,
+                Optional.empty());
+        UnionNode union = new UnionNode(
+                idAllocator.getNextId(),
+                ImmutableList.of(appended.getNode(), storageScan),
+                unionMappings.build(),
+                outputs.stream()
+                        .map(unionSymbols::get)
+                        .collect(toImmutableList()));
+
+        // the combining aggregation produces the symbols of the original aggregation, so the projections above it are retained
+        ImmutableMap.Builder<Symbol, Aggregation> combinedAggregations = ImmutableMap.builder();
+        combineFunctions.forEach((symbol, function) -> combinedAggregations.put(symbol, new Aggregation(
+                function,
+                ImmutableList.of(unionSymbols.get(symbol).toSymbolReference()),
+                false,
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty())));
+        AggregationNode combined = singleAggregation(
+                idAllocator.getNextId(),
+                union,
+                combinedAggregations.buildOrThrow(),
+                singleGroupingSet(aggregation.getGroupingKeys().stream()
+                        .map(unionSymbols::get)
+                        .collect(toImmutableList())));
+
+        Assignments.Builder assignments = Assignments.builder();
+        for (Symbol groupingKey : aggregation.getGroupingKeys()) {
+            assignments.put(groupingKey, unionSymbols.get(groupingKey).toSymbolReference());
+        }
+        assignments.putIdentities(aggregation.getAggregations().keySet());
+        PlanNode result = new ProjectNode(idAllocator.getNextId(), combined, assignments.build());
+        for (ProjectNode projection : Lists.reverse(projections)) {
+            result = projection.replaceChildren(ImmutableList.of(result));
+        }
+        return Optional.of(result);
+    }
+
+    private static boolean isSupported(AggregationNode aggregation)
+    {
+        return aggregation.getStep() == SINGLE &&
+                aggregation.getGroupingSetCount() == 1 &&
+                aggregation.getGroupIdSymbol().isEmpty() &&
+                IncrementalRefreshVisitor.canIncrementallyRefresh(aggregation.getSource()) == INCREMENTAL;
+    }
+
+    private Optional<ResolvedFunction> getCombineFunction(Aggregation aggregation, Symbol output)
+    {
+        if (aggregation.isDistinct() || aggregation.getArguments().size() > 1) {
+            return Optional.empty();
+        }
+        String combineFunctionName = COMBINE_FUNCTIONS.get(aggregation.getResolvedFunction().name());
+        if (combineFunctionName == null) {
+            return Optional.empty();
+        }
+        ResolvedFunction combineFunction = metadata.resolveBuiltinFunction(combineFunctionName, fromTypes(output.type()));
+        if (!combineFunction.signature().getReturnType().equals(output.type())) {
+            return Optional.empty();
+        }
+        return Optional.of(combineFunction);
+    }
+}
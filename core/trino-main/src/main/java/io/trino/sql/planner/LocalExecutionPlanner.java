@@ -13,6 +13,7 @@
  */
 package io.trino.sql.planner;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Throwables;
 import com.google.common.base.VerifyException;
 import com.google.common.cache.CacheBuilder;
@@ -30,11 +31,15 @@ import com.google.common.collect.SetMultimap;
 import com.google.common.primitives.Ints;
 import com.google.inject.Inject;
 import io.airlift.log.Logger;
+import io.airlift.stats.TimeStat;
 import io.airlift.units.DataSize;
 import io.trino.Session;
 import io.trino.SystemSessionProperties;
+import io.trino.cache.CacheStatsMBean;
 import io.trino.cache.NonEvictableCache;
 import io.trino.client.NodeVersion;
+import io.trino.cost.PlanNodeStatsEstimate;
+import io.trino.cost.StatsAndCosts;
 import io.trino.exchange.ExchangeManagerRegistry;
 import io.trino.execution.DynamicFilterConfig;
 import io.trino.execution.ExplainAnalyzeContext;
@@ -278,6 +283,8 @@ import io.trino.sql.relational.SqlToRowExpressionTranslator;
 import io.trino.type.BlockTypeOperators;
 import io.trino.type.FunctionType;
 import org.objectweb.asm.MethodTooLargeException;
+import org.weakref.jmx.Managed;
+import org.weakref.jmx.Nested;
 
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
@@ -315,6 +322,7 @@ import static io.trino.SystemSessionProperties.getAggregationOperatorUnspillMemo
 import static io.trino.SystemSessionProperties.getDynamicRowFilterSelectivityThreshold;
 import static io.trino.SystemSessionProperties.getFilterAndProjectMinOutputPageRowCount;
 import static io.trino.SystemSessionProperties.getFilterAndProjectMinOutputPageSize;
+import static io.trino.SystemSessionProperties.getMaxHashPartitionCount;
 import static io.trino.SystemSessionProperties.getPagePartitioningBufferPoolSize;
 import static io.trino.SystemSessionProperties.getSkewedPartitionMinDataProcessedRebalanceThreshold;
 import static io.trino.SystemSessionProperties.getTaskConcurrency;
@@ -327,6 +335,7 @@ import static io.trino.SystemSessionProperties.isEnableDynamicRowFiltering;
 import static io.trino.SystemSessionProperties.isEnableLargeDynamicFilters;
 import static io.trino.SystemSessionProperties.isForceSpillingOperator;
 import static io.trino.SystemSessionProperties.isSpillEnabled;
+import static io.trino.SystemSessionProperties.isUseEstimatedAggregationGroupCount;
 import static io.trino.cache.CacheUtils.uncheckedCacheGet;
 import static io.trino.cache.SafeCaches.buildNonEvictableCache;
 import static io.trino.execution.buffer.PagesSerdes.createExchangePagesSerdeFactory;
@@ -398,11 +407,13 @@ import static io.trino.util.SpatialJoinUtils.ST_WITHIN;
 import static io.trino.util.SpatialJoinUtils.extractSupportedSpatialComparisons;
 import static io.trino.util.SpatialJoinUtils.extractSupportedSpatialFunctions;
 import static java.lang.Math.ceil;
+import static java.lang.Math.max;
 import static java.lang.Math.min;
 import static java.lang.Math.toIntExact;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.TimeUnit.HOURS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.stream.Collectors.partitioningBy;
 import static java.util.stream.IntStream.range;
 
@@ -410,6 +421,14 @@ public class LocalExecutionPlanner
 {
     private static final Logger log = Logger.get(LocalExecutionPlanner.class);
 
+    private static final int DEFAULT_EXPECTED_GROUPS = 10_000;
+    // limits the memory preallocated for the groups, as the estimates can be far off
+    private static final int MAX_ESTIMATED_EXPECTED_GROUPS = 1_000_000;
+    // the hash tables preallocated by all drivers of an aggregation may use at most this fraction of the memory limit of the node
+    private static final double MAX_PREALLOCATED_GROUPS_MEMORY_FRACTION = 0.01;
+    // upper bound of the hash table memory preallocated per expected group, as the capacity is rounded up to a power of two
+    private static final int PREALLOCATED_BYTES_PER_GROUP = 48;
+
     private final PlannerContext plannerContext;
     private final Metadata metadata;
     private final Optional<ExplainAnalyzeContext> explainAnalyzeContext;
@@ -460,8 +479,11 @@ public class LocalExecutionPlanner
     private final boolean specializeAggregationLoops;
 
     private final NonEvictableCache<FunctionKey, AccumulatorFactory> accumulatorFactoryCache = buildNonEvictableCache(CacheBuilder.newBuilder()
+            .recordStats()
             .maximumSize(1000)
             .expireAfterAccess(1, HOURS));
+    private final CacheStatsMBean accumulatorFactoryCacheStats = new CacheStatsMBean(accumulatorFactoryCache);
+    private final TimeStat accumulatorCompilationTime = new TimeStat(MILLISECONDS);
     private final NonEvictableCache<FunctionKey, AggregationWindowFunctionSupplier> aggregationWindowFunctionSupplierCache = buildNonEvictableCache(CacheBuilder.newBuilder()
             .maximumSize(1000)
             .expireAfterAccess(1, HOURS));
@@ -547,9 +569,25 @@ public class LocalExecutionPlanner
         this.specializeAggregationLoops = compilerConfig.isSpecializeAggregationLoops();
     }
 
+    @Managed
+    @Nested
+    public CacheStatsMBean getAccumulatorFactoryCache()
+    {
+        return accumulatorFactoryCacheStats;
+    }
+
+    @Managed
+    @Nested
+    public TimeStat getAccumulatorCompilationTime()
+    {
+        return accumulatorCompilationTime;
+    }
+
     public LocalExecutionPlan plan(
             TaskContext taskContext,
             PlanNode plan,
+            StatsAndCosts statsAndCosts,
+            Optional<Integer> partitionCount,
             PartitioningScheme partitioningScheme,
             OptionalInt outputSkewedBucketCount,
             List<PlanNodeId> partitionedSourceOrder,
@@ -562,7 +600,7 @@ public class LocalExecutionPlanner
                 partitioningScheme.getPartitioning().getHandle().equals(SCALED_WRITER_ROUND_ROBIN_DISTRIBUTION) ||
                 partitioningScheme.getPartitioning().getHandle().equals(SINGLE_DISTRIBUTION) ||
                 partitioningScheme.getPartitioning().getHandle().equals(COORDINATOR_DISTRIBUTION)) {
-            return plan(taskContext, plan, outputLayout, partitionedSourceOrder, new TaskOutputFactory(outputBuffer));
+            return plan(taskContext, plan, statsAndCosts, partitionCount, outputLayout, partitionedSourceOrder, new TaskOutputFactory(outputBuffer));
         }
 
         // We can convert the symbols directly into channels, because the root must be a sink and therefore the layout is fixed
@@ -626,6 +664,8 @@ public class LocalExecutionPlanner
         return plan(
                 taskContext,
                 plan,
+                statsAndCosts,
+                partitionCount,
                 outputLayout,
                 partitionedSourceOrder,
                 new PartitionedOutputFactory(
@@ -646,6 +686,8 @@ public class LocalExecutionPlanner
     public LocalExecutionPlan plan(
             TaskContext taskContext,
             PlanNode plan,
+            StatsAndCosts statsAndCosts,
+            Optional<Integer> partitionCount,
             List<Symbol> outputLayout,
             List<PlanNodeId> partitionedSourceOrder,
             OutputFactory outputOperatorFactory)
@@ -653,7 +695,7 @@ public class LocalExecutionPlanner
         Session session = taskContext.getSession();
         LocalExecutionPlanContext context = new LocalExecutionPlanContext(taskContext);
 
-        PhysicalOperation physicalOperation = plan.accept(new Visitor(session), context);
+        PhysicalOperation physicalOperation = plan.accept(new Visitor(session, statsAndCosts, partitionCount), context);
 
         Function<Page, Page> pagePreprocessor = isSpooledOutput(session, physicalOperation) ? LocalExecutionPlanner::validateSpooledLayoutProcessor : enforceLoadedLayoutProcessor(outputLayout, physicalOperation.getLayout());
 
@@ -894,11 +936,15 @@ public class LocalExecutionPlanner
             extends PlanVisitor<PhysicalOperation, LocalExecutionPlanContext>
     {
         private final Session session;
+        private final StatsAndCosts statsAndCosts;
+        private final Optional<Integer> partitionCount;
         private final IrExpressionEvaluator evaluator;
 
-        private Visitor(Session session)
+        private Visitor(Session session, StatsAndCosts statsAndCosts, Optional<Integer> partitionCount)
         {
             this.session = session;
+            this.statsAndCosts = statsAndCosts;
+            this.partitionCount = partitionCount;
             evaluator = new IrExpressionEvaluator(plannerContext);
         }
 
@@ -3852,11 +3898,15 @@ public class LocalExecutionPlanner
             AccumulatorFactory accumulatorFactory = uncheckedCacheGet(
                     accumulatorFactoryCache,
                     new FunctionKey(resolvedFunction.functionId(), resolvedFunction.signature()),
-                    () -> generateAccumulatorFactory(
-                            resolvedFunction.signature(),
-                            aggregationImplementation,
-                            resolvedFunction.functionNullability(),
-                            specializeAggregationLoops));
+                    () -> {
+                        try (TimeStat.BlockTimer _ = accumulatorCompilationTime.time()) {
+                            return generateAccumulatorFactory(
+                                    resolvedFunction.signature(),
+                                    aggregationImplementation,
+                                    resolvedFunction.functionNullability(),
+                                    specializeAggregationLoops);
+                        }
+                    });
 
             if (aggregation.isDistinct()) {
                 accumulatorFactory = new DistinctAccumulatorFactory(
@@ -4028,11 +4078,25 @@ public class LocalExecutionPlanner
                     context,
                     0,
                     mappings,
-                    10_000,
+                    getExpectedGroups(node, context),
                     Optional.of(maxPartialAggregationMemorySize));
             return new PhysicalOperation(operatorFactory, mappings.buildOrThrow(), source);
         }
 
+        private int getExpectedGroups(AggregationNode node, LocalExecutionPlanContext context)
+        {
+            if (!isUseEstimatedAggregationGroupCount(session)) {
+                return DEFAULT_EXPECTED_GROUPS;
+            }
+            return estimateExpectedGroups(
+                    node.getStep(),
+                    Optional.ofNullable(statsAndCosts.getStats().get(node.getId())),
+                    // the partition count is only unknown for fragments that are not hash partitioned by the engine
+                    partitionCount.orElseGet(() -> getMaxHashPartitionCount(session)),
+                    context.getDriverInstanceCount().orElse(1),
+                    context.getTaskContext().getQueryContext().getMaxUserMemory());
+        }
+
         private OperatorFactory createHashAggregationOperatorFactory(
                 PlanNodeId planNodeId,
                 Map<Symbol, Aggregation> aggregations,
@@ -4235,6 +4299,24 @@ public class LocalExecutionPlanner
         return !(target instanceof TableExecuteTarget);
     }
 
+    /**
+     * Sizes the group by hash of the aggregation from the estimated number of groups, which avoids rehashing
+     * repeatedly while the groups are added. The estimate is divided between the tasks and the drivers,
+     * so that the memory for the groups is not overallocated. As the memory is reserved before any row
+     * is seen, the drivers together preallocate at most a small fraction of the memory limit of the node.
+     */
+    @VisibleForTesting
+    static int estimateExpectedGroups(Step step, Optional<PlanNodeStatsEstimate> stats, int partitionCount, int driverCount, long maxMemoryPerNode)
+    {
+        // partial aggregations are flushed when they use too much memory, so they do not benefit from the estimate
+        if (step.isOutputPartial() || stats.isEmpty() || stats.get().isOutputRowCountUnknown()) {
+            return DEFAULT_EXPECTED_GROUPS;
+        }
+        double groupsPerDriver = stats.get().getOutputRowCount() / max(partitionCount, 1) / driverCount;
+        double maxPreallocatedGroupsPerDriver = maxMemoryPerNode * MAX_PREALLOCATED_GROUPS_MEMORY_FRACTION / PREALLOCATED_BYTES_PER_GROUP / driverCount;
+        return (int) max(DEFAULT_EXPECTED_GROUPS, min(min(groupsPerDriver, maxPreallocatedGroupsPerDriver), MAX_ESTIMATED_EXPECTED_GROUPS));
+    }
+
     private static Function<Page, Page> enforceLoadedLayoutProcessor(List<Symbol> expectedLayout, Map<Symbol, Integer> inputLayout)
     {
         int[] channels = expectedLayout.stream()
@@ -133,11 +133,13 @@ import static io.trino.SystemSessionProperties.getRetryPolicy;
 import static io.trino.SystemSessionProperties.isCollectPlanStatisticsForAllQueries;
 import static io.trino.SystemSessionProperties.isUsePreferredWritePartitioning;
 import static io.trino.metadata.MetadataUtil.createQualifiedObjectName;
+import static io.trino.spi.RefreshType.INCREMENTAL_AGGREGATION;
 import static io.trino.spi.StandardErrorCode.CATALOG_NOT_FOUND;
 import static io.trino.spi.StandardErrorCode.CONSTRAINT_VIOLATION;
 import static io.trino.spi.StandardErrorCode.INVALID_CAST_ARGUMENT;
 import static io.trino.spi.StandardErrorCode.NOT_SUPPORTED;
 import static io.trino.spi.StandardErrorCode.PERMISSION_DENIED;
+import static io.trino.spi.connector.ConnectorCapabilities.MATERIALIZED_VIEW_INCREMENTAL_AGGREGATION_REFRESH;
 import static io.trino.spi.statistics.TableStatisticType.ROW_COUNT;
 import static io.trino.spi.type.BigintType.BIGINT;
 import static io.trino.spi.type.BooleanType.BOOLEAN;
@@ -518,6 +520,17 @@ public class LogicalPlanner
 
         List<Symbol> visibleFieldMappings = visibleFields(plan);
 
+        boolean incrementalAggregationRefresh = false;
+        if (materializedViewRefreshWriterTarget.isPresent() &&
+                metadata.getConnectorCapabilities(session, tableHandle.catalogHandle()).contains(MATERIALIZED_VIEW_INCREMENTAL_AGGREGATION_REFRESH)) {
+            Optional<PlanNode> refreshPlan = new IncrementalAggregationRefreshPlanner(metadata, session, symbolAllocator, idAllocator)
+                    .plan(plan.getRoot(), visibleFieldMappings, tableHandle, insertColumns);
+            if (refreshPlan.isPresent()) {
+                plan = new RelationPlan(refreshPlan.get(), plan.getScope(), plan.getFieldMappings(), plan.getOuterContext());
+                incrementalAggregationRefresh = true;
+            }
+        }
+
         PlanBuilder planBuilder = newPlanBuilder(plan, analysis, ImmutableMap.of(), ImmutableMap.of(), session, plannerContext);
 
         Map<String, ColumnHandle> columns = metadata.getColumnHandles(session, tableHandle);
@@ -603,7 +616,7 @@ public class LogicalPlanner
         TableStatisticsMetadata statisticsMetadata = metadata.getStatisticsCollectionMetadataForWrite(session, tableHandle.catalogHandle(), tableMetadata.metadata());
 
         if (materializedViewRefreshWriterTarget.isPresent()) {
-            RefreshType refreshType = IncrementalRefreshVisitor.canIncrementallyRefresh(plan.getRoot());
+            RefreshType refreshType = incrementalAggregationRefresh ? INCREMENTAL_AGGREGATION : IncrementalRefreshVisitor.canIncrementallyRefresh(plan.getRoot());
             WriterTarget writerTarget = materializedViewRefreshWriterTarget.get().withRefreshType(refreshType);
             return createTableWriterPlan(
                     analysis,
@@ -92,6 +92,7 @@ public class OptimizerConfig
     private boolean forceSingleNodeOutput;
     private boolean useExactPartitioning;
     private boolean useCostBasedPartitioning = true;
+    private boolean useEstimatedAggregationGroupCount = true;
     private int pushFilterIntoValuesMaxRowCount = 100;
     // adaptive partial aggregation
     private boolean adaptivePartialAggregationEnabled = true;
@@ -797,6 +798,19 @@ public class OptimizerConfig
         return this;
     }
 
+    public boolean isUseEstimatedAggregationGroupCount()
+    {
+        return useEstimatedAggregationGroupCount;
+    }
+
+    @Config("optimizer.use-estimated-aggregation-group-count")
+    @ConfigDescription("When enabled the estimated number of groups is used to size the hash tables of final aggregations")
+    public OptimizerConfig setUseEstimatedAggregationGroupCount(boolean useEstimatedAggregationGroupCount)
+    {
+        this.useEstimatedAggregationGroupCount = useEstimatedAggregationGroupCount;
+        return this;
+    }
+
     @Min(0)
     public int getPushFilterIntoValuesMaxRowCount()
     {
@@ -337,6 +337,23 @@ public class PlanFragment
                 jsonRepresentation);
     }
 
+    public PlanFragment withPartitionCount(Optional<Integer> partitionCount)
+    {
+        return new PlanFragment(
+                id,
+                root,
+                symbols,
+                partitioning,
+                partitionCount,
+                partitionedSources,
+                outputPartitioningScheme,
+                outputSkewedBucketCount,
+                statsAndCosts,
+                activeCatalogs,
+                languageFunctions,
+                jsonRepresentation);
+    }
+
     @Override
     public String toString()
     {
@@ -798,6 +798,9 @@ public class PlanTester
         LocalExecutionPlan localExecutionPlan = executionPlanner.plan(
                 taskContext,
                 subplan.getFragment().getRoot(),
+                subplan.getFragment().getStatsAndCosts(),
+                // the whole plan runs in a single task
+                Optional.of(1),
                 subplan.getFragment().getOutputPartitioningScheme().getOutputLayout(),
                 subplan.getFragment().getPartitionedSources(),
                 outputFactory);
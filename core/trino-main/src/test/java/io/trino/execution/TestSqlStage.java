@@ -156,6 +156,7 @@ public class TestSqlStage
                             0,
                             Optional.empty(),
                             OptionalInt.empty(),
+                            Optional.empty(),
                             PipelinedOutputBuffers.createInitial(ARBITRARY),
                             initialSplits,
                             ImmutableSet.of(),
@@ -636,6 +636,7 @@ public class TestMultiSourcePartitionedScheduler
                 queryExecutor,
                 Optional.of(new int[] {0}),
                 OptionalInt.empty(),
+                Optional.empty(),
                 0);
     }
 
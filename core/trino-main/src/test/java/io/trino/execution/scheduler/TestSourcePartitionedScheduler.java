@@ -780,6 +780,7 @@ public class TestSourcePartitionedScheduler
                 queryExecutor,
                 Optional.of(new int[] {0}),
                 OptionalInt.empty(),
+                Optional.empty(),
                 0);
     }
 
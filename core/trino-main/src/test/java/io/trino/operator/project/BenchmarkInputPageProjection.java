@@ -0,0 +1,226 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.operator.project;
+
+import com.google.common.collect.ImmutableList;
+import io.trino.operator.DriverYieldSignal;
+import io.trino.spi.Page;
+import io.trino.spi.block.Block;
+import io.trino.spi.connector.ConnectorSession;
+import io.trino.spi.connector.SourcePage;
+import io.trino.spi.type.Type;
+import io.trino.sql.gen.columnar.ColumnarFilter;
+import io.trino.sql.gen.columnar.ColumnarFilterEvaluator;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.trino.SequencePageBuilder.createSequencePage;
+import static io.trino.jmh.Benchmarks.benchmark;
+import static io.trino.memory.context.AggregatedMemoryContext.newSimpleAggregatedMemoryContext;
+import static io.trino.operator.project.PageProcessor.MAX_BATCH_SIZE;
+import static io.trino.spi.type.BigintType.BIGINT;
+import static io.trino.spi.type.VarcharType.VARCHAR;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares projecting the input columns of a filtered page as views over the selected positions
+ * with copying the selected positions of every column. The compacted variants include the cost of
+ * compacting the output, which operators buffering or serializing pages pay afterwards.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(3)
+@Warmup(iterations = 10, time = 500, timeUnit = MILLISECONDS)
+@Measurement(iterations = 10, time = 500, timeUnit = MILLISECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class BenchmarkInputPageProjection
+{
+    private static final int POSITIONS = 8192;
+
+    @Param({"4", "32"})
+    private int columnCount = 4;
+
+    @Param({"bigint", "varchar"})
+    private String type = "bigint";
+
+    @Param({"0.5", "0.75", "0.95"})
+    private double selectedFraction = 0.75;
+
+    @Param({"true", "false"})
+    private boolean views = true;
+
+    private PageProcessor pageProcessor;
+    private SourcePage page;
+
+    @Setup
+    public void setup()
+    {
+        Type columnType = type.equals("varchar") ? VARCHAR : BIGINT;
+        page = SourcePage.create(createSequencePage(Collections.nCopies(columnCount, columnType), POSITIONS));
+        List<PageProjection> projections = IntStream.range(0, columnCount)
+                .mapToObj(channel -> views ? new InputPageProjection(channel) : new CopyingInputPageProjection(channel))
+                .collect(toImmutableList());
+        pageProcessor = new PageProcessor(
+                Optional.of(new ColumnarFilterEvaluator(new SelectFractionFilter((int) (selectedFraction * 100)))),
+                Optional.empty(),
+                projections,
+                OptionalInt.of(MAX_BATCH_SIZE));
+    }
+
+    @Benchmark
+    public List<Optional<Page>> project()
+    {
+        return ImmutableList.copyOf(process());
+    }
+
+    @Benchmark
+    public List<Page> projectAndCompact()
+    {
+        ImmutableList.Builder<Page> pages = ImmutableList.builder();
+        process().forEachRemaining(page -> page.ifPresent(output -> {
+            output.compact();
+            pages.add(output);
+        }));
+        return pages.build();
+    }
+
+    private Iterator<Optional<Page>> process()
+    {
+        return pageProcessor.process(
+                null,
+                new DriverYieldSignal(),
+                newSimpleAggregatedMemoryContext().newLocalMemoryContext(PageProcessor.class.getSimpleName()),
+                page);
+    }
+
+    private static class CopyingInputPageProjection
+            implements PageProjection
+    {
+        private final InputChannels inputChannels;
+
+        public CopyingInputPageProjection(int inputChannel)
+        {
+            this.inputChannels = new InputChannels(inputChannel);
+        }
+
+        @Override
+        public boolean isDeterministic()
+        {
+            return true;
+        }
+
+        @Override
+        public InputChannels getInputChannels()
+        {
+            return inputChannels;
+        }
+
+        @Override
+        public Block project(ConnectorSession session, SourcePage page, SelectedPositions selectedPositions)
+        {
+            Block block = page.getBlock(0);
+            if (selectedPositions.isList()) {
+                return block.copyPositions(selectedPositions.getPositions(), selectedPositions.getOffset(), selectedPositions.size());
+            }
+            return block.getRegion(selectedPositions.getOffset(), selectedPositions.size());
+        }
+    }
+
+    private static class SelectFractionFilter
+            implements ColumnarFilter
+    {
+        private final int selectedPercent;
+
+        public SelectFractionFilter(int selectedPercent)
+        {
+            this.selectedPercent = selectedPercent;
+        }
+
+        @Override
+        public int filterPositionsRange(ConnectorSession session, int[] outputPositions, int offset, int size, SourcePage loadedPage)
+        {
+            int outputPositionsCount = 0;
+            for (int position = offset; position < offset + size; position++) {
+                if (position % 100 < selectedPercent) {
+                    outputPositions[outputPositionsCount++] = position;
+                }
+            }
+            return outputPositionsCount;
+        }
+
+        @Override
+        public int filterPositionsList(ConnectorSession session, int[] outputPositions, int[] activePositions, int offset, int size, SourcePage loadedPage)
+        {
+            int outputPositionsCount = 0;
+            for (int index = offset; index < offset + size; index++) {
+                int position = activePositions[index];
+                if (position % 100 < selectedPercent) {
+                    outputPositions[outputPositionsCount++] = position;
+                }
+            }
+            return outputPositionsCount;
+        }
+
+        @Override
+        public InputChannels getInputChannels()
+        {
+            return new InputChannels(0);
+        }
+    }
+
+    @Test
+    void testBenchmark()
+    {
+        for (boolean views : ImmutableList.of(true, false)) {
+            BenchmarkInputPageProjection benchmark = new BenchmarkInputPageProjection();
+            benchmark.views = views;
+            benchmark.setup();
+            assertPositionCount(benchmark.project().stream().map(Optional::orElseThrow).collect(toImmutableList()));
+            assertPositionCount(benchmark.projectAndCompact());
+        }
+    }
+
+    private static void assertPositionCount(List<Page> pages)
+    {
+        long positionCount = pages.stream().mapToLong(Page::getPositionCount).sum();
+        assertThat(positionCount).isEqualTo(IntStream.range(0, POSITIONS).filter(position -> position % 100 < 75).count());
+    }
+
+    public static void main(String[] args)
+            throws RunnerException
+    {
+        benchmark(BenchmarkInputPageProjection.class).run();
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.operator.project;
+
+import com.google.common.collect.ImmutableList;
+import io.trino.memory.context.LocalMemoryContext;
+import io.trino.operator.DriverYieldSignal;
+import io.trino.spi.Page;
+import io.trino.spi.block.Block;
+import io.trino.spi.block.DictionaryBlock;
+import io.trino.spi.block.LongArrayBlock;
+import io.trino.spi.connector.ConnectorSession;
+import io.trino.spi.connector.SourcePage;
+import io.trino.sql.gen.columnar.ColumnarFilter;
+import io.trino.sql.gen.columnar.ColumnarFilterEvaluator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.stream.IntStream;
+
+import static com.google.common.collect.Iterators.getOnlyElement;
+import static io.trino.block.BlockAssertions.assertBlockEquals;
+import static io.trino.block.BlockAssertions.createLongSequenceBlock;
+import static io.trino.memory.context.AggregatedMemoryContext.newSimpleAggregatedMemoryContext;
+import static io.trino.operator.project.PageProcessor.MAX_BATCH_SIZE;
+import static io.trino.operator.project.SelectedPositions.positionsList;
+import static io.trino.operator.project.SelectedPositions.positionsRange;
+import static io.trino.spi.type.BigintType.BIGINT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestInputPageProjection
+{
+    @Test
+    public void testProjectRange()
+    {
+        Block block = createLongSequenceBlock(0, 100);
+        InputPageProjection projection = new InputPageProjection(0);
+
+        assertThat(projection.project(null, SourcePage.create(block), positionsRange(0, 100))).isSameAs(block);
+        assertBlockEquals(BIGINT, projection.project(null, SourcePage.create(block), positionsRange(10, 20)), block.getRegion(10, 20));
+    }
+
+    @Test
+    public void testProjectMostlySelectedList()
+    {
+        Block block = createLongSequenceBlock(0, 100);
+        int[] positions = IntStream.range(0, 100)
+                .filter(position -> position % 4 != 0)
+                .toArray();
+
+        Block result = new InputPageProjection(0).project(null, SourcePage.create(block), positionsList(positions, 0, positions.length));
+        // Positions are not copied when most of them are selected
+        assertThat(result).isInstanceOf(DictionaryBlock.class);
+        assertBlockEquals(BIGINT, result, block.copyPositions(positions, 0, positions.length));
+    }
+
+    @Test
+    public void testProjectMostlySelectedListWithReusedPositions()
+    {
+        // The filter evaluator reuses its positions array for every page
+        PageProcessor pageProcessor = new PageProcessor(
+                Optional.of(new ColumnarFilterEvaluator(new SkipMultiplesOfFourFilter())),
+                Optional.empty(),
+                ImmutableList.of(new InputPageProjection(0), new InputPageProjection(0)),
+                OptionalInt.of(MAX_BATCH_SIZE));
+        LocalMemoryContext memoryContext = newSimpleAggregatedMemoryContext().newLocalMemoryContext(PageProcessor.class.getSimpleName());
+
+        Block firstBlock = createLongSequenceBlock(0, 100);
+        Page firstResult = getOnlyElement(pageProcessor.process(null, new DriverYieldSignal(), memoryContext, SourcePage.create(firstBlock))).orElseThrow();
+
+        // The second page selects different positions
+        Block secondBlock = createLongSequenceBlock(1, 101);
+        Page secondResult = getOnlyElement(pageProcessor.process(null, new DriverYieldSignal(), memoryContext, SourcePage.create(secondBlock))).orElseThrow();
+
+        int[] firstPositions = IntStream.range(0, 100)
+                .filter(position -> position % 4 != 0)
+                .toArray();
+        int[] secondPositions = IntStream.range(0, 100)
+                .filter(position -> (position + 1) % 4 != 0)
+                .toArray();
+        for (int channel = 0; channel < 2; channel++) {
+            assertThat(firstResult.getBlock(channel)).isInstanceOf(DictionaryBlock.class);
+            assertBlockEquals(BIGINT, firstResult.getBlock(channel), firstBlock.copyPositions(firstPositions, 0, firstPositions.length));
+            assertBlockEquals(BIGINT, secondResult.getBlock(channel), secondBlock.copyPositions(secondPositions, 0, secondPositions.length));
+        }
+        // The projected columns share a single copy of the selected positions
+        assertThat(((DictionaryBlock) firstResult.getBlock(0)).getRawIds()).isSameAs(((DictionaryBlock) firstResult.getBlock(1)).getRawIds());
+    }
+
+    @Test
+    public void testProjectSparseList()
+    {
+        Block block = createLongSequenceBlock(0, 100);
+        int[] positions = IntStream.range(0, 100)
+                .filter(position -> position % 4 == 0)
+                .toArray();
+
+        Block result = new InputPageProjection(0).project(null, SourcePage.create(block), positionsList(positions, 0, positions.length));
+        // Positions are compacted so the output does not retain the filtered out values
+        assertThat(result).isInstanceOf(LongArrayBlock.class);
+        assertBlockEquals(BIGINT, result, block.copyPositions(positions, 0, positions.length));
+    }
+
+    private static class SkipMultiplesOfFourFilter
+            implements ColumnarFilter
+    {
+        @Override
+        public int filterPositionsRange(ConnectorSession session, int[] outputPositions, int offset, int size, SourcePage loadedPage)
+        {
+            Block block = loadedPage.getBlock(0);
+            int outputPositionsCount = 0;
+            for (int position = offset; position < offset + size; position++) {
+                if (BIGINT.getLong(block, position) % 4 != 0) {
+                    outputPositions[outputPositionsCount++] = position;
+                }
+            }
+            return outputPositionsCount;
+        }
+
+        @Override
+        public int filterPositionsList(ConnectorSession session, int[] outputPositions, int[] activePositions, int offset, int size, SourcePage loadedPage)
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public InputChannels getInputChannels()
+        {
+            return new InputChannels(0);
+        }
+    }
+}
@@ -85,6 +85,20 @@ public class TestPageFunctionCompiler
         assertThat(noCacheCompiler.compileProjection(ADD_10_EXPRESSION, Optional.empty())).isNotSameAs(noCacheCompiler.compileProjection(ADD_10_EXPRESSION, Optional.of("hint2")));
     }
 
+    @Test
+    public void testCompilationTimeStats()
+    {
+        PageFunctionCompiler cacheCompiler = FUNCTION_RESOLUTION.getPageFunctionCompiler(100);
+        cacheCompiler.compileProjection(ADD_10_EXPRESSION, Optional.empty());
+        cacheCompiler.compileProjection(ADD_10_EXPRESSION, Optional.empty());
+        assertThat(cacheCompiler.getProjectionCompilationTime().getAllTime().getCount()).isEqualTo(1.0);
+
+        PageFunctionCompiler noCacheCompiler = FUNCTION_RESOLUTION.getPageFunctionCompiler();
+        noCacheCompiler.compileProjection(ADD_10_EXPRESSION, Optional.empty());
+        noCacheCompiler.compileProjection(ADD_10_EXPRESSION, Optional.empty());
+        assertThat(noCacheCompiler.getProjectionCompilationTime().getAllTime().getCount()).isEqualTo(2.0);
+    }
+
     private Block project(PageProjection projection, Page page, SelectedPositions selectedPositions)
     {
         return projection.project(SESSION, SourcePage.create(page), selectedPositions);
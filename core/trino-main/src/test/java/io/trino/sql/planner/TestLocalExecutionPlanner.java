@@ -15,21 +15,44 @@ package io.trino.sql.planner;
 
 import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableMap;
+import io.airlift.units.DataSize;
+import io.trino.Session;
+import io.trino.cost.PlanNodeStatsEstimate;
+import io.trino.operator.HashAggregationOperator;
+import io.trino.operator.OperatorStats;
+import io.trino.plugin.base.metrics.LongCount;
 import io.trino.plugin.tpch.TpchPlugin;
+import io.trino.spi.QueryId;
 import io.trino.testing.QueryRunner;
 import io.trino.testing.StandaloneQueryRunner;
+import org.intellij.lang.annotations.Language;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.parallel.Execution;
 
+import java.util.List;
+import java.util.Optional;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
 import static io.airlift.testing.Closeables.closeAllRuntimeException;
+import static io.airlift.units.DataSize.Unit.GIGABYTE;
+import static io.airlift.units.DataSize.Unit.MEGABYTE;
 import static io.trino.SessionTestUtils.TEST_SESSION;
+import static io.trino.SystemSessionProperties.PREFER_PARTIAL_AGGREGATION;
+import static io.trino.SystemSessionProperties.TASK_CONCURRENCY;
+import static io.trino.SystemSessionProperties.USE_ESTIMATED_AGGREGATION_GROUP_COUNT;
+import static io.trino.operator.AggregationMetrics.GROUP_BY_HASH_REHASHES_METRIC_NAME;
 import static io.trino.spi.StandardErrorCode.INVALID_FUNCTION_ARGUMENT;
 import static io.trino.spi.StandardErrorCode.QUERY_EXCEEDED_COMPILER_LIMIT;
+import static io.trino.sql.planner.LocalExecutionPlanner.estimateExpectedGroups;
+import static io.trino.sql.planner.plan.AggregationNode.Step.FINAL;
+import static io.trino.sql.planner.plan.AggregationNode.Step.PARTIAL;
+import static io.trino.sql.planner.plan.AggregationNode.Step.SINGLE;
 import static io.trino.testing.assertions.TrinoExceptionAssert.assertTrinoExceptionThrownBy;
 import static java.util.Collections.nCopies;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
 import static org.junit.jupiter.api.parallel.ExecutionMode.CONCURRENT;
 
@@ -86,4 +109,78 @@ public class TestLocalExecutionPlanner
                 .hasErrorCode(INVALID_FUNCTION_ARGUMENT)
                 .hasMessageStartingWith("There must be two or more concatenation arguments");
     }
+
+    @Test
+    public void testEstimateExpectedGroups()
+    {
+        Optional<PlanNodeStatsEstimate> largeEstimate = Optional.of(PlanNodeStatsEstimate.builder().setOutputRowCount(100_000_000).build());
+        long unlimitedMemory = Long.MAX_VALUE;
+
+        // partial aggregations keep the default
+        assertThat(estimateExpectedGroups(PARTIAL, largeEstimate, 1, 1, unlimitedMemory)).isEqualTo(10_000);
+
+        // aggregations without an estimate keep the default
+        assertThat(estimateExpectedGroups(FINAL, Optional.empty(), 1, 1, unlimitedMemory)).isEqualTo(10_000);
+        assertThat(estimateExpectedGroups(FINAL, Optional.of(PlanNodeStatsEstimate.unknown()), 1, 1, unlimitedMemory)).isEqualTo(10_000);
+
+        // the estimate is divided between the partitions and the drivers
+        assertThat(estimateExpectedGroups(FINAL, largeEstimate, 100, 4, unlimitedMemory)).isEqualTo(250_000);
+        assertThat(estimateExpectedGroups(SINGLE, largeEstimate, 10, 4, unlimitedMemory)).isEqualTo(1_000_000);
+
+        // small estimates keep the default
+        assertThat(estimateExpectedGroups(FINAL, largeEstimate, 1_000, 100, unlimitedMemory)).isEqualTo(10_000);
+
+        // large estimates are capped
+        assertThat(estimateExpectedGroups(SINGLE, largeEstimate, 1, 1, unlimitedMemory)).isEqualTo(1_000_000);
+
+        // the drivers together preallocate at most 1% of the memory limit of the node, at 48 bytes per group
+        long memoryPerNode = DataSize.of(1, GIGABYTE).toBytes();
+        assertThat(estimateExpectedGroups(SINGLE, largeEstimate, 1, 1, memoryPerNode)).isEqualTo(223_696);
+        assertThat(estimateExpectedGroups(SINGLE, largeEstimate, 1, 16, memoryPerNode)).isEqualTo(13_981);
+        assertThat(estimateExpectedGroups(SINGLE, largeEstimate, 1, 16, DataSize.of(100, MEGABYTE).toBytes())).isEqualTo(10_000);
+    }
+
+    @Test
+    public void testEstimatedGroupsAvoidRehashing()
+    {
+        // a single aggregation driver receives all 60,175 groups, which exceeds the default of 10,000 expected groups
+        @Language("SQL") String query = "SELECT orderkey, linenumber, count(*) FROM lineitem GROUP BY orderkey, linenumber";
+        Session estimated = Session.builder(runner.getDefaultSession())
+                .setSystemProperty(TASK_CONCURRENCY, "1")
+                .setSystemProperty(PREFER_PARTIAL_AGGREGATION, "false")
+                .setSystemProperty(USE_ESTIMATED_AGGREGATION_GROUP_COUNT, "true")
+                .build();
+        Session notEstimated = Session.builder(estimated)
+                .setSystemProperty(USE_ESTIMATED_AGGREGATION_GROUP_COUNT, "false")
+                .build();
+
+        List<OperatorStats> estimatedStats = getAggregationOperatorStats(estimated, query);
+        List<OperatorStats> notEstimatedStats = getAggregationOperatorStats(notEstimated, query);
+
+        assertThat(getRehashes(estimatedStats)).isLessThan(getRehashes(notEstimatedStats));
+        // the group by hash is allocated once instead of growing through the intermediate sizes
+        assertThat(getPeakUserMemory(estimatedStats)).isLessThanOrEqualTo(getPeakUserMemory(notEstimatedStats));
+    }
+
+    private List<OperatorStats> getAggregationOperatorStats(Session session, @Language("SQL") String query)
+    {
+        QueryId queryId = runner.executeWithPlan(session, query).queryId();
+        return runner.getCoordinator().getQueryManager().getFullQueryInfo(queryId).getQueryStats().getOperatorSummaries().stream()
+                .filter(stats -> stats.getOperatorType().equals(HashAggregationOperator.class.getSimpleName()))
+                .collect(toImmutableList());
+    }
+
+    private static long getRehashes(List<OperatorStats> operatorStats)
+    {
+        return operatorStats.stream()
+                .mapToLong(stats -> ((LongCount) stats.getMetrics().getMetrics().get(GROUP_BY_HASH_REHASHES_METRIC_NAME)).getTotal())
+                .sum();
+    }
+
+    private static long getPeakUserMemory(List<OperatorStats> operatorStats)
+    {
+        return operatorStats.stream()
+                .mapToLong(stats -> stats.getPeakUserMemoryReservation().toBytes())
+                .sum();
+    }
 }
@@ -21,5 +21,14 @@ package io.trino.spi;
  */
 public enum RefreshType {
     INCREMENTAL,
-    FULL
+    FULL,
+    /**
+     * The refresh query aggregates the source rows together with the current rows of the storage table,
+     * so the connector must replace the contents of the storage table with the query result.
+     * When the connector reads only the rows appended to the source table since the last refresh, it must read
+     * the storage table as well. Otherwise, it must read the whole source table and return no rows for the storage table.
+     * This refresh type is only used for connectors declaring
+     * {@link io.trino.spi.connector.ConnectorCapabilities#MATERIALIZED_VIEW_INCREMENTAL_AGGREGATION_REFRESH}.
+     */
+    INCREMENTAL_AGGREGATION
 }
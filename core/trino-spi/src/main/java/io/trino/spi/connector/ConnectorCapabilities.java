@@ -18,4 +18,5 @@ public enum ConnectorCapabilities
     DEFAULT_COLUMN_VALUE,
     NOT_NULL_COLUMN_CONSTRAINT,
     MATERIALIZED_VIEW_GRACE_PERIOD,
+    MATERIALIZED_VIEW_INCREMENTAL_AGGREGATION_REFRESH,
 }
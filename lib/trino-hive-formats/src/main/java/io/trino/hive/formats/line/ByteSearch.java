@@ -0,0 +1,82 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.hive.formats.line;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+import static io.airlift.slice.SizeOf.SIZE_OF_LONG;
+
+/**
+ * Finds delimiters in byte buffers eight bytes at a time, using SIMD within a register.
+ */
+public final class ByteSearch
+{
+    private static final VarHandle LONG_ARRAY_HANDLE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final long LOW_BITS = 0x0101_0101_0101_0101L;
+    private static final long HIGH_BITS = 0x8080_8080_8080_8080L;
+    private static final long LINE_FEED_PATTERN = LOW_BITS * '\n';
+    private static final long CARRIAGE_RETURN_PATTERN = LOW_BITS * '\r';
+
+    private ByteSearch() {}
+
+    /**
+     * Returns the index of the first occurrence of {@code value} in {@code buffer[offset, end)}, or {@code end} if there is none.
+     */
+    public static int indexOf(byte[] buffer, int offset, int end, byte value)
+    {
+        long pattern = LOW_BITS * (value & 0xFF);
+        while (offset + SIZE_OF_LONG <= end) {
+            long matches = zeroBytes((long) LONG_ARRAY_HANDLE.get(buffer, offset) ^ pattern);
+            if (matches != 0) {
+                return offset + (Long.numberOfTrailingZeros(matches) >>> 3);
+            }
+            offset += SIZE_OF_LONG;
+        }
+        while (offset < end && buffer[offset] != value) {
+            offset++;
+        }
+        return offset;
+    }
+
+    /**
+     * Returns the index of the first line feed or carriage return in {@code buffer[offset, end)}, or {@code end} if there is none.
+     */
+    public static int indexOfLineTerminator(byte[] buffer, int offset, int end)
+    {
+        while (offset + SIZE_OF_LONG <= end) {
+            long word = (long) LONG_ARRAY_HANDLE.get(buffer, offset);
+            long matches = zeroBytes(word ^ LINE_FEED_PATTERN) | zeroBytes(word ^ CARRIAGE_RETURN_PATTERN);
+            if (matches != 0) {
+                return offset + (Long.numberOfTrailingZeros(matches) >>> 3);
+            }
+            offset += SIZE_OF_LONG;
+        }
+        while (offset < end && buffer[offset] != '\n' && buffer[offset] != '\r') {
+            offset++;
+        }
+        return offset;
+    }
+
+    /**
+     * Sets the high bit of the zero bytes of {@code word}. Bytes above the lowest zero byte
+     * may be flagged spuriously due to borrow propagation, so only the lowest flag is exact.
+     */
+    private static long zeroBytes(long word)
+    {
+        return (word - LOW_BITS) & ~word & HIGH_BITS;
+    }
+}
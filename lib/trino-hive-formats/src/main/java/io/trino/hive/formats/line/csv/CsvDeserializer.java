@@ -45,6 +45,7 @@ public class CsvDeserializer
 
     private final StringBuilder buffer = new StringBuilder(1024);
     private final String[] rowValues;
+    private final boolean[] readColumns;
 
     public CsvDeserializer(List<Column> columns, char separatorChar, char quoteChar, char escapeChar)
     {
@@ -56,6 +57,8 @@ public class CsvDeserializer
 
         int columnCount = this.columns.stream().mapToInt(Column::ordinal).max().orElse(-1) + 1;
         this.rowValues = new String[columnCount];
+        this.readColumns = new boolean[columnCount];
+        this.columns.forEach(column -> readColumns[column.ordinal()] = true);
 
         checkArgument(separatorChar != '\0', "Separator cannot be the null character (ASCII 0)");
         checkArgument(separatorChar != quoteChar, "Separator and quote character cannot be the same");
@@ -148,8 +151,10 @@ public class CsvDeserializer
                 inField = !inField;
             }
             else if (c == separatorChar && !inQuotes) {
-                // end of a value
-                rowValues[columnIndex] = buffer.toString();
+                // end of a value, only materialized for the columns that are read
+                if (readColumns[columnIndex]) {
+                    rowValues[columnIndex] = buffer.toString();
+                }
                 columnIndex++;
                 buffer.setLength(0);
                 inField = false;
@@ -162,7 +167,7 @@ public class CsvDeserializer
         }
 
         // if last field is an unterminated field, ignore the value
-        if (columnIndex < rowValues.length && !inQuotes) {
+        if (columnIndex < rowValues.length && !inQuotes && readColumns[columnIndex]) {
             rowValues[columnIndex] = buffer.toString();
         }
         buffer.setLength(0);
@@ -32,6 +32,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.trino.hive.formats.line.ByteSearch.indexOf;
 
 /**
  * Deserializer that is bug for bug compatible with LazySimpleSerDe.
@@ -42,6 +43,7 @@ public class SimpleDeserializer
     private final List<Column> columns;
     private final int[] readColumnIndexes;
     private final TextColumnEncoding[] columnEncodings;
+    private final int lastReadFieldIndex;
 
     private final Slice nullSequence;
     private final byte separator;
@@ -66,6 +68,10 @@ public class SimpleDeserializer
             columnEncodings[column.ordinal()] = columnEncodingFactory.getEncoding(column.type());
             readColumnIndexes[column.ordinal()] = i;
         }
+        lastReadFieldIndex = columns.stream()
+                .mapToInt(Column::ordinal)
+                .max()
+                .orElse(-1);
     }
 
     @Override
@@ -91,6 +97,13 @@ public class SimpleDeserializer
         int elementOffset = offset;
         int fieldIndex = 0;
         while (offset < end) {
+            if (escapeByte == null) {
+                // without an escape byte, the next separator can be located with a bulk search
+                offset = indexOf(buffer, offset, end, separator);
+                if (offset == end) {
+                    break;
+                }
+            }
             byte currentByte = buffer[offset];
             if (currentByte == separator) {
                 decodeElementValueInto(fieldIndex, builder, line, elementOffset, offset - elementOffset);
@@ -100,6 +113,10 @@ public class SimpleDeserializer
                     // no need to process the remaining bytes as they are all assigned to the last column
                     break;
                 }
+                if (fieldIndex > lastReadFieldIndex) {
+                    // no need to process the remaining bytes as none of the remaining columns are read
+                    break;
+                }
             }
             else if (escapeByte != null && currentByte == escapeByte) {
                 // ignore the char after escape_char
@@ -0,0 +1,111 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.hive.formats.line;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static io.trino.hive.formats.line.ByteSearch.indexOf;
+import static io.trino.jmh.Benchmarks.benchmark;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares finding every field separator of a buffer with {@link ByteSearch} and byte at a time.
+ * Short fields end before a whole word is searched, so they measure the setup cost of the word search.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(3)
+@Warmup(iterations = 10, time = 500, timeUnit = MILLISECONDS)
+@Measurement(iterations = 10, time = 500, timeUnit = MILLISECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class BenchmarkByteSearch
+{
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final byte SEPARATOR = 1;
+
+    @Param({"1", "4", "8", "16", "64", "256"})
+    private int fieldLength = 4;
+
+    private byte[] buffer;
+
+    @Setup
+    public void setup()
+    {
+        buffer = new byte[BUFFER_SIZE];
+        Arrays.fill(buffer, (byte) 'a');
+        for (int i = fieldLength; i < BUFFER_SIZE; i += fieldLength + 1) {
+            buffer[i] = SEPARATOR;
+        }
+    }
+
+    @Benchmark
+    public int wordAtATime()
+    {
+        int fields = 0;
+        int offset = 0;
+        while (offset < BUFFER_SIZE) {
+            offset = indexOf(buffer, offset, BUFFER_SIZE, SEPARATOR) + 1;
+            fields++;
+        }
+        return fields;
+    }
+
+    @Benchmark
+    public int byteAtATime()
+    {
+        int fields = 0;
+        int offset = 0;
+        while (offset < BUFFER_SIZE) {
+            while (offset < BUFFER_SIZE && buffer[offset] != SEPARATOR) {
+                offset++;
+            }
+            offset++;
+            fields++;
+        }
+        return fields;
+    }
+
+    @Test
+    void testBenchmark()
+    {
+        for (int fieldLength : new int[] {1, 4, 256}) {
+            BenchmarkByteSearch benchmark = new BenchmarkByteSearch();
+            benchmark.fieldLength = fieldLength;
+            benchmark.setup();
+            assertThat(benchmark.wordAtATime()).isEqualTo(benchmark.byteAtATime());
+        }
+    }
+
+    public static void main(String[] args)
+            throws RunnerException
+    {
+        benchmark(BenchmarkByteSearch.class).run();
+    }
+}
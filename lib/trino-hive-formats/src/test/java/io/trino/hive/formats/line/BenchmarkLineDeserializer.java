@@ -0,0 +1,154 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.hive.formats.line;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import io.trino.hive.formats.line.csv.CsvDeserializerFactory;
+import io.trino.hive.formats.line.json.JsonDeserializerFactory;
+import io.trino.hive.formats.line.openxjson.OpenXJsonDeserializerFactory;
+import io.trino.hive.formats.line.simple.SimpleDeserializerFactory;
+import io.trino.spi.Page;
+import io.trino.spi.PageBuilder;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static com.google.common.base.Strings.repeat;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.trino.jmh.Benchmarks.benchmark;
+import static io.trino.spi.type.VarcharType.VARCHAR;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.nCopies;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.joining;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures decoding text lines into pages for each line format, for short and long fields,
+ * and for reading every column or only the first one.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(3)
+@Warmup(iterations = 10, time = 500, timeUnit = MILLISECONDS)
+@Measurement(iterations = 10, time = 500, timeUnit = MILLISECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class BenchmarkLineDeserializer
+{
+    private static final int LINES = 1000;
+    private static final int COLUMN_COUNT = 16;
+
+    @Param({"simple", "csv", "json", "openxjson"})
+    private String format = "simple";
+
+    @Param({"4", "64"})
+    private int fieldLength = 4;
+
+    @Param({"1", "16"})
+    private int readColumnCount = 16;
+
+    private LineDeserializer deserializer;
+    private List<byte[]> lines;
+
+    @Setup
+    public void setup()
+    {
+        List<String> columnNames = IntStream.range(0, COLUMN_COUNT)
+                .mapToObj(column -> "c" + column)
+                .collect(toImmutableList());
+        List<Column> readColumns = IntStream.range(0, readColumnCount)
+                .mapToObj(column -> new Column(columnNames.get(column), VARCHAR, column))
+                .collect(toImmutableList());
+        Map<String, String> serdeProperties = ImmutableMap.of("columns", String.join(",", columnNames));
+
+        deserializer = switch (format) {
+            case "simple" -> new SimpleDeserializerFactory().create(readColumns, serdeProperties);
+            case "csv" -> new CsvDeserializerFactory().create(readColumns, serdeProperties);
+            case "json" -> new JsonDeserializerFactory().create(readColumns, serdeProperties);
+            case "openxjson" -> new OpenXJsonDeserializerFactory().create(readColumns, serdeProperties);
+            default -> throw new IllegalArgumentException("Unsupported format: " + format);
+        };
+
+        ImmutableList.Builder<byte[]> lines = ImmutableList.builder();
+        for (int line = 0; line < LINES; line++) {
+            String value = repeat(String.valueOf((char) ('a' + line % 26)), fieldLength);
+            String text = switch (format) {
+                case "simple" -> String.join("\u0001", nCopies(COLUMN_COUNT, value));
+                case "csv" -> String.join(",", nCopies(COLUMN_COUNT, value));
+                default -> columnNames.stream()
+                        .map(name -> "\"" + name + "\":\"" + value + "\"")
+                        .collect(joining(",", "{", "}"));
+            };
+            lines.add(text.getBytes(UTF_8));
+        }
+        this.lines = lines.build();
+    }
+
+    @Benchmark
+    public Page deserialize()
+            throws IOException
+    {
+        LineBuffer lineBuffer = new LineBuffer(1024, 1024 * 1024);
+        PageBuilder pageBuilder = new PageBuilder(LINES, deserializer.getTypes());
+        for (byte[] line : lines) {
+            lineBuffer.reset();
+            lineBuffer.write(line, 0, line.length);
+            deserializer.deserialize(lineBuffer, pageBuilder);
+        }
+        return pageBuilder.build();
+    }
+
+    @Test
+    void testBenchmark()
+            throws IOException
+    {
+        for (String format : ImmutableList.of("simple", "csv", "json", "openxjson")) {
+            for (int readColumnCount : new int[] {1, 16}) {
+                BenchmarkLineDeserializer benchmark = new BenchmarkLineDeserializer();
+                benchmark.format = format;
+                benchmark.readColumnCount = readColumnCount;
+                benchmark.setup();
+                Page page = benchmark.deserialize();
+                assertThat(page.getPositionCount()).isEqualTo(LINES);
+                assertThat(page.getChannelCount()).isEqualTo(readColumnCount);
+                for (int channel = 0; channel < readColumnCount; channel++) {
+                    assertThat(VARCHAR.getSlice(page.getBlock(channel), 1).toStringUtf8()).isEqualTo("bbbb");
+                }
+            }
+        }
+    }
+
+    public static void main(String[] args)
+            throws RunnerException
+    {
+        benchmark(BenchmarkLineDeserializer.class).run();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.hive.formats.line;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static io.trino.hive.formats.line.ByteSearch.indexOf;
+import static io.trino.hive.formats.line.ByteSearch.indexOfLineTerminator;
+import static java.lang.Math.min;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestByteSearch
+{
+    @Test
+    public void testIndexOf()
+    {
+        Random random = new Random(0);
+        for (int length = 0; length < 40; length++) {
+            byte[] buffer = new byte[length];
+            for (int iteration = 0; iteration < 100; iteration++) {
+                // use a small alphabet, including bytes with the high bit set, so matches and near matches are common
+                for (int i = 0; i < length; i++) {
+                    buffer[i] = (byte) (random.nextInt(4) * 0x41);
+                }
+                for (int offset = 0; offset <= length; offset++) {
+                    for (byte value : new byte[] {0, 0x41, (byte) 0x82, (byte) 0xC3, 1}) {
+                        assertThat(indexOf(buffer, offset, length, value))
+                                .isEqualTo(expectedIndexOf(buffer, offset, length, value));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testIndexOfLineTerminator()
+    {
+        Random random = new Random(0);
+        byte[] alphabet = {'a', '\n', '\r', '\t', 0, (byte) 0x8A, (byte) 0x8D};
+        for (int length = 0; length < 40; length++) {
+            byte[] buffer = new byte[length];
+            for (int iteration = 0; iteration < 100; iteration++) {
+                for (int i = 0; i < length; i++) {
+                    // line terminators are rare, so mostly other bytes are generated
+                    buffer[i] = random.nextInt(8) == 0 ? alphabet[1 + random.nextInt(2)] : alphabet[random.nextInt(alphabet.length)];
+                }
+                for (int offset = 0; offset <= length; offset++) {
+                    int expected = min(
+                            expectedIndexOf(buffer, offset, length, (byte) '\n'),
+                            expectedIndexOf(buffer, offset, length, (byte) '\r'));
+                    assertThat(indexOfLineTerminator(buffer, offset, length)).isEqualTo(expected);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testEndBeforeBufferEnd()
+    {
+        byte[] buffer = "abcdefghijklmnop,".getBytes(US_ASCII);
+        assertThat(indexOf(buffer, 0, 16, (byte) ',')).isEqualTo(16);
+        assertThat(indexOf(buffer, 0, 17, (byte) ',')).isEqualTo(16);
+        assertThat(indexOf(buffer, 3, 9, (byte) 'c')).isEqualTo(9);
+        assertThat(indexOf(buffer, 3, 9, (byte) 'h')).isEqualTo(7);
+    }
+
+    private static int expectedIndexOf(byte[] buffer, int offset, int end, byte value)
+    {
+        for (int i = offset; i < end; i++) {
+            if (buffer[i] == value) {
+                return i;
+            }
+        }
+        return end;
+    }
+}
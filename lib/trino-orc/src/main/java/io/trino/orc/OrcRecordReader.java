@@ -271,7 +271,8 @@ public class OrcRecordReader
                 predicate,
                 hiveWriterVersion,
                 metadataReader,
-                writeValidation);
+                writeValidation,
+                options.isVectorizedDecodingEnabled());
 
         columnReaders = createColumnReaders(
                 readColumns,
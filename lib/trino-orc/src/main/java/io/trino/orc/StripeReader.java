@@ -89,6 +89,7 @@ public class StripeReader
     private final OrcPredicate predicate;
     private final MetadataReader metadataReader;
     private final Optional<OrcWriteValidation> writeValidation;
+    private final boolean vectorizedDecodingEnabled;
 
     public StripeReader(
             OrcDataSource orcDataSource,
@@ -100,7 +101,8 @@ public class StripeReader
             OrcPredicate predicate,
             HiveWriterVersion hiveWriterVersion,
             MetadataReader metadataReader,
-            Optional<OrcWriteValidation> writeValidation)
+            Optional<OrcWriteValidation> writeValidation,
+            boolean vectorizedDecodingEnabled)
     {
         this.orcDataSource = requireNonNull(orcDataSource, "orcDataSource is null");
         this.legacyFileTimeZone = requireNonNull(legacyFileTimeZone, "legacyFileTimeZone is null");
@@ -112,6 +114,7 @@ public class StripeReader
         this.hiveWriterVersion = requireNonNull(hiveWriterVersion, "hiveWriterVersion is null");
         this.metadataReader = requireNonNull(metadataReader, "metadataReader is null");
         this.writeValidation = requireNonNull(writeValidation, "writeValidation is null");
+        this.vectorizedDecodingEnabled = vectorizedDecodingEnabled;
     }
 
     public Stripe readStripe(StripeInformation stripe, AggregatedMemoryContext memoryUsage)
@@ -295,7 +298,7 @@ public class StripeReader
             OrcChunkLoader chunkLoader = streamsData.get(streamId);
             OrcTypeKind columnType = types.get(stream.getColumnId()).getOrcTypeKind();
 
-            valueStreams.put(streamId, ValueStreams.createValueStreams(streamId, chunkLoader, columnType, columnEncoding));
+            valueStreams.put(streamId, ValueStreams.createValueStreams(streamId, chunkLoader, columnType, columnEncoding, vectorizedDecodingEnabled));
         }
         return valueStreams.buildOrThrow();
     }
@@ -49,7 +49,6 @@ import static io.trino.orc.reader.ReaderUtils.minNonNullValueSize;
 import static io.trino.orc.reader.SliceColumnReader.computeTruncatedLength;
 import static io.trino.orc.stream.MissingInputStreamSource.missingStreamSource;
 import static java.lang.Math.toIntExact;
-import static java.util.Arrays.fill;
 import static java.util.Objects.requireNonNull;
 
 public class SliceDictionaryColumnReader
@@ -91,7 +90,6 @@ public class SliceDictionaryColumnReader
     private boolean rowGroupOpen;
 
     private int[] nonNullValueTemp = new int[0];
-    private int[] nonNullPositionList = new int[0];
 
     private final LocalMemoryContext memoryContext;
 
@@ -183,25 +181,17 @@ public class SliceDictionaryColumnReader
         int minNonNullValueSize = minNonNullValueSize(nonNullCount);
         if (nonNullValueTemp.length < minNonNullValueSize) {
             nonNullValueTemp = new int[minNonNullValueSize];
-            nonNullPositionList = new int[minNonNullValueSize];
             memoryContext.setBytes(getRetainedSizeInBytes());
         }
 
         dataStream.next(nonNullValueTemp, nonNullCount);
 
+        // expand the dictionary ids in a single pass, pointing nulls at the extra null entry of the dictionary
+        int[] result = new int[isNull.length];
         int nonNullPosition = 0;
         for (int i = 0; i < isNull.length; i++) {
-            nonNullPositionList[nonNullPosition] = i;
-            if (!isNull[i]) {
-                nonNullPosition++;
-            }
-        }
-
-        int[] result = new int[isNull.length];
-        fill(result, dictionarySize);
-
-        for (int i = 0; i < nonNullPosition; i++) {
-            result[nonNullPositionList[i]] = nonNullValueTemp[i];
+            result[i] = isNull[i] ? dictionarySize : nonNullValueTemp[nonNullPosition];
+            nonNullPosition += isNull[i] ? 0 : 1;
         }
 
         return DictionaryBlock.create(nextBatchSize, dictionaryBlock, result);
@@ -363,7 +353,7 @@ public class SliceDictionaryColumnReader
     @Override
     public long getRetainedSizeInBytes()
     {
-        return INSTANCE_SIZE + sizeOf(nonNullValueTemp) + sizeOf(nonNullPositionList) + sizeOf(dictionaryData)
+        return INSTANCE_SIZE + sizeOf(nonNullValueTemp) + sizeOf(dictionaryData)
                 + sizeOf(dictionaryLength) + sizeOf(dictionaryOffsetVector)
                 + (currentDictionaryData == dictionaryData ? 0 : sizeOf(currentDictionaryData));
     }
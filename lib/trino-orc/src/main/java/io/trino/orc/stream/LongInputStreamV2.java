@@ -19,7 +19,9 @@ import io.trino.orc.checkpoint.LongStreamV2Checkpoint;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 
+import static io.trino.plugin.base.util.VectorizedDecoding.isVectorizedDecodingSupported;
 import static java.lang.Math.min;
 import static java.lang.Math.toIntExact;
 
@@ -45,13 +47,15 @@ public class LongInputStreamV2
     private int numLiterals;
     private int used;
     private final boolean skipCorrupt;
+    private final boolean vectorizedDecodingEnabled;
     private long lastReadInputCheckpoint;
 
-    public LongInputStreamV2(OrcInputStream input, boolean signed, boolean skipCorrupt)
+    public LongInputStreamV2(OrcInputStream input, boolean signed, boolean skipCorrupt, boolean vectorizedDecodingEnabled)
     {
         this.input = input;
         this.signed = signed;
         this.skipCorrupt = skipCorrupt;
+        this.vectorizedDecodingEnabled = vectorizedDecodingEnabled && isVectorizedDecodingSupported();
         lastReadInputCheckpoint = input.getCheckpoint();
     }
 
@@ -110,8 +114,14 @@ public class LongInputStreamV2
             long fixedDelta = LongDecode.readSignedVInt(input);
 
             // add fixed deltas to adjacent values
-            for (int i = 0; i < length; i++) {
-                literals[numLiterals++] = literals[numLiterals - 2] + fixedDelta;
+            if (vectorizedDecodingEnabled) {
+                VectorLongDecode.fillArithmeticSequence(literals, numLiterals, length, firstVal, fixedDelta);
+                numLiterals += length;
+            }
+            else {
+                for (int i = 0; i < length; i++) {
+                    literals[numLiterals++] = literals[numLiterals - 2] + fixedDelta;
+                }
             }
         }
         else {
@@ -125,16 +135,18 @@ public class LongInputStreamV2
             // value to result buffer. if the delta base value is negative then it
             // is a decreasing sequence else an increasing sequence
             packer.unpack(literals, numLiterals, length, fixedBits, input);
-            while (length > 0) {
-                if (deltaBase < 0) {
-                    literals[numLiterals] = prevVal - literals[numLiterals];
+            int end = numLiterals + length;
+            if (deltaBase < 0) {
+                for (; numLiterals < end; numLiterals++) {
+                    prevVal -= literals[numLiterals];
+                    literals[numLiterals] = prevVal;
                 }
-                else {
-                    literals[numLiterals] = prevVal + literals[numLiterals];
+            }
+            else {
+                for (; numLiterals < end; numLiterals++) {
+                    prevVal += literals[numLiterals];
+                    literals[numLiterals] = prevVal;
                 }
-                prevVal = literals[numLiterals];
-                length--;
-                numLiterals++;
             }
         }
     }
@@ -193,64 +205,35 @@ public class LongInputStreamV2
         int bitSize = LongDecode.getClosestFixedBits(patchWidth + patchGapWidth);
         packer.unpack(unpackedPatch, 0, patchListLength, bitSize, input);
 
-        // apply the patch directly when decoding the packed data
-        int patchIndex = 0;
-        long currentGap;
-        long currentPatch;
-        long patchMask = ((1L << patchWidth) - 1);
-        currentGap = unpackedPatch[patchIndex] >>> patchWidth;
-        currentPatch = unpackedPatch[patchIndex] & patchMask;
-        long actualGap = 0;
-
-        // special case: gap is >255 then patch value will be 0.
-        // if gap is <=255 then patch value cannot be 0
-        while (currentGap == 255 && currentPatch == 0) {
-            actualGap += 255;
-            patchIndex++;
-            currentGap = unpackedPatch[patchIndex] >>> patchWidth;
-            currentPatch = unpackedPatch[patchIndex] & patchMask;
+        // add base to all values first, and then apply the patches to the few positions that need them
+        if (vectorizedDecodingEnabled) {
+            VectorLongDecode.addBase(unpacked, literals, numLiterals, length, base);
+        }
+        else {
+            for (int i = 0; i < length; i++) {
+                literals[numLiterals + i] = base + unpacked[i];
+            }
         }
-        // add the left over gap
-        actualGap += currentGap;
-
-        // unpack data blob, patch it (if required), add base to get final result
-        for (int i = 0; i < unpacked.length; i++) {
-            if (i == actualGap) {
-                // extract the patch value
-                long patchedValue = unpacked[i] | (currentPatch << fb);
-
-                // add base to patched value
-                literals[numLiterals++] = base + patchedValue;
-
-                // increment the patch to point to next entry in patch list
-                patchIndex++;
-
-                if (patchIndex < patchListLength) {
-                    // read the next gap and patch
-                    currentGap = unpackedPatch[patchIndex] >>> patchWidth;
-                    currentPatch = unpackedPatch[patchIndex] & patchMask;
-                    actualGap = 0;
-
-                    // special case: gap is >255 then patch will be 0. if gap is
-                    // <=255 then patch cannot be 0
-                    while (currentGap == 255 && currentPatch == 0) {
-                        actualGap += 255;
-                        patchIndex++;
-                        currentGap = unpackedPatch[patchIndex] >>> patchWidth;
-                        currentPatch = unpackedPatch[patchIndex] & patchMask;
-                    }
-                    // add the left over gap
-                    actualGap += currentGap;
 
-                    // next gap is relative to the current gap
-                    actualGap += i;
-                }
+        long patchMask = ((1L << patchWidth) - 1);
+        long patchPosition = 0;
+        for (int patchIndex = 0; patchIndex < patchListLength; patchIndex++) {
+            long currentGap = unpackedPatch[patchIndex] >>> patchWidth;
+            long currentPatch = unpackedPatch[patchIndex] & patchMask;
+            // each gap is relative to the previous patch position
+            patchPosition += currentGap;
+            // special case: gap is >255 then patch value will be 0.
+            // if gap is <=255 then patch value cannot be 0
+            if (currentGap == 255 && currentPatch == 0) {
+                continue;
             }
-            else {
-                // no patching required. add base to unpacked value to get final value
-                literals[numLiterals++] = base + unpacked[i];
+            if (patchPosition >= length) {
+                break;
             }
+            int position = (int) patchPosition;
+            literals[numLiterals + position] = base + (unpacked[position] | (currentPatch << fb));
         }
+        numLiterals += length;
     }
 
     // This comes from the Apache Hive ORC code
@@ -269,14 +252,16 @@ public class LongInputStreamV2
         // write the unpacked values and zigzag decode to result buffer
         packer.unpack(literals, numLiterals, length, fixedBits, input);
         if (signed) {
-            for (int i = 0; i < length; i++) {
-                literals[numLiterals] = LongDecode.zigzagDecode(literals[numLiterals]);
-                numLiterals++;
+            if (vectorizedDecodingEnabled) {
+                VectorLongDecode.zigzagDecode(literals, numLiterals, length);
+            }
+            else {
+                for (int i = 0; i < length; i++) {
+                    literals[numLiterals + i] = LongDecode.zigzagDecode(literals[numLiterals + i]);
+                }
             }
         }
-        else {
-            numLiterals += length;
-        }
+        numLiterals += length;
     }
 
     // This comes from the Apache Hive ORC code
@@ -301,9 +286,8 @@ public class LongInputStreamV2
         }
 
         // repeat the value for length times
-        for (int i = 0; i < length; i++) {
-            literals[numLiterals++] = val;
-        }
+        Arrays.fill(literals, numLiterals, numLiterals + length, val);
+        numLiterals += length;
     }
 
     /**
@@ -368,13 +352,20 @@ public class LongInputStreamV2
             }
 
             int chunkSize = min(numLiterals - used, items);
-            for (int i = 0; i < chunkSize; i++) {
-                long literal = literals[used + i];
-                int value = (int) literal;
-                if (literal != value) {
-                    throw new OrcCorruptionException(input.getOrcDataSourceId(), "Decoded value out of range for a 32bit number");
+            if (vectorizedDecodingEnabled && VectorLongDecode.isInRange(literals, used, chunkSize, Integer.MIN_VALUE, Integer.MAX_VALUE)) {
+                for (int i = 0; i < chunkSize; i++) {
+                    values[offset + i] = (int) literals[used + i];
+                }
+            }
+            else {
+                for (int i = 0; i < chunkSize; i++) {
+                    long literal = literals[used + i];
+                    int value = (int) literal;
+                    if (literal != value) {
+                        throw new OrcCorruptionException(input.getOrcDataSourceId(), "Decoded value out of range for a 32bit number");
+                    }
+                    values[offset + i] = value;
                 }
-                values[offset + i] = value;
             }
             used += chunkSize;
             offset += chunkSize;
@@ -395,13 +386,20 @@ public class LongInputStreamV2
             }
 
             int chunkSize = min(numLiterals - used, items);
-            for (int i = 0; i < chunkSize; i++) {
-                long literal = literals[used + i];
-                short value = (short) literal;
-                if (literal != value) {
-                    throw new OrcCorruptionException(input.getOrcDataSourceId(), "Decoded value out of range for a 16bit number");
+            if (vectorizedDecodingEnabled && VectorLongDecode.isInRange(literals, used, chunkSize, Short.MIN_VALUE, Short.MAX_VALUE)) {
+                for (int i = 0; i < chunkSize; i++) {
+                    values[offset + i] = (short) literals[used + i];
+                }
+            }
+            else {
+                for (int i = 0; i < chunkSize; i++) {
+                    long literal = literals[used + i];
+                    short value = (short) literal;
+                    if (literal != value) {
+                        throw new OrcCorruptionException(input.getOrcDataSourceId(), "Decoded value out of range for a 16bit number");
+                    }
+                    values[offset + i] = value;
                 }
-                values[offset + i] = value;
             }
             used += chunkSize;
             offset += chunkSize;
@@ -39,7 +39,8 @@ public final class ValueStreams
             StreamId streamId,
             OrcChunkLoader chunkLoader,
             OrcTypeKind type,
-            ColumnEncodingKind encoding)
+            ColumnEncodingKind encoding,
+            boolean vectorizedDecodingEnabled)
     {
         if (streamId.getStreamKind() == PRESENT) {
             return new BooleanInputStream(new OrcInputStream(chunkLoader));
@@ -47,7 +48,7 @@ public final class ValueStreams
 
         // dictionary length and data streams are unsigned int streams
         if ((encoding == DICTIONARY || encoding == DICTIONARY_V2) && (streamId.getStreamKind() == LENGTH || streamId.getStreamKind() == DATA)) {
-            return createLongStream(new OrcInputStream(chunkLoader), encoding, false);
+            return createLongStream(new OrcInputStream(chunkLoader), encoding, false, vectorizedDecodingEnabled);
         }
 
         if (streamId.getStreamKind() == DATA) {
@@ -60,7 +61,7 @@ public final class ValueStreams
                 case INT:
                 case LONG:
                 case DATE:
-                    return createLongStream(new OrcInputStream(chunkLoader), encoding, true);
+                    return createLongStream(new OrcInputStream(chunkLoader), encoding, true, vectorizedDecodingEnabled);
                 case FLOAT:
                     return new FloatInputStream(new OrcInputStream(chunkLoader));
                 case DOUBLE:
@@ -72,7 +73,7 @@ public final class ValueStreams
                     return new ByteArrayInputStream(new OrcInputStream(chunkLoader));
                 case TIMESTAMP:
                 case TIMESTAMP_INSTANT:
-                    return createLongStream(new OrcInputStream(chunkLoader), encoding, true);
+                    return createLongStream(new OrcInputStream(chunkLoader), encoding, true, vectorizedDecodingEnabled);
                 case DECIMAL:
                     return new DecimalInputStream(chunkLoader);
                 case UNION:
@@ -93,7 +94,7 @@ public final class ValueStreams
                 case BINARY:
                 case MAP:
                 case LIST:
-                    return createLongStream(new OrcInputStream(chunkLoader), encoding, false);
+                    return createLongStream(new OrcInputStream(chunkLoader), encoding, false, vectorizedDecodingEnabled);
                 default:
                     break;
             }
@@ -101,7 +102,7 @@ public final class ValueStreams
 
         // length (nanos) of a timestamp column
         if ((type == TIMESTAMP || type == TIMESTAMP_INSTANT) && streamId.getStreamKind() == SECONDARY) {
-            return createLongStream(new OrcInputStream(chunkLoader), encoding, false);
+            return createLongStream(new OrcInputStream(chunkLoader), encoding, false, vectorizedDecodingEnabled);
         }
 
         // scale of a decimal column
@@ -109,7 +110,7 @@ public final class ValueStreams
             // specification (https://orc.apache.org/docs/encodings.html) says scale stream is unsigned,
             // however Hive writer stores scale as signed integer (org.apache.hadoop.hive.ql.io.orc.WriterImpl.DecimalTreeWriter)
             // BUG link: https://issues.apache.org/jira/browse/HIVE-13229
-            return createLongStream(new OrcInputStream(chunkLoader), encoding, true);
+            return createLongStream(new OrcInputStream(chunkLoader), encoding, true, vectorizedDecodingEnabled);
         }
 
         if (streamId.getStreamKind() == DICTIONARY_DATA) {
@@ -130,10 +131,11 @@ public final class ValueStreams
     private static ValueInputStream<?> createLongStream(
             OrcInputStream inputStream,
             ColumnEncodingKind encoding,
-            boolean signed)
+            boolean signed,
+            boolean vectorizedDecodingEnabled)
     {
         if (encoding == DIRECT_V2 || encoding == DICTIONARY_V2) {
-            return new LongInputStreamV2(inputStream, signed, false);
+            return new LongInputStreamV2(inputStream, signed, false, vectorizedDecodingEnabled);
         }
         if (encoding == DIRECT || encoding == DICTIONARY) {
             return new LongInputStreamV1(inputStream, signed);
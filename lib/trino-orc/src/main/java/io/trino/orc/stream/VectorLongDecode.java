@@ -0,0 +1,100 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.orc.stream;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API implementations of the batch steps of RLEv2 decoding.
+ * Only used when the platform provides wide enough vector registers, see {@link LongInputStreamV2}.
+ */
+final class VectorLongDecode
+{
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+    private static final LongVector IOTA = LongVector.zero(SPECIES).addIndex(1);
+
+    private VectorLongDecode() {}
+
+    public static void zigzagDecode(long[] values, int offset, int length)
+    {
+        int i = 0;
+        int vectorLength = SPECIES.loopBound(length);
+        for (; i < vectorLength; i += SPECIES.length()) {
+            LongVector vector = LongVector.fromArray(SPECIES, values, offset + i);
+            vector.lanewise(VectorOperators.LSHR, 1)
+                    .lanewise(VectorOperators.XOR, vector.and(1L).neg())
+                    .intoArray(values, offset + i);
+        }
+        for (; i < length; i++) {
+            values[offset + i] = LongDecode.zigzagDecode(values[offset + i]);
+        }
+    }
+
+    public static void addBase(long[] source, long[] destination, int destinationOffset, int length, long base)
+    {
+        int i = 0;
+        int vectorLength = SPECIES.loopBound(length);
+        for (; i < vectorLength; i += SPECIES.length()) {
+            LongVector.fromArray(SPECIES, source, i)
+                    .add(base)
+                    .intoArray(destination, destinationOffset + i);
+        }
+        for (; i < length; i++) {
+            destination[destinationOffset + i] = base + source[i];
+        }
+    }
+
+    /**
+     * Writes {@code previous + delta}, {@code previous + 2 * delta}, ... into {@code length} positions starting at {@code offset}.
+     */
+    public static void fillArithmeticSequence(long[] values, int offset, int length, long previous, long delta)
+    {
+        LongVector steps = IOTA.mul(delta);
+        int i = 0;
+        int vectorLength = SPECIES.loopBound(length);
+        for (; i < vectorLength; i += SPECIES.length()) {
+            steps.add(previous + (i + 1) * delta)
+                    .intoArray(values, offset + i);
+        }
+        for (; i < length; i++) {
+            values[offset + i] = previous + (i + 1) * delta;
+        }
+    }
+
+    public static boolean isInRange(long[] values, int offset, int length, long min, long max)
+    {
+        VectorMask<Long> outOfRange = SPECIES.maskAll(false);
+        int i = 0;
+        int vectorLength = SPECIES.loopBound(length);
+        for (; i < vectorLength; i += SPECIES.length()) {
+            LongVector vector = LongVector.fromArray(SPECIES, values, offset + i);
+            outOfRange = outOfRange
+                    .or(vector.compare(VectorOperators.LT, min))
+                    .or(vector.compare(VectorOperators.GT, max));
+        }
+        if (outOfRange.anyTrue()) {
+            return false;
+        }
+        for (; i < length; i++) {
+            long value = values[offset + i];
+            if (value < min || value > max) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
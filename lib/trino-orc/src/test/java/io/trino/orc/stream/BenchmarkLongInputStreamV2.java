@@ -0,0 +1,133 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.orc.stream;
+
+import io.airlift.slice.DynamicSliceOutput;
+import io.airlift.slice.Slice;
+import io.trino.orc.OrcDataSourceId;
+import io.trino.orc.metadata.OrcColumnId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntToLongFunction;
+
+import static io.trino.jmh.Benchmarks.benchmark;
+import static io.trino.memory.context.AggregatedMemoryContext.newSimpleAggregatedMemoryContext;
+import static io.trino.orc.metadata.CompressionKind.NONE;
+import static io.trino.orc.metadata.Stream.StreamKind.DATA;
+
+@SuppressWarnings("MethodMayBeStatic")
+@State(Scope.Thread)
+@Fork(2)
+@Warmup(iterations = 5, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class BenchmarkLongInputStreamV2
+{
+    private static final int VALUE_COUNT = 100_000;
+
+    @Benchmark
+    @OperationsPerInvocation(VALUE_COUNT)
+    public Object readLongs(BenchmarkData data)
+            throws IOException
+    {
+        LongInputStreamV2 input = data.createInputStream();
+        input.next(data.longValues, VALUE_COUNT);
+        return data.longValues;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUE_COUNT)
+    public Object readInts(BenchmarkData data)
+            throws IOException
+    {
+        LongInputStreamV2 input = data.createInputStream();
+        input.next(data.intValues, VALUE_COUNT);
+        return data.intValues;
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkData
+    {
+        private final long[] longValues = new long[VALUE_COUNT];
+        private final int[] intValues = new int[VALUE_COUNT];
+
+        @Param({"SHORT_REPEAT", "DIRECT", "PATCHED_BASE", "FIXED_DELTA", "DELTA"})
+        private String encoding;
+
+        @Param({"false", "true"})
+        private boolean vectorizedDecodingEnabled;
+
+        private Slice data;
+
+        @Setup
+        public void setup()
+        {
+            Random random = new Random(42);
+            IntToLongFunction generator = switch (encoding) {
+                case "SHORT_REPEAT" -> index -> index / 5;
+                case "DIRECT" -> index -> random.nextInt(2_000_000) - 1_000_000;
+                case "PATCHED_BASE" -> index -> index % 100 == 0 ? Integer.MAX_VALUE - index : random.nextInt(1_000);
+                case "FIXED_DELTA" -> index -> index * 7L;
+                case "DELTA" -> index -> index * 1_000L + random.nextInt(1_000);
+                default -> throw new IllegalArgumentException("Unsupported encoding: " + encoding);
+            };
+
+            LongOutputStreamV2 output = new LongOutputStreamV2(NONE, 256 * 1024, true, DATA);
+            for (int i = 0; i < VALUE_COUNT; i++) {
+                output.writeLong(generator.applyAsLong(i));
+            }
+            output.close();
+            DynamicSliceOutput sliceOutput = new DynamicSliceOutput(VALUE_COUNT);
+            output.getStreamDataOutput(new OrcColumnId(1)).writeData(sliceOutput);
+            data = sliceOutput.slice();
+        }
+
+        private LongInputStreamV2 createInputStream()
+        {
+            OrcDataSourceId dataSourceId = new OrcDataSourceId("benchmark");
+            OrcInputStream input = new OrcInputStream(OrcChunkLoader.create(dataSourceId, data, Optional.empty(), newSimpleAggregatedMemoryContext()));
+            return new LongInputStreamV2(input, true, false, vectorizedDecodingEnabled);
+        }
+    }
+
+    public static void main(String[] args)
+            throws Exception
+    {
+        // assure the benchmarks are valid before running
+        BenchmarkData data = new BenchmarkData();
+        data.encoding = "PATCHED_BASE";
+        data.setup();
+        new BenchmarkLongInputStreamV2().readLongs(data);
+
+        benchmark(BenchmarkLongInputStreamV2.class)
+                .withOptions(optionsBuilder -> optionsBuilder.jvmArgsAppend("--add-modules=jdk.incubator.vector"))
+                .run();
+    }
+}
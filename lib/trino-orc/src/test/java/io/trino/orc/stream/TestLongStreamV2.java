@@ -13,21 +13,28 @@
  */
 package io.trino.orc.stream;
 
+import io.airlift.slice.DynamicSliceOutput;
 import io.airlift.slice.Slice;
 import io.trino.orc.OrcCorruptionException;
 import io.trino.orc.OrcDecompressor;
 import io.trino.orc.checkpoint.LongStreamCheckpoint;
+import io.trino.orc.metadata.OrcColumnId;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Random;
+import java.util.function.LongUnaryOperator;
 
 import static io.trino.memory.context.AggregatedMemoryContext.newSimpleAggregatedMemoryContext;
 import static io.trino.orc.OrcDecompressor.createOrcDecompressor;
 import static io.trino.orc.metadata.CompressionKind.SNAPPY;
 import static io.trino.orc.metadata.Stream.StreamKind.DATA;
+import static java.lang.Math.min;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class TestLongStreamV2
         extends AbstractTestValueStream<Long, LongStreamCheckpoint, LongOutputStreamV2, LongInputStreamV2>
@@ -62,6 +69,77 @@ public class TestLongStreamV2
         testWriteValue(groups);
     }
 
+    @Test
+    public void testBatchRead()
+            throws IOException
+    {
+        Random random = new Random(42);
+        // short repeat
+        assertBatchRead(10_000, index -> index / 5);
+        // direct
+        assertBatchRead(10_000, index -> random.nextInt(2_000_000) - 1_000_000);
+        // patched base, with gaps between patches both below and above 255
+        assertBatchRead(10_000, index -> index % 300 == 7 || index % 500 == 0 ? (1L << 40) + index : random.nextInt(100));
+        assertBatchRead(10_000, index -> index % 50 == 0 ? Integer.MIN_VALUE + index : -random.nextInt(100));
+        // delta with fixed delta
+        assertBatchRead(10_000, index -> index * 7 - 1_000);
+        assertBatchRead(10_000, index -> 1_000 - index * 3);
+        // delta with variable deltas
+        long[] previous = {0};
+        assertBatchRead(10_000, index -> previous[0] += random.nextInt(1_000));
+        assertBatchRead(10_000, index -> previous[0] -= random.nextInt(1_000));
+    }
+
+    private void assertBatchRead(int count, LongUnaryOperator generator)
+            throws IOException
+    {
+        long[] expected = new long[count];
+        LongOutputStreamV2 outputStream = createValueOutputStream();
+        for (int i = 0; i < count; i++) {
+            expected[i] = generator.applyAsLong(i);
+            outputStream.writeLong(expected[i]);
+        }
+        outputStream.close();
+        DynamicSliceOutput sliceOutput = new DynamicSliceOutput(1000);
+        outputStream.getStreamDataOutput(new OrcColumnId(33)).writeData(sliceOutput);
+
+        assertBatchRead(sliceOutput.slice(), expected, false);
+        assertBatchRead(sliceOutput.slice(), expected, true);
+    }
+
+    private void assertBatchRead(Slice slice, long[] expected, boolean vectorizedDecodingEnabled)
+            throws IOException
+    {
+        int count = expected.length;
+        long[] actual = new long[count];
+        LongInputStreamV2 longStream = createValueStream(slice, vectorizedDecodingEnabled);
+        for (int offset = 0; offset < count; offset += 123) {
+            int batchSize = min(123, count - offset);
+            long[] batch = new long[batchSize];
+            longStream.next(batch, batchSize);
+            System.arraycopy(batch, 0, actual, offset, batchSize);
+        }
+        assertThat(actual).isEqualTo(expected);
+
+        boolean intRange = true;
+        for (long value : expected) {
+            intRange &= value == (int) value;
+        }
+        LongInputStreamV2 intStream = createValueStream(slice, vectorizedDecodingEnabled);
+        int[] intValues = new int[count];
+        if (intRange) {
+            intStream.next(intValues, count);
+            for (int i = 0; i < count; i++) {
+                assertThat(intValues[i]).isEqualTo(expected[i]);
+            }
+        }
+        else {
+            assertThatThrownBy(() -> intStream.next(intValues, count))
+                    .isInstanceOf(OrcCorruptionException.class)
+                    .hasMessageContaining("Decoded value out of range for a 32bit number");
+        }
+    }
+
     @Override
     protected LongOutputStreamV2 createValueOutputStream()
     {
@@ -77,10 +155,16 @@ public class TestLongStreamV2
     @Override
     protected LongInputStreamV2 createValueStream(Slice slice)
             throws OrcCorruptionException
+    {
+        return createValueStream(slice, true);
+    }
+
+    private static LongInputStreamV2 createValueStream(Slice slice, boolean vectorizedDecodingEnabled)
+            throws OrcCorruptionException
     {
         Optional<OrcDecompressor> orcDecompressor = createOrcDecompressor(ORC_DATA_SOURCE_ID, SNAPPY, COMPRESSION_BLOCK_SIZE);
         OrcInputStream input = new OrcInputStream(OrcChunkLoader.create(ORC_DATA_SOURCE_ID, slice, orcDecompressor, newSimpleAggregatedMemoryContext()));
-        return new LongInputStreamV2(input, true, false);
+        return new LongInputStreamV2(input, true, false, vectorizedDecodingEnabled);
     }
 
     @Override
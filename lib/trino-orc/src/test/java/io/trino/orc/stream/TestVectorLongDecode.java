@@ -0,0 +1,110 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.orc.stream;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestVectorLongDecode
+{
+    private static final int[] LENGTHS = {0, 1, 3, 4, 5, 7, 8, 9, 15, 16, 17, 511, 512};
+    private static final int OFFSET = 13;
+
+    @Test
+    public void testZigzagDecode()
+    {
+        Random random = new Random(0);
+        for (int length : LENGTHS) {
+            long[] expected = randomValues(random, OFFSET + length);
+            long[] actual = expected.clone();
+            for (int i = OFFSET; i < OFFSET + length; i++) {
+                expected[i] = LongDecode.zigzagDecode(expected[i]);
+            }
+            VectorLongDecode.zigzagDecode(actual, OFFSET, length);
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void testAddBase()
+    {
+        Random random = new Random(0);
+        for (int length : LENGTHS) {
+            long[] source = randomValues(random, length);
+            long base = random.nextLong();
+            long[] expected = new long[OFFSET + length];
+            long[] actual = new long[OFFSET + length];
+            for (int i = 0; i < length; i++) {
+                expected[OFFSET + i] = base + source[i];
+            }
+            VectorLongDecode.addBase(source, actual, OFFSET, length, base);
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void testFillArithmeticSequence()
+    {
+        Random random = new Random(0);
+        for (int length : LENGTHS) {
+            for (long delta : new long[] {0, 1, -1, 7, random.nextLong()}) {
+                long previous = random.nextLong();
+                long[] expected = new long[OFFSET + length];
+                long[] actual = new long[OFFSET + length];
+                long value = previous;
+                for (int i = 0; i < length; i++) {
+                    value += delta;
+                    expected[OFFSET + i] = value;
+                }
+                VectorLongDecode.fillArithmeticSequence(actual, OFFSET, length, previous, delta);
+                assertThat(actual).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    public void testIsInRange()
+    {
+        for (int length : LENGTHS) {
+            long[] values = new long[OFFSET + length];
+            for (int i = 0; i < length; i++) {
+                values[OFFSET + i] = i % 2 == 0 ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+            }
+            // values outside of the checked region must be ignored
+            values[0] = Long.MAX_VALUE;
+            assertThat(VectorLongDecode.isInRange(values, OFFSET, length, Integer.MIN_VALUE, Integer.MAX_VALUE)).isTrue();
+
+            for (int position = 0; position < length; position++) {
+                long original = values[OFFSET + position];
+                values[OFFSET + position] = Integer.MAX_VALUE + 1L;
+                assertThat(VectorLongDecode.isInRange(values, OFFSET, length, Integer.MIN_VALUE, Integer.MAX_VALUE)).isFalse();
+                values[OFFSET + position] = Integer.MIN_VALUE - 1L;
+                assertThat(VectorLongDecode.isInRange(values, OFFSET, length, Integer.MIN_VALUE, Integer.MAX_VALUE)).isFalse();
+                values[OFFSET + position] = original;
+            }
+        }
+    }
+
+    private static long[] randomValues(Random random, int length)
+    {
+        long[] values = new long[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = random.nextLong();
+        }
+        return values;
+    }
+}
@@ -18,6 +18,8 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ListMultimap;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import io.airlift.slice.Slice;
 import io.airlift.slice.Slices;
 import io.airlift.units.DataSize;
@@ -30,12 +32,20 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.base.Verify.verify;
 import static com.google.common.collect.ImmutableMap.toImmutableMap;
+import static com.google.common.util.concurrent.Futures.immediateVoidFuture;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static com.google.common.util.concurrent.Uninterruptibles.getUninterruptibly;
 import static java.lang.Math.min;
 import static java.lang.Math.toIntExact;
 import static java.util.Comparator.comparingLong;
@@ -47,8 +57,9 @@ public abstract class AbstractParquetDataSource
     private final ParquetDataSourceId id;
     private final long estimatedSize;
     private final ParquetReaderOptions options;
-    private long readTimeNanos;
-    private long readBytes;
+    // Updated by prefetch threads as well as by the reader
+    private final AtomicLong readTimeNanos = new AtomicLong();
+    private final AtomicLong readBytes = new AtomicLong();
 
     protected AbstractParquetDataSource(ParquetDataSourceId id, long estimatedSize, ParquetReaderOptions options)
     {
@@ -76,13 +87,13 @@ public abstract class AbstractParquetDataSource
     @Override
     public final long getReadBytes()
     {
-        return readBytes;
+        return readBytes.get();
     }
 
     @Override
     public final long getReadTimeNanos()
     {
-        return readTimeNanos;
+        return readTimeNanos.get();
     }
 
     @Override
@@ -99,8 +110,8 @@ public abstract class AbstractParquetDataSource
 
         Slice tailSlice = readTailInternal(length);
 
-        readTimeNanos += System.nanoTime() - start;
-        readBytes += tailSlice.length();
+        readTimeNanos.addAndGet(System.nanoTime() - start);
+        readBytes.addAndGet(tailSlice.length());
 
         return tailSlice;
     }
@@ -121,8 +132,8 @@ public abstract class AbstractParquetDataSource
 
         readInternal(position, buffer, bufferOffset, bufferLength);
 
-        readTimeNanos += System.nanoTime() - start;
-        readBytes += bufferLength;
+        readTimeNanos.addAndGet(System.nanoTime() - start);
+        readBytes.addAndGet(bufferLength);
     }
 
     @Override
@@ -226,6 +237,12 @@ public abstract class AbstractParquetDataSource
                             return mergedRangeLoader.read().slice(offset, toIntExact(diskRange.getLength()));
                         }
 
+                        @Override
+                        public ListenableFuture<Void> prefetch(Executor executor)
+                        {
+                            return mergedRangeLoader.prefetch(executor);
+                        }
+
                         @Override
                         public void free()
                         {
@@ -299,6 +316,9 @@ public abstract class AbstractParquetDataSource
         private final DiskRange range;
         private final LocalMemoryContext readerMemoryUsage;
         private Slice data;
+        private ListenableFuture<byte[]> prefetchedData;
+        // Claimed either by the prefetch task when it starts reading, or by read() or free() to prevent the read from starting
+        private final AtomicBoolean prefetchStarted = new AtomicBoolean();
         private int referenceCount = 1;
 
         public ReferenceCountedReader(DiskRange range, AggregatedMemoryContext memoryContext)
@@ -327,15 +347,53 @@ public abstract class AbstractParquetDataSource
             checkState(referenceCount > 0, "Chunk reader is already closed");
 
             if (data == null) {
-                byte[] buffer = new byte[toIntExact(range.getLength())];
-                readerMemoryUsage.setBytes(buffer.length);
-                readFully(range.getOffset(), buffer, 0, buffer.length);
-                data = Slices.wrappedBuffer(buffer);
+                if (prefetchedData != null && !prefetchStarted.compareAndSet(false, true)) {
+                    // The prefetch is already reading the range
+                    data = Slices.wrappedBuffer(Futures.getChecked(prefetchedData, IOException.class));
+                    prefetchedData = null;
+                }
+                else {
+                    if (prefetchedData != null) {
+                        // The prefetch is still queued, so read the range here instead of waiting for it
+                        prefetchedData.cancel(false);
+                        prefetchedData = null;
+                    }
+                    byte[] buffer = new byte[toIntExact(range.getLength())];
+                    readerMemoryUsage.setBytes(buffer.length);
+                    readFully(range.getOffset(), buffer, 0, buffer.length);
+                    data = Slices.wrappedBuffer(buffer);
+                }
             }
 
             return data;
         }
 
+        @Override
+        public ListenableFuture<Void> prefetch(Executor executor)
+        {
+            checkState(referenceCount > 0, "Chunk reader is already closed");
+
+            if (data != null) {
+                return immediateVoidFuture();
+            }
+            if (prefetchedData == null) {
+                int length = toIntExact(range.getLength());
+                // Memory is accounted on the calling thread, before the read is issued
+                readerMemoryUsage.setBytes(length);
+                prefetchedData = Futures.submit(
+                        () -> {
+                            if (!prefetchStarted.compareAndSet(false, true)) {
+                                throw new CancellationException("Chunk reader is already closed");
+                            }
+                            byte[] buffer = new byte[length];
+                            readFully(range.getOffset(), buffer, 0, length);
+                            return buffer;
+                        },
+                        executor);
+            }
+            return Futures.transform(prefetchedData, _ -> null, directExecutor());
+        }
+
         @Override
         public void free()
         {
@@ -344,10 +402,32 @@ public abstract class AbstractParquetDataSource
             referenceCount--;
             if (referenceCount == 0) {
                 data = null;
+                if (prefetchedData != null) {
+                    if (prefetchStarted.compareAndSet(false, true)) {
+                        // The read has not started and never will
+                        prefetchedData.cancel(false);
+                    }
+                    else {
+                        // A read in progress cannot be interrupted. Wait for it, so that it does not use the input after
+                        // the data source is closed, and its buffer stays accounted until it is no longer referenced.
+                        waitForPrefetch(prefetchedData);
+                    }
+                    prefetchedData = null;
+                }
                 readerMemoryUsage.setBytes(0);
             }
         }
 
+        private static void waitForPrefetch(ListenableFuture<byte[]> prefetch)
+        {
+            try {
+                getUninterruptibly(prefetch);
+            }
+            catch (ExecutionException | CancellationException _) {
+                // the data is no longer needed, so the failure is irrelevant
+            }
+        }
+
         @Override
         public String toString()
         {
@@ -13,10 +13,14 @@
  */
 package io.trino.parquet;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import io.airlift.slice.Slice;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.concurrent.Executor;
+
+import static com.google.common.util.concurrent.Futures.immediateVoidFuture;
 
 public interface ChunkReader
 {
@@ -35,5 +39,15 @@ public interface ChunkReader
         }
     }
 
+    /**
+     * Starts loading the data on the given executor, so that a subsequent {@link #read()} does not have to wait for I/O.
+     *
+     * @return future completed once the data is loaded
+     */
+    default ListenableFuture<Void> prefetch(Executor executor)
+    {
+        return immediateVoidFuture();
+    }
+
     void free();
 }
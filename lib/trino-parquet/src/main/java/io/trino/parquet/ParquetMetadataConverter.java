@@ -55,6 +55,7 @@ import org.apache.parquet.schema.LogicalTypeAnnotation.LogicalTypeAnnotationVisi
 import org.apache.parquet.schema.PrimitiveType;
 import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -236,6 +237,32 @@ public final class ParquetMetadataConverter
         return builder.build();
     }
 
+    public static ColumnIndex toParquetColumnIndex(PrimitiveType type, org.apache.parquet.internal.column.columnindex.ColumnIndex columnIndex)
+    {
+        if (!isMinMaxStatsSupported(type) || columnIndex == null) {
+            return null;
+        }
+        ColumnIndex parquetColumnIndex = new ColumnIndex(
+                columnIndex.getNullPages(),
+                columnIndex.getMinValues(),
+                columnIndex.getMaxValues(),
+                toParquetBoundaryOrder(columnIndex.getBoundaryOrder()));
+        parquetColumnIndex.setNull_counts(columnIndex.getNullCounts());
+        return parquetColumnIndex;
+    }
+
+    public static OffsetIndex toParquetOffsetIndex(org.apache.parquet.internal.column.columnindex.OffsetIndex offsetIndex)
+    {
+        List<PageLocation> pageLocations = new ArrayList<>(offsetIndex.getPageCount());
+        for (int page = 0; page < offsetIndex.getPageCount(); page++) {
+            pageLocations.add(new PageLocation(
+                    offsetIndex.getOffset(page),
+                    offsetIndex.getCompressedPageSize(page),
+                    offsetIndex.getFirstRowIndex(page)));
+        }
+        return new OffsetIndex(pageLocations);
+    }
+
     public static boolean isMinMaxStatsSupported(PrimitiveType type)
     {
         return type.columnOrder().getColumnOrderName() == ColumnOrderName.TYPE_DEFINED_ORDER;
@@ -365,6 +392,15 @@ public final class ParquetMetadataConverter
         };
     }
 
+    private static BoundaryOrder toParquetBoundaryOrder(org.apache.parquet.internal.column.columnindex.BoundaryOrder boundaryOrder)
+    {
+        return switch (boundaryOrder) {
+            case ASCENDING -> BoundaryOrder.ASCENDING;
+            case DESCENDING -> BoundaryOrder.DESCENDING;
+            case UNORDERED -> BoundaryOrder.UNORDERED;
+        };
+    }
+
     private static org.apache.parquet.internal.column.columnindex.BoundaryOrder fromParquetBoundaryOrder(BoundaryOrder boundaryOrder)
     {
         return switch (boundaryOrder) {
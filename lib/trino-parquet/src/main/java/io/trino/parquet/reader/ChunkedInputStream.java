@@ -13,6 +13,8 @@
  */
 package io.trino.parquet.reader;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ListenableFuture;
 import io.airlift.slice.BasicSliceInput;
 import io.airlift.slice.Slice;
 import io.airlift.slice.Slices;
@@ -23,9 +25,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkPositionIndexes;
+import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.base.Verify.verify;
 import static io.airlift.slice.Slices.EMPTY_SLICE;
 import static java.util.Objects.requireNonNull;
@@ -40,6 +45,7 @@ import static java.util.Objects.requireNonNull;
 public final class ChunkedInputStream
         extends InputStream
 {
+    private final List<? extends ChunkReader> allChunks;
     private final Iterator<? extends ChunkReader> chunks;
     private ChunkReader currentChunkReader;
     // current is explicitly initialized to EMPTY_SLICE as this field is set to null when the stream is closed
@@ -49,7 +55,18 @@ public final class ChunkedInputStream
     {
         requireNonNull(chunks, "chunks is null");
         checkArgument(!chunks.isEmpty(), "At least one chunk is expected but got none");
-        this.chunks = chunks.iterator();
+        this.allChunks = ImmutableList.copyOf(chunks);
+        this.chunks = allChunks.iterator();
+    }
+
+    /**
+     * Starts loading the first chunk of the stream on the given executor. Only the first chunk is loaded to bound
+     * the memory used by read-ahead to the maximum buffer size per stream.
+     */
+    public ListenableFuture<Void> prefetchFirstChunk(Executor executor)
+    {
+        checkState(currentChunkReader == null && current != null, "Stream is already being read");
+        return allChunks.getFirst().prefetch(executor);
     }
 
     public Slice getSlice(int length)
@@ -58,6 +58,7 @@ import static io.trino.parquet.reader.flat.Int128ColumnAdapter.INT128_ADAPTER;
 import static io.trino.parquet.reader.flat.IntColumnAdapter.INT_ADAPTER;
 import static io.trino.parquet.reader.flat.LongColumnAdapter.LONG_ADAPTER;
 import static io.trino.parquet.reader.flat.ShortColumnAdapter.SHORT_ADAPTER;
+import static io.trino.plugin.base.util.VectorizedDecoding.isVectorizedDecodingSupported;
 import static io.trino.spi.StandardErrorCode.NOT_SUPPORTED;
 import static io.trino.spi.type.BigintType.BIGINT;
 import static io.trino.spi.type.BooleanType.BOOLEAN;
@@ -84,8 +85,6 @@ import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.INT96;
 
 public final class ColumnReaderFactory
 {
-    private static final int PREFERRED_BIT_WIDTH = getVectorBitSize();
-
     private final DateTimeZone timeZone;
     private final boolean vectorizedDecodingEnabled;
 
@@ -365,23 +364,4 @@ public final class ColumnReaderFactory
     {
         return new TrinoException(NOT_SUPPORTED, format("Unsupported Trino column type (%s) for Parquet column (%s)", type, field.getDescriptor()));
     }
-
-    private static boolean isVectorizedDecodingSupported()
-    {
-        // Performance gains with vectorized decoding are validated only when the hardware platform provides at least 256 bit width registers
-        // Graviton 2 machines return false here, whereas x86 and Graviton 3 machines return true
-        return PREFERRED_BIT_WIDTH >= 256;
-    }
-
-    // get VectorShape bit size via reflection to avoid requiring the preview feature is enabled
-    private static int getVectorBitSize()
-    {
-        try {
-            Class<?> clazz = Class.forName("jdk.incubator.vector.VectorShape");
-            return (int) clazz.getMethod("vectorBitSize").invoke(clazz.getMethod("preferredShape").invoke(null));
-        }
-        catch (Throwable e) {
-            return -1;
-        }
-    }
 }
@@ -17,6 +17,7 @@ import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ListMultimap;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.errorprone.annotations.CheckReturnValue;
 import com.google.errorprone.annotations.FormatMethod;
 import io.airlift.log.Logger;
@@ -37,6 +38,7 @@ import io.trino.parquet.metadata.ColumnChunkMetadata;
 import io.trino.parquet.metadata.PrunedBlockMetadata;
 import io.trino.parquet.predicate.TupleDomainParquetPredicate;
 import io.trino.parquet.reader.FilteredOffsetIndex.OffsetRange;
+import io.trino.parquet.reader.flat.FlatColumnReader;
 import io.trino.parquet.spark.Variant;
 import io.trino.plugin.base.metrics.LongCount;
 import io.trino.spi.Page;
@@ -73,6 +75,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.ObjLongConsumer;
 
@@ -106,8 +109,11 @@ public class ParquetReader
 
     private static final int INITIAL_BATCH_SIZE = 1;
     private static final int BATCH_SIZE_GROWTH_FACTOR = 2;
+    private static final double MAX_SELECTED_FRACTION_FOR_SELECTIVE_READ = 0.5;
     public static final String PARQUET_CODEC_METRIC_PREFIX = "ParquetReaderCompressionFormat_";
     public static final String COLUMN_INDEX_ROWS_FILTERED = "ParquetColumnIndexRowsFiltered";
+    public static final String ROW_GROUP_CHUNKS_PREFETCHED = "ParquetRowGroupChunksPrefetched";
+    public static final String ROW_GROUP_CHUNKS_PREFETCH_READY = "ParquetRowGroupChunksPrefetchReady";
 
     private final Optional<String> fileCreatedBy;
     private final List<RowGroupInfo> rowGroups;
@@ -146,10 +152,14 @@ public class ParquetReader
     private final FilteredRowRanges[] blockRowRanges;
     private final Function<Exception, RuntimeException> exceptionTransform;
     private final Map<String, Metric<?>> codecMetrics;
+    private final Optional<Executor> prefetchExecutor;
+    private List<ListenableFuture<Void>> nextRowGroupPrefetches = ImmutableList.of();
 
     private int currentPageId;
 
     private long columnIndexRowsFiltered = -1;
+    private long rowGroupChunksPrefetched;
+    private long rowGroupChunksPrefetchReady;
 
     public ParquetReader(
             Optional<String> fileCreatedBy,
@@ -164,6 +174,27 @@ public class ParquetReader
             Optional<TupleDomainParquetPredicate> parquetPredicate,
             Optional<ParquetWriteValidation> writeValidation)
             throws IOException
+    {
+        this(fileCreatedBy, columnFields, appendRowNumberColumn, rowGroups, dataSource, timeZone, memoryContext, options, exceptionTransform, parquetPredicate, writeValidation, Optional.empty());
+    }
+
+    /**
+     * @param prefetchExecutor when present, the column chunks of the next row group are loaded on this executor while the current row group is decoded
+     */
+    public ParquetReader(
+            Optional<String> fileCreatedBy,
+            List<Column> columnFields,
+            boolean appendRowNumberColumn,
+            List<RowGroupInfo> rowGroups,
+            ParquetDataSource dataSource,
+            DateTimeZone timeZone,
+            AggregatedMemoryContext memoryContext,
+            ParquetReaderOptions options,
+            Function<Exception, RuntimeException> exceptionTransform,
+            Optional<TupleDomainParquetPredicate> parquetPredicate,
+            Optional<ParquetWriteValidation> writeValidation,
+            Optional<Executor> prefetchExecutor)
+            throws IOException
     {
         this.fileCreatedBy = requireNonNull(fileCreatedBy, "fileCreatedBy is null");
         requireNonNull(columnFields, "columnFields is null");
@@ -199,6 +230,7 @@ public class ParquetReader
         this.blockRowRanges = calculateFilteredRowRanges(rowGroups, filter, primitiveFields);
 
         this.exceptionTransform = exceptionTransform;
+        this.prefetchExecutor = requireNonNull(prefetchExecutor, "prefetchExecutor is null");
         ListMultimap<ChunkKey, DiskRange> ranges = ArrayListMultimap.create();
         Map<String, LongCount> codecMetrics = new HashMap<>();
         for (int rowGroup = 0; rowGroup < rowGroups.size(); rowGroup++) {
@@ -248,6 +280,7 @@ public class ParquetReader
     {
         // Release memory usage from column readers
         columnReaders.clear();
+        nextRowGroupPrefetches = ImmutableList.of();
         currentRowGroupMemoryContext.close();
 
         for (ChunkedInputStream chunkedInputStream : chunkReaders.values()) {
@@ -348,14 +381,19 @@ public class ParquetReader
                     block = selectedPositions.createRowNumberBlock(lastBatchStartRow());
                 }
                 else {
+                    Field field = columnFields.get(channel).field();
                     try {
-                        // todo use selected positions to improve read performance
-                        block = readBlock(columnFields.get(channel).field());
+                        if (shouldReadSelectedPositions(field, selectedPositions)) {
+                            // Decode only the selected positions, skipping the other values in their encoded form
+                            block = readPrimitive((PrimitiveField) field, selectedPositions).getBlock();
+                        }
+                        else {
+                            block = selectedPositions.apply(readBlock(field));
+                        }
                     }
                     catch (IOException e) {
                         throw exceptionTransform.apply(e);
                     }
-                    block = selectedPositions.apply(block);
                 }
                 blocks[channel] = block;
                 sizeInBytes += block.getSizeInBytes();
@@ -418,6 +456,19 @@ public class ParquetReader
             return new LongArrayBlock(positionCount, Optional.empty(), rowNumbers);
         }
 
+        public boolean isStrictlyIncreasing()
+        {
+            if (positions == null) {
+                return true;
+            }
+            for (int i = 1; i < positionCount; i++) {
+                if (positions[i] <= positions[i - 1]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
         @CheckReturnValue
         public SelectedPositions selectPositions(int[] positions, int offset, int size)
         {
@@ -466,6 +517,12 @@ public class ParquetReader
         currentRowGroupMemoryContext.close();
         currentRowGroupMemoryContext = memoryContext.newAggregatedMemoryContext();
         freeCurrentRowGroupBuffers();
+        for (ListenableFuture<Void> prefetch : nextRowGroupPrefetches) {
+            if (prefetch.isDone()) {
+                rowGroupChunksPrefetchReady++;
+            }
+        }
+        nextRowGroupPrefetches = ImmutableList.of();
 
         if (currentRowGroup >= 0 && rowGroupStatisticsValidation.isPresent()) {
             StatisticsValidation statisticsValidation = rowGroupStatisticsValidation.get();
@@ -495,9 +552,33 @@ public class ParquetReader
         }
         nextRowInGroup = 0L;
         initializeColumnReaders();
+        prefetchExecutor.ifPresent(this::prefetchNextRowGroup);
         return true;
     }
 
+    private void prefetchNextRowGroup(Executor executor)
+    {
+        int nextRowGroup = currentRowGroup + 1;
+        // Skip row groups eliminated entirely by column index filtering, as advanceToNextRowGroup does
+        while (nextRowGroup < rowGroups.size() && blockRowRanges[nextRowGroup] != null && blockRowRanges[nextRowGroup].getRowCount() == 0) {
+            nextRowGroup++;
+        }
+        if (nextRowGroup == rowGroups.size()) {
+            return;
+        }
+
+        // Only the first chunk of each column is loaded, which bounds the read-ahead by the max buffer size per column
+        ImmutableList.Builder<ListenableFuture<Void>> prefetches = ImmutableList.builder();
+        for (PrimitiveField field : primitiveFields) {
+            ChunkedInputStream chunkedStream = chunkReaders.get(new ChunkKey(field.getId(), nextRowGroup));
+            if (chunkedStream != null) {
+                prefetches.add(chunkedStream.prefetchFirstChunk(executor));
+            }
+        }
+        nextRowGroupPrefetches = prefetches.build();
+        rowGroupChunksPrefetched += nextRowGroupPrefetches.size();
+    }
+
     private void freeCurrentRowGroupBuffers()
     {
         if (currentRowGroup < 0) {
@@ -652,8 +733,25 @@ public class ParquetReader
         return FilteredOffsetIndex.filterOffsetIndex(offsetIndex, rowRanges.getParquetRowRanges(), rowGroupRowCount);
     }
 
+    private boolean shouldReadSelectedPositions(Field field, SelectedPositions selectedPositions)
+    {
+        // Skipping values pays off only when a small enough fraction of the batch is selected
+        return selectedPositions.positions() != null &&
+                selectedPositions.positionCount() > 0 &&
+                selectedPositions.positionCount() <= batchSize * MAX_SELECTED_FRACTION_FOR_SELECTIVE_READ &&
+                field instanceof PrimitiveField primitiveField &&
+                columnReaders.get(primitiveField.getId()) instanceof FlatColumnReader<?> &&
+                selectedPositions.isStrictlyIncreasing();
+    }
+
     private ColumnChunk readPrimitive(PrimitiveField field)
             throws IOException
+    {
+        return readPrimitive(field, null);
+    }
+
+    private ColumnChunk readPrimitive(PrimitiveField field, @Nullable SelectedPositions selectedPositions)
+            throws IOException
     {
         ColumnDescriptor columnDescriptor = field.getDescriptor();
         int fieldId = field.getId();
@@ -671,10 +769,19 @@ public class ParquetReader
                     createPageReader(dataSource.getId(), columnChunkInputStream, metadata, columnDescriptor, offsetIndex, fileCreatedBy),
                     Optional.ofNullable(rowRanges));
         }
-        ColumnChunk columnChunk = columnReader.readPrimitive();
+        ColumnChunk columnChunk;
+        int positionCount;
+        if (selectedPositions == null) {
+            columnChunk = columnReader.readPrimitive();
+            positionCount = batchSize;
+        }
+        else {
+            columnChunk = ((FlatColumnReader<?>) columnReader).readPrimitive(selectedPositions.positions(), selectedPositions.positionCount());
+            positionCount = selectedPositions.positionCount();
+        }
 
         // update max size per primitive column chunk
-        double bytesPerCell = ((double) columnChunk.getMaxBlockSize()) / batchSize;
+        double bytesPerCell = ((double) columnChunk.getMaxBlockSize()) / positionCount;
         double bytesPerCellDelta = bytesPerCell - maxBytesPerCell.getOrDefault(fieldId, 0.0);
         if (bytesPerCellDelta > 0) {
             // update batch size
@@ -697,6 +804,10 @@ public class ParquetReader
         if (columnIndexRowsFiltered >= 0) {
             metrics.put(COLUMN_INDEX_ROWS_FILTERED, new LongCount(columnIndexRowsFiltered));
         }
+        if (prefetchExecutor.isPresent()) {
+            metrics.put(ROW_GROUP_CHUNKS_PREFETCHED, new LongCount(rowGroupChunksPrefetched));
+            metrics.put(ROW_GROUP_CHUNKS_PREFETCH_READY, new LongCount(rowGroupChunksPrefetchReady));
+        }
 
         return new Metrics(metrics.buildOrThrow());
     }
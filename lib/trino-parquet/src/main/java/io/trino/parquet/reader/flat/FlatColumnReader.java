@@ -98,6 +98,35 @@ public class FlatColumnReader<BufferType>
         return columnChunk;
     }
 
+    /**
+     * Reads only the given positions of the next batch. Values at the other positions are skipped
+     * in their encoded form instead of being decoded and discarded.
+     *
+     * @param positions positions within the batch, in strictly increasing order
+     */
+    public ColumnChunk readPrimitive(int[] positions, int positionCount)
+    {
+        seek();
+        ColumnChunk columnChunk;
+        int batchOffset;
+        if (isNonNull()) {
+            NonNullValuesBuffer<BufferType> valuesBuffer = createNonNullValuesBuffer(positionCount);
+            batchOffset = readSelectedPositions(positions, positionCount, (offset, length) -> readNonNull(valuesBuffer, offset, length));
+            columnChunk = valuesBuffer.createNonNullBlock(field.getType());
+        }
+        else {
+            NullableValuesBuffer<BufferType> valuesBuffer = createNullableValuesBuffer(positionCount);
+            boolean[] isNull = new boolean[positionCount];
+            batchOffset = readSelectedPositions(positions, positionCount, (offset, length) -> readNullable(valuesBuffer, isNull, offset, length));
+            columnChunk = valuesBuffer.createNullableBlock(isNull, field.getType());
+        }
+
+        // Positions after the last selected one are skipped by the next read
+        readOffset = nextBatchSize - batchOffset;
+        nextBatchSize = 0;
+        return columnChunk;
+    }
+
     @Override
     public void prepareNextRead(int batchSize)
     {
@@ -110,7 +139,36 @@ public class FlatColumnReader<BufferType>
         if (readOffset > 0) {
             log.debug("seek field %s, readOffset %d, remainingPageValueCount %d", field, readOffset, remainingPageValueCount);
         }
-        int remainingInBatch = readOffset;
+        skip(readOffset);
+    }
+
+    /**
+     * Reads each run of consecutive positions and skips the values in between.
+     *
+     * @return offset in the batch following the last read position
+     */
+    private int readSelectedPositions(int[] positions, int positionCount, RunReader runReader)
+    {
+        int batchOffset = 0;
+        int offset = 0;
+        while (offset < positionCount) {
+            int runStart = positions[offset];
+            int runLength = 1;
+            while (offset + runLength < positionCount && positions[offset + runLength] == runStart + runLength) {
+                runLength++;
+            }
+            checkArgument(runStart >= batchOffset && runStart + runLength <= nextBatchSize, "Positions must be increasing and within the batch");
+            skip(runStart - batchOffset);
+            runReader.read(offset, runLength);
+            offset += runLength;
+            batchOffset = runStart + runLength;
+        }
+        return batchOffset;
+    }
+
+    private void skip(int valueCount)
+    {
+        int remainingInBatch = valueCount;
         while (remainingInBatch > 0) {
             if (remainingPageValueCount == 0) {
                 remainingInBatch = seekToNextPage(remainingInBatch);
@@ -142,8 +200,13 @@ public class FlatColumnReader<BufferType>
         log.debug("readNullable field %s, nextBatchSize %d, remainingPageValueCount %d", field, nextBatchSize, remainingPageValueCount);
         NullableValuesBuffer<BufferType> valuesBuffer = createNullableValuesBuffer(nextBatchSize);
         boolean[] isNull = new boolean[nextBatchSize];
-        int remainingInBatch = nextBatchSize;
-        int offset = 0;
+        readNullable(valuesBuffer, isNull, 0, nextBatchSize);
+        return valuesBuffer.createNullableBlock(isNull, field.getType());
+    }
+
+    private void readNullable(NullableValuesBuffer<BufferType> valuesBuffer, boolean[] isNull, int offset, int valueCount)
+    {
+        int remainingInBatch = valueCount;
         while (remainingInBatch > 0) {
             if (remainingPageValueCount == 0) {
                 if (!readNextPage()) {
@@ -163,7 +226,6 @@ public class FlatColumnReader<BufferType>
             remainingInBatch -= chunkSize;
             remainingPageValueCount -= chunkSize;
         }
-        return valuesBuffer.createNullableBlock(isNull, field.getType());
     }
 
     @VisibleForTesting
@@ -171,8 +233,13 @@ public class FlatColumnReader<BufferType>
     {
         log.debug("readNonNull field %s, nextBatchSize %d, remainingPageValueCount %d", field, nextBatchSize, remainingPageValueCount);
         NonNullValuesBuffer<BufferType> valuesBuffer = createNonNullValuesBuffer(nextBatchSize);
-        int remainingInBatch = nextBatchSize;
-        int offset = 0;
+        readNonNull(valuesBuffer, 0, nextBatchSize);
+        return valuesBuffer.createNonNullBlock(field.getType());
+    }
+
+    private void readNonNull(NonNullValuesBuffer<BufferType> valuesBuffer, int offset, int valueCount)
+    {
+        int remainingInBatch = valueCount;
         while (remainingInBatch > 0) {
             if (remainingPageValueCount == 0) {
                 if (!readNextPage()) {
@@ -190,7 +257,6 @@ public class FlatColumnReader<BufferType>
             remainingInBatch -= chunkSize;
             remainingPageValueCount -= chunkSize;
         }
-        return valuesBuffer.createNonNullBlock(field.getType());
     }
 
     /**
@@ -321,6 +387,11 @@ public class FlatColumnReader<BufferType>
         return new DataValuesBuffer<>(field, columnAdapter, batchSize);
     }
 
+    private interface RunReader
+    {
+        void read(int offset, int length);
+    }
+
     private interface NonNullValuesBuffer<T>
     {
         void readNonNullValues(ValueDecoder<T> valueDecoder, int offset, int valuesCount);
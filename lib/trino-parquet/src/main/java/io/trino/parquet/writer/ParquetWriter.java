@@ -15,10 +15,13 @@ package io.trino.parquet.writer;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import io.airlift.slice.DynamicSliceOutput;
 import io.airlift.slice.OutputStreamSliceOutput;
 import io.airlift.slice.Slice;
 import io.airlift.slice.Slices;
+import io.airlift.units.DataSize;
 import io.trino.parquet.Column;
 import io.trino.parquet.ParquetCorruptionException;
 import io.trino.parquet.ParquetDataSource;
@@ -41,10 +44,13 @@ import org.apache.parquet.format.BloomFilterAlgorithm;
 import org.apache.parquet.format.BloomFilterCompression;
 import org.apache.parquet.format.BloomFilterHash;
 import org.apache.parquet.format.BloomFilterHeader;
+import org.apache.parquet.format.ColumnIndex;
 import org.apache.parquet.format.ColumnMetaData;
 import org.apache.parquet.format.CompressionCodec;
 import org.apache.parquet.format.FileMetaData;
 import org.apache.parquet.format.KeyValue;
+import org.apache.parquet.format.OffsetIndex;
+import org.apache.parquet.format.PageLocation;
 import org.apache.parquet.format.RowGroup;
 import org.apache.parquet.format.SplitBlockAlgorithm;
 import org.apache.parquet.format.Uncompressed;
@@ -56,22 +62,31 @@ import org.joda.time.DateTimeZone;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Consumer;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
+import static com.google.common.base.Throwables.throwIfInstanceOf;
 import static com.google.common.base.Throwables.throwIfUnchecked;
 import static com.google.common.base.Verify.verify;
 import static com.google.common.collect.ImmutableList.toImmutableList;
 import static io.airlift.slice.SizeOf.SIZE_OF_INT;
 import static io.airlift.slice.SizeOf.instanceSize;
 import static io.airlift.slice.Slices.wrappedBuffer;
+import static io.airlift.units.DataSize.Unit.MEGABYTE;
 import static io.trino.memory.context.AggregatedMemoryContext.newSimpleAggregatedMemoryContext;
 import static io.trino.parquet.ParquetTypeUtils.constructField;
 import static io.trino.parquet.ParquetTypeUtils.getColumnIO;
@@ -89,6 +104,7 @@ import static io.trino.spi.type.VarbinaryType.VARBINARY;
 import static io.trino.spi.type.VarcharType.VARCHAR;
 import static java.lang.Math.max;
 import static java.lang.Math.min;
+import static java.lang.Math.toIntExact;
 import static java.nio.charset.StandardCharsets.US_ASCII;
 import static java.util.Objects.requireNonNull;
 
@@ -96,6 +112,8 @@ public class ParquetWriter
         implements Closeable
 {
     private static final int INSTANCE_SIZE = instanceSize(ParquetWriter.class);
+    private static final long MIN_PARALLEL_CHUNK_BYTES = DataSize.of(1, MEGABYTE).toBytes();
+
     public static final List<Type> SUPPORTED_BLOOM_FILTER_TYPES = ImmutableList.of(BIGINT, DOUBLE, INTEGER, REAL, UUID, VARBINARY, VARCHAR);
 
     private final OutputStreamSliceOutput outputStream;
@@ -107,7 +125,10 @@ public class ParquetWriter
     private final Optional<DateTimeZone> parquetTimeZone;
     private final FileFooter fileFooter;
     private final ImmutableList.Builder<List<Optional<BloomFilter>>> bloomFilterGroups = ImmutableList.builder();
+    private final ImmutableList.Builder<List<Optional<ColumnIndex>>> columnIndexGroups = ImmutableList.builder();
+    private final ImmutableList.Builder<List<Optional<OffsetIndex>>> offsetIndexGroups = ImmutableList.builder();
     private final Optional<ParquetWriteValidationBuilder> validationBuilder;
+    private final Optional<Executor> columnWriterExecutor;
 
     private List<ColumnWriter> columnWriters;
     private int rows;
@@ -128,8 +149,28 @@ public class ParquetWriter
             String trinoVersion,
             Optional<DateTimeZone> parquetTimeZone,
             Optional<ParquetWriteValidationBuilder> validationBuilder)
+    {
+        this(outputStream, messageType, primitiveTypes, writerOption, compressionCodec, trinoVersion, parquetTimeZone, validationBuilder, Optional.empty());
+    }
+
+    /**
+     * @param columnWriterExecutor when present, the columns of large chunks are encoded, and the columns of each row group
+     * are compressed, in parallel on this executor. The writer thread writes columns as well, and waits for all columns
+     * before returning, so memory usage and the file layout are the same as when writing serially.
+     */
+    public ParquetWriter(
+            OutputStream outputStream,
+            MessageType messageType,
+            Map<List<String>, Type> primitiveTypes,
+            ParquetWriterOptions writerOption,
+            CompressionCodec compressionCodec,
+            String trinoVersion,
+            Optional<DateTimeZone> parquetTimeZone,
+            Optional<ParquetWriteValidationBuilder> validationBuilder,
+            Optional<Executor> columnWriterExecutor)
     {
         this.validationBuilder = requireNonNull(validationBuilder, "validationBuilder is null");
+        this.columnWriterExecutor = requireNonNull(columnWriterExecutor, "columnWriterExecutor is null");
         this.outputStream = new OutputStreamSliceOutput(requireNonNull(outputStream, "outputStream is null"));
         this.messageType = requireNonNull(messageType, "messageType is null");
         this.primitiveTypes = requireNonNull(primitiveTypes, "primitiveTypes is null");
@@ -194,12 +235,12 @@ public class ParquetWriter
     private void writeChunk(Page page)
             throws IOException
     {
-        bufferedBytes = 0;
-        for (int channel = 0; channel < page.getChannelCount(); channel++) {
-            ColumnWriter writer = columnWriters.get(channel);
+        // Handing columns over to the executor costs more than encoding small chunks, so only large ones are parallelized
+        boolean parallel = page.getSizeInBytes() >= MIN_PARALLEL_CHUNK_BYTES;
+        bufferedBytes = processColumns((channel, writer) -> {
             writer.writeBlock(new ColumnChunk(page.getBlock(channel)));
-            bufferedBytes += writer.getBufferedBytes();
-        }
+            return writer.getBufferedBytes();
+        }, parallel).stream().mapToLong(Long::longValue).sum();
         rows += page.getPositionCount();
 
         if (bufferedBytes >= writerOption.getMaxRowGroupSize()) {
@@ -225,6 +266,8 @@ public class ParquetWriter
             flush();
             columnWriters = ImmutableList.of();
             fileMetaData = fileFooter.createFileMetadata();
+            writeColumnIndexes(fileMetaData.getRow_groups(), columnIndexGroups.build());
+            writeOffsetIndexes(fileMetaData.getRow_groups(), offsetIndexGroups.build());
             writeBloomFilters(fileMetaData.getRow_groups(), bloomFilterGroups.build());
             writeFooter();
         }
@@ -319,11 +362,9 @@ public class ParquetWriter
         }
 
         // get all data in buffer
-        ImmutableList.Builder<BufferData> builder = ImmutableList.builder();
-        for (ColumnWriter columnWriter : columnWriters) {
-            columnWriter.getBuffer().forEach(builder::add);
-        }
-        List<BufferData> bufferDataList = builder.build();
+        List<BufferData> bufferDataList = processColumns((_, columnWriter) -> columnWriter.getBuffer(), true).stream()
+                .flatMap(List::stream)
+                .collect(toImmutableList());
 
         if (rows == 0) {
             // Avoid writing empty row groups as these are ignored by the reader
@@ -338,14 +379,17 @@ public class ParquetWriter
         // update stats
         long currentOffset = outputStream.longSize();
         ImmutableList.Builder<ColumnMetaData> columnMetaDataBuilder = ImmutableList.builder();
+        ImmutableList.Builder<Optional<OffsetIndex>> offsetIndexes = ImmutableList.builder();
         for (BufferData bufferData : bufferDataList) {
             ColumnMetaData columnMetaData = bufferData.getMetaData();
             OptionalInt dictionaryPageSize = bufferData.getDictionaryPageSize();
             if (dictionaryPageSize.isPresent()) {
                 columnMetaData.setDictionary_page_offset(currentOffset);
             }
-            columnMetaData.setData_page_offset(currentOffset + dictionaryPageSize.orElse(0));
+            long dataPageOffset = currentOffset + dictionaryPageSize.orElse(0);
+            columnMetaData.setData_page_offset(dataPageOffset);
             columnMetaDataBuilder.add(columnMetaData);
+            offsetIndexes.add(bufferData.getOffsetIndex().map(offsetIndex -> shiftPageLocations(offsetIndex, dataPageOffset)));
             currentOffset += columnMetaData.getTotal_compressed_size();
         }
         updateRowGroups(columnMetaDataBuilder.build(), outputStream.longSize());
@@ -357,6 +401,75 @@ public class ParquetWriter
         }
 
         bloomFilterGroups.add(bufferDataList.stream().map(BufferData::getBloomFilter).collect(toImmutableList()));
+        columnIndexGroups.add(bufferDataList.stream().map(BufferData::getColumnIndex).collect(toImmutableList()));
+        offsetIndexGroups.add(offsetIndexes.build());
+    }
+
+    private <T> List<T> processColumns(ColumnWriterTask<T> task, boolean parallel)
+            throws IOException
+    {
+        int columnCount = columnWriters.size();
+        if (!parallel || columnWriterExecutor.isEmpty() || columnCount == 1) {
+            List<T> results = new ArrayList<>(columnCount);
+            for (int channel = 0; channel < columnCount; channel++) {
+                results.add(task.process(channel, columnWriters.get(channel)));
+            }
+            return results;
+        }
+
+        // Columns are claimed both by this thread and by helper tasks on the executor. This thread never waits for
+        // a helper which has not started, so a saturated executor makes the write serial instead of stalling it.
+        AtomicInteger nextColumn = new AtomicInteger();
+        AtomicReferenceArray<T> results = new AtomicReferenceArray<>(columnCount);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch remainingColumns = new CountDownLatch(columnCount);
+        Runnable processClaimedColumns = () -> {
+            for (int column = nextColumn.getAndIncrement(); column < columnCount; column = nextColumn.getAndIncrement()) {
+                try {
+                    if (failure.get() == null) {
+                        results.set(column, task.process(column, columnWriters.get(column)));
+                    }
+                }
+                catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                }
+                finally {
+                    remainingColumns.countDown();
+                }
+            }
+        };
+
+        List<ListenableFuture<Void>> helpers = new ArrayList<>(columnCount - 1);
+        try {
+            for (int helper = 1; helper < columnCount; helper++) {
+                helpers.add(Futures.submit(processClaimedColumns, columnWriterExecutor.get()));
+            }
+            processClaimedColumns.run();
+            // all columns are claimed at this point, so this only waits for columns which are being written
+            remainingColumns.await();
+        }
+        catch (InterruptedException e) {
+            // stop the helpers from claiming further columns
+            nextColumn.set(columnCount);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while writing Parquet columns");
+        }
+        finally {
+            // helpers which have not started have nothing left to do
+            helpers.forEach(helper -> helper.cancel(false));
+        }
+
+        Throwable throwable = failure.get();
+        if (throwable != null) {
+            throwIfInstanceOf(throwable, IOException.class);
+            throwIfUnchecked(throwable);
+            throw new RuntimeException(throwable);
+        }
+        List<T> columnResults = new ArrayList<>(columnCount);
+        for (int column = 0; column < columnCount; column++) {
+            columnResults.add(results.get(column));
+        }
+        return columnResults;
     }
 
     private void writeFooter()
@@ -374,6 +487,53 @@ public class ParquetWriter
         createDataOutput(MAGIC).writeData(outputStream);
     }
 
+    private void writeColumnIndexes(List<RowGroup> rowGroups, List<List<Optional<ColumnIndex>>> rowGroupColumnIndexes)
+            throws IOException
+    {
+        checkArgument(rowGroups.size() == rowGroupColumnIndexes.size(), "Row groups size %s should match row group column indexes size %s", rowGroups.size(), rowGroupColumnIndexes.size());
+        for (int group = 0; group < rowGroups.size(); group++) {
+            List<org.apache.parquet.format.ColumnChunk> columns = rowGroups.get(group).getColumns();
+            List<Optional<ColumnIndex>> columnIndexes = rowGroupColumnIndexes.get(group);
+            for (int i = 0; i < columns.size(); i++) {
+                if (columnIndexes.get(i).isEmpty()) {
+                    continue;
+                }
+                long columnIndexOffset = outputStream.longSize();
+                Util.writeColumnIndex(columnIndexes.get(i).orElseThrow(), outputStream);
+                columns.get(i)
+                        .setColumn_index_offset(columnIndexOffset)
+                        .setColumn_index_length(toIntExact(outputStream.longSize() - columnIndexOffset));
+            }
+        }
+    }
+
+    private void writeOffsetIndexes(List<RowGroup> rowGroups, List<List<Optional<OffsetIndex>>> rowGroupOffsetIndexes)
+            throws IOException
+    {
+        checkArgument(rowGroups.size() == rowGroupOffsetIndexes.size(), "Row groups size %s should match row group offset indexes size %s", rowGroups.size(), rowGroupOffsetIndexes.size());
+        for (int group = 0; group < rowGroups.size(); group++) {
+            List<org.apache.parquet.format.ColumnChunk> columns = rowGroups.get(group).getColumns();
+            List<Optional<OffsetIndex>> offsetIndexes = rowGroupOffsetIndexes.get(group);
+            for (int i = 0; i < columns.size(); i++) {
+                if (offsetIndexes.get(i).isEmpty()) {
+                    continue;
+                }
+                long offsetIndexOffset = outputStream.longSize();
+                Util.writeOffsetIndex(offsetIndexes.get(i).orElseThrow(), outputStream);
+                columns.get(i)
+                        .setOffset_index_offset(offsetIndexOffset)
+                        .setOffset_index_length(toIntExact(outputStream.longSize() - offsetIndexOffset));
+            }
+        }
+    }
+
+    private static OffsetIndex shiftPageLocations(OffsetIndex offsetIndex, long dataPageOffset)
+    {
+        return new OffsetIndex(offsetIndex.getPage_locations().stream()
+                .map(location -> new PageLocation(location.getOffset() + dataPageOffset, location.getCompressed_page_size(), location.getFirst_row_index()))
+                .collect(toImmutableList()));
+    }
+
     private void writeBloomFilters(List<RowGroup> rowGroups, List<List<Optional<BloomFilter>>> rowGroupBloomFilters)
     {
         checkArgument(rowGroups.size() == rowGroupBloomFilters.size(), "Row groups size %s should match row group Bloom filter size %s", rowGroups.size(), rowGroupBloomFilters.size());
@@ -452,6 +612,13 @@ public class ParquetWriter
                 parquetTimeZone);
     }
 
+    @FunctionalInterface
+    private interface ColumnWriterTask<T>
+    {
+        T process(int channel, ColumnWriter columnWriter)
+                throws IOException;
+    }
+
     private static class FileFooter
     {
         private final MessageType messageType;
@@ -47,6 +47,7 @@ public class ParquetWriterOptions
     private final double bloomFilterFpp;
     // Set of column dot paths to columns with bloom filters
     private final Set<String> bloomFilterColumns;
+    private final boolean optimizedFallbackEncodingsEnabled;
 
     private ParquetWriterOptions(
             DataSize maxBlockSize,
@@ -55,7 +56,8 @@ public class ParquetWriterOptions
             int batchSize,
             DataSize maxBloomFilterSize,
             double bloomFilterFpp,
-            Set<String> bloomFilterColumns)
+            Set<String> bloomFilterColumns,
+            boolean optimizedFallbackEncodingsEnabled)
     {
         this.maxRowGroupSize = Ints.saturatedCast(maxBlockSize.toBytes());
         this.maxPageSize = Ints.saturatedCast(maxPageSize.toBytes());
@@ -64,6 +66,7 @@ public class ParquetWriterOptions
         this.maxBloomFilterSize = Ints.saturatedCast(maxBloomFilterSize.toBytes());
         this.bloomFilterFpp = bloomFilterFpp;
         this.bloomFilterColumns = ImmutableSet.copyOf(bloomFilterColumns);
+        this.optimizedFallbackEncodingsEnabled = optimizedFallbackEncodingsEnabled;
         checkArgument(this.bloomFilterFpp > 0.0 && this.bloomFilterFpp < 1.0, "bloomFilterFpp should be > 0.0 & < 1.0");
     }
 
@@ -102,6 +105,11 @@ public class ParquetWriterOptions
         return bloomFilterFpp;
     }
 
+    public boolean isOptimizedFallbackEncodingsEnabled()
+    {
+        return optimizedFallbackEncodingsEnabled;
+    }
+
     public static class Builder
     {
         private DataSize maxBlockSize = DEFAULT_MAX_ROW_GROUP_SIZE;
@@ -111,6 +119,7 @@ public class ParquetWriterOptions
         private DataSize maxBloomFilterSize = DEFAULT_MAX_BLOOM_FILTER_SIZE;
         private Set<String> bloomFilterColumns = ImmutableSet.of();
         private double bloomFilterFpp = DEFAULT_BLOOM_FILTER_FPP;
+        private boolean optimizedFallbackEncodingsEnabled;
 
         public Builder setMaxBlockSize(DataSize maxBlockSize)
         {
@@ -154,6 +163,12 @@ public class ParquetWriterOptions
             return this;
         }
 
+        public Builder setOptimizedFallbackEncodingsEnabled(boolean optimizedFallbackEncodingsEnabled)
+        {
+            this.optimizedFallbackEncodingsEnabled = optimizedFallbackEncodingsEnabled;
+            return this;
+        }
+
         public ParquetWriterOptions build()
         {
             return new ParquetWriterOptions(
@@ -163,7 +178,8 @@ public class ParquetWriterOptions
                     batchSize,
                     maxBloomFilterSize,
                     bloomFilterFpp,
-                    bloomFilterColumns);
+                    bloomFilterColumns,
+                    optimizedFallbackEncodingsEnabled);
         }
     }
 }
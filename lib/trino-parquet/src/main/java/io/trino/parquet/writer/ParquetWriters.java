@@ -172,7 +172,7 @@ final class ParquetWriters
             ParquetWriterOptions writerOptions,
             Optional<DateTimeZone> parquetTimeZone)
     {
-        TrinoValuesWriterFactory valuesWriterFactory = new TrinoValuesWriterFactory(writerOptions.getMaxPageSize(), DEFAULT_DICTIONARY_PAGE_SIZE);
+        TrinoValuesWriterFactory valuesWriterFactory = new TrinoValuesWriterFactory(writerOptions.getMaxPageSize(), DEFAULT_DICTIONARY_PAGE_SIZE, writerOptions.isOptimizedFallbackEncodingsEnabled(), compressionCodec);
         WriteBuilder writeBuilder = new WriteBuilder(
                 messageType,
                 trinoTypes,
@@ -38,6 +38,8 @@ import org.apache.parquet.format.DictionaryPageHeader;
 import org.apache.parquet.format.PageEncodingStats;
 import org.apache.parquet.format.PageHeader;
 import org.apache.parquet.format.PageType;
+import org.apache.parquet.internal.column.columnindex.ColumnIndexBuilder;
+import org.apache.parquet.internal.column.columnindex.OffsetIndexBuilder;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -54,6 +56,7 @@ import static com.google.common.collect.ImmutableList.toImmutableList;
 import static io.airlift.slice.SizeOf.instanceSize;
 import static io.trino.parquet.ParquetMetadataConverter.convertEncodingStats;
 import static io.trino.parquet.ParquetMetadataConverter.getEncoding;
+import static io.trino.parquet.ParquetMetadataConverter.toParquetColumnIndex;
 import static io.trino.parquet.writer.ParquetCompressor.getCompressor;
 import static io.trino.parquet.writer.ParquetDataOutput.createDataOutput;
 import static io.trino.parquet.writer.repdef.DefLevelWriterProvider.DefinitionLevelWriter;
@@ -61,6 +64,7 @@ import static io.trino.parquet.writer.repdef.DefLevelWriterProvider.getRootDefin
 import static io.trino.parquet.writer.repdef.RepLevelWriterProvider.RepetitionLevelWriter;
 import static io.trino.parquet.writer.repdef.RepLevelWriterProvider.getRootRepetitionLevelWriter;
 import static java.util.Objects.requireNonNull;
+import static org.apache.parquet.column.ParquetProperties.DEFAULT_COLUMN_INDEX_TRUNCATE_LENGTH;
 import static org.apache.parquet.format.Util.writePageHeader;
 
 public class PrimitiveColumnWriter
@@ -79,6 +83,8 @@ public class PrimitiveColumnWriter
     private final PrimitiveValueWriter primitiveValueWriter;
     private final ColumnDescriptorValuesWriter definitionLevelWriter;
     private final ColumnDescriptorValuesWriter repetitionLevelWriter;
+    @Nullable
+    private final RowCountingRepetitionLevelWriter rowCountingRepetitionLevelWriter;
 
     private boolean closed;
     private boolean getDataStreamsCalled;
@@ -93,6 +99,8 @@ public class PrimitiveColumnWriter
     private final Map<org.apache.parquet.format.Encoding, Integer> dictionaryPagesWithEncoding = new HashMap<>();
     private final Statistics<?> columnStatistics;
     private final Optional<BloomFilter> bloomFilter;
+    private final ColumnIndexBuilder columnIndexBuilder;
+    private final OffsetIndexBuilder offsetIndexBuilder;
     private long totalCompressedSize;
     private long totalUnCompressedSize;
     private long totalValues;
@@ -125,7 +133,16 @@ public class PrimitiveColumnWriter
         this.columnDescriptor = requireNonNull(columnDescriptor, "columnDescriptor is null");
         this.maxDefinitionLevel = columnDescriptor.getMaxDefinitionLevel();
         this.definitionLevelWriter = requireNonNull(definitionLevelWriter, "definitionLevelWriter is null");
-        this.repetitionLevelWriter = requireNonNull(repetitionLevelWriter, "repetitionLevelWriter is null");
+        requireNonNull(repetitionLevelWriter, "repetitionLevelWriter is null");
+        if (columnDescriptor.getMaxRepetitionLevel() > 0) {
+            // rows of repeated columns can span multiple values, count them from the repetition levels
+            this.rowCountingRepetitionLevelWriter = new RowCountingRepetitionLevelWriter(repetitionLevelWriter);
+            this.repetitionLevelWriter = rowCountingRepetitionLevelWriter;
+        }
+        else {
+            this.rowCountingRepetitionLevelWriter = null;
+            this.repetitionLevelWriter = repetitionLevelWriter;
+        }
         this.primitiveValueWriter = requireNonNull(primitiveValueWriter, "primitiveValueWriter is null");
         this.compressionCodec = requireNonNull(compressionCodec, "compressionCodec is null");
         this.compressor = getCompressor(compressionCodec);
@@ -134,6 +151,8 @@ public class PrimitiveColumnWriter
         this.columnStatistics = Statistics.createStats(columnDescriptor.getPrimitiveType());
         this.compressedOutputStream = new ChunkedSliceOutput(MINIMUM_OUTPUT_BUFFER_CHUNK_SIZE, MAXIMUM_OUTPUT_BUFFER_CHUNK_SIZE);
         this.bloomFilter = requireNonNull(bloomFilter, "bloomFilter is null");
+        this.columnIndexBuilder = ColumnIndexBuilder.getBuilder(columnDescriptor.getPrimitiveType(), DEFAULT_COLUMN_INDEX_TRUNCATE_LENGTH);
+        this.offsetIndexBuilder = OffsetIndexBuilder.getBuilder();
     }
 
     @Override
@@ -194,6 +213,8 @@ public class PrimitiveColumnWriter
                 dataStreams.data(),
                 dataStreams.dictionaryPageSize(),
                 isOnlyDictionaryEncodingPages ? Optional.empty() : dataStreams.bloomFilter(),
+                Optional.ofNullable(toParquetColumnIndex(columnDescriptor.getPrimitiveType(), columnIndexBuilder.build())),
+                Optional.ofNullable(offsetIndexBuilder.build()).map(ParquetMetadataConverter::toParquetOffsetIndex),
                 columnMetaData));
     }
 
@@ -264,6 +285,9 @@ public class PrimitiveColumnWriter
         totalCompressedSize += pageCompressedSize;
         totalValues += valueCount;
 
+        columnIndexBuilder.add(statistics);
+        offsetIndexBuilder.add(pageCompressedSize, getCurrentPageRowCount());
+
         pageData.writeData(compressedOutputStream);
         pageBufferedBytes += pageCompressedSize;
 
@@ -336,7 +360,16 @@ public class PrimitiveColumnWriter
                 compressedOutputStream.getRetainedSize() +
                 primitiveValueWriter.getAllocatedSize() +
                 definitionLevelWriter.getAllocatedSize() +
-                repetitionLevelWriter.getAllocatedSize();
+                repetitionLevelWriter.getAllocatedSize() +
+                getIndexRetainedBytes();
+    }
+
+    private long getIndexRetainedBytes()
+    {
+        // per page, the column index keeps a null page flag and a null count next to the min and max values,
+        // and the offset index keeps the page offset, compressed size and first row index
+        return columnIndexBuilder.getMinMaxSize() +
+                (long) columnIndexBuilder.getPageCount() * (Byte.BYTES + Long.BYTES + Long.BYTES + Integer.BYTES + Long.BYTES);
     }
 
     private void updateBufferedBytes(long currentPageBufferedBytes)
@@ -344,6 +377,15 @@ public class PrimitiveColumnWriter
         bufferedBytes = pageBufferedBytes + currentPageBufferedBytes;
     }
 
+    private long getCurrentPageRowCount()
+    {
+        if (rowCountingRepetitionLevelWriter != null) {
+            return rowCountingRepetitionLevelWriter.getRowCount();
+        }
+        // every row of a non-repeated column has exactly one definition level
+        return valueCount;
+    }
+
     private long getCurrentPageBufferedBytes()
     {
         return definitionLevelWriter.getBufferedSize() +
@@ -379,5 +421,71 @@ public class PrimitiveColumnWriter
         return header;
     }
 
+    private static class RowCountingRepetitionLevelWriter
+            implements ColumnDescriptorValuesWriter
+    {
+        private final ColumnDescriptorValuesWriter delegate;
+        private long rowCount;
+
+        private RowCountingRepetitionLevelWriter(ColumnDescriptorValuesWriter delegate)
+        {
+            this.delegate = requireNonNull(delegate, "delegate is null");
+        }
+
+        @Override
+        public void writeInteger(int value)
+        {
+            if (value == 0) {
+                rowCount++;
+            }
+            delegate.writeInteger(value);
+        }
+
+        @Override
+        public void writeRepeatInteger(int value, int valueRepetitions)
+        {
+            if (value == 0) {
+                rowCount += valueRepetitions;
+            }
+            delegate.writeRepeatInteger(value, valueRepetitions);
+        }
+
+        @Override
+        public long getBufferedSize()
+        {
+            return delegate.getBufferedSize();
+        }
+
+        @Override
+        public long getAllocatedSize()
+        {
+            return delegate.getAllocatedSize();
+        }
+
+        @Override
+        public BytesInput getBytes()
+        {
+            return delegate.getBytes();
+        }
+
+        @Override
+        public Encoding getEncoding()
+        {
+            return delegate.getEncoding();
+        }
+
+        @Override
+        public void reset()
+        {
+            rowCount = 0;
+            delegate.reset();
+        }
+
+        public long getRowCount()
+        {
+            return rowCount;
+        }
+    }
+
     private record DataStreams(List<ParquetDataOutput> data, OptionalInt dictionaryPageSize, Optional<BloomFilter> bloomFilter) {}
 }
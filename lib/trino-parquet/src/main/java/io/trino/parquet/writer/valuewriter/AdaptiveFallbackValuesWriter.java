@@ -0,0 +1,250 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.parquet.writer.valuewriter;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.airlift.compress.v3.Compressor;
+import jakarta.annotation.Nullable;
+import org.apache.parquet.bytes.BytesInput;
+import org.apache.parquet.column.Encoding;
+import org.apache.parquet.column.page.DictionaryPage;
+import org.apache.parquet.column.values.ValuesWriter;
+import org.apache.parquet.io.api.Binary;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Chooses between PLAIN and an optimized encoding for a column chunk. The first page of the
+ * column chunk is encoded with both, and the optimized encoding is kept only when it makes
+ * the sampled page at least 10% smaller than PLAIN, since PLAIN is
+ * the cheapest encoding to decode. When the file is compressed, the sampled pages are compared
+ * after compression, because encodings such as BYTE_STREAM_SPLIT only pay off under compression.
+ */
+public class AdaptiveFallbackValuesWriter
+        extends ValuesWriter
+{
+    private static final double MIN_SIZE_REDUCTION = 0.1;
+
+    private final ValuesWriter plainWriter;
+    private final ValuesWriter optimizedWriter;
+    private final Optional<Compressor> sampleCompressor;
+
+    // null until the first page of the column chunk is flushed
+    @Nullable
+    private ValuesWriter chosenWriter;
+
+    public AdaptiveFallbackValuesWriter(ValuesWriter plainWriter, ValuesWriter optimizedWriter, Optional<Compressor> sampleCompressor)
+    {
+        this.plainWriter = requireNonNull(plainWriter, "plainWriter is null");
+        this.optimizedWriter = requireNonNull(optimizedWriter, "optimizedWriter is null");
+        this.sampleCompressor = requireNonNull(sampleCompressor, "sampleCompressor is null");
+    }
+
+    @Override
+    public long getBufferedSize()
+    {
+        if (chosenWriter != null) {
+            return chosenWriter.getBufferedSize();
+        }
+        return Math.max(plainWriter.getBufferedSize(), optimizedWriter.getBufferedSize());
+    }
+
+    @Override
+    public BytesInput getBytes()
+    {
+        if (chosenWriter != null) {
+            return chosenWriter.getBytes();
+        }
+        BytesInput plainBytes = plainWriter.getBytes();
+        BytesInput optimizedBytes = optimizedWriter.getBytes();
+        if (estimatedSize(optimizedBytes) <= estimatedSize(plainBytes) * (1 - MIN_SIZE_REDUCTION)) {
+            chosenWriter = optimizedWriter;
+            plainWriter.reset();
+            return optimizedBytes;
+        }
+        chosenWriter = plainWriter;
+        optimizedWriter.reset();
+        return plainBytes;
+    }
+
+    @Override
+    public Encoding getEncoding()
+    {
+        checkState(chosenWriter != null, "getEncoding called before getBytes");
+        return chosenWriter.getEncoding();
+    }
+
+    @Override
+    public void reset()
+    {
+        if (chosenWriter != null) {
+            chosenWriter.reset();
+            return;
+        }
+        plainWriter.reset();
+        optimizedWriter.reset();
+    }
+
+    @Override
+    public DictionaryPage toDictPageAndClose()
+    {
+        // neither encoding uses a dictionary
+        return null;
+    }
+
+    @Override
+    public void resetDictionary()
+    {
+        // sample the first page of the next column chunk again
+        reset();
+        chosenWriter = null;
+    }
+
+    @Override
+    public void close()
+    {
+        plainWriter.close();
+        optimizedWriter.close();
+    }
+
+    @Override
+    public long getAllocatedSize()
+    {
+        return plainWriter.getAllocatedSize() + optimizedWriter.getAllocatedSize();
+    }
+
+    @Override
+    public String memUsageString(String prefix)
+    {
+        return String.format(
+                "%s AdaptiveFallbackValuesWriter{\n"
+                        + "%s\n"
+                        + "%s\n"
+                        + "%s}\n",
+                prefix,
+                plainWriter.memUsageString(prefix + " plain:"),
+                optimizedWriter.memUsageString(prefix + " optimized:"),
+                prefix);
+    }
+
+    @Override
+    public void writeByte(int value)
+    {
+        if (chosenWriter != null) {
+            chosenWriter.writeByte(value);
+            return;
+        }
+        plainWriter.writeByte(value);
+        optimizedWriter.writeByte(value);
+    }
+
+    @Override
+    public void writeBoolean(boolean value)
+    {
+        if (chosenWriter != null) {
+            chosenWriter.writeBoolean(value);
+            return;
+        }
+        plainWriter.writeBoolean(value);
+        optimizedWriter.writeBoolean(value);
+    }
+
+    @Override
+    public void writeBytes(Binary value)
+    {
+        if (chosenWriter != null) {
+            chosenWriter.writeBytes(value);
+            return;
+        }
+        plainWriter.writeBytes(value);
+        optimizedWriter.writeBytes(value);
+    }
+
+    @Override
+    public void writeInteger(int value)
+    {
+        if (chosenWriter != null) {
+            chosenWriter.writeInteger(value);
+            return;
+        }
+        plainWriter.writeInteger(value);
+        optimizedWriter.writeInteger(value);
+    }
+
+    @Override
+    public void writeLong(long value)
+    {
+        if (chosenWriter != null) {
+            chosenWriter.writeLong(value);
+            return;
+        }
+        plainWriter.writeLong(value);
+        optimizedWriter.writeLong(value);
+    }
+
+    @Override
+    public void writeFloat(float value)
+    {
+        if (chosenWriter != null) {
+            chosenWriter.writeFloat(value);
+            return;
+        }
+        plainWriter.writeFloat(value);
+        optimizedWriter.writeFloat(value);
+    }
+
+    @Override
+    public void writeDouble(double value)
+    {
+        if (chosenWriter != null) {
+            chosenWriter.writeDouble(value);
+            return;
+        }
+        plainWriter.writeDouble(value);
+        optimizedWriter.writeDouble(value);
+    }
+
+    @VisibleForTesting
+    public ValuesWriter getPlainWriter()
+    {
+        return plainWriter;
+    }
+
+    @VisibleForTesting
+    public ValuesWriter getOptimizedWriter()
+    {
+        return optimizedWriter;
+    }
+
+    private long estimatedSize(BytesInput bytes)
+    {
+        if (sampleCompressor.isEmpty()) {
+            return bytes.size();
+        }
+        Compressor compressor = sampleCompressor.get();
+        try {
+            byte[] input = bytes.toByteArray();
+            byte[] output = new byte[compressor.maxCompressedLength(input.length)];
+            return compressor.compress(input, 0, input.length, output, 0, output.length);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
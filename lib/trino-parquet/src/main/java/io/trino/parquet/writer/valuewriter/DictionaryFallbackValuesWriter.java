@@ -130,6 +130,10 @@ public class DictionaryFallbackValuesWriter
         else {
             currentWriter.resetDictionary();
         }
+        if (initialUsedAndHadDictionary || currentWriter != fallBackWriter) {
+            // let the fallback writer choose its encoding again for the next column chunk
+            fallBackWriter.resetDictionary();
+        }
         currentWriter = initialWriter;
         fellBackAlready = false;
         initialUsedAndHadDictionary = false;
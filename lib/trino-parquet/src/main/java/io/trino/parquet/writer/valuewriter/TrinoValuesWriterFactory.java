@@ -13,19 +13,31 @@
  */
 package io.trino.parquet.writer.valuewriter;
 
+import io.airlift.compress.v3.Compressor;
+import io.airlift.compress.v3.lz4.Lz4Compressor;
+import io.airlift.compress.v3.snappy.SnappyCompressor;
+import io.airlift.compress.v3.zstd.ZstdCompressor;
 import org.apache.parquet.bytes.HeapByteBufferAllocator;
 import org.apache.parquet.column.ColumnDescriptor;
 import org.apache.parquet.column.Encoding;
 import org.apache.parquet.column.values.ValuesWriter;
 import org.apache.parquet.column.values.bloomfilter.BloomFilter;
+import org.apache.parquet.column.values.bytestreamsplit.ByteStreamSplitValuesWriter.DoubleByteStreamSplitValuesWriter;
+import org.apache.parquet.column.values.bytestreamsplit.ByteStreamSplitValuesWriter.FloatByteStreamSplitValuesWriter;
+import org.apache.parquet.column.values.delta.DeltaBinaryPackingValuesWriterForInteger;
+import org.apache.parquet.column.values.delta.DeltaBinaryPackingValuesWriterForLong;
+import org.apache.parquet.column.values.deltastrings.DeltaByteArrayWriter;
 import org.apache.parquet.column.values.dictionary.DictionaryValuesWriter;
 import org.apache.parquet.column.values.plain.BooleanPlainValuesWriter;
 import org.apache.parquet.column.values.plain.FixedLenByteArrayPlainValuesWriter;
 import org.apache.parquet.column.values.plain.PlainValuesWriter;
+import org.apache.parquet.format.CompressionCodec;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static io.trino.parquet.writer.valuewriter.BloomFilterValuesWriter.createBloomFilterValuesWriter;
+import static java.util.Objects.requireNonNull;
 import static org.apache.parquet.column.Encoding.PLAIN_DICTIONARY;
 
 /**
@@ -37,11 +49,25 @@ public class TrinoValuesWriterFactory
 
     private final int maxPageSize;
     private final int maxDictionaryPageSize;
+    private final boolean optimizedFallbackEncodingsEnabled;
+    private final CompressionCodec compressionCodec;
 
     public TrinoValuesWriterFactory(int maxPageSize, int maxDictionaryPageSize)
+    {
+        this(maxPageSize, maxDictionaryPageSize, false, CompressionCodec.UNCOMPRESSED);
+    }
+
+    /**
+     * @param optimizedFallbackEncodingsEnabled when dictionary encoding is not effective, consider DELTA_BINARY_PACKED
+     * for INT32 and INT64, DELTA_BYTE_ARRAY for BINARY and BYTE_STREAM_SPLIT for FLOAT and DOUBLE columns in addition to PLAIN,
+     * and use whichever makes the first page of the column chunk sufficiently smaller after compression with {@code compressionCodec}
+     */
+    public TrinoValuesWriterFactory(int maxPageSize, int maxDictionaryPageSize, boolean optimizedFallbackEncodingsEnabled, CompressionCodec compressionCodec)
     {
         this.maxPageSize = maxPageSize;
         this.maxDictionaryPageSize = maxDictionaryPageSize;
+        this.optimizedFallbackEncodingsEnabled = optimizedFallbackEncodingsEnabled;
+        this.compressionCodec = requireNonNull(compressionCodec, "compressionCodec is null");
     }
 
     public ValuesWriter newValuesWriter(ColumnDescriptor descriptor, Optional<BloomFilter> bloomFilter)
@@ -66,19 +92,19 @@ public class TrinoValuesWriterFactory
 
     private ValuesWriter getBinaryValuesWriter(ColumnDescriptor path, Optional<BloomFilter> bloomFilter)
     {
-        ValuesWriter fallbackWriter = new PlainValuesWriter(INITIAL_SLAB_SIZE, maxPageSize, new HeapByteBufferAllocator());
+        ValuesWriter fallbackWriter = plainOrOptimizedWriter(() -> new DeltaByteArrayWriter(INITIAL_SLAB_SIZE, maxPageSize, new HeapByteBufferAllocator()));
         return createBloomFilterValuesWriter(dictWriterWithFallBack(path, getEncodingForDictionaryPage(), getEncodingForDataPage(), fallbackWriter), bloomFilter);
     }
 
     private ValuesWriter getInt32ValuesWriter(ColumnDescriptor path, Optional<BloomFilter> bloomFilter)
     {
-        ValuesWriter fallbackWriter = new PlainValuesWriter(INITIAL_SLAB_SIZE, maxPageSize, new HeapByteBufferAllocator());
+        ValuesWriter fallbackWriter = plainOrOptimizedWriter(() -> new DeltaBinaryPackingValuesWriterForInteger(INITIAL_SLAB_SIZE, maxPageSize, new HeapByteBufferAllocator()));
         return createBloomFilterValuesWriter(dictWriterWithFallBack(path, getEncodingForDictionaryPage(), getEncodingForDataPage(), fallbackWriter), bloomFilter);
     }
 
     private ValuesWriter getInt64ValuesWriter(ColumnDescriptor path, Optional<BloomFilter> bloomFilter)
     {
-        ValuesWriter fallbackWriter = new PlainValuesWriter(INITIAL_SLAB_SIZE, maxPageSize, new HeapByteBufferAllocator());
+        ValuesWriter fallbackWriter = plainOrOptimizedWriter(() -> new DeltaBinaryPackingValuesWriterForLong(INITIAL_SLAB_SIZE, maxPageSize, new HeapByteBufferAllocator()));
         return createBloomFilterValuesWriter(dictWriterWithFallBack(path, getEncodingForDictionaryPage(), getEncodingForDataPage(), fallbackWriter), bloomFilter);
     }
 
@@ -90,16 +116,37 @@ public class TrinoValuesWriterFactory
 
     private ValuesWriter getDoubleValuesWriter(ColumnDescriptor path, Optional<BloomFilter> bloomFilter)
     {
-        ValuesWriter fallbackWriter = new PlainValuesWriter(INITIAL_SLAB_SIZE, maxPageSize, new HeapByteBufferAllocator());
+        ValuesWriter fallbackWriter = plainOrOptimizedWriter(() -> new DoubleByteStreamSplitValuesWriter(INITIAL_SLAB_SIZE, maxPageSize, new HeapByteBufferAllocator()));
         return createBloomFilterValuesWriter(dictWriterWithFallBack(path, getEncodingForDictionaryPage(), getEncodingForDataPage(), fallbackWriter), bloomFilter);
     }
 
     private ValuesWriter getFloatValuesWriter(ColumnDescriptor path, Optional<BloomFilter> bloomFilter)
     {
-        ValuesWriter fallbackWriter = new PlainValuesWriter(INITIAL_SLAB_SIZE, maxPageSize, new HeapByteBufferAllocator());
+        ValuesWriter fallbackWriter = plainOrOptimizedWriter(() -> new FloatByteStreamSplitValuesWriter(INITIAL_SLAB_SIZE, maxPageSize, new HeapByteBufferAllocator()));
         return createBloomFilterValuesWriter(dictWriterWithFallBack(path, getEncodingForDictionaryPage(), getEncodingForDataPage(), fallbackWriter), bloomFilter);
     }
 
+    private ValuesWriter plainOrOptimizedWriter(Supplier<ValuesWriter> optimizedWriter)
+    {
+        ValuesWriter plainWriter = new PlainValuesWriter(INITIAL_SLAB_SIZE, maxPageSize, new HeapByteBufferAllocator());
+        if (!optimizedFallbackEncodingsEnabled) {
+            return plainWriter;
+        }
+        return new AdaptiveFallbackValuesWriter(plainWriter, optimizedWriter.get(), createSampleCompressor(compressionCodec));
+    }
+
+    private static Optional<Compressor> createSampleCompressor(CompressionCodec compressionCodec)
+    {
+        // compressors are not shared, because columns may be encoded concurrently
+        return switch (compressionCodec) {
+            case UNCOMPRESSED -> Optional.empty();
+            case SNAPPY -> Optional.of(SnappyCompressor.create());
+            case LZ4, LZ4_RAW -> Optional.of(Lz4Compressor.create());
+            // ZSTD approximates the entropy coding of the remaining codecs
+            case ZSTD, GZIP, LZO, BROTLI -> Optional.of(ZstdCompressor.create());
+        };
+    }
+
     @SuppressWarnings("deprecation")
     private static Encoding getEncodingForDataPage()
     {
@@ -14,7 +14,11 @@
 package io.trino.parquet;
 
 import com.google.common.collect.ImmutableList;
+import io.airlift.slice.Slice;
 import io.airlift.slice.Slices;
+import io.trino.parquet.reader.MetadataReader;
+import io.trino.parquet.reader.ParquetReader;
+import io.trino.parquet.reader.TestingParquetDataSource;
 import io.trino.parquet.writer.ParquetWriter;
 import io.trino.parquet.writer.ParquetWriterOptions;
 import io.trino.spi.Page;
@@ -22,6 +26,7 @@ import io.trino.spi.PageBuilder;
 import io.trino.spi.block.ArrayBlockBuilder;
 import io.trino.spi.block.BlockBuilder;
 import io.trino.spi.block.MapBlockBuilder;
+import io.trino.spi.connector.SourcePage;
 import io.trino.spi.type.ArrayType;
 import io.trino.spi.type.MapType;
 import io.trino.spi.type.Type;
@@ -40,9 +45,11 @@ import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.results.RunResult;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Collection;
 import java.util.List;
 import java.util.Random;
@@ -58,6 +65,7 @@ import static io.trino.parquet.BenchmarkParquetFormatUtils.createTempDir;
 import static io.trino.parquet.BenchmarkParquetFormatUtils.createTpchDataSet;
 import static io.trino.parquet.BenchmarkParquetFormatUtils.nextRandomBetween;
 import static io.trino.parquet.BenchmarkParquetFormatUtils.printResults;
+import static io.trino.parquet.ParquetTestUtils.createParquetReader;
 import static io.trino.parquet.ParquetTestUtils.createParquetWriter;
 import static io.trino.spi.type.DoubleType.DOUBLE;
 import static io.trino.spi.type.IntegerType.INTEGER;
@@ -90,16 +98,30 @@ public class BenchmarkParquetFormat
     })
     public CompressionCodec compression;
 
+    @Param({
+            "false",
+            "true"
+    })
+    public boolean optimizedFallbackEncodings;
+
     private TestData data;
+    private ParquetWriterOptions writerOptions;
+    private Slice writtenData;
 
     private final File targetDir = createTempDir("trino-benchmark");
-    private final ParquetWriterOptions writerOptions = ParquetWriterOptions.builder().build();
 
     @Setup
     public void setup()
             throws IOException
     {
         data = dataSet.createTestData();
+        writerOptions = ParquetWriterOptions.builder()
+                .setOptimizedFallbackEncodingsEnabled(optimizedFallbackEncodings)
+                .build();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writeData(outputStream);
+        writtenData = Slices.wrappedBuffer(outputStream.toByteArray());
     }
 
     @TearDown
@@ -122,18 +144,36 @@ public class BenchmarkParquetFormat
             throws IOException
     {
         File targetFile = new File(targetDir, UUID.randomUUID().toString());
-        writeData(targetFile);
+        writeData(new FileOutputStream(targetFile));
         counter.inputSize += data.getInputSize();
         counter.outputSize += targetFile.length();
         return targetFile;
     }
 
-    private void writeData(File targetFile)
+    @Benchmark
+    public long read(CompressionCounter counter)
+            throws IOException
+    {
+        ParquetDataSource dataSource = new TestingParquetDataSource(writtenData, ParquetReaderOptions.defaultOptions());
+        long positions = 0;
+        try (ParquetReader reader = createParquetReader(dataSource, MetadataReader.readFooter(dataSource), data.getColumnTypes(), data.getColumnNames())) {
+            for (SourcePage page = reader.nextPage(); page != null; page = reader.nextPage()) {
+                for (int channel = 0; channel < page.getChannelCount(); channel++) {
+                    positions += page.getBlock(channel).getPositionCount();
+                }
+            }
+        }
+        counter.inputSize += data.getInputSize();
+        counter.outputSize += writtenData.length();
+        return positions;
+    }
+
+    private void writeData(OutputStream outputStream)
             throws IOException
     {
         List<Page> inputPages = data.getPages();
         try (ParquetWriter writer = createParquetWriter(
-                new FileOutputStream(targetFile),
+                outputStream,
                 writerOptions,
                 data.getColumnTypes(),
                 data.getColumnNames(),
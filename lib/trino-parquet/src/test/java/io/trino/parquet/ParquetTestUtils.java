@@ -49,6 +49,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.concurrent.Executor;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Throwables.throwIfUnchecked;
@@ -134,6 +135,20 @@ public class ParquetTestUtils
             List<String> columnNames,
             TupleDomain<String> predicate)
             throws IOException
+    {
+        return createParquetReader(input, parquetMetadata, options, memoryContext, types, columnNames, predicate, Optional.empty());
+    }
+
+    public static ParquetReader createParquetReader(
+            ParquetDataSource input,
+            ParquetMetadata parquetMetadata,
+            ParquetReaderOptions options,
+            AggregatedMemoryContext memoryContext,
+            List<Type> types,
+            List<String> columnNames,
+            TupleDomain<String> predicate,
+            Optional<Executor> prefetchExecutor)
+            throws IOException
     {
         FileMetadata fileMetaData = parquetMetadata.getFileMetaData();
         MessageType fileSchema = fileMetaData.getSchema();
@@ -176,7 +191,8 @@ public class ParquetTestUtils
                     return new RuntimeException(exception);
                 },
                 Optional.of(parquetPredicate),
-                Optional.empty());
+                Optional.empty(),
+                prefetchExecutor);
     }
 
     public static List<io.trino.spi.Page> generateInputPages(List<Type> types, int positionsPerPage, int pageCount)
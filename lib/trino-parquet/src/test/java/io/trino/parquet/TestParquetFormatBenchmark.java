@@ -28,19 +28,22 @@ public class TestParquetFormatBenchmark
             throws Exception
     {
         for (DataSet dataSet : DataSet.values()) {
-            executeBenchmark(dataSet);
+            executeBenchmark(dataSet, false);
+            executeBenchmark(dataSet, true);
         }
     }
 
-    private static void executeBenchmark(DataSet dataSet)
+    private static void executeBenchmark(DataSet dataSet, boolean optimizedFallbackEncodings)
             throws IOException
     {
         BenchmarkParquetFormat benchmark = new BenchmarkParquetFormat();
         try {
             benchmark.dataSet = dataSet;
             benchmark.compression = CompressionCodec.SNAPPY;
+            benchmark.optimizedFallbackEncodings = optimizedFallbackEncodings;
             benchmark.setup();
             benchmark.write(new CompressionCounter());
+            benchmark.read(new CompressionCounter());
         }
         catch (Exception e) {
             throw new RuntimeException("Failed " + dataSet, e);
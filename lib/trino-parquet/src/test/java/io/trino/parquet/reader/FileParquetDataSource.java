@@ -42,8 +42,9 @@ public class FileParquetDataSource
         input.close();
     }
 
+    // Synchronized as the seek and read are not atomic, and chunks may be prefetched concurrently
     @Override
-    protected void readInternal(long position, byte[] buffer, int bufferOffset, int bufferLength)
+    protected synchronized void readInternal(long position, byte[] buffer, int bufferOffset, int bufferLength)
             throws IOException
     {
         input.seek(position);
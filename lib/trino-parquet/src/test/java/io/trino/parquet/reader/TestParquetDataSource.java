@@ -29,11 +29,24 @@ import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 
+import static com.google.common.util.concurrent.Uninterruptibles.awaitUninterruptibly;
 import static io.trino.memory.context.AggregatedMemoryContext.newSimpleAggregatedMemoryContext;
+import static java.util.concurrent.Executors.newCachedThreadPool;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class TestParquetDataSource
 {
@@ -181,6 +194,83 @@ public class TestParquetDataSource
         assertThat(memoryContext.getBytes()).isEqualTo(50);
     }
 
+    @Test
+    public void testFreeWaitsForPrefetchInProgress()
+            throws Exception
+    {
+        CountDownLatch readStarted = new CountDownLatch(1);
+        CountDownLatch finishRead = new CountDownLatch(1);
+        AtomicBoolean readFinished = new AtomicBoolean();
+        TestingParquetDataSource dataSource = new TestingParquetDataSource(
+                createTestingInput(),
+                ParquetReaderOptions.builder().withMaxBufferSize(DataSize.ofBytes(500)).build())
+        {
+            @Override
+            protected void readInternal(long position, byte[] buffer, int bufferOffset, int bufferLength)
+                    throws IOException
+            {
+                readStarted.countDown();
+                awaitUninterruptibly(finishRead);
+                super.readInternal(position, buffer, bufferOffset, bufferLength);
+                readFinished.set(true);
+            }
+        };
+        AggregatedMemoryContext memoryContext = newSimpleAggregatedMemoryContext();
+        ChunkReader reader = Iterables.getOnlyElement(dataSource.planChunksRead(ImmutableListMultimap.of("1", new DiskRange(0, 200)), memoryContext).get("1"));
+
+        ExecutorService executor = newCachedThreadPool();
+        try {
+            reader.prefetch(executor);
+            readStarted.await();
+            assertThat(memoryContext.getBytes()).isEqualTo(200);
+
+            Future<?> free = executor.submit(reader::free);
+            // the read in progress cannot be interrupted, so free waits for it and keeps its memory accounted
+            assertThatThrownBy(() -> free.get(100, MILLISECONDS)).isInstanceOf(TimeoutException.class);
+            assertThat(memoryContext.getBytes()).isEqualTo(200);
+
+            finishRead.countDown();
+            free.get(10, SECONDS);
+            assertThat(readFinished).isTrue();
+            assertThat(memoryContext.getBytes()).isEqualTo(0);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFreeBeforePrefetchStarted()
+            throws IOException
+    {
+        AtomicInteger reads = new AtomicInteger();
+        TestingParquetDataSource dataSource = new TestingParquetDataSource(
+                createTestingInput(),
+                ParquetReaderOptions.builder().withMaxBufferSize(DataSize.ofBytes(500)).build())
+        {
+            @Override
+            protected void readInternal(long position, byte[] buffer, int bufferOffset, int bufferLength)
+                    throws IOException
+            {
+                reads.incrementAndGet();
+                super.readInternal(position, buffer, bufferOffset, bufferLength);
+            }
+        };
+        AggregatedMemoryContext memoryContext = newSimpleAggregatedMemoryContext();
+        ChunkReader reader = Iterables.getOnlyElement(dataSource.planChunksRead(ImmutableListMultimap.of("1", new DiskRange(0, 200)), memoryContext).get("1"));
+
+        List<Runnable> queuedTasks = new ArrayList<>();
+        reader.prefetch(queuedTasks::add);
+        assertThat(memoryContext.getBytes()).isEqualTo(200);
+
+        reader.free();
+        assertThat(memoryContext.getBytes()).isEqualTo(0);
+
+        // a prefetch which was not started before the reader was freed never reads
+        queuedTasks.forEach(Runnable::run);
+        assertThat(reads.get()).isEqualTo(0);
+    }
+
     private static Slice createTestingInput()
     {
         Slice testingInput = Slices.allocate(4000);
@@ -16,6 +16,7 @@ package io.trino.parquet.reader;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.io.Resources;
+import io.airlift.slice.Slice;
 import io.airlift.units.DataSize;
 import io.trino.memory.context.AggregatedMemoryContext;
 import io.trino.parquet.ParquetDataSource;
@@ -40,20 +41,30 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.IntStream;
 
 import static io.trino.memory.context.AggregatedMemoryContext.newSimpleAggregatedMemoryContext;
 import static io.trino.parquet.ParquetTestUtils.createParquetReader;
 import static io.trino.parquet.ParquetTestUtils.generateInputPages;
 import static io.trino.parquet.ParquetTestUtils.writeParquetFile;
 import static io.trino.parquet.reader.ParquetReader.COLUMN_INDEX_ROWS_FILTERED;
+import static io.trino.parquet.reader.ParquetReader.ROW_GROUP_CHUNKS_PREFETCHED;
+import static io.trino.parquet.reader.ParquetReader.ROW_GROUP_CHUNKS_PREFETCH_READY;
 import static io.trino.spi.type.BigintType.BIGINT;
 import static io.trino.spi.type.DateType.DATE;
 import static io.trino.spi.type.IntegerType.INTEGER;
+import static io.trino.spi.type.TypeUtils.readNativeValue;
 import static io.trino.spi.type.VarcharType.VARCHAR;
+import static java.lang.Math.toIntExact;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -118,6 +129,94 @@ public class TestParquetReader
         assertThat(memoryContext.getBytes()).isEqualTo(0);
     }
 
+    @Test
+    public void testRowGroupPrefetch()
+            throws IOException
+    {
+        // Write a file with 100 rows per row-group
+        List<String> columnNames = ImmutableList.of("columnA", "columnB");
+        List<Type> types = ImmutableList.of(INTEGER, BIGINT);
+        Slice file = writeParquetFile(
+                ParquetWriterOptions.builder()
+                        .setMaxBlockSize(DataSize.ofBytes(1000))
+                        .build(),
+                types,
+                columnNames,
+                generateInputPages(types, 100, 5));
+        // Small buffers make every column chunk loaded on its own rather than merged with its neighbours
+        ParquetReaderOptions options = ParquetReaderOptions.builder()
+                .withMaxBufferSize(DataSize.ofBytes(100))
+                .build();
+        ParquetMetadata parquetMetadata = MetadataReader.readFooter(new TestingParquetDataSource(file, options));
+        int rowGroupCount = parquetMetadata.getBlocks().size();
+        assertThat(rowGroupCount).isGreaterThan(1);
+
+        List<List<Object>> expected = readAll(new TestingParquetDataSource(file, options), parquetMetadata, options, types, columnNames, Optional.empty());
+
+        ExecutorService executor = newFixedThreadPool(2);
+        try {
+            AggregatedMemoryContext memoryContext = newSimpleAggregatedMemoryContext();
+            ParquetDataSource dataSource = new TestingParquetDataSource(file, options);
+            try (ParquetReader reader = createParquetReader(dataSource, parquetMetadata, options, memoryContext, types, columnNames, TupleDomain.all(), Optional.of(executor))) {
+                assertThat(readAll(reader, types)).isEqualTo(expected);
+
+                Map<String, Metric<?>> metrics = reader.getMetrics().getMetrics();
+                // Every row group except the first one is prefetched, one chunk per column
+                assertThat(((Count<?>) metrics.get(ROW_GROUP_CHUNKS_PREFETCHED)).getTotal()).isEqualTo((long) (rowGroupCount - 1) * types.size());
+                assertThat(((Count<?>) metrics.get(ROW_GROUP_CHUNKS_PREFETCH_READY)).getTotal()).isBetween(0L, (long) (rowGroupCount - 1) * types.size());
+            }
+            assertThat(memoryContext.getBytes()).isEqualTo(0);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testReadSelectedPositions()
+            throws IOException
+    {
+        List<String> columnNames = ImmutableList.of("columnA", "columnB");
+        List<Type> types = ImmutableList.of(INTEGER, BIGINT);
+        List<Long> data = new ArrayList<>();
+        for (long value = 0; value < 3000; value++) {
+            data.add(value % 5 == 0 ? null : value);
+        }
+        // Small pages make the skipped values span page boundaries
+        Slice file = writeParquetFile(
+                ParquetWriterOptions.builder()
+                        .setMaxPageValueCount(100)
+                        .setBatchSize(10)
+                        .build(),
+                types,
+                columnNames,
+                generateInputPages(types, 1000, data));
+        ParquetReaderOptions options = ParquetReaderOptions.defaultOptions();
+        ParquetMetadata parquetMetadata = MetadataReader.readFooter(new TestingParquetDataSource(file, options));
+        List<List<Object>> expected = readAll(new TestingParquetDataSource(file, options), parquetMetadata, options, types, columnNames, Optional.empty());
+
+        try (ParquetReader reader = createParquetReader(new TestingParquetDataSource(file, options), parquetMetadata, types, columnNames)) {
+            int selectedRows = 0;
+            for (SourcePage page = reader.nextPage(); page != null; page = reader.nextPage()) {
+                long pageStartRow = reader.lastBatchStartRow();
+                // Select one position in three, with a run of consecutive positions at the start of the page
+                int[] positions = IntStream.range(0, page.getPositionCount())
+                        .filter(position -> position < 5 || position % 3 == 0)
+                        .toArray();
+                page.selectPositions(positions, 0, positions.length);
+                for (int i = 0; i < positions.length; i++) {
+                    List<Object> row = new ArrayList<>();
+                    for (int channel = 0; channel < types.size(); channel++) {
+                        row.add(readNativeValue(types.get(channel), page.getBlock(channel), i));
+                    }
+                    assertThat(row).isEqualTo(expected.get(toIntExact(pageStartRow + positions[i])));
+                }
+                selectedRows += positions.length;
+            }
+            assertThat(selectedRows).isGreaterThan(expected.size() / 3);
+        }
+    }
+
     @Test
     public void testEmptyRowRangesWithColumnIndex()
             throws URISyntaxException, IOException
@@ -242,6 +341,30 @@ public class TestParquetReader
                 .hasMessageMatching(".* Parquet footer size .* exceeds maximum allowed size .*");
     }
 
+    private static List<List<Object>> readAll(ParquetDataSource dataSource, ParquetMetadata parquetMetadata, ParquetReaderOptions options, List<Type> types, List<String> columnNames, Optional<Executor> prefetchExecutor)
+            throws IOException
+    {
+        try (ParquetReader reader = createParquetReader(dataSource, parquetMetadata, options, newSimpleAggregatedMemoryContext(), types, columnNames, TupleDomain.all(), prefetchExecutor)) {
+            return readAll(reader, types);
+        }
+    }
+
+    private static List<List<Object>> readAll(ParquetReader reader, List<Type> types)
+            throws IOException
+    {
+        ImmutableList.Builder<List<Object>> rows = ImmutableList.builder();
+        for (SourcePage page = reader.nextPage(); page != null; page = reader.nextPage()) {
+            for (int position = 0; position < page.getPositionCount(); position++) {
+                List<Object> row = new ArrayList<>();
+                for (int channel = 0; channel < types.size(); channel++) {
+                    row.add(readNativeValue(types.get(channel), page.getBlock(channel), position));
+                }
+                rows.add(row);
+            }
+        }
+        return rows.build();
+    }
+
     private void testReadingOldParquetFiles(File file, List<String> columnNames, Type columnType, List<?> expectedValues)
             throws IOException
     {
@@ -0,0 +1,152 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.parquet.reader.flat;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static io.trino.jmh.Benchmarks.benchmark;
+import static io.trino.parquet.reader.flat.IntColumnAdapter.INT_ADAPTER;
+import static io.trino.parquet.reader.flat.LongColumnAdapter.LONG_ADAPTER;
+
+/**
+ * Compares the scalar lookup of dictionary ids in {@link DictionaryDecoder} with Vector API gathers
+ * of 256 and 512 bit vectors. The reader uses the scalar lookup, the gathers are kept here to
+ * re-evaluate them on new hardware and JDK versions.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Measurement(iterations = 20, time = 1)
+@Warmup(iterations = 10, time = 1)
+@Fork(3)
+public class BenchmarkDictionaryIdsDecoding
+{
+    private static final int BATCH_SIZE = 4096;
+
+    @Param({
+            "16",
+            "1024",
+            "65536",
+    })
+    public int dictionarySize;
+
+    // 0 is the scalar lookup
+    @Param({
+            "0",
+            "256",
+            "512",
+    })
+    public int vectorBitSize;
+
+    private int[] ids;
+    private int[] intDictionary;
+    private long[] longDictionary;
+    private int[] intValues;
+    private long[] longValues;
+    private VectorSpecies<Integer> intSpecies;
+    private VectorSpecies<Long> longSpecies;
+
+    @Setup
+    public void setup()
+    {
+        Random random = new Random(1);
+        ids = new int[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            ids[i] = random.nextInt(dictionarySize);
+        }
+        intDictionary = new int[dictionarySize];
+        longDictionary = new long[dictionarySize];
+        for (int i = 0; i < dictionarySize; i++) {
+            intDictionary[i] = random.nextInt();
+            longDictionary[i] = random.nextLong();
+        }
+        intValues = new int[BATCH_SIZE];
+        longValues = new long[BATCH_SIZE];
+        if (vectorBitSize > 0) {
+            VectorShape shape = VectorShape.forBitSize(vectorBitSize);
+            intSpecies = VectorSpecies.of(int.class, shape);
+            longSpecies = VectorSpecies.of(long.class, shape);
+        }
+    }
+
+    @Benchmark
+    public int[] decodeIntDictionaryIds()
+    {
+        if (vectorBitSize > 0) {
+            gatherDictionaryIds(intSpecies, intValues, 0, BATCH_SIZE, ids, intDictionary);
+        }
+        else {
+            INT_ADAPTER.decodeDictionaryIds(intValues, 0, BATCH_SIZE, ids, intDictionary);
+        }
+        return intValues;
+    }
+
+    @Benchmark
+    public long[] decodeLongDictionaryIds()
+    {
+        if (vectorBitSize > 0) {
+            gatherDictionaryIds(longSpecies, longValues, 0, BATCH_SIZE, ids, longDictionary);
+        }
+        else {
+            LONG_ADAPTER.decodeDictionaryIds(longValues, 0, BATCH_SIZE, ids, longDictionary);
+        }
+        return longValues;
+    }
+
+    private static void gatherDictionaryIds(VectorSpecies<Integer> species, int[] values, int offset, int length, int[] ids, int[] dictionary)
+    {
+        int i = 0;
+        for (; i < species.loopBound(length); i += species.length()) {
+            IntVector.fromArray(species, dictionary, 0, ids, i)
+                    .intoArray(values, offset + i);
+        }
+        for (; i < length; i++) {
+            values[offset + i] = dictionary[ids[i]];
+        }
+    }
+
+    private static void gatherDictionaryIds(VectorSpecies<Long> species, long[] values, int offset, int length, int[] ids, long[] dictionary)
+    {
+        int i = 0;
+        for (; i < species.loopBound(length); i += species.length()) {
+            LongVector.fromArray(species, dictionary, 0, ids, i)
+                    .intoArray(values, offset + i);
+        }
+        for (; i < length; i++) {
+            values[offset + i] = dictionary[ids[i]];
+        }
+    }
+
+    public static void main(String[] args)
+            throws Exception
+    {
+        benchmark(BenchmarkDictionaryIdsDecoding.class)
+                .withOptions(optionsBuilder -> optionsBuilder.jvmArgsAppend("-Xmx4g", "-Xms4g", "--add-modules=jdk.incubator.vector"))
+                .run();
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.parquet.reader.flat;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestDictionaryIdsDecodingBenchmark
+{
+    @Test
+    public void testBenchmark()
+    {
+        for (int dictionarySize : new int[] {16, 1024, 65536}) {
+            BenchmarkDictionaryIdsDecoding scalar = createBenchmark(dictionarySize, 0);
+            for (int vectorBitSize : new int[] {256, 512}) {
+                BenchmarkDictionaryIdsDecoding vectorized = createBenchmark(dictionarySize, vectorBitSize);
+                assertThat(vectorized.decodeIntDictionaryIds()).isEqualTo(scalar.decodeIntDictionaryIds());
+                assertThat(vectorized.decodeLongDictionaryIds()).isEqualTo(scalar.decodeLongDictionaryIds());
+            }
+        }
+    }
+
+    private static BenchmarkDictionaryIdsDecoding createBenchmark(int dictionarySize, int vectorBitSize)
+    {
+        BenchmarkDictionaryIdsDecoding benchmark = new BenchmarkDictionaryIdsDecoding();
+        benchmark.dictionarySize = dictionarySize;
+        benchmark.vectorBitSize = vectorBitSize;
+        benchmark.setup();
+        return benchmark;
+    }
+}
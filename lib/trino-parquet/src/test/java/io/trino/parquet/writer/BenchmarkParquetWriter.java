@@ -0,0 +1,146 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.parquet.writer;
+
+import com.google.common.collect.ImmutableList;
+import io.trino.spi.Page;
+import io.trino.spi.block.Block;
+import io.trino.spi.block.LongArrayBlock;
+import io.trino.spi.type.Type;
+import org.apache.parquet.format.CompressionCodec;
+import org.joda.time.DateTimeZone;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.trino.jmh.Benchmarks.benchmark;
+import static io.trino.spi.type.BigintType.BIGINT;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+
+/**
+ * Compares writing Parquet files serially and with a column writer executor, for narrow and wide pages.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1)
+@Warmup(iterations = 5, time = 1)
+@Fork(2)
+public class BenchmarkParquetWriter
+{
+    private static final int ROWS = 100_000;
+
+    @Param({
+            "4",
+            "64",
+    })
+    public int columnCount;
+
+    @Param({
+            "1000",
+            "10000",
+    })
+    public int positionsPerPage;
+
+    @Param({
+            "0",
+            "4",
+    })
+    public int columnWriterThreads;
+
+    private List<Type> types;
+    private List<String> columnNames;
+    private List<Page> pages;
+    private Optional<ExecutorService> executor;
+
+    @Setup
+    public void setup()
+    {
+        types = Collections.nCopies(columnCount, BIGINT);
+        columnNames = IntStream.range(0, columnCount)
+                .mapToObj(column -> "column" + column)
+                .collect(toImmutableList());
+
+        Random random = new Random(1);
+        ImmutableList.Builder<Page> pages = ImmutableList.builder();
+        for (int page = 0; page < ROWS / positionsPerPage; page++) {
+            Block[] blocks = new Block[columnCount];
+            for (int column = 0; column < columnCount; column++) {
+                long[] values = new long[positionsPerPage];
+                for (int position = 0; position < positionsPerPage; position++) {
+                    // enough distinct values for the writer to fall back from dictionary encoding
+                    values[position] = random.nextInt(1_000_000);
+                }
+                blocks[column] = new LongArrayBlock(positionsPerPage, Optional.empty(), values);
+            }
+            pages.add(new Page(blocks));
+        }
+        this.pages = pages.build();
+
+        executor = columnWriterThreads > 0
+                ? Optional.of(newFixedThreadPool(columnWriterThreads))
+                : Optional.empty();
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        executor.ifPresent(ExecutorService::shutdownNow);
+    }
+
+    @Benchmark
+    public void write()
+            throws IOException
+    {
+        ParquetSchemaConverter schemaConverter = new ParquetSchemaConverter(types, columnNames, false, false);
+        try (ParquetWriter writer = new ParquetWriter(
+                OutputStream.nullOutputStream(),
+                schemaConverter.getMessageType(),
+                schemaConverter.getPrimitiveTypes(),
+                ParquetWriterOptions.builder().build(),
+                CompressionCodec.SNAPPY,
+                "benchmark",
+                Optional.of(DateTimeZone.UTC),
+                Optional.empty(),
+                executor.map(Executor.class::cast))) {
+            for (Page page : pages) {
+                writer.write(page);
+            }
+        }
+    }
+
+    public static void main(String[] args)
+            throws Exception
+    {
+        benchmark(BenchmarkParquetWriter.class).run();
+    }
+}
@@ -28,6 +28,7 @@ import io.trino.parquet.ParquetDataSourceId;
 import io.trino.parquet.ParquetReaderOptions;
 import io.trino.parquet.metadata.BlockMetadata;
 import io.trino.parquet.metadata.ColumnChunkMetadata;
+import io.trino.parquet.metadata.IndexReference;
 import io.trino.parquet.metadata.ParquetMetadata;
 import io.trino.parquet.reader.ChunkedInputStream;
 import io.trino.parquet.reader.MetadataReader;
@@ -35,22 +36,30 @@ import io.trino.parquet.reader.PageReader;
 import io.trino.parquet.reader.ParquetReader;
 import io.trino.parquet.reader.TestingParquetDataSource;
 import io.trino.spi.Page;
+import io.trino.spi.block.ArrayBlock;
 import io.trino.spi.block.Block;
+import io.trino.spi.block.LongArrayBlock;
+import io.trino.spi.block.RowBlock;
 import io.trino.spi.connector.SourcePage;
 import io.trino.spi.predicate.Domain;
 import io.trino.spi.predicate.TupleDomain;
+import io.trino.spi.type.ArrayType;
 import io.trino.spi.type.DecimalType;
 import io.trino.spi.type.Type;
 import org.apache.parquet.VersionParser;
 import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.Encoding;
 import org.apache.parquet.column.values.bloomfilter.BlockSplitBloomFilter;
+import org.apache.parquet.format.ColumnIndex;
 import org.apache.parquet.format.CompressionCodec;
 import org.apache.parquet.format.PageHeader;
+import org.apache.parquet.format.PageLocation;
 import org.apache.parquet.format.PageType;
 import org.apache.parquet.format.RowGroup;
 import org.apache.parquet.format.Util;
 import org.apache.parquet.schema.PrimitiveType;
 import org.assertj.core.data.Percentage;
+import org.joda.time.DateTimeZone;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -63,12 +72,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.google.common.collect.Iterables.getOnlyElement;
+import static io.airlift.units.DataSize.Unit.MEGABYTE;
 import static io.trino.memory.context.AggregatedMemoryContext.newSimpleAggregatedMemoryContext;
 import static io.trino.operator.scalar.CharacterStringCasts.varcharToVarcharSaturatedFloorCast;
 import static io.trino.parquet.BloomFilterStore.hasBloomFilter;
@@ -83,12 +96,16 @@ import static io.trino.spi.type.BigintType.BIGINT;
 import static io.trino.spi.type.DoubleType.DOUBLE;
 import static io.trino.spi.type.IntegerType.INTEGER;
 import static io.trino.spi.type.RealType.REAL;
+import static io.trino.spi.type.RowType.field;
+import static io.trino.spi.type.RowType.rowType;
 import static io.trino.spi.type.TinyintType.TINYINT;
+import static io.trino.spi.type.TypeUtils.readNativeValue;
 import static io.trino.spi.type.UuidType.javaUuidToTrinoUuid;
 import static io.trino.spi.type.VarbinaryType.VARBINARY;
 import static io.trino.spi.type.VarcharType.VARCHAR;
 import static java.lang.Float.floatToRawIntBits;
 import static java.lang.Math.toIntExact;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 import static java.util.stream.Collectors.toList;
 import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.INT32;
 import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.INT64;
@@ -508,6 +525,211 @@ public class TestParquetWriter
         assertThat(hasBloomFilter(chunkMetaData)).isTrue();
     }
 
+    @ParameterizedTest
+    @MethodSource("testParallelColumnEncodingParams")
+    public void testParallelColumnEncoding(int positionsPerPage, int pageCount, DataSize maxBlockSize)
+            throws IOException
+    {
+        List<String> columnNames = ImmutableList.of("columnA", "columnB", "columnC", "columnD");
+        List<Type> types = ImmutableList.of(INTEGER, BIGINT, REAL, TINYINT);
+        ParquetWriterOptions writerOptions = ParquetWriterOptions.builder()
+                .setMaxBlockSize(maxBlockSize)
+                .setMaxPageValueCount(1000)
+                .setBatchSize(positionsPerPage)
+                .build();
+        List<io.trino.spi.Page> inputPages = generateInputPages(types, positionsPerPage, pageCount);
+
+        ExecutorService executor = newFixedThreadPool(4);
+        try {
+            ByteArrayOutputStream serialOutput = new ByteArrayOutputStream();
+            ByteArrayOutputStream parallelOutput = new ByteArrayOutputStream();
+            ParquetSchemaConverter schemaConverter = new ParquetSchemaConverter(types, columnNames, false, false);
+            ParquetWriter serialWriter = createParquetWriter(serialOutput, writerOptions, types, columnNames, CompressionCodec.SNAPPY);
+            ParquetWriter parallelWriter = new ParquetWriter(
+                    parallelOutput,
+                    schemaConverter.getMessageType(),
+                    schemaConverter.getPrimitiveTypes(),
+                    writerOptions,
+                    CompressionCodec.SNAPPY,
+                    "test-version",
+                    Optional.of(DateTimeZone.getDefault()),
+                    Optional.empty(),
+                    Optional.of(executor));
+            for (io.trino.spi.Page inputPage : inputPages) {
+                serialWriter.write(inputPage);
+                parallelWriter.write(inputPage);
+            }
+            serialWriter.close();
+            parallelWriter.close();
+
+            // Parallel encoding must produce exactly the same file layout
+            assertThat(parallelOutput.toByteArray()).isEqualTo(serialOutput.toByteArray());
+            ParquetMetadata parquetMetadata = MetadataReader.readFooter(new TestingParquetDataSource(Slices.wrappedBuffer(parallelOutput.toByteArray()), ParquetReaderOptions.defaultOptions()));
+            assertThat(parquetMetadata.getBlocks().size()).isGreaterThan(1);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testWriteColumnAndOffsetIndexes()
+            throws IOException
+    {
+        List<String> columnNames = ImmutableList.of("columnA");
+        List<Type> types = ImmutableList.of(BIGINT);
+        List<Long> data = LongStream.range(0, 100_000).boxed().collect(toImmutableList());
+        ParquetDataSource dataSource = new TestingParquetDataSource(
+                writeParquetFile(
+                        ParquetWriterOptions.builder()
+                                .setMaxPageValueCount(1000)
+                                .setBatchSize(1000)
+                                .build(),
+                        types,
+                        columnNames,
+                        generateInputPages(types, 1000, data)),
+                ParquetReaderOptions.defaultOptions());
+
+        ParquetMetadata parquetMetadata = MetadataReader.readFooter(dataSource);
+        ColumnChunkMetadata chunkMetaData = getOnlyElement(getOnlyElement(parquetMetadata.getBlocks()).columns());
+        assertThat(chunkMetaData.getColumnIndexReference()).isNotNull();
+        assertThat(chunkMetaData.getOffsetIndexReference()).isNotNull();
+
+        TupleDomain<String> predicate = TupleDomain.withColumnDomains(ImmutableMap.of("columnA", Domain.singleValue(BIGINT, 50_500L)));
+        // Column index allows reading only the page containing the value
+        assertThat(countRows(dataSource, parquetMetadata, ParquetReaderOptions.builder().withUseColumnIndex(true).build(), types, columnNames, predicate))
+                .isEqualTo(1000);
+        assertThat(countRows(dataSource, parquetMetadata, ParquetReaderOptions.builder().withUseColumnIndex(false).build(), types, columnNames, predicate))
+                .isEqualTo(data.size());
+    }
+
+    @Test
+    public void testWriteColumnAndOffsetIndexesForNestedColumns()
+            throws IOException
+    {
+        int rowCount = 10_000;
+        int rowsPerPage = 100;
+        List<String> columnNames = ImmutableList.of("repeated", "nested");
+        List<Type> types = ImmutableList.of(new ArrayType(BIGINT), rowType(field("f", BIGINT), field("g", new ArrayType(BIGINT))));
+        ImmutableList.Builder<Page> pages = ImmutableList.builder();
+        for (int start = 0; start < rowCount; start += rowsPerPage) {
+            pages.add(createNestedPage(start, rowsPerPage));
+        }
+        ParquetDataSource dataSource = new TestingParquetDataSource(
+                writeParquetFile(
+                        ParquetWriterOptions.builder()
+                                .setMaxPageValueCount(1000)
+                                .setBatchSize(rowsPerPage)
+                                .build(),
+                        types,
+                        columnNames,
+                        pages.build()),
+                ParquetReaderOptions.defaultOptions());
+
+        // number of values each row has in the leaf columns repeated.element, nested.f and nested.g.element,
+        // null and empty arrays have a single value
+        List<IntUnaryOperator> valuesPerRow = ImmutableList.of(
+                row -> isNullOrEmptyArray(row) ? 1 : row % 4,
+                _ -> 1,
+                row -> Math.max(row % 3, 1));
+
+        BlockMetadata blockMetadata = getOnlyElement(MetadataReader.readFooter(dataSource).getBlocks());
+        assertThat(blockMetadata.columns()).hasSize(valuesPerRow.size());
+        for (int column = 0; column < valuesPerRow.size(); column++) {
+            ColumnChunkMetadata chunkMetaData = blockMetadata.columns().get(column);
+            IndexReference offsetIndexReference = chunkMetaData.getOffsetIndexReference();
+            List<PageLocation> pageLocations = Util.readOffsetIndex(dataSource.readFully(offsetIndexReference.getOffset(), offsetIndexReference.getLength()).getInput())
+                    .getPage_locations();
+            IndexReference columnIndexReference = chunkMetaData.getColumnIndexReference();
+            ColumnIndex columnIndex = Util.readColumnIndex(dataSource.readFully(columnIndexReference.getOffset(), columnIndexReference.getLength()).getInput());
+
+            assertThat(pageLocations.size()).isGreaterThan(1);
+            assertThat(columnIndex.getNull_pages()).hasSize(pageLocations.size());
+            assertThat(pageLocations.getFirst().getOffset()).isEqualTo(chunkMetaData.getFirstDataPageOffset());
+            assertThat(pageLocations.getFirst().getFirst_row_index()).isEqualTo(0);
+            for (int page = 0; page < pageLocations.size(); page++) {
+                PageLocation pageLocation = pageLocations.get(page);
+                int firstRow = toIntExact(pageLocation.getFirst_row_index());
+                int lastRow = page + 1 < pageLocations.size() ? toIntExact(pageLocations.get(page + 1).getFirst_row_index()) : rowCount;
+                assertThat(lastRow).isGreaterThan(firstRow);
+
+                // first_row_index counts rows, which differ from the values written in repeated columns
+                PageHeader pageHeader = Util.readPageHeader(dataSource.readFully(pageLocation.getOffset(), pageLocation.getCompressed_page_size()).getInput());
+                assertThat(pageHeader.getType()).isEqualTo(PageType.DATA_PAGE);
+                assertThat(pageHeader.getData_page_header().getNum_values())
+                        .isEqualTo(IntStream.range(firstRow, lastRow).map(valuesPerRow.get(column)).sum());
+                if (column == 0) {
+                    assertThat(columnIndex.getNull_counts().get(page))
+                            .isEqualTo(IntStream.range(firstRow, lastRow).filter(TestParquetWriter::isNullOrEmptyArray).count());
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("testOptimizedFallbackEncodingsParams")
+    public void testOptimizedFallbackEncodings(Type type, List<?> data, Encoding expectedEncoding)
+            throws IOException
+    {
+        List<String> columnNames = ImmutableList.of("columnA");
+        List<Type> types = ImmutableList.of(type);
+        ParquetDataSource dataSource = new TestingParquetDataSource(
+                writeParquetFile(
+                        ParquetWriterOptions.builder()
+                                .setOptimizedFallbackEncodingsEnabled(true)
+                                .build(),
+                        types,
+                        columnNames,
+                        generateInputPages(types, 200, data)),
+                ParquetReaderOptions.defaultOptions());
+
+        ParquetMetadata parquetMetadata = MetadataReader.readFooter(dataSource);
+        BlockMetadata blockMetaData = getOnlyElement(parquetMetadata.getBlocks());
+        ColumnChunkMetadata chunkMetaData = getOnlyElement(blockMetaData.columns());
+        // Unique values do not compress with dictionary encoding, so the writer falls back to the smaller of PLAIN and the optimized encoding
+        assertThat(chunkMetaData.getEncodingStats().hasNonDictionaryEncodedPages()).isTrue();
+        assertThat(chunkMetaData.getEncodings()).contains(expectedEncoding);
+
+        try (ParquetReader reader = createParquetReader(dataSource, parquetMetadata, types, columnNames)) {
+            int rowsRead = 0;
+            SourcePage page = reader.nextPage();
+            while (page != null) {
+                Block block = page.getBlock(0);
+                for (int position = 0; position < block.getPositionCount(); position++) {
+                    assertThat(readNativeValue(type, block, position)).isEqualTo(data.get(rowsRead + position));
+                }
+                rowsRead += page.getPositionCount();
+                page = reader.nextPage();
+            }
+            assertThat(rowsRead).isEqualTo(data.size());
+        }
+    }
+
+    public static Stream<Arguments> testParallelColumnEncodingParams()
+    {
+        return Stream.of(
+                // small chunks are encoded serially, and only row groups are flushed in parallel
+                Arguments.of(1000, 100, DataSize.ofBytes(100 * 1024)),
+                // chunks over 1MB are encoded in parallel
+                Arguments.of(100_000, 8, DataSize.of(4, MEGABYTE)));
+    }
+
+    public static Stream<Arguments> testOptimizedFallbackEncodingsParams()
+    {
+        int size = 200 * 1000;
+        List<Long> sequence = LongStream.range(0, size).boxed().toList();
+        Random random = new Random(42);
+        return Stream.of(
+                Arguments.of(INTEGER, sequence, Encoding.DELTA_BINARY_PACKED),
+                Arguments.of(BIGINT, sequence, Encoding.DELTA_BINARY_PACKED),
+                Arguments.of(REAL, sequence.stream().map(x -> (long) floatToRawIntBits((float) x)).toList(), Encoding.BYTE_STREAM_SPLIT),
+                Arguments.of(DOUBLE, sequence.stream().map(Long::doubleValue).toList(), Encoding.BYTE_STREAM_SPLIT),
+                Arguments.of(VARCHAR, sequence.stream().map(i -> Slices.utf8Slice(i.toString())).toList(), Encoding.DELTA_BYTE_ARRAY),
+                // deltas between random values are as wide as the values, so PLAIN is kept
+                Arguments.of(BIGINT, random.longs(size).boxed().toList(), Encoding.PLAIN),
+                Arguments.of(INTEGER, random.ints(size).mapToObj(Long::valueOf).toList(), Encoding.PLAIN));
+    }
+
     public static Stream<Arguments> testWriteBloomFiltersParams()
     {
         int size = 2000;
@@ -523,6 +745,47 @@ public class TestParquetWriter
                 Arguments.of(VARBINARY, shuffle(random, size).stream().map(i -> javaUuidToTrinoUuid(new java.util.UUID(i, i))).toList()));
     }
 
+    private static Page createNestedPage(int start, int positionCount)
+    {
+        boolean[] arrayIsNull = new boolean[positionCount];
+        int[] arrayOffsets = new int[positionCount + 1];
+        int[] nestedArrayOffsets = new int[positionCount + 1];
+        long[] fieldValues = new long[positionCount];
+        for (int position = 0; position < positionCount; position++) {
+            int row = start + position;
+            arrayIsNull[position] = row % 7 == 0;
+            arrayOffsets[position + 1] = arrayOffsets[position] + (arrayIsNull[position] ? 0 : row % 4);
+            nestedArrayOffsets[position + 1] = nestedArrayOffsets[position] + row % 3;
+            fieldValues[position] = row;
+        }
+        Block array = ArrayBlock.fromElementBlock(positionCount, Optional.of(arrayIsNull), arrayOffsets, createLongsBlock(arrayOffsets[positionCount]));
+        Block nestedArray = ArrayBlock.fromElementBlock(positionCount, Optional.empty(), nestedArrayOffsets, createLongsBlock(nestedArrayOffsets[positionCount]));
+        Block row = RowBlock.fromFieldBlocks(positionCount, new Block[] {new LongArrayBlock(positionCount, Optional.empty(), fieldValues), nestedArray});
+        return new Page(array, row);
+    }
+
+    private static Block createLongsBlock(int positionCount)
+    {
+        return new LongArrayBlock(positionCount, Optional.empty(), LongStream.range(0, positionCount).toArray());
+    }
+
+    private static boolean isNullOrEmptyArray(int row)
+    {
+        return row % 7 == 0 || row % 4 == 0;
+    }
+
+    private static int countRows(ParquetDataSource dataSource, ParquetMetadata parquetMetadata, ParquetReaderOptions options, List<Type> types, List<String> columnNames, TupleDomain<String> predicate)
+            throws IOException
+    {
+        try (ParquetReader reader = createParquetReader(dataSource, parquetMetadata, options, newSimpleAggregatedMemoryContext(), types, columnNames, predicate)) {
+            int rowsRead = 0;
+            for (SourcePage page = reader.nextPage(); page != null; page = reader.nextPage()) {
+                rowsRead += page.getPositionCount();
+            }
+            return rowsRead;
+        }
+    }
+
     private static List<Long> shuffle(Random random, int size)
     {
         List<Long> shuffledData = LongStream.range(0, size).boxed().collect(toList());
@@ -13,12 +13,18 @@
  */
 package io.trino.parquet.writer;
 
+import io.trino.parquet.writer.valuewriter.AdaptiveFallbackValuesWriter;
 import io.trino.parquet.writer.valuewriter.BloomFilterValuesWriter;
 import io.trino.parquet.writer.valuewriter.DictionaryFallbackValuesWriter;
 import io.trino.parquet.writer.valuewriter.TrinoValuesWriterFactory;
 import org.apache.parquet.column.ColumnDescriptor;
 import org.apache.parquet.column.values.ValuesWriter;
 import org.apache.parquet.column.values.bloomfilter.BlockSplitBloomFilter;
+import org.apache.parquet.column.values.bytestreamsplit.ByteStreamSplitValuesWriter.DoubleByteStreamSplitValuesWriter;
+import org.apache.parquet.column.values.bytestreamsplit.ByteStreamSplitValuesWriter.FloatByteStreamSplitValuesWriter;
+import org.apache.parquet.column.values.delta.DeltaBinaryPackingValuesWriterForInteger;
+import org.apache.parquet.column.values.delta.DeltaBinaryPackingValuesWriterForLong;
+import org.apache.parquet.column.values.deltastrings.DeltaByteArrayWriter;
 import org.apache.parquet.column.values.dictionary.DictionaryValuesWriter.PlainBinaryDictionaryValuesWriter;
 import org.apache.parquet.column.values.dictionary.DictionaryValuesWriter.PlainDoubleDictionaryValuesWriter;
 import org.apache.parquet.column.values.dictionary.DictionaryValuesWriter.PlainFixedLenArrayDictionaryValuesWriter;
@@ -28,6 +34,7 @@ import org.apache.parquet.column.values.dictionary.DictionaryValuesWriter.PlainL
 import org.apache.parquet.column.values.plain.BooleanPlainValuesWriter;
 import org.apache.parquet.column.values.plain.FixedLenByteArrayPlainValuesWriter;
 import org.apache.parquet.column.values.plain.PlainValuesWriter;
+import org.apache.parquet.format.CompressionCodec;
 import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +130,21 @@ public class TestTrinoValuesWriterFactory
                 PlainValuesWriter.class);
     }
 
+    @Test
+    public void testOptimizedFallbackEncodings()
+    {
+        testOptimizedFallbackValueWriter(PrimitiveTypeName.BINARY, PlainBinaryDictionaryValuesWriter.class, DeltaByteArrayWriter.class);
+        testOptimizedFallbackValueWriter(PrimitiveTypeName.INT32, PlainIntegerDictionaryValuesWriter.class, DeltaBinaryPackingValuesWriterForInteger.class);
+        testOptimizedFallbackValueWriter(PrimitiveTypeName.INT64, PlainLongDictionaryValuesWriter.class, DeltaBinaryPackingValuesWriterForLong.class);
+        testOptimizedFallbackValueWriter(PrimitiveTypeName.DOUBLE, PlainDoubleDictionaryValuesWriter.class, DoubleByteStreamSplitValuesWriter.class);
+        testOptimizedFallbackValueWriter(PrimitiveTypeName.FLOAT, PlainFloatDictionaryValuesWriter.class, FloatByteStreamSplitValuesWriter.class);
+
+        // INT96 has no optimized encoding
+        ColumnDescriptor int96Path = createColumnDescriptor(PrimitiveTypeName.INT96);
+        ValuesWriter int96Writer = new TrinoValuesWriterFactory(1024, 1024, true, CompressionCodec.SNAPPY).newValuesWriter(int96Path, Optional.empty());
+        validateFallbackWriter(int96Writer, PlainFixedLenArrayDictionaryValuesWriter.class, FixedLenByteArrayPlainValuesWriter.class);
+    }
+
     private void testValueWriter(PrimitiveTypeName typeName, Class<? extends ValuesWriter> expectedValueWriterClass)
     {
         ColumnDescriptor mockPath = createColumnDescriptor(typeName);
@@ -141,6 +163,18 @@ public class TestTrinoValuesWriterFactory
         validateFallbackWriter(writer, initialValueWriterClass, fallbackValueWriterClass);
     }
 
+    private void testOptimizedFallbackValueWriter(PrimitiveTypeName typeName, Class<? extends ValuesWriter> initialValueWriterClass, Class<? extends ValuesWriter> optimizedValueWriterClass)
+    {
+        ColumnDescriptor mockPath = createColumnDescriptor(typeName);
+        TrinoValuesWriterFactory factory = new TrinoValuesWriterFactory(1024, 1024, true, CompressionCodec.SNAPPY);
+        ValuesWriter writer = factory.newValuesWriter(mockPath, Optional.empty());
+
+        validateFallbackWriter(writer, initialValueWriterClass, AdaptiveFallbackValuesWriter.class);
+        AdaptiveFallbackValuesWriter fallbackWriter = (AdaptiveFallbackValuesWriter) ((DictionaryFallbackValuesWriter) writer).getFallBackWriter();
+        validateWriterType(fallbackWriter.getPlainWriter(), PlainValuesWriter.class);
+        validateWriterType(fallbackWriter.getOptimizedWriter(), optimizedValueWriterClass);
+    }
+
     private void testValueWriterBloomFilter(PrimitiveTypeName typeName, Class<? extends ValuesWriter> initialValueWriterClass, Class<? extends ValuesWriter> fallbackValueWriterClass)
     {
         ColumnDescriptor mockPath = createColumnDescriptor(typeName);
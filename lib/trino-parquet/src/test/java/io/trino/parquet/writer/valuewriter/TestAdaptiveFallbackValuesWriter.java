@@ -0,0 +1,116 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.parquet.writer.valuewriter;
+
+import io.airlift.compress.v3.Compressor;
+import io.airlift.compress.v3.snappy.SnappyCompressor;
+import org.apache.parquet.bytes.HeapByteBufferAllocator;
+import org.apache.parquet.column.values.ValuesWriter;
+import org.apache.parquet.column.values.bytestreamsplit.ByteStreamSplitValuesWriter.DoubleByteStreamSplitValuesWriter;
+import org.apache.parquet.column.values.delta.DeltaBinaryPackingValuesWriterForLong;
+import org.apache.parquet.column.values.plain.PlainValuesWriter;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.Random;
+
+import static io.trino.spi.testing.InterfaceTestUtils.assertAllMethodsOverridden;
+import static org.apache.parquet.column.Encoding.BYTE_STREAM_SPLIT;
+import static org.apache.parquet.column.Encoding.DELTA_BINARY_PACKED;
+import static org.apache.parquet.column.Encoding.PLAIN;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestAdaptiveFallbackValuesWriter
+{
+    private static final int PAGE_SIZE = 1024 * 1024;
+    private static final int VALUES = 10_000;
+
+    @Test
+    public void testAllMethodsOverridden()
+    {
+        assertAllMethodsOverridden(ValuesWriter.class, AdaptiveFallbackValuesWriter.class);
+    }
+
+    @Test
+    public void testChoosesOptimizedEncoding()
+    {
+        ValuesWriter writer = createLongWriter();
+        for (long value = 0; value < VALUES; value++) {
+            writer.writeLong(value);
+        }
+        assertThat(writer.getBytes().size()).isLessThan(VALUES * Long.BYTES / 10);
+        assertThat(writer.getEncoding()).isEqualTo(DELTA_BINARY_PACKED);
+        writer.reset();
+
+        // the choice is kept for the rest of the column chunk
+        Random random = new Random(42);
+        for (int i = 0; i < VALUES; i++) {
+            writer.writeLong(random.nextLong());
+        }
+        writer.getBytes();
+        assertThat(writer.getEncoding()).isEqualTo(DELTA_BINARY_PACKED);
+    }
+
+    @Test
+    public void testKeepsPlainEncoding()
+    {
+        ValuesWriter writer = createLongWriter();
+        Random random = new Random(42);
+        for (int i = 0; i < VALUES; i++) {
+            writer.writeLong(random.nextLong());
+        }
+        assertThat(writer.getBytes().size()).isEqualTo(VALUES * Long.BYTES);
+        assertThat(writer.getEncoding()).isEqualTo(PLAIN);
+        writer.reset();
+
+        // the next column chunk is sampled again
+        writer.resetDictionary();
+        for (long value = 0; value < VALUES; value++) {
+            writer.writeLong(value);
+        }
+        writer.getBytes();
+        assertThat(writer.getEncoding()).isEqualTo(DELTA_BINARY_PACKED);
+    }
+
+    @Test
+    public void testComparesCompressedSizes()
+    {
+        // BYTE_STREAM_SPLIT does not change the size of the encoded values, it only makes them compress better
+        ValuesWriter uncompressed = createDoubleWriter(Optional.empty());
+        ValuesWriter compressed = createDoubleWriter(Optional.of(SnappyCompressor.create()));
+        for (int value = 0; value < VALUES; value++) {
+            uncompressed.writeDouble(value);
+            compressed.writeDouble(value);
+        }
+        uncompressed.getBytes();
+        assertThat(uncompressed.getEncoding()).isEqualTo(PLAIN);
+        compressed.getBytes();
+        assertThat(compressed.getEncoding()).isEqualTo(BYTE_STREAM_SPLIT);
+    }
+
+    private static ValuesWriter createLongWriter()
+    {
+        return createWriter(new DeltaBinaryPackingValuesWriterForLong(64, PAGE_SIZE, new HeapByteBufferAllocator()), Optional.empty());
+    }
+
+    private static ValuesWriter createDoubleWriter(Optional<Compressor> sampleCompressor)
+    {
+        return createWriter(new DoubleByteStreamSplitValuesWriter(64, PAGE_SIZE, new HeapByteBufferAllocator()), sampleCompressor);
+    }
+
+    private static ValuesWriter createWriter(ValuesWriter optimizedWriter, Optional<Compressor> sampleCompressor)
+    {
+        return new AdaptiveFallbackValuesWriter(new PlainValuesWriter(64, PAGE_SIZE, new HeapByteBufferAllocator()), optimizedWriter, sampleCompressor);
+    }
+}
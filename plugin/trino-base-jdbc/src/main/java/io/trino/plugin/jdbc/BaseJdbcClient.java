@@ -92,6 +92,9 @@ import static io.trino.plugin.base.TemporaryTables.generateTemporaryTableName;
 import static io.trino.plugin.jdbc.CaseSensitivity.CASE_INSENSITIVE;
 import static io.trino.plugin.jdbc.CaseSensitivity.CASE_SENSITIVE;
 import static io.trino.plugin.jdbc.JdbcErrorCode.JDBC_ERROR;
+import static io.trino.plugin.jdbc.JdbcRangeSplits.createRangeSplits;
+import static io.trino.plugin.jdbc.JdbcSplitSessionProperties.getRangeSplitCount;
+import static io.trino.plugin.jdbc.JdbcSplitSessionProperties.isRangeSplitEnabled;
 import static io.trino.plugin.jdbc.JdbcWriteSessionProperties.getWriteBatchSize;
 import static io.trino.plugin.jdbc.JdbcWriteSessionProperties.getWriteParallelism;
 import static io.trino.plugin.jdbc.JdbcWriteSessionProperties.isNonTransactionalInsert;
@@ -102,6 +105,10 @@ import static io.trino.plugin.jdbc.TypeHandlingJdbcSessionProperties.getUnsuppor
 import static io.trino.plugin.jdbc.UnsupportedTypeHandling.IGNORE;
 import static io.trino.spi.StandardErrorCode.NOT_SUPPORTED;
 import static io.trino.spi.connector.ConnectorMetadata.MODIFYING_ROWS_MESSAGE;
+import static io.trino.spi.type.BigintType.BIGINT;
+import static io.trino.spi.type.IntegerType.INTEGER;
+import static io.trino.spi.type.SmallintType.SMALLINT;
+import static io.trino.spi.type.TinyintType.TINYINT;
 import static io.trino.spi.type.VarcharType.createUnboundedVarcharType;
 import static java.lang.Boolean.TRUE;
 import static java.lang.String.CASE_INSENSITIVE_ORDER;
@@ -120,6 +127,8 @@ public abstract class BaseJdbcClient
 
     static final Type TRINO_PAGE_SINK_ID_COLUMN_TYPE = BigintType.BIGINT;
 
+    private static final Set<Type> RANGE_SPLIT_COLUMN_TYPES = ImmutableSet.of(BIGINT, INTEGER, SMALLINT, TINYINT);
+
     protected final ConnectionFactory connectionFactory;
     protected final QueryBuilder queryBuilder;
     protected final String identifierQuote;
@@ -626,9 +635,66 @@ public abstract class BaseJdbcClient
     @Override
     public ConnectorSplitSource getSplits(ConnectorSession session, JdbcTableHandle tableHandle)
     {
+        if (isRangeSplitEnabled(session) && isRangeSplittable(tableHandle)) {
+            JdbcNamedRelationHandle table = tableHandle.getRequiredNamedRelation();
+            Optional<JdbcColumnHandle> splitColumn = getRangeSplitColumn(session, table);
+            if (splitColumn.isPresent()) {
+                return new FixedSplitSource(getRangeSplits(session, table.getRemoteTableName(), splitColumn.get()));
+            }
+        }
         return new FixedSplitSource(new JdbcSplit(Optional.empty()));
     }
 
+    private static boolean isRangeSplittable(JdbcTableHandle tableHandle)
+    {
+        // every split runs the query separately, so the query must read the rows of the table without limiting or sorting them
+        return tableHandle.isNamedRelation() &&
+                tableHandle.getLimit().isEmpty() &&
+                tableHandle.getSortOrder().isEmpty() &&
+                tableHandle.getUpdateAssignments().isEmpty() &&
+                tableHandle.getAuthorization().isEmpty();
+    }
+
+    private Optional<JdbcColumnHandle> getRangeSplitColumn(ConnectorSession session, JdbcNamedRelationHandle table)
+    {
+        Optional<String> columnName = JdbcSplitSessionProperties.getRangeSplitColumn(session);
+        List<JdbcColumnHandle> columns;
+        if (columnName.isPresent()) {
+            columns = getColumns(session, table.getSchemaTableName(), table.getRemoteTableName()).stream()
+                    .filter(column -> column.getColumnName().equalsIgnoreCase(columnName.get()))
+                    .collect(toImmutableList());
+        }
+        else {
+            columns = getPrimaryKeys(session, table.getRemoteTableName());
+        }
+        if (columns.size() != 1 || !RANGE_SPLIT_COLUMN_TYPES.contains(getOnlyElement(columns).getColumnType())) {
+            return Optional.empty();
+        }
+        return Optional.of(getOnlyElement(columns));
+    }
+
+    private List<JdbcSplit> getRangeSplits(ConnectorSession session, RemoteTableName remoteTableName, JdbcColumnHandle column)
+    {
+        String quotedColumn = quoted(column.getColumnName());
+        String sql = format("SELECT min(%s), max(%s) FROM %s", quotedColumn, quotedColumn, quoted(remoteTableName));
+        try (Connection connection = connectionFactory.openConnection(session);
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(queryModifier.apply(session, sql))) {
+            if (resultSet.next()) {
+                long min = resultSet.getLong(1);
+                boolean empty = resultSet.wasNull();
+                long max = resultSet.getLong(2);
+                if (!empty) {
+                    return createRangeSplits(quotedColumn, min, max, getRangeSplitCount(session));
+                }
+            }
+            return ImmutableList.of(new JdbcSplit(Optional.empty()));
+        }
+        catch (SQLException e) {
+            throw new TrinoException(JDBC_ERROR, e);
+        }
+    }
+
     @Override
     public ConnectorSplitSource getSplits(ConnectorSession session, JdbcProcedureHandle procedureHandle)
     {
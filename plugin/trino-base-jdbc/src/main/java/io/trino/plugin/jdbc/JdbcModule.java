@@ -75,12 +75,14 @@ public class JdbcModule
         configBinder(binder).bindConfig(JdbcWriteConfig.class);
         configBinder(binder).bindConfig(BaseJdbcConfig.class);
         configBinder(binder).bindConfig(JdbcDynamicFilteringConfig.class);
+        configBinder(binder).bindConfig(JdbcSplitConfig.class);
 
         configBinder(binder).bindConfig(TypeHandlingJdbcConfig.class);
         bindSessionPropertiesProvider(binder, TypeHandlingJdbcSessionProperties.class);
         bindSessionPropertiesProvider(binder, JdbcMetadataSessionProperties.class);
         bindSessionPropertiesProvider(binder, JdbcWriteSessionProperties.class);
         bindSessionPropertiesProvider(binder, JdbcDynamicFilteringSessionProperties.class);
+        bindSessionPropertiesProvider(binder, JdbcSplitSessionProperties.class);
 
         binder.bind(DynamicFilteringStats.class).in(Scopes.SINGLETON);
         Provider<CatalogName> catalogName = binder.getProvider(CatalogName.class);
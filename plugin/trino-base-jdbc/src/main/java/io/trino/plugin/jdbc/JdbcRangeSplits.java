@@ -0,0 +1,63 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.jdbc;
+
+import com.google.common.collect.ImmutableList;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Splits a table into ranges of an integer column. The first range also contains the {@code NULL} values,
+ * and the first and the last range are unbounded, so the splits cover all rows even when
+ * the bounds of the column have changed after they were probed.
+ */
+final class JdbcRangeSplits
+{
+    private JdbcRangeSplits() {}
+
+    public static List<JdbcSplit> createRangeSplits(String quotedColumn, long min, long max, int maxSplitCount)
+    {
+        checkArgument(min <= max, "min is greater than max: %s > %s", min, max);
+        checkArgument(maxSplitCount > 0, "maxSplitCount must be positive");
+
+        BigInteger lowerBound = BigInteger.valueOf(min);
+        BigInteger valueCount = BigInteger.valueOf(max).subtract(lowerBound).add(BigInteger.ONE);
+        int splitCount = valueCount.min(BigInteger.valueOf(maxSplitCount)).intValueExact();
+        if (splitCount == 1) {
+            return ImmutableList.of(new JdbcSplit(Optional.empty()));
+        }
+
+        ImmutableList.Builder<JdbcSplit> splits = ImmutableList.builder();
+        long previousBoundary = 0;
+        for (int split = 0; split < splitCount; split++) {
+            if (split == splitCount - 1) {
+                splits.add(new JdbcSplit(Optional.of("%s >= %s".formatted(quotedColumn, previousBoundary))));
+                break;
+            }
+            long boundary = lowerBound.add(valueCount.multiply(BigInteger.valueOf(split + 1)).divide(BigInteger.valueOf(splitCount))).longValueExact();
+            if (split == 0) {
+                splits.add(new JdbcSplit(Optional.of("%s < %s OR %s IS NULL".formatted(quotedColumn, boundary, quotedColumn))));
+            }
+            else {
+                splits.add(new JdbcSplit(Optional.of("%s >= %s AND %s < %s".formatted(quotedColumn, previousBoundary, quotedColumn, boundary))));
+            }
+            previousBoundary = boundary;
+        }
+        return splits.build();
+    }
+}
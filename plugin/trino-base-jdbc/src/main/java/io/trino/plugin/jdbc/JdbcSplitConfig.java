@@ -0,0 +1,53 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.jdbc;
+
+import io.airlift.configuration.Config;
+import io.airlift.configuration.ConfigDescription;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+public class JdbcSplitConfig
+{
+    private boolean rangeSplitEnabled;
+    private int rangeSplitCount = 16;
+
+    public boolean isRangeSplitEnabled()
+    {
+        return rangeSplitEnabled;
+    }
+
+    @Config("range-split.enabled")
+    @ConfigDescription("Read tables with an integer primary key in ranges of the key, so they are read in parallel")
+    public JdbcSplitConfig setRangeSplitEnabled(boolean rangeSplitEnabled)
+    {
+        this.rangeSplitEnabled = rangeSplitEnabled;
+        return this;
+    }
+
+    @Min(1)
+    @Max(1024)
+    public int getRangeSplitCount()
+    {
+        return rangeSplitCount;
+    }
+
+    @Config("range-split.count")
+    @ConfigDescription("Maximum number of ranges a table is read in")
+    public JdbcSplitConfig setRangeSplitCount(int rangeSplitCount)
+    {
+        this.rangeSplitCount = rangeSplitCount;
+        return this;
+    }
+}
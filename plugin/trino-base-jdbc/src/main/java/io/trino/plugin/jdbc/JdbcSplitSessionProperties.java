@@ -0,0 +1,86 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.jdbc;
+
+import com.google.common.collect.ImmutableList;
+import com.google.inject.Inject;
+import io.trino.plugin.base.session.SessionPropertiesProvider;
+import io.trino.spi.TrinoException;
+import io.trino.spi.connector.ConnectorSession;
+import io.trino.spi.session.PropertyMetadata;
+
+import java.util.List;
+import java.util.Optional;
+
+import static io.trino.spi.StandardErrorCode.INVALID_SESSION_PROPERTY;
+import static io.trino.spi.session.PropertyMetadata.booleanProperty;
+import static io.trino.spi.session.PropertyMetadata.integerProperty;
+import static io.trino.spi.session.PropertyMetadata.stringProperty;
+
+public class JdbcSplitSessionProperties
+        implements SessionPropertiesProvider
+{
+    public static final String RANGE_SPLIT_ENABLED = "range_split_enabled";
+    public static final String RANGE_SPLIT_COUNT = "range_split_count";
+    public static final String RANGE_SPLIT_COLUMN = "range_split_column";
+
+    private final List<PropertyMetadata<?>> sessionProperties;
+
+    @Inject
+    public JdbcSplitSessionProperties(JdbcSplitConfig config)
+    {
+        sessionProperties = ImmutableList.of(
+                booleanProperty(
+                        RANGE_SPLIT_ENABLED,
+                        "Read tables with an integer primary key in ranges of the key, so they are read in parallel",
+                        config.isRangeSplitEnabled(),
+                        false),
+                integerProperty(
+                        RANGE_SPLIT_COUNT,
+                        "Maximum number of ranges a table is read in",
+                        config.getRangeSplitCount(),
+                        value -> {
+                            if (value < 1 || value > 1024) {
+                                throw new TrinoException(INVALID_SESSION_PROPERTY, "%s must be between 1 and 1024: %s".formatted(RANGE_SPLIT_COUNT, value));
+                            }
+                        },
+                        false),
+                stringProperty(
+                        RANGE_SPLIT_COLUMN,
+                        "Integer column used to read tables in ranges, instead of the primary key",
+                        null,
+                        false));
+    }
+
+    @Override
+    public List<PropertyMetadata<?>> getSessionProperties()
+    {
+        return sessionProperties;
+    }
+
+    public static boolean isRangeSplitEnabled(ConnectorSession session)
+    {
+        return session.getProperty(RANGE_SPLIT_ENABLED, Boolean.class);
+    }
+
+    public static int getRangeSplitCount(ConnectorSession session)
+    {
+        return session.getProperty(RANGE_SPLIT_COUNT, Integer.class);
+    }
+
+    public static Optional<String> getRangeSplitColumn(ConnectorSession session)
+    {
+        return Optional.ofNullable(session.getProperty(RANGE_SPLIT_COLUMN, String.class));
+    }
+}
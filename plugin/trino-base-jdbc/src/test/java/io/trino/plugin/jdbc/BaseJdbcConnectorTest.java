@@ -17,6 +17,7 @@ import com.google.common.collect.ImmutableList;
 import io.airlift.log.Logger;
 import io.airlift.units.Duration;
 import io.trino.Session;
+import io.trino.operator.OperatorStats;
 import io.trino.spi.QueryId;
 import io.trino.spi.connector.JoinCondition;
 import io.trino.spi.connector.SortOrder;
@@ -62,6 +63,7 @@ import java.util.stream.Stream;
 import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.base.Verify.verify;
 import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.collect.MoreCollectors.onlyElement;
 import static com.google.common.collect.MoreCollectors.toOptional;
 import static io.airlift.concurrent.Threads.daemonThreadsNamed;
 import static io.trino.SystemSessionProperties.DISTINCT_AGGREGATIONS_STRATEGY;
@@ -70,6 +72,9 @@ import static io.trino.plugin.jdbc.JdbcDynamicFilteringSessionProperties.DYNAMIC
 import static io.trino.plugin.jdbc.JdbcMetadataSessionProperties.COMPLEX_JOIN_PUSHDOWN_ENABLED;
 import static io.trino.plugin.jdbc.JdbcMetadataSessionProperties.DOMAIN_COMPACTION_THRESHOLD;
 import static io.trino.plugin.jdbc.JdbcMetadataSessionProperties.JOIN_PUSHDOWN_ENABLED;
+import static io.trino.plugin.jdbc.JdbcSplitSessionProperties.RANGE_SPLIT_COLUMN;
+import static io.trino.plugin.jdbc.JdbcSplitSessionProperties.RANGE_SPLIT_COUNT;
+import static io.trino.plugin.jdbc.JdbcSplitSessionProperties.RANGE_SPLIT_ENABLED;
 import static io.trino.plugin.jdbc.JoinOperator.FULL_JOIN;
 import static io.trino.plugin.jdbc.JoinOperator.JOIN;
 import static io.trino.plugin.jdbc.JoinOperator.LEFT_JOIN;
@@ -2569,4 +2574,33 @@ public abstract class BaseJdbcConnectorTest
                 .getQueryStats()
                 .getPhysicalInputPositions();
     }
+
+    protected Session rangeSplits(int splitCount, Optional<String> splitColumn)
+    {
+        String catalogName = getSession().getCatalog().orElseThrow();
+        Session.SessionBuilder session = Session.builder(getSession())
+                .setCatalogSessionProperty(catalogName, RANGE_SPLIT_ENABLED, "true")
+                .setCatalogSessionProperty(catalogName, RANGE_SPLIT_COUNT, Integer.toString(splitCount));
+        splitColumn.ifPresent(column -> session.setCatalogSessionProperty(catalogName, RANGE_SPLIT_COLUMN, column));
+        return session.build();
+    }
+
+    /**
+     * Runs the query and verifies the number of splits its table scan was read in. Same restrictions as for
+     * {@link #getPhysicalInputPositions(QueryId)} apply.
+     */
+    protected MaterializedResult assertSplitCount(Session session, @Language("SQL") String sql, int expectedSplitCount)
+    {
+        MaterializedResultWithPlan resultWithPlan = getDistributedQueryRunner().executeWithPlan(session, sql);
+        OperatorStats tableScanStats = getDistributedQueryRunner().getCoordinator()
+                .getQueryManager()
+                .getFullQueryInfo(resultWithPlan.queryId())
+                .getQueryStats()
+                .getOperatorSummaries()
+                .stream()
+                .filter(summary -> summary.getOperatorType().startsWith("TableScan") || summary.getOperatorType().startsWith("Scan"))
+                .collect(onlyElement());
+        assertThat(tableScanStats.getTotalDrivers()).isEqualTo(expectedSplitCount);
+        return resultWithPlan.result();
+    }
 }
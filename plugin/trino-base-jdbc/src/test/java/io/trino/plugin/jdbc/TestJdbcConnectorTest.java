@@ -16,6 +16,7 @@ package io.trino.plugin.jdbc;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import io.trino.Session;
+import io.trino.testing.MaterializedResult;
 import io.trino.testing.QueryRunner;
 import io.trino.testing.TestingConnectorBehavior;
 import io.trino.testing.sql.JdbcSqlExecutor;
@@ -25,11 +26,15 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.Properties;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
+import static com.google.common.collect.ImmutableList.toImmutableList;
 import static io.trino.plugin.jdbc.H2QueryRunner.createH2QueryRunner;
 import static io.trino.plugin.jdbc.TypeHandlingJdbcSessionProperties.UNSUPPORTED_TYPE_HANDLING;
 import static io.trino.plugin.jdbc.UnsupportedTypeHandling.CONVERT_TO_VARCHAR;
@@ -259,6 +264,36 @@ public class TestJdbcConnectorTest
                 .matches("VALUES CAST('AFRICA' AS VARCHAR(25))");
     }
 
+    @Test
+    public void testRangeSplits()
+    {
+        List<String> rows = Stream.concat(
+                        IntStream.range(-50, 50).mapToObj(id -> "%s, 'name %s'".formatted(id, id)),
+                        Stream.of("NULL, 'no id'", "NULL, 'no id either'"))
+                .collect(toImmutableList());
+        try (TestTable table = new TestTable(onRemoteDatabase(), "tpch.test_range_splits", "(id INTEGER, name VARCHAR(20))", rows)) {
+            String sql = "SELECT id, name FROM " + table.getName();
+            MaterializedResult singleSplit = computeActual(sql);
+            assertThat(singleSplit.getRowCount()).isEqualTo(102);
+
+            // the first split reads the NULL keys as well
+            assertThat(assertSplitCount(rangeSplits(4, Optional.of("id")), sql, 4).getMaterializedRows())
+                    .containsExactlyInAnyOrderElementsOf(singleSplit.getMaterializedRows());
+            // the split count is capped by the number of key values
+            assertThat(assertSplitCount(rangeSplits(1024, Optional.of("id")), sql, 100).getMaterializedRows())
+                    .containsExactlyInAnyOrderElementsOf(singleSplit.getMaterializedRows());
+            // the range of every split is combined with the predicate pushed down
+            assertThat(assertSplitCount(rangeSplits(4, Optional.of("id")), sql + " WHERE id > -10", 4).getMaterializedRows())
+                    .containsExactlyInAnyOrderElementsOf(computeActual(sql + " WHERE id > -10").getMaterializedRows());
+
+            // the table is read in a single split when there is no integer column to split on
+            assertSplitCount(rangeSplits(4, Optional.of("missing_column")), sql, 1);
+            assertSplitCount(rangeSplits(4, Optional.of("name")), sql, 1);
+            // H2 tables have no primary key to default to
+            assertSplitCount(rangeSplits(4, Optional.empty()), sql, 1);
+        }
+    }
+
     @Override
     protected String errorMessageForInsertIntoNotNullColumn(String columnName)
     {
@@ -0,0 +1,61 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.jdbc;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static io.trino.plugin.jdbc.JdbcRangeSplits.createRangeSplits;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestJdbcRangeSplits
+{
+    @Test
+    public void testRangeSplits()
+    {
+        assertThat(predicates(createRangeSplits("\"id\"", 1, 10, 4))).containsExactly(
+                Optional.of("\"id\" < 3 OR \"id\" IS NULL"),
+                Optional.of("\"id\" >= 3 AND \"id\" < 6"),
+                Optional.of("\"id\" >= 6 AND \"id\" < 8"),
+                Optional.of("\"id\" >= 8"));
+
+        assertThat(predicates(createRangeSplits("\"id\"", -5, -4, 4))).containsExactly(
+                Optional.of("\"id\" < -4 OR \"id\" IS NULL"),
+                Optional.of("\"id\" >= -4"));
+    }
+
+    @Test
+    public void testSingleSplit()
+    {
+        assertThat(predicates(createRangeSplits("\"id\"", 7, 7, 4))).containsExactly(Optional.empty());
+        assertThat(predicates(createRangeSplits("\"id\"", 1, 100, 1))).containsExactly(Optional.empty());
+    }
+
+    @Test
+    public void testFullRange()
+    {
+        assertThat(predicates(createRangeSplits("\"id\"", Long.MIN_VALUE, Long.MAX_VALUE, 2))).containsExactly(
+                Optional.of("\"id\" < 0 OR \"id\" IS NULL"),
+                Optional.of("\"id\" >= 0"));
+    }
+
+    private static List<Optional<String>> predicates(List<JdbcSplit> splits)
+    {
+        return splits.stream()
+                .map(JdbcSplit::getAdditionalPredicate)
+                .toList();
+    }
+}
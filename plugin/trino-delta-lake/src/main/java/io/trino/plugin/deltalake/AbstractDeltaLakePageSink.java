@@ -507,6 +507,7 @@ public abstract class AbstractDeltaLakePageSink
                     compressionCodec,
                     trinoVersion,
                     Optional.empty(),
+                    Optional.empty(),
                     Optional.empty());
         }
         catch (IOException e) {
@@ -95,6 +95,7 @@ public class DeltaLakeConfig
     private boolean projectionPushdownEnabled = true;
     private boolean queryPartitionFilterRequired;
     private boolean deletionVectorsEnabled;
+    private DataSize deletionVectorCacheSize = DataSize.of(64, MEGABYTE);
     private boolean deltaLogFileSystemCacheDisabled;
     private int metadataParallelism = 8;
     private int checkpointProcessingParallelism = 4;
@@ -575,6 +576,20 @@ public class DeltaLakeConfig
         return this;
     }
 
+    @NotNull
+    public DataSize getDeletionVectorCacheSize()
+    {
+        return deletionVectorCacheSize;
+    }
+
+    @Config("delta.deletion-vectors.cache-size")
+    @ConfigDescription("Maximum retained size of decoded deletion vectors cached on each worker")
+    public DeltaLakeConfig setDeletionVectorCacheSize(DataSize deletionVectorCacheSize)
+    {
+        this.deletionVectorCacheSize = deletionVectorCacheSize;
+        return this;
+    }
+
     public boolean isDeltaLogFileSystemCacheDisabled()
     {
         return deltaLogFileSystemCacheDisabled;
@@ -31,6 +31,8 @@ import io.trino.parquet.metadata.FileMetadata;
 import io.trino.parquet.metadata.ParquetMetadata;
 import io.trino.parquet.reader.MetadataReader;
 import io.trino.plugin.base.metrics.FileFormatDataSourceStats;
+import io.trino.plugin.deltalake.delete.DeletionVectorCache;
+import io.trino.plugin.deltalake.delete.DeletionVectorPageSource;
 import io.trino.plugin.deltalake.delete.PositionDeleteFilter;
 import io.trino.plugin.deltalake.delete.RoaringBitmapArray;
 import io.trino.plugin.deltalake.transactionlog.DeletionVectorEntry;
@@ -57,7 +59,6 @@ import io.trino.spi.connector.ConnectorTransactionHandle;
 import io.trino.spi.connector.DynamicFilter;
 import io.trino.spi.connector.EmptyPageSource;
 import io.trino.spi.connector.FixedPageSource;
-import io.trino.spi.connector.SourcePage;
 import io.trino.spi.predicate.Domain;
 import io.trino.spi.predicate.TupleDomain;
 import io.trino.spi.predicate.Utils;
@@ -102,7 +103,6 @@ import static io.trino.plugin.deltalake.DeltaLakeSessionProperties.getParquetSma
 import static io.trino.plugin.deltalake.DeltaLakeSessionProperties.isParquetIgnoreStatistics;
 import static io.trino.plugin.deltalake.DeltaLakeSessionProperties.isParquetUseColumnIndex;
 import static io.trino.plugin.deltalake.DeltaLakeSessionProperties.isParquetVectorizedDecodingEnabled;
-import static io.trino.plugin.deltalake.delete.DeletionVectors.readDeletionVectors;
 import static io.trino.plugin.deltalake.transactionlog.DeltaLakeSchemaSupport.extractSchema;
 import static io.trino.plugin.deltalake.transactionlog.DeltaLakeSchemaSupport.getColumnMappingMode;
 import static io.trino.plugin.deltalake.transactionlog.TransactionLogParser.deserializePartitionValue;
@@ -128,6 +128,7 @@ public class DeltaLakePageSourceProvider
     private final int domainCompactionThreshold;
     private final DateTimeZone parquetDateTimeZone;
     private final TypeManager typeManager;
+    private final DeletionVectorCache deletionVectorCache;
 
     @Inject
     public DeltaLakePageSourceProvider(
@@ -135,7 +136,8 @@ public class DeltaLakePageSourceProvider
             FileFormatDataSourceStats fileFormatDataSourceStats,
             ParquetReaderConfig parquetReaderConfig,
             DeltaLakeConfig deltaLakeConfig,
-            TypeManager typeManager)
+            TypeManager typeManager,
+            DeletionVectorCache deletionVectorCache)
     {
         this.fileSystemFactory = requireNonNull(fileSystemFactory, "fileSystemFactory is null");
         this.fileFormatDataSourceStats = requireNonNull(fileFormatDataSourceStats, "fileFormatDataSourceStats is null");
@@ -143,6 +145,7 @@ public class DeltaLakePageSourceProvider
         this.domainCompactionThreshold = deltaLakeConfig.getDomainCompactionThreshold();
         this.parquetDateTimeZone = deltaLakeConfig.getParquetDateTimeZone();
         this.typeManager = requireNonNull(typeManager, "typeManager is null");
+        this.deletionVectorCache = requireNonNull(deletionVectorCache, "deletionVectorCache is null");
     }
 
     @Override
@@ -277,9 +280,8 @@ public class DeltaLakePageSourceProvider
                 return deleteFilter.createPredicate(requiredColumns);
             });
 
-            // trim output columns list so we do not expose PARQUET_ROW_INDEX_COLUMN added for internal purposes
             int[] retainedColumns = IntStream.range(0, regularColumns.size()).toArray();
-            delegate = TransformConnectorPageSource.create(delegate, page -> SourcePage.create(pageFilterSupplier.get().apply(page).getColumns(retainedColumns)));
+            delegate = new DeletionVectorPageSource(delegate, pageFilterSupplier, retainedColumns);
         }
 
         return projectColumns(
@@ -346,13 +348,13 @@ public class DeltaLakePageSourceProvider
         });
     }
 
-    private static PositionDeleteFilter readDeletes(
+    private PositionDeleteFilter readDeletes(
             TrinoFileSystem fileSystem,
             Location tableLocation,
             DeletionVectorEntry deletionVector)
     {
         try {
-            RoaringBitmapArray deletedRows = readDeletionVectors(fileSystem, tableLocation, deletionVector);
+            RoaringBitmapArray deletedRows = deletionVectorCache.get(fileSystem, tableLocation, deletionVector);
             return new PositionDeleteFilter(deletedRows);
         }
         catch (IOException e) {
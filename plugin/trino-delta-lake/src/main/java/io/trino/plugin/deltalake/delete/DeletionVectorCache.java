@@ -0,0 +1,100 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.deltalake.delete;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.Weigher;
+import com.google.common.primitives.Ints;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.google.inject.Inject;
+import io.trino.cache.CacheStatsMBean;
+import io.trino.cache.EvictableCacheBuilder;
+import io.trino.filesystem.Location;
+import io.trino.filesystem.TrinoFileSystem;
+import io.trino.plugin.deltalake.DeltaLakeConfig;
+import io.trino.plugin.deltalake.transactionlog.DeletionVectorEntry;
+import org.weakref.jmx.Managed;
+import org.weakref.jmx.Nested;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+
+import static com.google.common.base.Throwables.throwIfInstanceOf;
+import static com.google.common.base.Throwables.throwIfUnchecked;
+import static io.airlift.slice.SizeOf.estimatedSizeOf;
+import static io.airlift.slice.SizeOf.instanceSize;
+import static io.trino.plugin.deltalake.delete.DeletionVectors.readDeletionVectors;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Worker level cache of decoded deletion vectors. A data file is usually read by many splits,
+ * which would otherwise each read and inflate the same deletion vector. Deletion vector files
+ * are never modified, so the entries do not expire.
+ * <p>
+ * The cached {@link RoaringBitmapArray} instances are shared, and must not be modified.
+ */
+public class DeletionVectorCache
+{
+    private final Cache<DeletionVectorKey, RoaringBitmapArray> cache;
+
+    @Inject
+    public DeletionVectorCache(DeltaLakeConfig config)
+    {
+        cache = EvictableCacheBuilder.newBuilder()
+                .weigher((Weigher<DeletionVectorKey, RoaringBitmapArray>) (key, value) -> Ints.saturatedCast(key.getRetainedSizeInBytes() + value.getRetainedSizeInBytes()))
+                .maximumWeight(config.getDeletionVectorCacheSize().toBytes())
+                .shareNothingWhenDisabled()
+                .recordStats()
+                .build();
+    }
+
+    @Managed
+    @Nested
+    public CacheStatsMBean getDeletionVectorCacheStats()
+    {
+        return new CacheStatsMBean(cache);
+    }
+
+    public RoaringBitmapArray get(TrinoFileSystem fileSystem, Location tableLocation, DeletionVectorEntry deletionVector)
+            throws IOException
+    {
+        DeletionVectorKey key = new DeletionVectorKey(tableLocation.toString(), deletionVector.uniqueId());
+        try {
+            return cache.get(key, () -> readDeletionVectors(fileSystem, tableLocation, deletionVector));
+        }
+        catch (ExecutionException | UncheckedExecutionException e) {
+            throwIfInstanceOf(e.getCause(), IOException.class);
+            throwIfUnchecked(e.getCause());
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    private record DeletionVectorKey(String tableLocation, String uniqueId)
+    {
+        private static final int INSTANCE_SIZE = instanceSize(DeletionVectorKey.class);
+
+        DeletionVectorKey
+        {
+            requireNonNull(tableLocation, "tableLocation is null");
+            requireNonNull(uniqueId, "uniqueId is null");
+        }
+
+        long getRetainedSizeInBytes()
+        {
+            return INSTANCE_SIZE +
+                    estimatedSizeOf(tableLocation) +
+                    estimatedSizeOf(uniqueId);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.deltalake.delete;
+
+import com.google.common.collect.ImmutableMap;
+import io.airlift.units.Duration;
+import io.trino.plugin.base.metrics.DurationTiming;
+import io.trino.plugin.base.metrics.LongCount;
+import io.trino.spi.connector.ConnectorPageSource;
+import io.trino.spi.connector.SourcePage;
+import io.trino.spi.metrics.Metrics;
+
+import java.io.IOException;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static io.trino.plugin.base.util.Closables.closeAllSuppress;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Removes the rows deleted by a deletion vector from the pages of the delegate, and reports
+ * the number of removed rows and the time spent loading and applying the deletion vector.
+ */
+public final class DeletionVectorPageSource
+        implements ConnectorPageSource
+{
+    public static final String DELETION_VECTOR_ROWS_DELETED = "DeltaLakeDeletionVectorRowsDeleted";
+    public static final String DELETION_VECTOR_FILTER_TIME = "DeltaLakeDeletionVectorFilterTime";
+
+    private final ConnectorPageSource delegate;
+    private final Supplier<PageFilter> pageFilter;
+    private final int[] retainedColumns;
+
+    private long rowsDeleted;
+    private long filterTimeNanos;
+
+    public DeletionVectorPageSource(ConnectorPageSource delegate, Supplier<PageFilter> pageFilter, int[] retainedColumns)
+    {
+        this.delegate = requireNonNull(delegate, "delegate is null");
+        this.pageFilter = requireNonNull(pageFilter, "pageFilter is null");
+        this.retainedColumns = requireNonNull(retainedColumns, "retainedColumns is null").clone();
+    }
+
+    @Override
+    public long getCompletedBytes()
+    {
+        return delegate.getCompletedBytes();
+    }
+
+    @Override
+    public OptionalLong getCompletedPositions()
+    {
+        return delegate.getCompletedPositions();
+    }
+
+    @Override
+    public long getReadTimeNanos()
+    {
+        return delegate.getReadTimeNanos();
+    }
+
+    @Override
+    public boolean isFinished()
+    {
+        return delegate.isFinished();
+    }
+
+    @Override
+    public SourcePage getNextSourcePage()
+    {
+        try {
+            SourcePage page = delegate.getNextSourcePage();
+            if (page == null) {
+                return null;
+            }
+            long start = System.nanoTime();
+            int positionCount = page.getPositionCount();
+            page = pageFilter.get().apply(page);
+            rowsDeleted += positionCount - page.getPositionCount();
+            filterTimeNanos += System.nanoTime() - start;
+            // trim output columns list so we do not expose the row position column added for internal purposes
+            return SourcePage.create(page.getColumns(retainedColumns));
+        }
+        catch (Throwable e) {
+            closeAllSuppress(e, delegate);
+            throw e;
+        }
+    }
+
+    @Override
+    public long getMemoryUsage()
+    {
+        return delegate.getMemoryUsage();
+    }
+
+    @Override
+    public void close()
+            throws IOException
+    {
+        delegate.close();
+    }
+
+    @Override
+    public CompletableFuture<?> isBlocked()
+    {
+        return delegate.isBlocked();
+    }
+
+    @Override
+    public Metrics getMetrics()
+    {
+        return delegate.getMetrics().mergeWith(new Metrics(ImmutableMap.of(
+                DELETION_VECTOR_ROWS_DELETED, new LongCount(rowsDeleted),
+                DELETION_VECTOR_FILTER_TIME, new DurationTiming(new Duration(filterTimeNanos, NANOSECONDS)))));
+    }
+}
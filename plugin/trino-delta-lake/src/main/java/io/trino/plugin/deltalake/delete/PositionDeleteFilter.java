@@ -15,11 +15,13 @@ package io.trino.plugin.deltalake.delete;
 
 import io.trino.plugin.deltalake.DeltaLakeColumnHandle;
 import io.trino.spi.block.Block;
+import io.trino.spi.connector.SourcePage;
 
 import java.util.List;
 
 import static io.trino.plugin.deltalake.DeltaLakeColumnHandle.ROW_POSITION_COLUMN_NAME;
 import static io.trino.spi.type.BigintType.BIGINT;
+import static java.lang.Math.toIntExact;
 import static java.util.Objects.requireNonNull;
 
 public final class PositionDeleteFilter
@@ -37,9 +39,19 @@ public final class PositionDeleteFilter
 
         return page -> {
             int positionCount = page.getPositionCount();
+            if (positionCount == 0) {
+                return page;
+            }
+            Block block = page.getBlock(filePositionChannel);
+            long firstFilePosition = BIGINT.getLong(block, 0);
+            long lastFilePosition = BIGINT.getLong(block, positionCount - 1);
+            if (lastFilePosition - firstFilePosition + 1 == positionCount) {
+                // the page contains a contiguous range of file positions, so only the deleted rows within the range need to be found
+                return filterRange(page, firstFilePosition, positionCount);
+            }
+
             int[] retained = new int[positionCount];
             int retainedCount = 0;
-            Block block = page.getBlock(filePositionChannel);
             for (int position = 0; position < positionCount; position++) {
                 long filePosition = BIGINT.getLong(block, position);
                 if (!deletedRows.contains(filePosition)) {
@@ -55,6 +67,33 @@ public final class PositionDeleteFilter
         };
     }
 
+    private SourcePage filterRange(SourcePage page, long firstFilePosition, int positionCount)
+    {
+        long[] deletedFilePositions = deletedRows.valuesInRange(firstFilePosition, firstFilePosition + positionCount);
+        if (deletedFilePositions.length == 0) {
+            return page;
+        }
+        int[] retained = new int[positionCount - deletedFilePositions.length];
+        int retainedCount = 0;
+        int position = 0;
+        for (long deletedFilePosition : deletedFilePositions) {
+            int deletedPosition = toIntExact(deletedFilePosition - firstFilePosition);
+            while (position < deletedPosition) {
+                retained[retainedCount] = position;
+                retainedCount++;
+                position++;
+            }
+            position++;
+        }
+        while (position < positionCount) {
+            retained[retainedCount] = position;
+            retainedCount++;
+            position++;
+        }
+        page.selectPositions(retained, 0, retainedCount);
+        return page;
+    }
+
     private static int rowPositionChannel(List<DeltaLakeColumnHandle> columns)
     {
         for (int i = 0; i < columns.size(); i++) {
@@ -14,9 +14,12 @@
 package io.trino.plugin.deltalake.delete;
 
 import com.google.common.primitives.UnsignedInts;
+import org.roaringbitmap.PeekableIntIterator;
 import org.roaringbitmap.RoaringBitmap;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static io.airlift.slice.SizeOf.instanceSize;
+import static io.airlift.slice.SizeOf.sizeOf;
 import static java.lang.Math.toIntExact;
 
 /**
@@ -24,6 +27,7 @@ import static java.lang.Math.toIntExact;
  */
 public final class RoaringBitmapArray
 {
+    private static final int INSTANCE_SIZE = instanceSize(RoaringBitmapArray.class);
     // Must bitmask to avoid sign extension
     private static final long MAX_REPRESENTABLE_VALUE = (((long) Integer.MAX_VALUE - 1) << 32) | (((long) Integer.MIN_VALUE) & 0xFFFFFFFFL);
     private static final int INDIVIDUAL_BITMAP_KEY_SIZE = 4;
@@ -47,6 +51,66 @@ public final class RoaringBitmapArray
         return bitmaps[high].contains(low);
     }
 
+    /**
+     * Returns the values contained in the range in increasing order.
+     *
+     * @param rangeStart inclusive beginning of range
+     * @param rangeEnd exclusive ending of range
+     */
+    public long[] valuesInRange(long rangeStart, long rangeEnd)
+    {
+        checkArgument(rangeStart >= 0 && rangeStart <= rangeEnd, "Unsupported range: [%s, %s)", rangeStart, rangeEnd);
+        if (rangeStart == rangeEnd) {
+            return new long[0];
+        }
+        int firstHigh = highBytes(rangeStart);
+        int lastHigh = highBytes(rangeEnd - 1);
+        int lastBitmap = Math.min(lastHigh, bitmaps.length - 1);
+
+        // size the result once, as the range may span many bitmaps
+        long cardinality = 0;
+        for (int high = firstHigh; high <= lastBitmap; high++) {
+            cardinality += bitmaps[high].rangeCardinality(lowRangeStart(high, firstHigh, rangeStart), lowRangeEnd(high, lastHigh, rangeEnd));
+        }
+        long[] values = new long[toIntExact(cardinality)];
+
+        int count = 0;
+        for (int high = firstHigh; high <= lastBitmap && count < values.length; high++) {
+            long end = lowRangeEnd(high, lastHigh, rangeEnd);
+            PeekableIntIterator iterator = bitmaps[high].getIntIterator();
+            iterator.advanceIfNeeded((int) lowRangeStart(high, firstHigh, rangeStart));
+            while (iterator.hasNext()) {
+                long low = UnsignedInts.toLong(iterator.peekNext());
+                if (low >= end) {
+                    break;
+                }
+                values[count] = ((long) high << 32) | low;
+                count++;
+                iterator.next();
+            }
+        }
+        return values;
+    }
+
+    private static long lowRangeStart(int high, int firstHigh, long rangeStart)
+    {
+        return high == firstHigh ? UnsignedInts.toLong(lowBytes(rangeStart)) : 0L;
+    }
+
+    private static long lowRangeEnd(int high, int lastHigh, long rangeEnd)
+    {
+        return high == lastHigh ? UnsignedInts.toLong(lowBytes(rangeEnd - 1)) + 1L : 0xFFFFFFFFL + 1L;
+    }
+
+    public long getRetainedSizeInBytes()
+    {
+        long size = INSTANCE_SIZE + sizeOf(bitmaps);
+        for (RoaringBitmap bitmap : bitmaps) {
+            size += bitmap.getLongSizeInBytes();
+        }
+        return size;
+    }
+
     public boolean isEmpty()
     {
         for (RoaringBitmap bitmap : bitmaps) {
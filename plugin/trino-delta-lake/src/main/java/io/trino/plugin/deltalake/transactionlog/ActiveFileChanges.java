@@ -0,0 +1,80 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.deltalake.transactionlog;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Changes to the active files made by a sequence of transactions, which are applied on top of the
+ * active files of an earlier version of the table, e.g. a checkpoint or a cached state:
+ * <ul>
+ * <li>Any files which have been removed need to be excluded</li>
+ * <li>Any files with newer add actions need to be updated with the most recent metadata</li>
+ * </ul>
+ * Files are identified by their path and deletion vector.
+ */
+final class ActiveFileChanges
+{
+    private final Map<FileEntryKey, AddFileEntry> addedFiles = new LinkedHashMap<>();
+    private final Set<FileEntryKey> removedFiles = new HashSet<>();
+
+    /**
+     * Applies the entries of the next transaction.
+     */
+    public void addTransaction(Stream<DeltaLakeTransactionLogEntry> entries)
+    {
+        Map<FileEntryKey, AddFileEntry> addFilesInTransaction = new LinkedHashMap<>();
+        Set<FileEntryKey> removedFilesInTransaction = new HashSet<>();
+        entries.forEach(entry -> {
+            if (entry.getAdd() != null) {
+                AddFileEntry add = entry.getAdd();
+                addFilesInTransaction.put(new FileEntryKey(add.getPath(), add.getDeletionVector().map(DeletionVectorEntry::uniqueId)), add);
+            }
+            else if (entry.getRemove() != null) {
+                RemoveFileEntry remove = entry.getRemove();
+                removedFilesInTransaction.add(new FileEntryKey(remove.path(), remove.deletionVector().map(DeletionVectorEntry::uniqueId)));
+            }
+        });
+
+        // Process 'remove' entries first because deletion vectors register both 'add' and 'remove' entries and the 'add' entry should be kept
+        removedFiles.addAll(removedFilesInTransaction);
+        removedFilesInTransaction.forEach(addedFiles::remove);
+        addedFiles.putAll(addFilesInTransaction);
+    }
+
+    public boolean isEmpty()
+    {
+        return addedFiles.isEmpty() && removedFiles.isEmpty();
+    }
+
+    /**
+     * Returns the active files after the transactions, given the active files before them.
+     */
+    public Stream<AddFileEntry> applyTo(Stream<AddFileEntry> previousActiveFiles)
+    {
+        Stream<AddFileEntry> retainedFiles = previousActiveFiles
+                .filter(addEntry -> {
+                    FileEntryKey key = new FileEntryKey(addEntry.getPath(), addEntry.getDeletionVector().map(DeletionVectorEntry::uniqueId));
+                    return !removedFiles.contains(key) && !addedFiles.containsKey(key);
+                });
+        return Stream.concat(retainedFiles, addedFiles.values().stream());
+    }
+
+    private record FileEntryKey(String path, Optional<String> deletionVectorId) {}
+}
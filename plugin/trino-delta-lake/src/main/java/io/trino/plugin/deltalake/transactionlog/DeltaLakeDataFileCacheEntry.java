@@ -16,11 +16,7 @@ package io.trino.plugin.deltalake.transactionlog;
 import com.google.common.collect.ImmutableList;
 import com.google.errorprone.annotations.Immutable;
 
-import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Stream;
 
 import static com.google.common.collect.ImmutableList.toImmutableList;
 import static io.airlift.slice.SizeOf.instanceSize;
@@ -41,34 +37,17 @@ public final class DeltaLakeDataFileCacheEntry
         this.activeFiles = ImmutableList.copyOf(requireNonNull(activeFiles, "activeFiles is null"));
     }
 
-    public DeltaLakeDataFileCacheEntry withUpdatesApplied(List<DeltaLakeTransactionLogEntry> newEntries, long newVersion)
+    /**
+     * Returns the active files after applying the given commits, each represented by its entries, in version order.
+     */
+    public DeltaLakeDataFileCacheEntry withUpdatesApplied(List<List<DeltaLakeTransactionLogEntry>> newTransactions, long newVersion)
     {
-        Map<String, AddFileEntry> activeJsonEntries = new LinkedHashMap<>();
-        HashSet<String> removedFiles = new HashSet<>();
-
-        // The json entries containing the last few entries in the log need to be applied on top of the parquet snapshot:
-        // - Any files which have been removed need to be excluded
-        // - Any files with newer add actions need to be updated with the most recent metadata
-        newEntries.forEach(deltaLakeTransactionLogEntry -> {
-            AddFileEntry addEntry = deltaLakeTransactionLogEntry.getAdd();
-            if (addEntry != null) {
-                activeJsonEntries.put(addEntry.getPath(), addEntry);
-            }
-
-            RemoveFileEntry removeEntry = deltaLakeTransactionLogEntry.getRemove();
-            if (removeEntry != null) {
-                activeJsonEntries.remove(removeEntry.path());
-                removedFiles.add(removeEntry.path());
-            }
-        });
-
-        Stream<AddFileEntry> filteredExistingEntries = activeFiles.stream()
-                .filter(addEntry -> !removedFiles.contains(addEntry.getPath()) && !activeJsonEntries.containsKey(addEntry.getPath()));
-        List<AddFileEntry> updatedActiveFileList =
-                Stream.concat(filteredExistingEntries, activeJsonEntries.values().stream())
-                        .collect(toImmutableList());
-
-        return new DeltaLakeDataFileCacheEntry(newVersion, updatedActiveFileList);
+        ActiveFileChanges changes = new ActiveFileChanges();
+        newTransactions.forEach(transaction -> changes.addTransaction(transaction.stream()));
+        if (changes.isEmpty()) {
+            return new DeltaLakeDataFileCacheEntry(newVersion, activeFiles);
+        }
+        return new DeltaLakeDataFileCacheEntry(newVersion, changes.applyTo(activeFiles.stream()).collect(toImmutableList()));
     }
 
     public long getVersion()
@@ -0,0 +1,215 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.deltalake.transactionlog;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.ImmutableList;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static com.google.common.base.Preconditions.checkState;
+import static com.google.common.base.Throwables.throwIfUnchecked;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.collect.Streams.stream;
+import static java.util.Collections.emptyIterator;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Concatenates streams, like the parts of a multi-part checkpoint or the sidecar files of a V2 checkpoint,
+ * which are read ahead concurrently on the executor. Each source is read into its own bounded buffer,
+ * so the elements are returned in the order of the sources without materializing any of the sources.
+ */
+final class ReadAheadStreams
+{
+    private static final int BATCH_SIZE = 1024;
+    private static final int BUFFERED_BATCHES = 4;
+
+    private ReadAheadStreams() {}
+
+    /**
+     * The executor must run the sources in submission order, which is the case for a {@link io.airlift.concurrent.BoundedExecutor},
+     * as a source which is read ahead waits for the consumer when its buffer is full.
+     * The returned stream must be closed to stop reading the sources when it is not fully consumed.
+     */
+    public static <T> Stream<T> concat(List<Supplier<Stream<T>>> sources, Executor executor)
+    {
+        if (sources.size() <= 1) {
+            return sources.stream().flatMap(Supplier::get);
+        }
+        ReadAheadIterator<T> iterator = new ReadAheadIterator<>(sources, executor);
+        return stream(iterator).onClose(iterator::close);
+    }
+
+    private static final class ReadAheadIterator<T>
+            extends AbstractIterator<T>
+    {
+        private final List<Supplier<Stream<T>>> sources;
+        private final Executor executor;
+
+        private List<SourceBuffer> buffers;
+        private int currentSource;
+        private Iterator<T> currentBatch = emptyIterator();
+        private volatile Thread consumerThread;
+        private volatile boolean closed;
+
+        public ReadAheadIterator(List<Supplier<Stream<T>>> sources, Executor executor)
+        {
+            this.sources = ImmutableList.copyOf(requireNonNull(sources, "sources is null"));
+            this.executor = requireNonNull(executor, "executor is null");
+        }
+
+        @Override
+        protected T computeNext()
+        {
+            checkState(!closed, "iterator is closed");
+            if (buffers == null) {
+                // start reading lazily, so that a stream which is never consumed does not read the sources
+                consumerThread = Thread.currentThread();
+                buffers = sources.stream()
+                        .map(SourceBuffer::new)
+                        .collect(toImmutableList());
+                for (SourceBuffer buffer : buffers) {
+                    executor.execute(buffer::read);
+                }
+            }
+            while (!currentBatch.hasNext()) {
+                if (currentSource == buffers.size()) {
+                    return endOfData();
+                }
+                List<T> batch;
+                try {
+                    batch = buffers.get(currentSource).take();
+                }
+                catch (RuntimeException | Error e) {
+                    close();
+                    throw e;
+                }
+                if (batch == null) {
+                    currentSource++;
+                    continue;
+                }
+                currentBatch = batch.iterator();
+            }
+            return currentBatch.next();
+        }
+
+        public void close()
+        {
+            closed = true;
+            if (buffers != null) {
+                // the sources stop reading once they observe the iterator is closed
+                buffers.forEach(SourceBuffer::clear);
+            }
+        }
+
+        private final class SourceBuffer
+        {
+            private final Supplier<Stream<T>> source;
+            private final BlockingQueue<List<T>> batches = new LinkedBlockingQueue<>();
+            private final Semaphore freeBatches = new Semaphore(BUFFERED_BATCHES);
+            private volatile Throwable failure;
+
+            public SourceBuffer(Supplier<Stream<T>> source)
+            {
+                this.source = requireNonNull(source, "source is null");
+            }
+
+            public void read()
+            {
+                // a source read by the consumer thread, e.g. when using a direct executor, must not wait for the consumer
+                boolean readAhead = Thread.currentThread() != consumerThread;
+                try {
+                    if (closed) {
+                        return;
+                    }
+                    try (Stream<T> elements = source.get()) {
+                        Iterator<T> iterator = elements.iterator();
+                        List<T> batch = new ArrayList<>(BATCH_SIZE);
+                        while (!closed && iterator.hasNext()) {
+                            batch.add(iterator.next());
+                            if (batch.size() == BATCH_SIZE) {
+                                put(batch, readAhead);
+                                batch = new ArrayList<>(BATCH_SIZE);
+                            }
+                        }
+                        if (!batch.isEmpty()) {
+                            put(batch, readAhead);
+                        }
+                    }
+                }
+                catch (Throwable t) {
+                    if (t instanceof InterruptedException) {
+                        Thread.currentThread().interrupt();
+                    }
+                    failure = t;
+                }
+                finally {
+                    // an empty batch marks the end of the source
+                    batches.add(ImmutableList.of());
+                }
+            }
+
+            /**
+             * @return the next batch of elements, or {@code null} when the source is exhausted
+             */
+            public List<T> take()
+            {
+                List<T> batch;
+                try {
+                    batch = batches.take();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                }
+                if (!batch.isEmpty()) {
+                    freeBatches.release();
+                    return batch;
+                }
+                if (failure != null) {
+                    throwIfUnchecked(failure);
+                    throw new RuntimeException(failure);
+                }
+                return null;
+            }
+
+            public void clear()
+            {
+                batches.clear();
+            }
+
+            private void put(List<T> batch, boolean waitForConsumer)
+                    throws InterruptedException
+            {
+                if (waitForConsumer) {
+                    while (!freeBatches.tryAcquire(100, MILLISECONDS)) {
+                        if (closed) {
+                            return;
+                        }
+                    }
+                }
+                batches.add(batch);
+            }
+        }
+    }
+}
@@ -39,16 +39,15 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.base.Verify.verify;
 import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.google.common.collect.Streams.stream;
-import static io.airlift.concurrent.MoreFutures.getFutureValue;
 import static io.airlift.slice.SizeOf.estimatedSizeOf;
 import static io.airlift.slice.SizeOf.instanceSize;
 import static io.airlift.slice.SizeOf.sizeOf;
@@ -62,7 +61,6 @@ import static io.trino.plugin.deltalake.transactionlog.checkpoint.CheckpointEntr
 import static io.trino.plugin.deltalake.transactionlog.checkpoint.TransactionLogTail.getEntriesFromJson;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
-import static java.util.concurrent.CompletableFuture.supplyAsync;
 
 /**
  * The current state of a Delta table.  It's defined by its latest checkpoint and the subsequent transactions
@@ -249,9 +247,9 @@ public class TableSnapshot
             checkState(metadataAndProtocol.isPresent(), "metadata and protocol information is needed to process the add log entries");
         }
 
-        return getCheckpointPartPaths(checkpoint).stream()
+        List<Supplier<Stream<DeltaLakeTransactionLogEntry>>> checkpointParts = getCheckpointPartPaths(checkpoint).stream()
                 .map(fileSystem::newInputFile)
-                .flatMap(checkpointFile -> getCheckpointTransactionLogEntries(
+                .<Supplier<Stream<DeltaLakeTransactionLogEntry>>>map(checkpointFile -> () -> getCheckpointTransactionLogEntries(
                         session,
                         fileSystem,
                         entryTypes,
@@ -264,7 +262,14 @@ public class TableSnapshot
                         checkpointFile,
                         partitionConstraint,
                         addStatsMinMaxColumnFilter,
-                        executor));
+                        executor))
+                .collect(toImmutableList());
+        if (Sets.intersection(entryTypes, Set.of(ADD, REMOVE)).isEmpty()) {
+            // Other entries are usually found at the beginning of the checkpoint, so the parts are not read ahead
+            return checkpointParts.stream().flatMap(Supplier::get);
+        }
+        // The parts of a multi-part checkpoint are read ahead in parallel using the bounded executor
+        return ReadAheadStreams.concat(checkpointParts, executor);
     }
 
     public Optional<Long> getLastCheckpointVersion()
@@ -350,38 +355,37 @@ public class TableSnapshot
     {
         // Sidecar files contain only ADD and REMOVE entry types. https://github.com/delta-io/delta/blob/master/PROTOCOL.md#v2-spec
         Set<CheckpointEntryIterator.EntryType> dataEntryTypes = Sets.intersection(entryTypes, Set.of(ADD, REMOVE));
-        List<CompletableFuture<Stream<DeltaLakeTransactionLogEntry>>> logEntryStreamFutures =
-                getV2CheckpointEntries(session, entryTypes, metadataEntry, protocolEntry, checkpointSchemaManager, typeManager, stats, checkpoint, checkpointFile, partitionConstraint, addStatsMinMaxColumnFilter, fileSystem, fileSize)
-                        .map(v2checkpointEntry -> {
-                            if (v2checkpointEntry.getSidecar() == null || dataEntryTypes.isEmpty()) {
-                                return CompletableFuture.completedFuture(Stream.of(v2checkpointEntry));
-                            }
-                            // Sidecar files are retrieved in parallel using a bounded executor
-                            return supplyAsync(() -> {
-                                Location sidecar = checkpointFile.location().sibling("_sidecars").appendPath(v2checkpointEntry.getSidecar().path());
-                                CheckpointEntryIterator iterator = new CheckpointEntryIterator(
-                                        fileSystem.newInputFile(sidecar),
-                                        session,
-                                        v2checkpointEntry.getSidecar().sizeInBytes(),
-                                        checkpointSchemaManager,
-                                        typeManager,
-                                        dataEntryTypes,
-                                        metadataEntry,
-                                        protocolEntry,
-                                        stats,
-                                        parquetReaderOptions,
-                                        checkpointRowStatisticsWritingEnabled,
-                                        domainCompactionThreshold,
-                                        partitionConstraint,
-                                        addStatsMinMaxColumnFilter);
-                                return stream(iterator).onClose(iterator::close);
-                            }, executor);
-                        })
-                        .collect(toImmutableList());
-        // Return the stream to retrieve the values of the futures lazily and allow streamlined split generation
-        return logEntryStreamFutures.stream()
-                .mapMulti((logEntryStream, builder)
-                        -> getFutureValue(logEntryStream, TrinoException.class).forEach(builder));
+        ImmutableList.Builder<DeltaLakeTransactionLogEntry> checkpointEntries = ImmutableList.builder();
+        ImmutableList.Builder<Supplier<Stream<DeltaLakeTransactionLogEntry>>> sidecarEntries = ImmutableList.builder();
+        try (Stream<DeltaLakeTransactionLogEntry> v2checkpointEntries = getV2CheckpointEntries(session, entryTypes, metadataEntry, protocolEntry, checkpointSchemaManager, typeManager, stats, checkpoint, checkpointFile, partitionConstraint, addStatsMinMaxColumnFilter, fileSystem, fileSize)) {
+            v2checkpointEntries.forEach(v2checkpointEntry -> {
+                if (v2checkpointEntry.getSidecar() == null || dataEntryTypes.isEmpty()) {
+                    checkpointEntries.add(v2checkpointEntry);
+                    return;
+                }
+                sidecarEntries.add(() -> {
+                    Location sidecar = checkpointFile.location().sibling("_sidecars").appendPath(v2checkpointEntry.getSidecar().path());
+                    CheckpointEntryIterator iterator = new CheckpointEntryIterator(
+                            fileSystem.newInputFile(sidecar),
+                            session,
+                            v2checkpointEntry.getSidecar().sizeInBytes(),
+                            checkpointSchemaManager,
+                            typeManager,
+                            dataEntryTypes,
+                            metadataEntry,
+                            protocolEntry,
+                            stats,
+                            parquetReaderOptions,
+                            checkpointRowStatisticsWritingEnabled,
+                            domainCompactionThreshold,
+                            partitionConstraint,
+                            addStatsMinMaxColumnFilter);
+                    return stream(iterator).onClose(iterator::close);
+                });
+            });
+        }
+        // Sidecar files are read ahead in parallel using the bounded executor, and their entries are streamed to allow streamlined split generation
+        return Stream.concat(checkpointEntries.build().stream(), ReadAheadStreams.concat(sidecarEntries.build(), executor));
     }
 
     private Stream<DeltaLakeTransactionLogEntry> getV2CheckpointEntries(
@@ -65,9 +65,7 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.time.Instant;
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -409,6 +407,9 @@ public class TransactionLogAccess
     {
         try {
             if (isCheckpointFilteringEnabled(session)) {
+                // The active files cache holds all files of the table, so it is not used when only the files relevant
+                // to the query are read from the checkpoint. The commits after the checkpoint are applied from the
+                // snapshot's log tail, which is already in memory, so there is no older state to advance here.
                 return loadActiveFiles(session, tableSnapshot, metadataEntry, protocolEntry, partitionConstraint, addStatsMinMaxColumnFilter);
             }
 
@@ -426,14 +427,13 @@ public class TransactionLogAccess
                         .orElse(null);
                 if (oldCached != null) {
                     try {
-                        List<DeltaLakeTransactionLogEntry> newEntries = getJsonEntries(
+                        List<List<DeltaLakeTransactionLogEntry>> newTransactions = getNewTransactions(
                                 session,
                                 transactionLogReader,
                                 oldCached.getVersion(),
-                                tableSnapshot.getVersion(),
                                 tableSnapshot,
                                 fileSystemFactory.create(session));
-                        return oldCached.withUpdatesApplied(newEntries, tableSnapshot.getVersion());
+                        return oldCached.withUpdatesApplied(newTransactions, tableSnapshot.getVersion());
                     }
                     catch (MissingTransactionLogException e) {
                         // The cached state cannot be used to calculate current state, as some
@@ -464,21 +464,24 @@ public class TransactionLogAccess
     {
         List<Transaction> transactions = tableSnapshot.getTransactions();
         TrinoFileSystem fileSystem = fileSystemFactory.create(session);
-        try (Stream<DeltaLakeTransactionLogEntry> checkpointEntries = tableSnapshot.getCheckpointTransactionLogEntries(
-                session,
-                ImmutableSet.of(ADD),
-                checkpointSchemaManager,
-                typeManager,
-                fileSystem,
-                fileFormatDataSourceStats,
-                Optional.of(new MetadataAndProtocolEntry(metadataEntry, protocolEntry)),
-                partitionConstraint,
-                Optional.of(addStatsMinMaxColumnFilter),
-                new BoundedExecutor(executorService, checkpointProcessingParallelism))) {
+        try {
+            Stream<DeltaLakeTransactionLogEntry> checkpointEntries = tableSnapshot.getCheckpointTransactionLogEntries(
+                    session,
+                    ImmutableSet.of(ADD),
+                    checkpointSchemaManager,
+                    typeManager,
+                    fileSystem,
+                    fileFormatDataSourceStats,
+                    Optional.of(new MetadataAndProtocolEntry(metadataEntry, protocolEntry)),
+                    partitionConstraint,
+                    Optional.of(addStatsMinMaxColumnFilter),
+                    new BoundedExecutor(executorService, checkpointProcessingParallelism));
+            // the checkpoint entries are read lazily, so they are closed together with the returned stream
             return activeAddEntries(checkpointEntries, transactions, fileSystem)
                     .filter(partitionConstraint.isAll()
                             ? addAction -> true
-                            : addAction -> partitionMatchesPredicate(addAction.getCanonicalPartitionValues(), partitionConstraint.getDomains().orElseThrow()));
+                            : addAction -> partitionMatchesPredicate(addAction.getCanonicalPartitionValues(), partitionConstraint.getDomains().orElseThrow()))
+                    .onClose(checkpointEntries::close);
         }
         catch (IOException e) {
             throw new TrinoException(DELTA_LAKE_INVALID_SCHEMA, "Error reading transaction log for " + tableSnapshot.getTable(), e);
@@ -503,47 +506,19 @@ public class TransactionLogAccess
 
     private Stream<AddFileEntry> activeAddEntries(Stream<DeltaLakeTransactionLogEntry> checkpointEntries, List<Transaction> transactions, TrinoFileSystem fileSystem)
     {
-        Map<FileEntryKey, AddFileEntry> activeJsonEntries = new LinkedHashMap<>();
-        HashSet<FileEntryKey> removedFiles = new HashSet<>();
-
-        // The json entries containing the last few entries in the log need to be applied on top of the parquet snapshot:
-        // - Any files which have been removed need to be excluded
-        // - Any files with newer add actions need to be updated with the most recent metadata
+        // The json entries containing the last few entries in the log need to be applied on top of the parquet snapshot
+        ActiveFileChanges changes = new ActiveFileChanges();
         transactions.forEach(transaction -> {
-            Map<FileEntryKey, AddFileEntry> addFilesInTransaction = new LinkedHashMap<>();
-            Set<FileEntryKey> removedFilesInTransaction = new HashSet<>();
             try (Stream<DeltaLakeTransactionLogEntry> entries = transaction.transactionEntries().getEntries(fileSystem)) {
-                entries.forEach(deltaLakeTransactionLogEntry -> {
-                    if (deltaLakeTransactionLogEntry.getAdd() != null) {
-                        AddFileEntry add = deltaLakeTransactionLogEntry.getAdd();
-                        addFilesInTransaction.put(new FileEntryKey(add.getPath(), add.getDeletionVector().map(DeletionVectorEntry::uniqueId)), add);
-                    }
-                    else if (deltaLakeTransactionLogEntry.getRemove() != null) {
-                        RemoveFileEntry remove = deltaLakeTransactionLogEntry.getRemove();
-                        removedFilesInTransaction.add(new FileEntryKey(remove.path(), remove.deletionVector().map(DeletionVectorEntry::uniqueId)));
-                    }
-                });
+                changes.addTransaction(entries);
             }
-
-            // Process 'remove' entries first because deletion vectors register both 'add' and 'remove' entries and the 'add' entry should be kept
-            removedFiles.addAll(removedFilesInTransaction);
-            removedFilesInTransaction.forEach(activeJsonEntries::remove);
-            activeJsonEntries.putAll(addFilesInTransaction);
         });
 
-        Stream<AddFileEntry> filteredCheckpointEntries = checkpointEntries
+        return changes.applyTo(checkpointEntries
                 .map(DeltaLakeTransactionLogEntry::getAdd)
-                .filter(Objects::nonNull)
-                .filter(addEntry -> {
-                    FileEntryKey key = new FileEntryKey(addEntry.getPath(), addEntry.getDeletionVector().map(DeletionVectorEntry::uniqueId));
-                    return !removedFiles.contains(key) && !activeJsonEntries.containsKey(key);
-                });
-
-        return Stream.concat(filteredCheckpointEntries, activeJsonEntries.values().stream());
+                .filter(Objects::nonNull));
     }
 
-    private record FileEntryKey(String path, Optional<String> deletionVectorId) {}
-
     public MetadataAndProtocolEntries getMetadataAndProtocolEntry(ConnectorSession session, TableSnapshot tableSnapshot)
     {
         if (tableSnapshot.getCachedMetadata().isEmpty() && tableSnapshot.getCachedProtocol().isEmpty()) {
@@ -701,23 +676,26 @@ public class TransactionLogAccess
         return result.build();
     }
 
-    private List<DeltaLakeTransactionLogEntry> getJsonEntries(
+    private List<List<DeltaLakeTransactionLogEntry>> getNewTransactions(
             ConnectorSession session,
             TransactionLogReader transactionLogReader,
             long startVersion,
-            long endVersion,
             TableSnapshot tableSnapshot,
             TrinoFileSystem fileSystem)
             throws IOException
     {
+        ImmutableList.Builder<Transaction> transactions = ImmutableList.builder();
         Optional<Long> lastCheckpointVersion = tableSnapshot.getLastCheckpointVersion();
         if (lastCheckpointVersion.isPresent() && startVersion < lastCheckpointVersion.get()) {
-            return ImmutableList.<DeltaLakeTransactionLogEntry>builder()
-                    .addAll(transactionLogReader.loadNewTail(session, Optional.of(startVersion), lastCheckpointVersion, transactionLogMaxCachedFileSize).getFileEntries(fileSystem))
-                    .addAll(tableSnapshot.getJsonTransactionLogEntries(fileSystem))
-                    .build();
+            transactions.addAll(transactionLogReader.loadNewTail(session, Optional.of(startVersion), lastCheckpointVersion, transactionLogMaxCachedFileSize).getTransactions());
         }
-        return transactionLogReader.loadNewTail(session, Optional.of(startVersion), Optional.of(endVersion), transactionLogMaxCachedFileSize).getFileEntries(fileSystem);
+        // The snapshot already holds the commits following its checkpoint, so only read the ones missing from it
+        tableSnapshot.getTransactions().stream()
+                .filter(transaction -> transaction.transactionId() > startVersion)
+                .forEach(transactions::add);
+        return transactions.build().stream()
+                .map(transaction -> transaction.transactionEntries().getEntriesList(fileSystem))
+                .collect(toImmutableList());
     }
 
     public static String canonicalizeColumnName(String columnName)
@@ -75,6 +75,7 @@ public class TestDeltaLakeConfig
                 .setProjectionPushdownEnabled(true)
                 .setQueryPartitionFilterRequired(false)
                 .setDeletionVectorsEnabled(false)
+                .setDeletionVectorCacheSize(DataSize.of(64, MEGABYTE))
                 .setDeltaLogFileSystemCacheDisabled(false)
                 .setMetadataParallelism(8)
                 .setCheckpointProcessingParallelism(4));
@@ -119,6 +120,7 @@ public class TestDeltaLakeConfig
                 .put("delta.projection-pushdown-enabled", "false")
                 .put("delta.query-partition-filter-required", "true")
                 .put("delta.deletion-vectors-enabled", "true")
+                .put("delta.deletion-vectors.cache-size", "1MB")
                 .put("delta.fs.cache.disable-transaction-log-caching", "true")
                 .put("delta.metadata.parallelism", "10")
                 .put("delta.checkpoint-processing.parallelism", "8")
@@ -160,6 +162,7 @@ public class TestDeltaLakeConfig
                 .setProjectionPushdownEnabled(false)
                 .setQueryPartitionFilterRequired(true)
                 .setDeletionVectorsEnabled(true)
+                .setDeletionVectorCacheSize(DataSize.of(1, MEGABYTE))
                 .setDeltaLogFileSystemCacheDisabled(true)
                 .setMetadataParallelism(10)
                 .setCheckpointProcessingParallelism(8);
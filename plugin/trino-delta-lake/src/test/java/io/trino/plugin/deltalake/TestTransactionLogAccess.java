@@ -66,7 +66,9 @@ import java.util.stream.Stream;
 
 import static com.google.common.base.Predicates.alwaysTrue;
 import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
 import static com.google.common.collect.MoreCollectors.onlyElement;
+import static com.google.common.collect.Sets.difference;
 import static com.google.common.collect.Sets.union;
 import static com.google.common.util.concurrent.MoreExecutors.newDirectExecutorService;
 import static io.airlift.slice.Slices.utf8Slice;
@@ -613,6 +615,75 @@ public class TestTransactionLogAccess
                         .build());
     }
 
+    @Test
+    public void testIncrementalCacheUpdatesWithRemovedFile()
+            throws Exception
+    {
+        String tableName = "person";
+        File tempDir = Files.createTempDirectory(null).toFile();
+        File tableDir = new File(tempDir, tableName);
+        File transactionLogDir = new File(tableDir, TRANSACTION_LOG_DIRECTORY);
+        transactionLogDir.mkdirs();
+        String tableLocation = tableDir.toURI().toString();
+
+        File resourceDir = new File(getClass().getClassLoader().getResource("databricks73/person/_delta_log").toURI());
+        copyTransactionLogEntry(0, 12, resourceDir, transactionLogDir);
+        Files.copy(new File(resourceDir, LAST_CHECKPOINT_FILENAME).toPath(), new File(transactionLogDir, LAST_CHECKPOINT_FILENAME).toPath());
+        ConnectorSession activeDataFileCacheSession = TestingConnectorSession.builder()
+                .setPropertyMetadata(new DeltaLakeSessionProperties(
+                        new DeltaLakeConfig().setCheckpointFilteringEnabled(false),
+                        new ParquetReaderConfig(),
+                        new ParquetWriterConfig())
+                        .getSessionProperties())
+                .build();
+
+        setupTransactionLogAccess(tableName, tableLocation);
+        MetadataEntry metadataEntry = transactionLogAccess.getMetadataEntry(activeDataFileCacheSession, tableSnapshot);
+        ProtocolEntry protocolEntry = transactionLogAccess.getProtocolEntry(activeDataFileCacheSession, tableSnapshot);
+        DeltaLakeTableHandle tableHandle = new DeltaLakeTableHandle(
+                "schema",
+                tableName,
+                true,
+                tableLocation,
+                metadataEntry,
+                protocolEntry,
+                TupleDomain.none(),
+                TupleDomain.none(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                0,
+                false);
+        Set<String> cachedDataFiles;
+        try (Stream<AddFileEntry> activeDataFiles = transactionLogAccess.getActiveFiles(activeDataFileCacheSession, tableHandle, tableSnapshot, TupleDomain.all(), alwaysTrue())) {
+            cachedDataFiles = activeDataFiles.map(AddFileEntry::getPath).collect(toImmutableSet());
+        }
+        String removedFile = "age=42/part-00000-b26c891a-7288-4d96-9d3b-bef648f12a34.c000.snappy.parquet";
+        assertThat(cachedDataFiles).hasSize(10).contains(removedFile);
+
+        // version 12 adds a file, version 13 removes one of the cached files
+        copyTransactionLogEntry(12, 13, resourceDir, transactionLogDir);
+        Files.writeString(
+                new File(transactionLogDir, format("%020d.json", 13)).toPath(),
+                "{\"remove\":{\"path\":\"" + removedFile + "\",\"deletionTimestamp\":1579190300000,\"dataChange\":true}}\n");
+        String addedFile = "age=28/part-00000-40dd1707-1d42-4328-a59a-21f5c945fe60.c000.snappy.parquet";
+
+        List<SpanData> spans = testingTelemetry.captureSpans(() -> {
+            TableSnapshot updatedTableSnapshot = transactionLogAccess.loadSnapshot(activeDataFileCacheSession, createTable(new SchemaTableName("schema", tableName), tableLocation), Optional.empty());
+            assertThat(updatedTableSnapshot.getVersion()).isEqualTo(13);
+            try (Stream<AddFileEntry> activeDataFiles = transactionLogAccess.getActiveFiles(activeDataFileCacheSession, tableHandle, updatedTableSnapshot, TupleDomain.all(), alwaysTrue())) {
+                assertThat(activeDataFiles.map(AddFileEntry::getPath).collect(toImmutableSet()))
+                        .containsExactlyInAnyOrderElementsOf(union(difference(cachedDataFiles, ImmutableSet.of(removedFile)), ImmutableSet.of(addedFile)));
+            }
+        });
+        // the cached active files are advanced with the new commits, without reading the checkpoint again
+        assertThat(getOperations(spans).elementSet())
+                .extracting(FileOperation::path)
+                .noneMatch(path -> path.endsWith(".checkpoint.parquet"));
+    }
+
     @Test
     public void testSnapshotsAreConsistent()
             throws Exception
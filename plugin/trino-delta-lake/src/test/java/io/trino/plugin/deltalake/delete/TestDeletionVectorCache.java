@@ -0,0 +1,117 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.deltalake.delete;
+
+import com.google.common.io.Resources;
+import io.airlift.units.DataSize;
+import io.trino.filesystem.Location;
+import io.trino.filesystem.TrinoFileSystem;
+import io.trino.plugin.deltalake.DeltaLakeConfig;
+import io.trino.plugin.deltalake.transactionlog.DeletionVectorEntry;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.OptionalInt;
+
+import static com.google.common.io.MoreFiles.deleteRecursively;
+import static com.google.common.io.RecursiveDeleteOption.ALLOW_INSECURE;
+import static io.trino.plugin.deltalake.DeltaTestingConnectorSession.SESSION;
+import static io.trino.plugin.hive.HiveTestUtils.HDFS_FILE_SYSTEM_FACTORY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class TestDeletionVectorCache
+{
+    // The deletion vector has a deleted row at position 1
+    private static final String FILE_NAME = "deletion_vector_a52eda8c-0a57-4636-814b-9c165388f7ca.bin";
+    private static final DeletionVectorEntry DELETION_VECTOR = new DeletionVectorEntry("u", "R7QFX3rGXPFLhHGq&7g<", OptionalInt.of(1), 34, 1);
+
+    private final TrinoFileSystem fileSystem = HDFS_FILE_SYSTEM_FACTORY.create(SESSION);
+
+    @Test
+    void testCacheHit()
+            throws Exception
+    {
+        DeletionVectorCache cache = new DeletionVectorCache(new DeltaLakeConfig());
+        Location tableLocation = Location.of(resourcePath().toString());
+
+        RoaringBitmapArray deletedRows = cache.get(fileSystem, tableLocation, DELETION_VECTOR);
+        assertThat(deletedRows.contains(1)).isTrue();
+        assertThat(cache.get(fileSystem, tableLocation, DELETION_VECTOR)).isSameAs(deletedRows);
+
+        assertThat(cache.getDeletionVectorCacheStats().getRequestCount()).isEqualTo(2);
+        assertThat(cache.getDeletionVectorCacheStats().getLoadCount()).isEqualTo(1);
+        assertThat(cache.getDeletionVectorCacheStats().size()).isEqualTo(1);
+    }
+
+    @Test
+    void testKeyedByTableLocationAndUniqueId()
+            throws Exception
+    {
+        Path directory = Files.createTempDirectory("deletion-vector-cache");
+        try {
+            Path copiedTable = Files.createDirectory(directory.resolve("table"));
+            Files.copy(resourcePath().resolve(FILE_NAME), copiedTable.resolve(FILE_NAME));
+            Path absoluteFile = Files.copy(resourcePath().resolve(FILE_NAME), directory.resolve("absolute_" + FILE_NAME));
+            DeletionVectorEntry absoluteDeletionVector = new DeletionVectorEntry("p", absoluteFile.toString(), OptionalInt.of(1), 34, 1);
+
+            DeletionVectorCache cache = new DeletionVectorCache(new DeltaLakeConfig());
+            Location tableLocation = Location.of(resourcePath().toString());
+            RoaringBitmapArray deletedRows = cache.get(fileSystem, tableLocation, DELETION_VECTOR);
+
+            // the same relative deletion vector in another table is a different entry
+            RoaringBitmapArray copiedTableRows = cache.get(fileSystem, Location.of(copiedTable.toString()), DELETION_VECTOR);
+            assertThat(copiedTableRows).isNotSameAs(deletedRows);
+            assertThat(copiedTableRows.contains(1)).isTrue();
+
+            // a different unique id in the same table is a different entry
+            RoaringBitmapArray absoluteRows = cache.get(fileSystem, tableLocation, absoluteDeletionVector);
+            assertThat(absoluteRows).isNotSameAs(deletedRows);
+            assertThat(absoluteRows.contains(1)).isTrue();
+
+            assertThat(cache.getDeletionVectorCacheStats().getLoadCount()).isEqualTo(3);
+            assertThat(cache.getDeletionVectorCacheStats().size()).isEqualTo(3);
+
+            assertThat(cache.get(fileSystem, Location.of(copiedTable.toString()), DELETION_VECTOR)).isSameAs(copiedTableRows);
+            assertThat(cache.get(fileSystem, tableLocation, absoluteDeletionVector)).isSameAs(absoluteRows);
+            assertThat(cache.getDeletionVectorCacheStats().getLoadCount()).isEqualTo(3);
+        }
+        finally {
+            deleteRecursively(directory, ALLOW_INSECURE);
+        }
+    }
+
+    @Test
+    void testWeigher()
+            throws Exception
+    {
+        Location tableLocation = Location.of(resourcePath().toString());
+        long retainedSize = new DeletionVectorCache(new DeltaLakeConfig()).get(fileSystem, tableLocation, DELETION_VECTOR).getRetainedSizeInBytes();
+        assertThat(retainedSize).isPositive();
+
+        // an entry weighing more than the cache size is not retained
+        DeletionVectorCache cache = new DeletionVectorCache(new DeltaLakeConfig().setDeletionVectorCacheSize(DataSize.ofBytes(retainedSize)));
+        RoaringBitmapArray deletedRows = cache.get(fileSystem, tableLocation, DELETION_VECTOR);
+        assertThat(cache.get(fileSystem, tableLocation, DELETION_VECTOR)).isNotSameAs(deletedRows);
+        assertThat(cache.getDeletionVectorCacheStats().getLoadCount()).isEqualTo(2);
+        assertThat(cache.getDeletionVectorCacheStats().size()).isEqualTo(0);
+    }
+
+    private static Path resourcePath()
+            throws Exception
+    {
+        return new File(Resources.getResource("databricks122/deletion_vectors").toURI()).toPath();
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.deltalake.delete;
+
+import com.google.common.collect.ImmutableList;
+import io.trino.plugin.base.metrics.LongCount;
+import io.trino.plugin.deltalake.DeltaLakeColumnHandle;
+import io.trino.spi.Page;
+import io.trino.spi.block.Block;
+import io.trino.spi.block.LongArrayBlock;
+import io.trino.spi.connector.FixedPageSource;
+import io.trino.spi.connector.SourcePage;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.trino.plugin.deltalake.DeltaLakeColumnHandle.rowPositionColumnHandle;
+import static io.trino.plugin.deltalake.DeltaLakeColumnType.REGULAR;
+import static io.trino.plugin.deltalake.delete.DeletionVectorPageSource.DELETION_VECTOR_ROWS_DELETED;
+import static io.trino.spi.type.BigintType.BIGINT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class TestPositionDeleteFilter
+{
+    private static final List<DeltaLakeColumnHandle> COLUMNS = ImmutableList.of(
+            new DeltaLakeColumnHandle("value", BIGINT, OptionalInt.empty(), "value", BIGINT, REGULAR, Optional.empty()),
+            rowPositionColumnHandle());
+
+    @Test
+    void testContiguousPositions()
+    {
+        PageFilter filter = createFilter(3, 5, 6, 20);
+
+        assertThat(filePositions(filter.apply(createPage(LongStream.range(0, 10).toArray()))))
+                .containsExactly(0L, 1L, 2L, 4L, 7L, 8L, 9L);
+        assertThat(filePositions(filter.apply(createPage(LongStream.range(10, 20).toArray()))))
+                .containsExactly(LongStream.range(10, 20).boxed().toArray(Long[]::new));
+        assertThat(filePositions(filter.apply(createPage(20)))).isEmpty();
+    }
+
+    @Test
+    void testNonContiguousPositions()
+    {
+        // positions with gaps, e.g. after row group pruning, are checked one by one
+        PageFilter filter = createFilter(2, 6, 50);
+
+        assertThat(filePositions(filter.apply(createPage(0, 2, 5, 6, 100))))
+                .containsExactly(0L, 5L, 100L);
+        assertThat(filePositions(filter.apply(createPage(1, 3, 4))))
+                .containsExactly(1L, 3L, 4L);
+        assertThat(filePositions(filter.apply(createPage(6, 5, 2))))
+                .containsExactly(5L);
+    }
+
+    @Test
+    void testValuesFollowRetainedPositions()
+    {
+        PageFilter filter = createFilter(1, 7);
+
+        SourcePage contiguous = filter.apply(createPage(LongStream.range(0, 4).toArray()));
+        assertThat(values(contiguous)).containsExactly(0L, 20L, 30L);
+        SourcePage nonContiguous = filter.apply(createPage(1, 3, 7, 9));
+        assertThat(values(nonContiguous)).containsExactly(30L, 90L);
+    }
+
+    @Test
+    void testRowsDeletedMetric()
+            throws IOException
+    {
+        PageFilter filter = createFilter(1, 2, 12, 50);
+        List<Page> pages = ImmutableList.of(
+                createPage(LongStream.range(0, 10).toArray()).getPage(),
+                createPage(10, 12, 14).getPage(),
+                createPage(LongStream.range(20, 30).toArray()).getPage());
+
+        int rows = 0;
+        try (DeletionVectorPageSource pageSource = new DeletionVectorPageSource(new FixedPageSource(pages), () -> filter, new int[] {0})) {
+            while (!pageSource.isFinished()) {
+                SourcePage page = pageSource.getNextSourcePage();
+                if (page != null) {
+                    assertThat(page.getChannelCount()).isEqualTo(1);
+                    rows += page.getPositionCount();
+                }
+            }
+            assertThat(rows).isEqualTo(20);
+            assertThat(pageSource.getMetrics().getMetrics().get(DELETION_VECTOR_ROWS_DELETED))
+                    .isEqualTo(new LongCount(3));
+        }
+    }
+
+    private static PageFilter createFilter(long... deletedPositions)
+    {
+        RoaringBitmapArray deletedRows = new RoaringBitmapArray();
+        for (long deletedPosition : deletedPositions) {
+            deletedRows.add(deletedPosition);
+        }
+        return new PositionDeleteFilter(deletedRows).createPredicate(COLUMNS);
+    }
+
+    private static SourcePage createPage(long... filePositions)
+    {
+        long[] values = LongStream.of(filePositions).map(position -> position * 10).toArray();
+        return SourcePage.create(new Page(
+                new LongArrayBlock(values.length, Optional.empty(), values),
+                new LongArrayBlock(filePositions.length, Optional.empty(), filePositions)));
+    }
+
+    private static List<Long> filePositions(SourcePage page)
+    {
+        return longs(page.getBlock(1), page.getPositionCount());
+    }
+
+    private static List<Long> values(SourcePage page)
+    {
+        return longs(page.getBlock(0), page.getPositionCount());
+    }
+
+    private static List<Long> longs(Block block, int positionCount)
+    {
+        return IntStream.range(0, positionCount)
+                .mapToObj(position -> BIGINT.getLong(block, position))
+                .collect(toImmutableList());
+    }
+}
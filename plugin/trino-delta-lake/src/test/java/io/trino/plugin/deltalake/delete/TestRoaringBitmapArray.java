@@ -107,6 +107,34 @@ final class TestRoaringBitmapArray
         assertThat(bitmaps.contains(9)).isFalse();
     }
 
+    @Test
+    void testValuesInRange()
+    {
+        RoaringBitmapArray bitmaps = new RoaringBitmapArray();
+        assertThat(bitmaps.valuesInRange(0, 100)).isEmpty();
+
+        long highValue = (1L << 32) + 5;
+        bitmaps.add(3);
+        bitmaps.add(10);
+        bitmaps.add(0xFFFFFFFFL);
+        bitmaps.add(highValue);
+
+        assertThat(bitmaps.valuesInRange(0, 3)).isEmpty();
+        assertThat(bitmaps.valuesInRange(3, 10)).containsExactly(3);
+        assertThat(bitmaps.valuesInRange(3, 11)).containsExactly(3, 10);
+        assertThat(bitmaps.valuesInRange(4, 4)).isEmpty();
+        assertThat(bitmaps.valuesInRange(11, highValue)).containsExactly(0xFFFFFFFFL);
+        assertThat(bitmaps.valuesInRange(0, highValue + 1)).containsExactly(3, 10, 0xFFFFFFFFL, highValue);
+        assertThat(bitmaps.valuesInRange(highValue + 1, highValue + 100)).isEmpty();
+
+        // the range spans several bitmaps, including one without values in the range
+        long higherValue = (3L << 32) + 1;
+        bitmaps.add(higherValue);
+        assertThat(bitmaps.valuesInRange(4, higherValue + 1)).containsExactly(10, 0xFFFFFFFFL, highValue, higherValue);
+        assertThat(bitmaps.valuesInRange(highValue + 1, higherValue)).isEmpty();
+        assertThat(bitmaps.valuesInRange(highValue, Long.MAX_VALUE)).containsExactly(highValue, higherValue);
+    }
+
     @Test
     void testOr()
     {
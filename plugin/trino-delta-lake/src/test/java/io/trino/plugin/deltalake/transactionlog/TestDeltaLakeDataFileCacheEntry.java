@@ -0,0 +1,89 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.deltalake.transactionlog;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import static io.trino.plugin.deltalake.transactionlog.DeltaLakeTransactionLogEntry.addFileEntry;
+import static io.trino.plugin.deltalake.transactionlog.DeltaLakeTransactionLogEntry.removeFileEntry;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestDeltaLakeDataFileCacheEntry
+{
+    @Test
+    public void testWithUpdatesApplied()
+    {
+        DeltaLakeDataFileCacheEntry entry = new DeltaLakeDataFileCacheEntry(1, ImmutableList.of(add("a", Optional.empty()), add("b", Optional.empty())));
+
+        DeltaLakeDataFileCacheEntry updated = entry.withUpdatesApplied(
+                ImmutableList.of(
+                        ImmutableList.of(addFileEntry(add("c", Optional.empty()))),
+                        ImmutableList.of(removeFileEntry(remove("a", Optional.empty())))),
+                3);
+
+        assertThat(updated.getVersion()).isEqualTo(3);
+        assertThat(paths(updated)).containsExactly("b", "c");
+    }
+
+    @Test
+    public void testRemoveAndAddWithinCommit()
+    {
+        DeletionVectorEntry deletionVector = new DeletionVectorEntry("u", "ab^-aqEH.-t@S}K{vb[*k^", OptionalInt.of(4), 40, 2);
+        DeltaLakeDataFileCacheEntry entry = new DeltaLakeDataFileCacheEntry(1, ImmutableList.of(add("a", Optional.empty()), add("b", Optional.empty())));
+
+        // deletion vector updates register both 'add' and 'remove' entries for the same path, in any order
+        DeltaLakeDataFileCacheEntry updated = entry.withUpdatesApplied(
+                ImmutableList.of(ImmutableList.of(
+                        addFileEntry(add("a", Optional.of(deletionVector))),
+                        removeFileEntry(remove("a", Optional.empty())))),
+                2);
+
+        assertThat(paths(updated)).containsExactly("b", "a");
+        assertThat(updated.getActiveFiles().get(1).getDeletionVector()).contains(deletionVector);
+    }
+
+    @Test
+    public void testNoFileChanges()
+    {
+        DeltaLakeDataFileCacheEntry entry = new DeltaLakeDataFileCacheEntry(1, ImmutableList.of(add("a", Optional.empty())));
+
+        DeltaLakeDataFileCacheEntry updated = entry.withUpdatesApplied(ImmutableList.of(ImmutableList.of()), 2);
+
+        assertThat(updated.getVersion()).isEqualTo(2);
+        assertThat(updated.getActiveFiles()).isSameAs(entry.getActiveFiles());
+    }
+
+    private static List<String> paths(DeltaLakeDataFileCacheEntry entry)
+    {
+        return entry.getActiveFiles().stream()
+                .map(AddFileEntry::getPath)
+                .toList();
+    }
+
+    private static AddFileEntry add(String path, Optional<DeletionVectorEntry> deletionVector)
+    {
+        return new AddFileEntry(path, ImmutableMap.of(), 100, 0, true, Optional.empty(), Optional.empty(), ImmutableMap.of(), deletionVector);
+    }
+
+    private static RemoveFileEntry remove(String path, Optional<DeletionVectorEntry> deletionVector)
+    {
+        return new RemoveFileEntry(path, ImmutableMap.of(), 0, true, deletionVector);
+    }
+}
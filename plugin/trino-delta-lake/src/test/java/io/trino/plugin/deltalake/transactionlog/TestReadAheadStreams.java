@@ -0,0 +1,98 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.deltalake.transactionlog;
+
+import com.google.common.collect.ImmutableList;
+import io.airlift.concurrent.BoundedExecutor;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static io.airlift.concurrent.Threads.daemonThreadsNamed;
+import static io.trino.testing.assertions.Assert.assertEventually;
+import static java.util.concurrent.Executors.newCachedThreadPool;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
+
+@TestInstance(PER_CLASS)
+final class TestReadAheadStreams
+{
+    private final ExecutorService executor = newCachedThreadPool(daemonThreadsNamed("test-read-ahead-%s"));
+
+    @AfterAll
+    void tearDown()
+    {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testOrderIsPreserved()
+    {
+        List<Supplier<Stream<Long>>> sources = ImmutableList.of(
+                () -> LongStream.range(0, 10_000).boxed(),
+                Stream::empty,
+                () -> LongStream.range(10_000, 10_005).boxed(),
+                () -> LongStream.range(10_005, 30_000).boxed());
+        List<Long> expected = LongStream.range(0, 30_000).boxed().collect(toImmutableList());
+
+        try (Stream<Long> stream = ReadAheadStreams.concat(sources, new BoundedExecutor(executor, 2))) {
+            assertThat(stream.collect(toImmutableList())).isEqualTo(expected);
+        }
+        // sources which are read by the consumer thread do not wait for the consumer
+        try (Stream<Long> stream = ReadAheadStreams.concat(sources, directExecutor())) {
+            assertThat(stream.collect(toImmutableList())).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void testSourcesAreClosed()
+    {
+        AtomicInteger closedSources = new AtomicInteger();
+        List<Supplier<Stream<Long>>> sources = ImmutableList.of(
+                () -> LongStream.range(0, 100_000).boxed().onClose(closedSources::incrementAndGet),
+                () -> LongStream.range(0, 100_000).boxed().onClose(closedSources::incrementAndGet));
+
+        try (Stream<Long> stream = ReadAheadStreams.concat(sources, new BoundedExecutor(executor, 2))) {
+            assertThat(stream.limit(10).count()).isEqualTo(10);
+        }
+        // closing the stream stops the sources which are waiting for the consumer
+        assertEventually(() -> assertThat(closedSources.get()).isEqualTo(2));
+    }
+
+    @Test
+    void testFailure()
+    {
+        List<Supplier<Stream<Long>>> sources = ImmutableList.of(
+                () -> LongStream.range(0, 10).boxed(),
+                () -> {
+                    throw new IllegalStateException("test failure");
+                });
+
+        try (Stream<Long> stream = ReadAheadStreams.concat(sources, new BoundedExecutor(executor, 2))) {
+            assertThatThrownBy(stream::count)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("test failure");
+        }
+    }
+}
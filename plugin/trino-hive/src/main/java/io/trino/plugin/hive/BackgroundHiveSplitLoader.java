@@ -17,6 +17,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Stopwatch;
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Multimaps;
 import com.google.common.collect.Streams;
@@ -36,10 +37,13 @@ import io.trino.metastore.HiveType;
 import io.trino.metastore.Partition;
 import io.trino.metastore.StorageFormat;
 import io.trino.metastore.Table;
+import io.trino.plugin.base.metrics.DurationTiming;
+import io.trino.plugin.base.metrics.LongCount;
 import io.trino.plugin.hive.HiveSplit.BucketConversion;
 import io.trino.plugin.hive.HiveSplit.BucketValidation;
 import io.trino.plugin.hive.fs.DirectoryLister;
 import io.trino.plugin.hive.fs.HiveFileIterator;
+import io.trino.plugin.hive.fs.RemoteIterator;
 import io.trino.plugin.hive.fs.TrinoFileStatus;
 import io.trino.plugin.hive.util.AcidTables.AcidState;
 import io.trino.plugin.hive.util.AcidTables.ParsedDelta;
@@ -53,6 +57,8 @@ import io.trino.spi.TrinoException;
 import io.trino.spi.connector.ColumnHandle;
 import io.trino.spi.connector.ConnectorSession;
 import io.trino.spi.connector.DynamicFilter;
+import io.trino.spi.connector.SchemaTableName;
+import io.trino.spi.metrics.Metrics;
 import io.trino.spi.predicate.TupleDomain;
 import io.trino.spi.type.TypeManager;
 
@@ -72,6 +78,7 @@ import java.util.OptionalInt;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -129,6 +136,7 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.max;
 import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 public class BackgroundHiveSplitLoader
         implements HiveSplitLoader
@@ -146,6 +154,10 @@ public class BackgroundHiveSplitLoader
 
     private static final ListenableFuture<Void> COMPLETED_FUTURE = immediateVoidFuture();
 
+    public static final String PARTITIONS_LOADED = "HivePartitionsLoaded";
+    public static final String DIRECTORIES_LISTED = "HiveDirectoriesListed";
+    public static final String DIRECTORY_LISTING_TIME = "HiveDirectoryListingTime";
+
     private final Table table;
     private final TupleDomain<? extends ColumnHandle> compactEffectivePredicate;
     private final DynamicFilter dynamicFilter;
@@ -187,6 +199,8 @@ public class BackgroundHiveSplitLoader
     private volatile boolean stopped;
     private final AtomicInteger activeLoaderCount = new AtomicInteger();
     private final AtomicInteger partitionCount = new AtomicInteger();
+    private final AtomicLong directoriesListed = new AtomicLong();
+    private final AtomicLong directoryListingTimeNanos = new AtomicLong();
 
     public BackgroundHiveSplitLoader(
             Table table,
@@ -217,7 +231,7 @@ public class BackgroundHiveSplitLoader
         checkArgument(loaderConcurrency > 0, "loaderConcurrency must be > 0, found: %s", loaderConcurrency);
         this.session = session;
         this.fileSystemFactory = requireNonNull(fileSystemFactory, "fileSystemFactory is null");
-        this.directoryLister = directoryLister;
+        this.directoryLister = new ListingTimeDirectoryLister(requireNonNull(directoryLister, "directoryLister is null"));
         this.recursiveDirWalkerEnabled = recursiveDirWalkerEnabled;
         this.ignoreAbsentPartitions = ignoreAbsentPartitions;
         requireNonNull(executor, "executor is null");
@@ -258,6 +272,16 @@ public class BackgroundHiveSplitLoader
         stopped = true;
     }
 
+    @Override
+    public Metrics getMetrics()
+    {
+        // listing time is summed over the concurrent loaders, so it can exceed the split enumeration wall time
+        return new Metrics(ImmutableMap.of(
+                PARTITIONS_LOADED, new LongCount(partitionCount.get()),
+                DIRECTORIES_LISTED, new LongCount(directoriesListed.get()),
+                DIRECTORY_LISTING_TIME, new DurationTiming(new Duration(directoryListingTimeNanos.get(), NANOSECONDS))));
+    }
+
     private class HiveSplitLoaderTask
             implements ResumableTask
     {
@@ -976,4 +1000,92 @@ public class BackgroundHiveSplitLoader
             lock.unlock();
         }
     }
+
+    /**
+     * Measures the time the loaders spend in the directory lister, including the time spent
+     * fetching the next pages of a listing while iterating over it.
+     */
+    private class ListingTimeDirectoryLister
+            implements DirectoryLister
+    {
+        private final DirectoryLister delegate;
+
+        public ListingTimeDirectoryLister(DirectoryLister delegate)
+        {
+            this.delegate = requireNonNull(delegate, "delegate is null");
+        }
+
+        @Override
+        public RemoteIterator<TrinoFileStatus> listFilesRecursively(TrinoFileSystem fs, Table table, Location location)
+                throws IOException
+        {
+            directoriesListed.incrementAndGet();
+            long listStart = System.nanoTime();
+            RemoteIterator<TrinoFileStatus> iterator;
+            try {
+                iterator = delegate.listFilesRecursively(fs, table, location);
+            }
+            finally {
+                directoryListingTimeNanos.addAndGet(System.nanoTime() - listStart);
+            }
+            return new RemoteIterator<>()
+            {
+                @Override
+                public boolean hasNext()
+                        throws IOException
+                {
+                    long start = System.nanoTime();
+                    try {
+                        return iterator.hasNext();
+                    }
+                    finally {
+                        directoryListingTimeNanos.addAndGet(System.nanoTime() - start);
+                    }
+                }
+
+                @Override
+                public TrinoFileStatus next()
+                        throws IOException
+                {
+                    long start = System.nanoTime();
+                    try {
+                        return iterator.next();
+                    }
+                    finally {
+                        directoryListingTimeNanos.addAndGet(System.nanoTime() - start);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public boolean isCached(Location location, SchemaTableName schemaTableName)
+        {
+            return delegate.isCached(location, schemaTableName);
+        }
+
+        @Override
+        public void invalidate(Location location, SchemaTableName schemaTableName)
+        {
+            delegate.invalidate(location, schemaTableName);
+        }
+
+        @Override
+        public void invalidate(Partition partition)
+        {
+            delegate.invalidate(partition);
+        }
+
+        @Override
+        public void invalidate(Table table)
+        {
+            delegate.invalidate(table);
+        }
+
+        @Override
+        public void invalidateAll()
+        {
+            delegate.invalidateAll();
+        }
+    }
 }
@@ -113,6 +113,8 @@ public class HiveConfig
 
     private String parquetTimeZone = TimeZone.getDefault().getID();
     private boolean useParquetColumnNames = true;
+    private int parquetWriterColumnEncodingThreads;
+    private int parquetReaderRowGroupPrefetchThreads;
 
     private String rcfileTimeZone = TimeZone.getDefault().getID();
     private boolean rcfileWriterValidate;
@@ -166,6 +168,7 @@ public class HiveConfig
 
     private DataSize targetMaxFileSize = DataSize.of(1, GIGABYTE);
     private DataSize idleWriterMinFileSize = DataSize.of(16, MEGABYTE);
+    private DataSize zOrderBufferSize = DataSize.of(64, MEGABYTE);
 
     private boolean sizeBasedSplitWeightsEnabled = true;
     private double minimumAssignedSplitWeight = 0.05;
@@ -285,6 +288,21 @@ public class HiveConfig
         return this;
     }
 
+    @NotNull
+    @MinDataSize("1MB")
+    public DataSize getZOrderBufferSize()
+    {
+        return zOrderBufferSize;
+    }
+
+    @Config("hive.zorder-buffer-size")
+    @ConfigDescription("Amount of data buffered by each writer and ordered along a Z-order curve for tables with zorder_by columns")
+    public HiveConfig setZOrderBufferSize(DataSize zOrderBufferSize)
+    {
+        this.zOrderBufferSize = zOrderBufferSize;
+        return this;
+    }
+
     public boolean isForceLocalScheduling()
     {
         return forceLocalScheduling;
@@ -735,6 +753,34 @@ public class HiveConfig
         return this;
     }
 
+    @Min(0)
+    public int getParquetWriterColumnEncodingThreads()
+    {
+        return parquetWriterColumnEncodingThreads;
+    }
+
+    @Config("hive.parquet.writer.column-encoding-threads")
+    @ConfigDescription("Maximum number of threads shared by Parquet writers to encode and compress columns in parallel. Columns are encoded on the writer thread when set to 0")
+    public HiveConfig setParquetWriterColumnEncodingThreads(int parquetWriterColumnEncodingThreads)
+    {
+        this.parquetWriterColumnEncodingThreads = parquetWriterColumnEncodingThreads;
+        return this;
+    }
+
+    @Min(0)
+    public int getParquetReaderRowGroupPrefetchThreads()
+    {
+        return parquetReaderRowGroupPrefetchThreads;
+    }
+
+    @Config("hive.parquet.reader.row-group-prefetch-threads")
+    @ConfigDescription("Maximum number of threads shared by Parquet readers to load the next row group while the current one is decoded. Row groups are not prefetched when set to 0")
+    public HiveConfig setParquetReaderRowGroupPrefetchThreads(int parquetReaderRowGroupPrefetchThreads)
+    {
+        this.parquetReaderRowGroupPrefetchThreads = parquetReaderRowGroupPrefetchThreads;
+        return this;
+    }
+
     public boolean isUseParquetColumnNames()
     {
         return useParquetColumnNames;
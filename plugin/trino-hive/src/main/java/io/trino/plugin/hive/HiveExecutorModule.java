@@ -37,6 +37,8 @@ public class HiveExecutorModule
         closingBinder(binder).registerExecutor(Key.get(ExecutorService.class, ForHiveMetadata.class));
         closingBinder(binder).registerExecutor(Key.get(ExecutorService.class, ForHiveSplitManager.class));
         closingBinder(binder).registerExecutor(Key.get(ScheduledExecutorService.class, ForHiveTransactionHeartbeats.class));
+        closingBinder(binder).registerExecutor(Key.get(ExecutorService.class, ForHiveParquetWriter.class));
+        closingBinder(binder).registerExecutor(Key.get(ExecutorService.class, ForHiveParquetReader.class));
     }
 
     @Provides
@@ -55,6 +57,22 @@ public class HiveExecutorModule
         return newCachedThreadPool(daemonThreadsNamed("hive-split-source-" + catalogName + "-%s"));
     }
 
+    @Provides
+    @Singleton
+    @ForHiveParquetWriter
+    public ExecutorService createParquetWriterExecutor(CatalogName catalogName)
+    {
+        return newCachedThreadPool(daemonThreadsNamed("hive-parquet-writer-" + catalogName + "-%s"));
+    }
+
+    @Provides
+    @Singleton
+    @ForHiveParquetReader
+    public ExecutorService createParquetReaderExecutor(CatalogName catalogName)
+    {
+        return newCachedThreadPool(daemonThreadsNamed("hive-parquet-reader-" + catalogName + "-%s"));
+    }
+
     @Provides
     @Singleton
     @ForHiveTransactionHeartbeats
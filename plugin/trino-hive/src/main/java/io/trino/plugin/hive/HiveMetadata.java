@@ -246,6 +246,7 @@ import static io.trino.plugin.hive.HiveTableProperties.SORTED_BY_PROPERTY;
 import static io.trino.plugin.hive.HiveTableProperties.STORAGE_FORMAT_PROPERTY;
 import static io.trino.plugin.hive.HiveTableProperties.TEXTFILE_FIELD_SEPARATOR;
 import static io.trino.plugin.hive.HiveTableProperties.TEXTFILE_FIELD_SEPARATOR_ESCAPE;
+import static io.trino.plugin.hive.HiveTableProperties.ZORDER_BY_PROPERTY;
 import static io.trino.plugin.hive.HiveTableProperties.getAvroSchemaLiteral;
 import static io.trino.plugin.hive.HiveTableProperties.getAvroSchemaUrl;
 import static io.trino.plugin.hive.HiveTableProperties.getBucketInfo;
@@ -261,6 +262,7 @@ import static io.trino.plugin.hive.HiveTableProperties.getParquetBloomFilterColu
 import static io.trino.plugin.hive.HiveTableProperties.getPartitionedBy;
 import static io.trino.plugin.hive.HiveTableProperties.getRegexPattern;
 import static io.trino.plugin.hive.HiveTableProperties.getSingleCharacterProperty;
+import static io.trino.plugin.hive.HiveTableProperties.getZOrderBy;
 import static io.trino.plugin.hive.HiveTableProperties.isRegexCaseInsensitive;
 import static io.trino.plugin.hive.HiveTableProperties.isTransactional;
 import static io.trino.plugin.hive.HiveTimestampPrecision.NANOSECONDS;
@@ -370,6 +372,8 @@ public class HiveMetadata
     public static final String ORC_BLOOM_FILTER_COLUMNS_KEY = "orc.bloom.filter.columns";
     public static final String ORC_BLOOM_FILTER_FPP_KEY = "orc.bloom.filter.fpp";
 
+    public static final String ZORDER_BY_KEY = "trino.zorder.by";
+
     public static final String SKIP_HEADER_COUNT_KEY = SerdeConstants.HEADER_COUNT;
     public static final String SKIP_FOOTER_COUNT_KEY = SerdeConstants.FOOTER_COUNT;
 
@@ -738,6 +742,11 @@ public class HiveMetadata
             properties.put(ORC_BLOOM_FILTER_FPP, Double.parseDouble(orcBloomFilterFfp));
         }
 
+        String zOrderBy = table.getParameters().get(ZORDER_BY_KEY);
+        if (zOrderBy != null) {
+            properties.put(ZORDER_BY_PROPERTY, Splitter.on(',').trimResults().omitEmptyStrings().splitToList(zOrderBy));
+        }
+
         // Avro specific property
         String avroSchemaUrl = table.getParameters().get(AVRO_SCHEMA_URL_KEY);
         if (avroSchemaUrl != null) {
@@ -1169,6 +1178,15 @@ public class HiveMetadata
             // TODO: Enable specifying FPP
         }
 
+        List<String> zOrderBy = getZOrderBy(tableMetadata.getProperties());
+        if (zOrderBy != null && !zOrderBy.isEmpty()) {
+            if (bucketInfo.isPresent() && !bucketInfo.get().sortedBy().isEmpty()) {
+                throw new TrinoException(INVALID_TABLE_PROPERTY, format("Table property %s cannot be combined with %s", ZORDER_BY_PROPERTY, SORTED_BY_PROPERTY));
+            }
+            validateZOrderColumns(tableMetadata, zOrderBy);
+            tableProperties.put(ZORDER_BY_KEY, Joiner.on(",").join(zOrderBy));
+        }
+
         // Avro specific properties
         String avroSchemaUrl = getAvroSchemaUrl(tableMetadata.getProperties());
         String avroSchemaLiteral = getAvroSchemaLiteral(tableMetadata.getProperties());
@@ -1348,6 +1366,28 @@ public class HiveMetadata
         }
     }
 
+    private static void validateZOrderColumns(ConnectorTableMetadata tableMetadata, List<String> zOrderBy)
+    {
+        Map<String, Type> columnTypes = tableMetadata.getColumns().stream()
+                .collect(toImmutableMap(ColumnMetadata::getName, ColumnMetadata::getType));
+        Set<String> partitionColumns = ImmutableSet.copyOf(getPartitionedBy(tableMetadata.getProperties()));
+        if (ImmutableSet.copyOf(zOrderBy).size() != zOrderBy.size()) {
+            throw new TrinoException(INVALID_TABLE_PROPERTY, format("Z-order columns %s contain duplicates", zOrderBy));
+        }
+        for (String column : zOrderBy) {
+            Type type = columnTypes.get(column);
+            if (type == null) {
+                throw new TrinoException(INVALID_TABLE_PROPERTY, format("Z-order column %s not present in schema", column));
+            }
+            if (partitionColumns.contains(column)) {
+                throw new TrinoException(INVALID_TABLE_PROPERTY, format("Z-order column %s is also used as partitioning column", column));
+            }
+            if (!ZOrderFileWriter.isSupportedType(type)) {
+                throw new TrinoException(INVALID_TABLE_PROPERTY, format("Z-order column %s has unsupported type %s", column, type.getDisplayName()));
+            }
+        }
+    }
+
     private String validateAvroSchemaUrl(ConnectorSession session, String url)
     {
         try {
@@ -1525,6 +1565,7 @@ public class HiveMetadata
         HiveTableHandle hiveTableHandle = (HiveTableHandle) tableHandle;
         failIfAvroSchemaIsSet(hiveTableHandle);
         HiveColumnHandle sourceHandle = (HiveColumnHandle) source;
+        failIfZOrderColumn(hiveTableHandle, sourceHandle.getName());
 
         metastore.renameColumn(hiveTableHandle.getSchemaName(), hiveTableHandle.getTableName(), sourceHandle.getName(), target);
     }
@@ -1535,6 +1576,7 @@ public class HiveMetadata
         HiveTableHandle hiveTableHandle = (HiveTableHandle) tableHandle;
         failIfAvroSchemaIsSet(hiveTableHandle);
         HiveColumnHandle columnHandle = (HiveColumnHandle) column;
+        failIfZOrderColumn(hiveTableHandle, columnHandle.getName());
 
         metastore.dropColumn(hiveTableHandle.getSchemaName(), hiveTableHandle.getTableName(), columnHandle.getName());
     }
@@ -1557,6 +1599,16 @@ public class HiveMetadata
         }
     }
 
+    private void failIfZOrderColumn(HiveTableHandle handle, String columnName)
+    {
+        Table table = metastore.getTable(handle.getSchemaName(), handle.getTableName())
+                .orElseThrow(() -> new TableNotFoundException(handle.getSchemaTableName()));
+        String zOrderBy = table.getParameters().get(ZORDER_BY_KEY);
+        if (zOrderBy != null && Splitter.on(',').trimResults().omitEmptyStrings().splitToList(zOrderBy).contains(columnName)) {
+            throw new TrinoException(NOT_SUPPORTED, "Cannot rename or drop Z-order column " + columnName);
+        }
+    }
+
     @Override
     public void renameTable(ConnectorSession session, ConnectorTableHandle tableHandle, SchemaTableName newTableName)
     {
@@ -39,6 +39,10 @@ import io.trino.plugin.hive.line.SimpleSequenceFileWriterFactory;
 import io.trino.plugin.hive.line.SimpleTextFilePageSourceFactory;
 import io.trino.plugin.hive.line.SimpleTextFileWriterFactory;
 import io.trino.plugin.hive.metastore.HiveMetastoreConfig;
+import io.trino.plugin.hive.metastore.MetastoreCacheFlusher;
+import io.trino.plugin.hive.metastore.MetastoreCacheInvalidationConfig;
+import io.trino.plugin.hive.metastore.MetastoreCacheInvalidator;
+import io.trino.plugin.hive.metastore.glue.GlueCache;
 import io.trino.plugin.hive.orc.OrcFileWriterFactory;
 import io.trino.plugin.hive.orc.OrcPageSourceFactory;
 import io.trino.plugin.hive.orc.OrcReaderConfig;
@@ -79,6 +83,13 @@ public class HiveModule
         newExporter(binder).export(CachingDirectoryLister.class).withGeneratedName();
         binder.bind(DirectoryLister.class).to(CachingDirectoryLister.class).in(Scopes.SINGLETON);
 
+        newOptionalBinder(binder, GlueCache.class);
+        newOptionalBinder(binder, DirectoryLister.class);
+        binder.bind(MetastoreCacheFlusher.class).in(Scopes.SINGLETON);
+        configBinder(binder).bindConfig(MetastoreCacheInvalidationConfig.class);
+        binder.bind(MetastoreCacheInvalidator.class).in(Scopes.SINGLETON);
+        newExporter(binder).export(MetastoreCacheInvalidator.class).withGeneratedName();
+
         binder.bind(HiveWriterStats.class).in(Scopes.SINGLETON);
         newExporter(binder).export(HiveWriterStats.class).withGeneratedName();
         binder.bind(HivePartitionManager.class).in(Scopes.SINGLETON);
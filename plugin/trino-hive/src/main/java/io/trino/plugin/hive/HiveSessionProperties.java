@@ -66,6 +66,7 @@ public final class HiveSessionProperties
     private static final String VALIDATE_BUCKETING = "validate_bucketing";
     private static final String TARGET_MAX_FILE_SIZE = "target_max_file_size";
     private static final String IDLE_WRITER_MIN_FILE_SIZE = "idle_writer_min_file_size";
+    private static final String ZORDER_BUFFER_SIZE = "zorder_buffer_size";
     private static final String PARALLEL_PARTITIONED_BUCKETED_WRITES = "parallel_partitioned_bucketed_writes";
     private static final String FORCE_LOCAL_SCHEDULING = "force_local_scheduling";
     private static final String INSERT_EXISTING_PARTITIONS_BEHAVIOR = "insert_existing_partitions_behavior";
@@ -77,6 +78,7 @@ public final class HiveSessionProperties
     private static final String ORC_MAX_READ_BLOCK_SIZE = "orc_max_read_block_size";
     private static final String ORC_LAZY_READ_SMALL_RANGES = "orc_lazy_read_small_ranges";
     private static final String ORC_NESTED_LAZY_ENABLED = "orc_nested_lazy_enabled";
+    private static final String ORC_VECTORIZED_DECODING_ENABLED = "orc_vectorized_decoding_enabled";
     private static final String ORC_STRING_STATISTICS_LIMIT = "orc_string_statistics_limit";
     private static final String ORC_OPTIMIZED_WRITER_VALIDATE = "orc_optimized_writer_validate";
     private static final String ORC_OPTIMIZED_WRITER_VALIDATE_PERCENTAGE = "orc_optimized_writer_validate_percentage";
@@ -102,6 +104,7 @@ public final class HiveSessionProperties
     private static final String PARQUET_WRITER_PAGE_SIZE = "parquet_writer_page_size";
     private static final String PARQUET_WRITER_PAGE_VALUE_COUNT = "parquet_writer_page_value_count";
     private static final String PARQUET_WRITER_BATCH_SIZE = "parquet_writer_batch_size";
+    private static final String PARQUET_WRITER_OPTIMIZED_FALLBACK_ENCODINGS_ENABLED = "parquet_writer_optimized_fallback_encodings_enabled";
     private static final String PARQUET_OPTIMIZED_WRITER_VALIDATION_PERCENTAGE = "parquet_optimized_writer_validation_percentage";
     private static final String MAX_SPLIT_SIZE = "max_split_size";
     private static final String MAX_INITIAL_SPLIT_SIZE = "max_initial_split_size";
@@ -179,6 +182,11 @@ public final class HiveSessionProperties
                         "Minimum data written by a single partition writer before it can be consider as 'idle' and could be closed by the engine",
                         hiveConfig.getIdleWriterMinFileSize(),
                         false),
+                dataSizeProperty(
+                        ZORDER_BUFFER_SIZE,
+                        "Amount of data buffered by each writer and ordered along a Z-order curve for tables with zorder_by columns",
+                        hiveConfig.getZOrderBufferSize(),
+                        false),
                 booleanProperty(
                         PARALLEL_PARTITIONED_BUCKETED_WRITES,
                         "Improve parallelism of partitioned and bucketed table writes",
@@ -238,6 +246,11 @@ public final class HiveSessionProperties
                         "Experimental: ORC: Lazily read nested data",
                         orcReaderConfig.isNestedLazy(),
                         false),
+                booleanProperty(
+                        ORC_VECTORIZED_DECODING_ENABLED,
+                        "Enable using Java Vector API for faster decoding of ORC files",
+                        orcReaderConfig.isVectorizedDecodingEnabled(),
+                        false),
                 dataSizeProperty(
                         ORC_STRING_STATISTICS_LIMIT,
                         "ORC: Maximum size of string statistics; drop if exceeding",
@@ -398,6 +411,11 @@ public final class HiveSessionProperties
                         "Parquet: Maximum number of rows passed to the writer in each batch",
                         parquetWriterConfig.getBatchSize(),
                         false),
+                booleanProperty(
+                        PARQUET_WRITER_OPTIMIZED_FALLBACK_ENCODINGS_ENABLED,
+                        "Parquet: Use DELTA_BINARY_PACKED, DELTA_BYTE_ARRAY or BYTE_STREAM_SPLIT instead of PLAIN encoding when dictionary encoding is not effective and they make the data smaller",
+                        parquetWriterConfig.isOptimizedFallbackEncodingsEnabled(),
+                        false),
                 new PropertyMetadata<>(
                         PARQUET_OPTIMIZED_WRITER_VALIDATION_PERCENTAGE,
                         "Parquet: sample percentage for validation of written files",
@@ -587,6 +605,11 @@ public final class HiveSessionProperties
         return session.getProperty(IDLE_WRITER_MIN_FILE_SIZE, DataSize.class);
     }
 
+    public static DataSize getZOrderBufferSize(ConnectorSession session)
+    {
+        return session.getProperty(ZORDER_BUFFER_SIZE, DataSize.class);
+    }
+
     public static boolean isParallelPartitionedBucketedWrites(ConnectorSession session)
     {
         return session.getProperty(PARALLEL_PARTITIONED_BUCKETED_WRITES, Boolean.class);
@@ -642,6 +665,11 @@ public final class HiveSessionProperties
         return session.getProperty(ORC_NESTED_LAZY_ENABLED, Boolean.class);
     }
 
+    public static boolean isOrcVectorizedDecodingEnabled(ConnectorSession session)
+    {
+        return session.getProperty(ORC_VECTORIZED_DECODING_ENABLED, Boolean.class);
+    }
+
     public static DataSize getOrcStringStatisticsLimit(ConnectorSession session)
     {
         return session.getProperty(ORC_STRING_STATISTICS_LIMIT, DataSize.class);
@@ -774,6 +802,11 @@ public final class HiveSessionProperties
         return session.getProperty(PARQUET_WRITER_BATCH_SIZE, Integer.class);
     }
 
+    public static boolean isParquetWriterOptimizedFallbackEncodingsEnabled(ConnectorSession session)
+    {
+        return session.getProperty(PARQUET_WRITER_OPTIMIZED_FALLBACK_ENCODINGS_ENABLED, Boolean.class);
+    }
+
     public static boolean isParquetOptimizedWriterValidate(ConnectorSession session)
     {
         double percentage = session.getProperty(PARQUET_OPTIMIZED_WRITER_VALIDATION_PERCENTAGE, Double.class);
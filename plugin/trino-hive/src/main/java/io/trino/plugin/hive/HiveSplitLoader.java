@@ -13,9 +13,16 @@
  */
 package io.trino.plugin.hive;
 
+import io.trino.spi.metrics.Metrics;
+
 interface HiveSplitLoader
 {
     void start(HiveSplitSource splitSource);
 
     void stop();
+
+    default Metrics getMetrics()
+    {
+        return Metrics.EMPTY;
+    }
 }
@@ -29,6 +29,7 @@ import io.trino.spi.TrinoException;
 import io.trino.spi.connector.ConnectorSession;
 import io.trino.spi.connector.ConnectorSplit;
 import io.trino.spi.connector.ConnectorSplitSource;
+import io.trino.spi.metrics.Metrics;
 
 import java.io.FileNotFoundException;
 import java.util.List;
@@ -388,6 +389,12 @@ class HiveSplitSource
         return Optional.of(scannedFilePaths.build());
     }
 
+    @Override
+    public Metrics getMetrics()
+    {
+        return splitLoader.getMetrics();
+    }
+
     @Override
     public void close()
     {
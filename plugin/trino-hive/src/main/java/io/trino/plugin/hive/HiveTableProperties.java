@@ -55,6 +55,7 @@ public class HiveTableProperties
     public static final String BUCKETING_VERSION = "bucketing_version";
     public static final String BUCKET_COUNT_PROPERTY = "bucket_count";
     public static final String SORTED_BY_PROPERTY = "sorted_by";
+    public static final String ZORDER_BY_PROPERTY = "zorder_by";
     public static final String ORC_BLOOM_FILTER_COLUMNS = "orc_bloom_filter_columns";
     public static final String ORC_BLOOM_FILTER_FPP = "orc_bloom_filter_fpp";
     public static final String AVRO_SCHEMA_URL = "avro_schema_url";
@@ -160,6 +161,18 @@ public class HiveTableProperties
                                 .map(name -> name.toLowerCase(ENGLISH))
                                 .collect(toImmutableList()),
                         value -> value),
+                new PropertyMetadata<>(
+                        ZORDER_BY_PROPERTY,
+                        "Columns used to order written data along a Z-order curve",
+                        new ArrayType(VARCHAR),
+                        List.class,
+                        ImmutableList.of(),
+                        false,
+                        value -> ((List<?>) value).stream()
+                                .map(String.class::cast)
+                                .map(name -> name.toLowerCase(ENGLISH))
+                                .collect(toImmutableList()),
+                        value -> value),
                 integerProperty(BUCKETING_VERSION, "Bucketing version", null, false),
                 integerProperty(BUCKET_COUNT_PROPERTY, "Number of buckets", 0, false),
                 stringProperty(AVRO_SCHEMA_URL, "URI pointing to Avro schema for the table", null, false),
@@ -315,6 +328,12 @@ public class HiveTableProperties
         return (List<String>) tableProperties.get(PARQUET_BLOOM_FILTER_COLUMNS);
     }
 
+    @SuppressWarnings("unchecked")
+    public static List<String> getZOrderBy(Map<String, Object> tableProperties)
+    {
+        return (List<String>) tableProperties.get(ZORDER_BY_PROPERTY);
+    }
+
     public static Double getOrcBloomFilterFpp(Map<String, Object> tableProperties)
     {
         return (Double) tableProperties.get(ORC_BLOOM_FILTER_FPP);
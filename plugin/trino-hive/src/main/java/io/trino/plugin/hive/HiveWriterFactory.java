@@ -14,6 +14,7 @@
 package io.trino.plugin.hive;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -74,8 +75,10 @@ import static io.trino.plugin.hive.HiveErrorCode.HIVE_PARTITION_SCHEMA_MISMATCH;
 import static io.trino.plugin.hive.HiveErrorCode.HIVE_PATH_ALREADY_EXISTS;
 import static io.trino.plugin.hive.HiveErrorCode.HIVE_TABLE_READ_ONLY;
 import static io.trino.plugin.hive.HiveErrorCode.HIVE_UNSUPPORTED_FORMAT;
+import static io.trino.plugin.hive.HiveMetadata.ZORDER_BY_KEY;
 import static io.trino.plugin.hive.HiveSessionProperties.getInsertExistingPartitionsBehavior;
 import static io.trino.plugin.hive.HiveSessionProperties.getTimestampPrecision;
+import static io.trino.plugin.hive.HiveSessionProperties.getZOrderBufferSize;
 import static io.trino.plugin.hive.LocationHandle.WriteMode.DIRECT_TO_TARGET_EXISTING_DIRECTORY;
 import static io.trino.plugin.hive.metastore.MetastoreUtil.getHiveSchema;
 import static io.trino.plugin.hive.util.AcidTables.deltaSubdir;
@@ -521,6 +524,9 @@ public class HiveWriterFactory
                     typeManager.getTypeOperators(),
                     OrcFileWriterFactory::createOrcDataSink);
         }
+        else if (!transaction.isMerge() && schema.containsKey(ZORDER_BY_KEY)) {
+            hiveFileWriter = createZOrderFileWriter(hiveFileWriter, Splitter.on(',').trimResults().omitEmptyStrings().splitToList(schema.get(ZORDER_BY_KEY)));
+        }
 
         return new HiveWriter(
                 hiveFileWriter,
@@ -532,6 +538,32 @@ public class HiveWriterFactory
                 hiveWriterStats);
     }
 
+    private FileWriter createZOrderFileWriter(FileWriter fileWriter, List<String> zOrderBy)
+    {
+        List<Type> types = dataColumns.stream()
+                .map(column -> getType(column.hiveType(), typeManager, getTimestampPrecision(session)))
+                .collect(toImmutableList());
+
+        Map<String, Integer> columnIndexes = new HashMap<>();
+        for (int i = 0; i < dataColumns.size(); i++) {
+            columnIndexes.put(dataColumns.get(i).name(), i);
+        }
+
+        List<Integer> clusteringFields = new ArrayList<>();
+        for (String columnName : zOrderBy) {
+            Integer index = columnIndexes.get(columnName);
+            if (index == null) {
+                throw new TrinoException(HIVE_INVALID_METADATA, format("Z-order column '%s' does not exist in table '%s.%s'", columnName, schemaName, tableName));
+            }
+            if (!ZOrderFileWriter.isSupportedType(types.get(index))) {
+                throw new TrinoException(HIVE_INVALID_METADATA, format("Z-order column '%s' in table '%s.%s' has unsupported type %s", columnName, schemaName, tableName, types.get(index)));
+            }
+            clusteringFields.add(index);
+        }
+
+        return new ZOrderFileWriter(fileWriter, getZOrderBufferSize(session), types, clusteringFields);
+    }
+
     public interface RowIdSortingFileWriterMaker
     {
         SortingFileWriter makeFileWriter(FileWriter deleteFileWriter, Location path);
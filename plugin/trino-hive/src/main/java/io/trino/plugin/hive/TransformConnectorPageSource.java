@@ -30,6 +30,7 @@ import java.util.Optional;
 import java.util.OptionalLong;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.function.ObjLongConsumer;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -44,17 +45,28 @@ public final class TransformConnectorPageSource
 {
     private final ConnectorPageSource connectorPageSource;
     private final Function<SourcePage, SourcePage> transform;
+    private final LongSupplier transformMemoryUsage;
 
     @CheckReturnValue
     public static TransformConnectorPageSource create(ConnectorPageSource connectorPageSource, Function<SourcePage, SourcePage> transform)
     {
-        return new TransformConnectorPageSource(connectorPageSource, transform);
+        return create(connectorPageSource, transform, () -> 0);
     }
 
-    private TransformConnectorPageSource(ConnectorPageSource connectorPageSource, Function<SourcePage, SourcePage> transform)
+    /**
+     * @param transformMemoryUsage memory retained by the transform, which is added to the memory usage of the page source
+     */
+    @CheckReturnValue
+    public static TransformConnectorPageSource create(ConnectorPageSource connectorPageSource, Function<SourcePage, SourcePage> transform, LongSupplier transformMemoryUsage)
+    {
+        return new TransformConnectorPageSource(connectorPageSource, transform, transformMemoryUsage);
+    }
+
+    private TransformConnectorPageSource(ConnectorPageSource connectorPageSource, Function<SourcePage, SourcePage> transform, LongSupplier transformMemoryUsage)
     {
         this.connectorPageSource = requireNonNull(connectorPageSource, "connectorPageSource is null");
         this.transform = requireNonNull(transform, "transform is null");
+        this.transformMemoryUsage = requireNonNull(transformMemoryUsage, "transformMemoryUsage is null");
     }
 
     @Override
@@ -100,7 +112,7 @@ public final class TransformConnectorPageSource
     @Override
     public long getMemoryUsage()
     {
-        return connectorPageSource.getMemoryUsage();
+        return connectorPageSource.getMemoryUsage() + transformMemoryUsage.getAsLong();
     }
 
     @Override
@@ -207,7 +219,7 @@ public final class TransformConnectorPageSource
             }
 
             List<Function<SourcePage, Block>> functions = List.copyOf(transforms);
-            return new TransformConnectorPageSource(pageSource, new TransformPages(functions));
+            return new TransformConnectorPageSource(pageSource, new TransformPages(functions), () -> 0);
         }
     }
 
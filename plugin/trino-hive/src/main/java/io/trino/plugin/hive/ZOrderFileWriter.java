@@ -0,0 +1,296 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.hive;
+
+import com.google.common.collect.ImmutableList;
+import io.airlift.slice.Slice;
+import io.airlift.units.DataSize;
+import io.trino.spi.Page;
+import io.trino.spi.PageBuilder;
+import io.trino.spi.block.Block;
+import io.trino.spi.type.DecimalType;
+import io.trino.spi.type.TimestampType;
+import io.trino.spi.type.Type;
+import io.trino.spi.type.VarbinaryType;
+import io.trino.spi.type.VarcharType;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.airlift.slice.SizeOf.instanceSize;
+import static io.trino.spi.type.BigintType.BIGINT;
+import static io.trino.spi.type.DateType.DATE;
+import static io.trino.spi.type.DoubleType.DOUBLE;
+import static io.trino.spi.type.IntegerType.INTEGER;
+import static io.trino.spi.type.RealType.REAL;
+import static io.trino.spi.type.SmallintType.SMALLINT;
+import static io.trino.spi.type.TinyintType.TINYINT;
+import static java.lang.Math.toIntExact;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Buffers rows and writes them ordered along a Z-order curve over the clustering columns,
+ * so that each row group covers a compact range of all the clustering columns at once.
+ * Data is only ordered within the buffer, not across the whole file.
+ */
+public final class ZOrderFileWriter
+        implements FileWriter
+{
+    private static final int INSTANCE_SIZE = instanceSize(ZOrderFileWriter.class);
+
+    private final FileWriter outputWriter;
+    private final List<Type> types;
+    private final List<Integer> clusteringFields;
+    private final long maxBufferedBytes;
+    private final long flushBytesPerRow;
+    private final List<Page> bufferedPages = new ArrayList<>();
+
+    private long bufferedBytes;
+    private long bufferedRetainedBytes;
+    private int bufferedRows;
+
+    public ZOrderFileWriter(FileWriter outputWriter, DataSize maxBufferSize, List<Type> types, List<Integer> clusteringFields)
+    {
+        this.outputWriter = requireNonNull(outputWriter, "outputWriter is null");
+        this.maxBufferedBytes = maxBufferSize.toBytes();
+        this.types = ImmutableList.copyOf(requireNonNull(types, "types is null"));
+        this.clusteringFields = ImmutableList.copyOf(requireNonNull(clusteringFields, "clusteringFields is null"));
+        checkArgument(!clusteringFields.isEmpty(), "clusteringFields is empty");
+        checkArgument(clusteringFields.size() <= Long.SIZE, "Too many clustering fields: %s", clusteringFields.size());
+        for (int field : clusteringFields) {
+            checkArgument(isSupportedType(types.get(field)), "Unsupported clustering type: %s", types.get(field));
+        }
+        // page indexes, positions and order, the interleaved keys, and the normalized values and null flags of the clustering fields
+        this.flushBytesPerRow = 3L * Integer.BYTES + Long.BYTES + (long) clusteringFields.size() * Long.BYTES + Byte.BYTES;
+    }
+
+    public static boolean isSupportedType(Type type)
+    {
+        return type.equals(BIGINT) ||
+                type.equals(INTEGER) ||
+                type.equals(SMALLINT) ||
+                type.equals(TINYINT) ||
+                type.equals(DATE) ||
+                type.equals(REAL) ||
+                type.equals(DOUBLE) ||
+                (type instanceof DecimalType decimalType && decimalType.isShort()) ||
+                (type instanceof TimestampType timestampType && timestampType.isShort()) ||
+                type instanceof VarcharType ||
+                type instanceof VarbinaryType;
+    }
+
+    @Override
+    public long getWrittenBytes()
+    {
+        // Buffered data is included as an approximation, so that the page sink can split files into a reasonable size
+        return outputWriter.getWrittenBytes() + bufferedBytes;
+    }
+
+    @Override
+    public long getMemoryUsage()
+    {
+        // include the temporary arrays of the next flush, which are allocated while all the buffered pages are still retained
+        return INSTANCE_SIZE + outputWriter.getMemoryUsage() + bufferedRetainedBytes + bufferedRows * flushBytesPerRow;
+    }
+
+    @Override
+    public void appendRows(Page page)
+    {
+        if (page.getPositionCount() == 0) {
+            return;
+        }
+        bufferedPages.add(page);
+        bufferedBytes += page.getSizeInBytes();
+        bufferedRetainedBytes += page.getRetainedSizeInBytes();
+        bufferedRows = toIntExact((long) bufferedRows + page.getPositionCount());
+        if (bufferedBytes >= maxBufferedBytes) {
+            flush();
+        }
+    }
+
+    @Override
+    public Closeable commit()
+    {
+        flush();
+        return outputWriter.commit();
+    }
+
+    @Override
+    public void rollback()
+    {
+        clearBuffer();
+        outputWriter.rollback();
+    }
+
+    @Override
+    public long getValidationCpuNanos()
+    {
+        return outputWriter.getValidationCpuNanos();
+    }
+
+    @Override
+    public String toString()
+    {
+        return toStringHelper(this)
+                .add("outputWriter", outputWriter)
+                .add("clusteringFields", clusteringFields)
+                .toString();
+    }
+
+    private void flush()
+    {
+        if (bufferedPages.isEmpty()) {
+            return;
+        }
+
+        int[] pageIndexes = new int[bufferedRows];
+        int[] positions = new int[bufferedRows];
+        int row = 0;
+        for (int pageIndex = 0; pageIndex < bufferedPages.size(); pageIndex++) {
+            int positionCount = bufferedPages.get(pageIndex).getPositionCount();
+            for (int position = 0; position < positionCount; position++) {
+                pageIndexes[row] = pageIndex;
+                positions[row] = position;
+                row++;
+            }
+        }
+
+        long[] keys = computeZOrderKeys(pageIndexes, positions);
+        int[] order = new int[bufferedRows];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        IntArrays.quickSort(order, (left, right) -> Long.compareUnsigned(keys[left], keys[right]));
+
+        PageBuilder pageBuilder = new PageBuilder(types);
+        for (int index : order) {
+            if (pageBuilder.isFull()) {
+                outputWriter.appendRows(pageBuilder.build());
+                pageBuilder.reset();
+            }
+            Page page = bufferedPages.get(pageIndexes[index]);
+            int position = positions[index];
+            pageBuilder.declarePosition();
+            for (int channel = 0; channel < types.size(); channel++) {
+                types.get(channel).appendTo(page.getBlock(channel), position, pageBuilder.getBlockBuilder(channel));
+            }
+        }
+        if (!pageBuilder.isEmpty()) {
+            outputWriter.appendRows(pageBuilder.build());
+        }
+
+        clearBuffer();
+    }
+
+    private void clearBuffer()
+    {
+        bufferedPages.clear();
+        bufferedBytes = 0;
+        bufferedRetainedBytes = 0;
+        bufferedRows = 0;
+    }
+
+    private long[] computeZOrderKeys(int[] pageIndexes, int[] positions)
+    {
+        int bitsPerField = Long.SIZE / clusteringFields.size();
+        long[][] fieldValues = new long[clusteringFields.size()][];
+        for (int i = 0; i < clusteringFields.size(); i++) {
+            fieldValues[i] = normalizedValues(clusteringFields.get(i), pageIndexes, positions, bitsPerField);
+        }
+
+        // interleave the bits of all fields, starting from the most significant ones
+        long[] keys = new long[bufferedRows];
+        for (int row = 0; row < bufferedRows; row++) {
+            long key = 0;
+            for (int bit = bitsPerField - 1; bit >= 0; bit--) {
+                for (long[] values : fieldValues) {
+                    key = (key << 1) | ((values[row] >>> bit) & 1);
+                }
+            }
+            keys[row] = key;
+        }
+        return keys;
+    }
+
+    /**
+     * Maps the field values to unsigned integers in the range of {@code bitsPerField} bits, preserving their order.
+     * Values are rescaled to the range of values in the buffer, so that every field uses all of its bits
+     * and the most significant bits of the key are not wasted on common prefixes. Nulls are ordered together with the smallest values.
+     */
+    private long[] normalizedValues(int field, int[] pageIndexes, int[] positions, int bitsPerField)
+    {
+        Type type = types.get(field);
+        long[] values = new long[bufferedRows];
+        boolean[] isNull = new boolean[bufferedRows];
+        long min = -1;
+        long max = 0;
+        for (int row = 0; row < bufferedRows; row++) {
+            Block block = bufferedPages.get(pageIndexes[row]).getBlock(field);
+            int position = positions[row];
+            if (block.isNull(position)) {
+                isNull[row] = true;
+                continue;
+            }
+            long value = orderPreservingBits(type, block, position);
+            values[row] = value;
+            if (Long.compareUnsigned(value, min) < 0) {
+                min = value;
+            }
+            if (Long.compareUnsigned(value, max) > 0) {
+                max = value;
+            }
+        }
+
+        int shift = (Long.SIZE - Long.numberOfLeadingZeros(max - min)) - bitsPerField;
+        for (int row = 0; row < bufferedRows; row++) {
+            if (isNull[row]) {
+                values[row] = 0;
+            }
+            else if (shift >= 0) {
+                values[row] = (values[row] - min) >>> shift;
+            }
+            else {
+                values[row] = (values[row] - min) << -shift;
+            }
+        }
+        return values;
+    }
+
+    private static long orderPreservingBits(Type type, Block block, int position)
+    {
+        if (type.equals(REAL)) {
+            int bits = Float.floatToIntBits(REAL.getFloat(block, position));
+            return Integer.toUnsignedLong(bits ^ ((bits >> 31) | Integer.MIN_VALUE));
+        }
+        if (type.equals(DOUBLE)) {
+            long bits = Double.doubleToLongBits(DOUBLE.getDouble(block, position));
+            return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+        }
+        if (type.getJavaType() == Slice.class) {
+            // order by the leading bytes of the value
+            Slice slice = type.getSlice(block, position);
+            long bits = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                bits = (bits << 8) | (i < slice.length() ? slice.getByte(i) & 0xFF : 0);
+            }
+            return bits;
+        }
+        // flip the sign bit, so that signed order becomes unsigned order
+        return type.getLong(block, position) ^ Long.MIN_VALUE;
+    }
+}
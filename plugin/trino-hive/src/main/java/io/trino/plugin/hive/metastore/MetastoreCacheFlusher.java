@@ -0,0 +1,118 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.hive.metastore;
+
+import com.google.common.collect.ImmutableList;
+import com.google.inject.Inject;
+import io.trino.metastore.Column;
+import io.trino.metastore.HiveMetastore;
+import io.trino.metastore.Partition;
+import io.trino.metastore.Table;
+import io.trino.metastore.cache.CachingHiveMetastore;
+import io.trino.plugin.hive.fs.DirectoryLister;
+import io.trino.plugin.hive.metastore.glue.GlueCache;
+import io.trino.plugin.hive.metastore.glue.PartitionName;
+import io.trino.spi.predicate.TupleDomain;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.trino.metastore.Partitions.makePartName;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Flushes the metastore caches, either {@link CachingHiveMetastore} or {@link GlueCache}, and the cached
+ * directory listings of tables and partitions.
+ * <p>
+ * Partition locations of a table are resolved before the metastore caches are flushed, so that directory
+ * listings cached under the previous location are dropped as well. A single partition is resolved after
+ * the flush, so that its location is read from the underlying metastore and not from a stale cache entry.
+ */
+public class MetastoreCacheFlusher
+{
+    private final Optional<DirectoryLister> directoryLister;
+    private final Optional<CachingHiveMetastore> cachingHiveMetastore;
+    private final Optional<GlueCache> glueCache;
+
+    @Inject
+    public MetastoreCacheFlusher(
+            Optional<DirectoryLister> directoryLister,
+            Optional<CachingHiveMetastore> cachingHiveMetastore,
+            Optional<GlueCache> glueCache)
+    {
+        this.directoryLister = requireNonNull(directoryLister, "directoryLister is null");
+        this.cachingHiveMetastore = requireNonNull(cachingHiveMetastore, "cachingHiveMetastore is null");
+        this.glueCache = requireNonNull(glueCache, "glueCache is null");
+    }
+
+    public boolean isMetastoreCacheEnabled()
+    {
+        return cachingHiveMetastore.isPresent() || glueCache.isPresent();
+    }
+
+    public void flushAll()
+    {
+        cachingHiveMetastore.ifPresent(CachingHiveMetastore::flushCache);
+        glueCache.ifPresent(GlueCache::flushCache);
+        directoryLister.ifPresent(DirectoryLister::invalidateAll);
+    }
+
+    public void flushTable(HiveMetastore metastore, Table table)
+    {
+        List<Partition> partitions = ImmutableList.of();
+        if (directoryLister.isPresent() && !table.getPartitionColumns().isEmpty()) {
+            List<String> partitionColumnNames = table.getPartitionColumns().stream()
+                    .map(Column::getName)
+                    .collect(toImmutableList());
+            List<String> partitionNames = metastore.getPartitionNamesByFilter(table.getDatabaseName(), table.getTableName(), partitionColumnNames, TupleDomain.all())
+                    .orElse(ImmutableList.of());
+            partitions = metastore.getPartitionsByNames(table, partitionNames).values().stream()
+                    .flatMap(Optional::stream)
+                    .collect(toImmutableList());
+        }
+
+        cachingHiveMetastore.ifPresent(cache -> cache.invalidateTable(table.getDatabaseName(), table.getTableName()));
+        glueCache.ifPresent(cache -> cache.invalidateTable(table.getDatabaseName(), table.getTableName(), true));
+
+        if (directoryLister.isPresent()) {
+            if (partitions.isEmpty()) {
+                directoryLister.get().invalidate(table);
+            }
+            else {
+                partitions.forEach(directoryLister.get()::invalidate);
+            }
+        }
+    }
+
+    public void flushPartition(HiveMetastore metastore, Table table, List<String> partitionColumns, List<String> partitionValues)
+    {
+        cachingHiveMetastore.ifPresent(cache -> cache.flushPartitionCache(table.getDatabaseName(), table.getTableName(), partitionColumns, partitionValues));
+        glueCache.ifPresent(cache -> cache.invalidatePartition(table.getDatabaseName(), table.getTableName(), new PartitionName(partitionValues)));
+
+        if (directoryLister.isPresent()) {
+            // the partition cache entry is gone, so the location is loaded from the underlying metastore
+            metastore.getPartitionsByNames(table, ImmutableList.of(makePartName(partitionColumns, partitionValues))).values().stream()
+                    .flatMap(Optional::stream)
+                    .forEach(directoryLister.get()::invalidate);
+        }
+    }
+
+    public void flushMissingTable(String schemaName, String tableName)
+    {
+        // a missing table may be cached as well
+        cachingHiveMetastore.ifPresent(cache -> cache.invalidateTable(schemaName, tableName));
+        glueCache.ifPresent(cache -> cache.invalidateTable(schemaName, tableName, true));
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.hive.metastore;
+
+import io.airlift.configuration.Config;
+import io.airlift.configuration.ConfigDescription;
+import io.airlift.units.Duration;
+import io.airlift.units.MinDuration;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.Optional;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+public class MetastoreCacheInvalidationConfig
+{
+    private Optional<String> eventsFile = Optional.empty();
+    private Duration pollInterval = new Duration(10, SECONDS);
+
+    public Optional<String> getEventsFile()
+    {
+        return eventsFile;
+    }
+
+    @Config("hive.metastore-cache.invalidation-events-file")
+    @ConfigDescription("Local file with table and partition change events used to invalidate metadata and directory listing caches")
+    public MetastoreCacheInvalidationConfig setEventsFile(String eventsFile)
+    {
+        this.eventsFile = Optional.ofNullable(eventsFile);
+        return this;
+    }
+
+    @NotNull
+    @MinDuration("100ms")
+    public Duration getPollInterval()
+    {
+        return pollInterval;
+    }
+
+    @Config("hive.metastore-cache.invalidation-events-poll-interval")
+    @ConfigDescription("How often to check for new cache invalidation events")
+    public MetastoreCacheInvalidationConfig setPollInterval(Duration pollInterval)
+    {
+        this.pollInterval = pollInterval;
+        return this;
+    }
+}
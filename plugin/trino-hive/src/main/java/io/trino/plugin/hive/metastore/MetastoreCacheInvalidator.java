@@ -0,0 +1,296 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.hive.metastore;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.inject.Inject;
+import io.airlift.log.Logger;
+import io.airlift.stats.CounterStat;
+import io.trino.metastore.Column;
+import io.trino.metastore.HiveMetastore;
+import io.trino.metastore.HiveMetastoreFactory;
+import io.trino.metastore.Table;
+import io.trino.spi.catalog.CatalogName;
+import io.trino.spi.connector.SchemaTableName;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.weakref.jmx.Managed;
+import org.weakref.jmx.Nested;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.airlift.concurrent.Threads.daemonThreadsNamed;
+import static io.trino.metastore.Partitions.toPartitionValues;
+import static java.lang.Math.min;
+import static java.lang.Math.toIntExact;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Precisely invalidates metastore and directory listing cache entries based on change events,
+ * which allows using long cache TTLs without serving stale metadata. Entries are dropped with
+ * the {@link MetastoreCacheFlusher}, the same way as by the {@code flush_metadata_cache} procedure.
+ * <p>
+ * Events are read from an append-only local file, one event per line, in the form
+ * {@code schema.table} or {@code schema.table partition_name}, where {@code partition_name}
+ * uses the Hive {@code col1=value1/col2=value2} format. Blank lines and lines starting with
+ * {@code #} are ignored.
+ */
+public class MetastoreCacheInvalidator
+{
+    private static final Logger log = Logger.get(MetastoreCacheInvalidator.class);
+
+    @VisibleForTesting
+    static final int READ_CHUNK_SIZE = 64 * 1024;
+
+    private final Optional<Path> eventsFile;
+    private final long pollIntervalMillis;
+    private final HiveMetastoreFactory metastoreFactory;
+    private final MetastoreCacheFlusher metastoreCacheFlusher;
+    private final ScheduledExecutorService executor;
+
+    private final CounterStat tableInvalidations = new CounterStat();
+    private final CounterStat partitionInvalidations = new CounterStat();
+    private final CounterStat failedEvents = new CounterStat();
+
+    private long offset;
+    private boolean discardingLine;
+
+    @Inject
+    public MetastoreCacheInvalidator(
+            CatalogName catalogName,
+            MetastoreCacheInvalidationConfig config,
+            HiveMetastoreFactory metastoreFactory,
+            MetastoreCacheFlusher metastoreCacheFlusher)
+    {
+        this.eventsFile = config.getEventsFile().map(Path::of);
+        this.pollIntervalMillis = config.getPollInterval().toMillis();
+        this.metastoreFactory = requireNonNull(metastoreFactory, "metastoreFactory is null");
+        this.metastoreCacheFlusher = requireNonNull(metastoreCacheFlusher, "metastoreCacheFlusher is null");
+        this.executor = newSingleThreadScheduledExecutor(daemonThreadsNamed("hive-cache-invalidation-" + catalogName + "-%s"));
+    }
+
+    @PostConstruct
+    public void start()
+    {
+        if (eventsFile.isEmpty()) {
+            return;
+        }
+        // events written before startup are irrelevant, as the caches start empty
+        offset = fileSize(eventsFile.get());
+        executor.scheduleWithFixedDelay(() -> {
+            try {
+                processNewEvents();
+            }
+            catch (Throwable e) {
+                log.error(e, "Error processing cache invalidation events from %s", eventsFile.get());
+            }
+        }, pollIntervalMillis, pollIntervalMillis, MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop()
+    {
+        executor.shutdownNow();
+    }
+
+    @Managed
+    @Nested
+    public CounterStat getTableInvalidations()
+    {
+        return tableInvalidations;
+    }
+
+    @Managed
+    @Nested
+    public CounterStat getPartitionInvalidations()
+    {
+        return partitionInvalidations;
+    }
+
+    @Managed
+    @Nested
+    public CounterStat getFailedEvents()
+    {
+        return failedEvents;
+    }
+
+    @VisibleForTesting
+    synchronized void processNewEvents()
+    {
+        checkState(eventsFile.isPresent(), "eventsFile is not configured");
+        for (String line : readNewLines(eventsFile.get())) {
+            Optional<InvalidationEvent> event;
+            try {
+                event = InvalidationEvent.parse(line);
+            }
+            catch (IllegalArgumentException e) {
+                log.warn("Ignoring malformed cache invalidation event: %s", line);
+                failedEvents.update(1);
+                continue;
+            }
+            event.ifPresent(this::invalidate);
+        }
+    }
+
+    private List<String> readNewLines(Path path)
+    {
+        try (SeekableByteChannel channel = Files.newByteChannel(path)) {
+            long size = channel.size();
+            if (size < offset) {
+                // file was truncated or replaced, start over
+                offset = 0;
+                discardingLine = false;
+            }
+            List<String> lines = new ArrayList<>();
+            if (size == offset) {
+                return lines;
+            }
+            // a large backlog of events is read one chunk at a time
+            ByteBuffer buffer = ByteBuffer.allocate(toIntExact(min(size - offset, READ_CHUNK_SIZE)));
+            while (offset < size) {
+                buffer.clear();
+                buffer.limit(toIntExact(min(size - offset, buffer.capacity())));
+                channel.position(offset);
+                while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                    // keep reading
+                }
+                byte[] bytes = buffer.array();
+                int length = buffer.position();
+                // only consume complete lines, a partially written trailing line is read on the next poll
+                int end = length;
+                while (end > 0 && bytes[end - 1] != '\n') {
+                    end--;
+                }
+                if (end == 0) {
+                    if (length < READ_CHUNK_SIZE) {
+                        break;
+                    }
+                    // a line longer than a chunk cannot be a valid event, skip it up to the next line
+                    if (!discardingLine) {
+                        log.warn("Ignoring cache invalidation event longer than %s bytes", READ_CHUNK_SIZE);
+                        failedEvents.update(1);
+                        discardingLine = true;
+                    }
+                    offset += length;
+                    continue;
+                }
+
+                int start = 0;
+                for (int i = 0; i < end; i++) {
+                    if (bytes[i] == '\n') {
+                        if (discardingLine) {
+                            discardingLine = false;
+                        }
+                        else {
+                            lines.add(new String(bytes, start, i - start, UTF_8));
+                        }
+                        start = i + 1;
+                    }
+                }
+                offset += end;
+            }
+            return lines;
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void invalidate(InvalidationEvent event)
+    {
+        SchemaTableName schemaTableName = event.schemaTableName();
+        try {
+            HiveMetastore metastore = metastoreFactory.createMetastore(Optional.empty());
+            Optional<Table> table = metastore.getTable(schemaTableName.getSchemaName(), schemaTableName.getTableName());
+            if (table.isEmpty()) {
+                metastoreCacheFlusher.flushMissingTable(schemaTableName.getSchemaName(), schemaTableName.getTableName());
+                tableInvalidations.update(1);
+                return;
+            }
+
+            if (event.partitionName().isPresent()) {
+                List<String> partitionValues = toPartitionValues(event.partitionName().get());
+                List<String> partitionColumns = table.get().getPartitionColumns().stream()
+                        .map(Column::getName)
+                        .collect(toImmutableList());
+                checkArgument(partitionColumns.size() == partitionValues.size(), "Invalid partition name for table %s: %s", schemaTableName, event.partitionName().get());
+
+                metastoreCacheFlusher.flushPartition(metastore, table.get(), partitionColumns, partitionValues);
+                partitionInvalidations.update(1);
+                return;
+            }
+
+            metastoreCacheFlusher.flushTable(metastore, table.get());
+            tableInvalidations.update(1);
+        }
+        catch (RuntimeException e) {
+            log.warn(e, "Failed to invalidate caches for %s", event);
+            failedEvents.update(1);
+        }
+    }
+
+    private static long fileSize(Path path)
+    {
+        try {
+            return Files.exists(path) ? Files.size(path) : 0;
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @VisibleForTesting
+    record InvalidationEvent(SchemaTableName schemaTableName, Optional<String> partitionName)
+    {
+        InvalidationEvent
+        {
+            requireNonNull(schemaTableName, "schemaTableName is null");
+            requireNonNull(partitionName, "partitionName is null");
+        }
+
+        static Optional<InvalidationEvent> parse(String line)
+        {
+            String event = line.strip();
+            if (event.isEmpty() || event.startsWith("#")) {
+                return Optional.empty();
+            }
+
+            String[] parts = event.split("\\s+");
+            checkArgument(parts.length <= 2, "Invalid event: %s", line);
+            String[] names = parts[0].split("\\.");
+            checkArgument(names.length == 2 && !names[0].isEmpty() && !names[1].isEmpty(), "Invalid table name: %s", parts[0]);
+            Optional<String> partitionName = Optional.empty();
+            if (parts.length == 2) {
+                checkArgument(parts[1].contains("="), "Invalid partition name: %s", parts[1]);
+                partitionName = Optional.of(parts[1]);
+            }
+            return Optional.of(new InvalidationEvent(new SchemaTableName(names[0], names[1]), partitionName));
+        }
+    }
+}
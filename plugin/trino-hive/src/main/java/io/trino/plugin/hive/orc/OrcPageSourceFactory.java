@@ -100,6 +100,7 @@ import static io.trino.plugin.hive.HiveSessionProperties.getOrcStreamBufferSize;
 import static io.trino.plugin.hive.HiveSessionProperties.getOrcTinyStripeThreshold;
 import static io.trino.plugin.hive.HiveSessionProperties.isOrcBloomFiltersEnabled;
 import static io.trino.plugin.hive.HiveSessionProperties.isOrcNestedLazy;
+import static io.trino.plugin.hive.HiveSessionProperties.isOrcVectorizedDecodingEnabled;
 import static io.trino.plugin.hive.HiveSessionProperties.isUseOrcColumnNames;
 import static io.trino.plugin.hive.orc.OrcFileWriter.computeBucketValue;
 import static io.trino.plugin.hive.orc.OrcPageSource.handleException;
@@ -212,6 +213,7 @@ public class OrcPageSourceFactory
                         .withMaxReadBlockSize(getOrcMaxReadBlockSize(session))
                         .withLazyReadSmallRanges(getOrcLazyReadSmallRanges(session))
                         .withNestedLazy(isOrcNestedLazy(session))
+                        .withVectorizedDecodingEnabled(isOrcVectorizedDecodingEnabled(session))
                         .withBloomFiltersEnabled(isOrcBloomFiltersEnabled(session)),
                 acidInfo,
                 bucketNumber,
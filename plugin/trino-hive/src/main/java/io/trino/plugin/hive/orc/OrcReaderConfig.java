@@ -164,4 +164,17 @@ public class OrcReaderConfig
         options = options.withReadLegacyShortZoneId(readLegacyShortZoneId);
         return this;
     }
+
+    public boolean isVectorizedDecodingEnabled()
+    {
+        return options.isVectorizedDecodingEnabled();
+    }
+
+    @Config("hive.orc.vectorized-decoding.enabled")
+    @ConfigDescription("Enable using Java Vector API for faster decoding of ORC files")
+    public OrcReaderConfig setVectorizedDecodingEnabled(boolean vectorizedDecodingEnabled)
+    {
+        options = options.withVectorizedDecodingEnabled(vectorizedDecodingEnabled);
+        return this;
+    }
 }
@@ -14,6 +14,7 @@
 package io.trino.plugin.hive.parquet;
 
 import com.google.inject.Inject;
+import io.airlift.concurrent.BoundedExecutor;
 import io.trino.filesystem.Location;
 import io.trino.filesystem.TrinoFileSystem;
 import io.trino.filesystem.TrinoFileSystemFactory;
@@ -25,6 +26,7 @@ import io.trino.parquet.writer.ParquetSchemaConverter;
 import io.trino.parquet.writer.ParquetWriterOptions;
 import io.trino.plugin.base.metrics.FileFormatDataSourceStats;
 import io.trino.plugin.hive.FileWriter;
+import io.trino.plugin.hive.ForHiveParquetWriter;
 import io.trino.plugin.hive.HiveCompressionCodec;
 import io.trino.plugin.hive.HiveConfig;
 import io.trino.plugin.hive.HiveFileWriterFactory;
@@ -46,6 +48,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 
 import static io.trino.hive.formats.HiveClassNames.MAPRED_PARQUET_OUTPUT_FORMAT_CLASS;
@@ -70,6 +74,7 @@ public class ParquetFileWriterFactory
     private final TypeManager typeManager;
     private final DateTimeZone parquetTimeZone;
     private final FileFormatDataSourceStats readStats;
+    private final Optional<Executor> columnWriterExecutor;
 
     @Inject
     public ParquetFileWriterFactory(
@@ -77,13 +82,19 @@ public class ParquetFileWriterFactory
             NodeVersion nodeVersion,
             TypeManager typeManager,
             HiveConfig hiveConfig,
-            FileFormatDataSourceStats readStats)
+            FileFormatDataSourceStats readStats,
+            @ForHiveParquetWriter ExecutorService parquetWriterExecutor)
     {
         this.fileSystemFactory = requireNonNull(fileSystemFactory, "fileSystemFactory is null");
         this.nodeVersion = requireNonNull(nodeVersion, "nodeVersion is null");
         this.typeManager = requireNonNull(typeManager, "typeManager is null");
         this.parquetTimeZone = hiveConfig.getParquetDateTimeZone();
         this.readStats = requireNonNull(readStats, "readStats is null");
+        requireNonNull(parquetWriterExecutor, "parquetWriterExecutor is null");
+        // All writers share the bounded executor, which limits the total number of threads encoding columns
+        this.columnWriterExecutor = hiveConfig.getParquetWriterColumnEncodingThreads() > 0
+                ? Optional.of(new BoundedExecutor(parquetWriterExecutor, hiveConfig.getParquetWriterColumnEncodingThreads()))
+                : Optional.empty();
     }
 
     @Override
@@ -108,6 +119,7 @@ public class ParquetFileWriterFactory
                 .setMaxPageValueCount(HiveSessionProperties.getParquetWriterPageValueCount(session))
                 .setMaxBlockSize(HiveSessionProperties.getParquetWriterBlockSize(session))
                 .setBatchSize(HiveSessionProperties.getParquetBatchSize(session))
+                .setOptimizedFallbackEncodingsEnabled(HiveSessionProperties.isParquetWriterOptimizedFallbackEncodingsEnabled(session))
                 .setBloomFilterColumns(getParquetBloomFilterColumns(schema))
                 .build();
 
@@ -158,7 +170,8 @@ public class ParquetFileWriterFactory
                             .orElseThrow(() -> new IllegalArgumentException("Unsupported compression codec for Parquet: " + compressionCodec)),
                     nodeVersion.toString(),
                     Optional.of(parquetTimeZone),
-                    validationInputFactory));
+                    validationInputFactory,
+                    columnWriterExecutor));
         }
         catch (IOException e) {
             throw new TrinoException(HIVE_WRITER_OPEN_ERROR, "Error creating Parquet file", e);
@@ -20,6 +20,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.inject.Inject;
+import io.airlift.concurrent.BoundedExecutor;
 import io.trino.filesystem.Location;
 import io.trino.filesystem.TrinoFileSystem;
 import io.trino.filesystem.TrinoFileSystemFactory;
@@ -41,6 +42,7 @@ import io.trino.parquet.reader.ParquetReader;
 import io.trino.parquet.reader.RowGroupInfo;
 import io.trino.plugin.base.metrics.FileFormatDataSourceStats;
 import io.trino.plugin.hive.AcidInfo;
+import io.trino.plugin.hive.ForHiveParquetReader;
 import io.trino.plugin.hive.HiveColumnHandle;
 import io.trino.plugin.hive.HiveColumnProjectionInfo;
 import io.trino.plugin.hive.HiveConfig;
@@ -77,6 +79,8 @@ import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -137,19 +141,26 @@ public class ParquetPageSourceFactory
     private final ParquetReaderOptions options;
     private final DateTimeZone timeZone;
     private final int domainCompactionThreshold;
+    private final Optional<Executor> rowGroupPrefetchExecutor;
 
     @Inject
     public ParquetPageSourceFactory(
             TrinoFileSystemFactory fileSystemFactory,
             FileFormatDataSourceStats stats,
             ParquetReaderConfig config,
-            HiveConfig hiveConfig)
+            HiveConfig hiveConfig,
+            @ForHiveParquetReader ExecutorService parquetReaderExecutor)
     {
         this.fileSystemFactory = requireNonNull(fileSystemFactory, "fileSystemFactory is null");
         this.stats = requireNonNull(stats, "stats is null");
         options = config.toParquetReaderOptions();
         timeZone = hiveConfig.getParquetDateTimeZone();
         domainCompactionThreshold = hiveConfig.getDomainCompactionThreshold();
+        requireNonNull(parquetReaderExecutor, "parquetReaderExecutor is null");
+        // All readers share the bounded executor, which limits the total number of threads loading row groups ahead
+        rowGroupPrefetchExecutor = hiveConfig.getParquetReaderRowGroupPrefetchThreads() > 0
+                ? Optional.of(new BoundedExecutor(parquetReaderExecutor, hiveConfig.getParquetReaderRowGroupPrefetchThreads()))
+                : Optional.empty();
     }
 
     public static boolean stripUnnecessaryProperties(String serializationLibraryName)
@@ -202,7 +213,8 @@ public class ParquetPageSourceFactory
                         .build(),
                 Optional.empty(),
                 domainCompactionThreshold,
-                OptionalLong.of(estimatedFileSize)));
+                OptionalLong.of(estimatedFileSize),
+                rowGroupPrefetchExecutor));
     }
 
     /**
@@ -221,6 +233,37 @@ public class ParquetPageSourceFactory
             Optional<ParquetWriteValidation> parquetWriteValidation,
             int domainCompactionThreshold,
             OptionalLong estimatedFileSize)
+    {
+        return createPageSource(
+                inputFile,
+                start,
+                length,
+                columns,
+                disjunctTupleDomains,
+                useColumnNames,
+                timeZone,
+                stats,
+                options,
+                parquetWriteValidation,
+                domainCompactionThreshold,
+                estimatedFileSize,
+                Optional.empty());
+    }
+
+    public static ConnectorPageSource createPageSource(
+            TrinoInputFile inputFile,
+            long start,
+            long length,
+            List<HiveColumnHandle> columns,
+            List<TupleDomain<HiveColumnHandle>> disjunctTupleDomains,
+            boolean useColumnNames,
+            DateTimeZone timeZone,
+            FileFormatDataSourceStats stats,
+            ParquetReaderOptions options,
+            Optional<ParquetWriteValidation> parquetWriteValidation,
+            int domainCompactionThreshold,
+            OptionalLong estimatedFileSize,
+            Optional<Executor> rowGroupPrefetchExecutor)
     {
         MessageType fileSchema;
         MessageType requestedSchema;
@@ -285,7 +328,8 @@ public class ParquetPageSourceFactory
                     // We avoid using disjuncts of parquetPredicate for page pruning in ParquetReader as currently column indexes
                     // are not present in the Parquet files which are read with disjunct predicates.
                     parquetPredicates.size() == 1 ? Optional.of(parquetPredicates.getFirst()) : Optional.empty(),
-                    parquetWriteValidation);
+                    parquetWriteValidation,
+                    rowGroupPrefetchExecutor);
             return createParquetPageSource(columns, fileSchema, messageColumn, useColumnNames, parquetReaderProvider);
         }
         catch (Exception e) {
@@ -47,6 +47,7 @@ public class ParquetWriterConfig
     private int pageValueCount = ParquetWriterOptions.DEFAULT_MAX_PAGE_VALUE_COUNT;
     private int batchSize = ParquetWriterOptions.DEFAULT_BATCH_SIZE;
     private double validationPercentage = 5;
+    private boolean optimizedFallbackEncodingsEnabled;
 
     @MaxDataSize(PARQUET_WRITER_MAX_BLOCK_SIZE)
     public DataSize getBlockSize()
@@ -119,4 +120,17 @@ public class ParquetWriterConfig
         this.validationPercentage = validationPercentage;
         return this;
     }
+
+    public boolean isOptimizedFallbackEncodingsEnabled()
+    {
+        return optimizedFallbackEncodingsEnabled;
+    }
+
+    @Config("parquet.writer.optimized-fallback-encodings.enabled")
+    @ConfigDescription("Use DELTA_BINARY_PACKED, DELTA_BYTE_ARRAY or BYTE_STREAM_SPLIT instead of PLAIN encoding when dictionary encoding is not effective and they make the data smaller")
+    public ParquetWriterConfig setOptimizedFallbackEncodingsEnabled(boolean optimizedFallbackEncodingsEnabled)
+    {
+        this.optimizedFallbackEncodingsEnabled = optimizedFallbackEncodingsEnabled;
+        return this;
+    }
 }
@@ -16,22 +16,17 @@ package io.trino.plugin.hive.procedure;
 import com.google.common.collect.ImmutableList;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
-import io.trino.metastore.Column;
 import io.trino.metastore.HiveMetastore;
 import io.trino.metastore.HiveMetastoreFactory;
 import io.trino.metastore.Table;
-import io.trino.metastore.cache.CachingHiveMetastore;
 import io.trino.plugin.hive.HiveErrorCode;
-import io.trino.plugin.hive.fs.DirectoryLister;
-import io.trino.plugin.hive.metastore.glue.GlueCache;
-import io.trino.plugin.hive.metastore.glue.PartitionName;
+import io.trino.plugin.hive.metastore.MetastoreCacheFlusher;
 import io.trino.spi.StandardErrorCode;
 import io.trino.spi.TrinoException;
 import io.trino.spi.classloader.ThreadContextClassLoader;
 import io.trino.spi.connector.ConnectorSession;
 import io.trino.spi.connector.SchemaTableName;
 import io.trino.spi.connector.TableNotFoundException;
-import io.trino.spi.predicate.TupleDomain;
 import io.trino.spi.procedure.Procedure;
 import io.trino.spi.type.ArrayType;
 
@@ -40,8 +35,6 @@ import java.util.List;
 import java.util.Optional;
 
 import static com.google.common.base.Preconditions.checkState;
-import static com.google.common.collect.ImmutableList.toImmutableList;
-import static io.trino.metastore.Partitions.makePartName;
 import static io.trino.spi.type.VarcharType.VARCHAR;
 import static java.lang.String.format;
 import static java.lang.invoke.MethodHandles.lookup;
@@ -83,21 +76,13 @@ public class FlushMetadataCacheProcedure
     }
 
     private final HiveMetastoreFactory hiveMetadataFactory;
-    private final Optional<DirectoryLister> directoryLister;
-    private final Optional<CachingHiveMetastore> cachingHiveMetastore;
-    private final Optional<GlueCache> glueCache;
+    private final MetastoreCacheFlusher metastoreCacheFlusher;
 
     @Inject
-    public FlushMetadataCacheProcedure(
-            HiveMetastoreFactory hiveMetadataFactory,
-            Optional<DirectoryLister> directoryLister,
-            Optional<CachingHiveMetastore> cachingHiveMetastore,
-            Optional<GlueCache> glueCache)
+    public FlushMetadataCacheProcedure(HiveMetastoreFactory hiveMetadataFactory, MetastoreCacheFlusher metastoreCacheFlusher)
     {
         this.hiveMetadataFactory = requireNonNull(hiveMetadataFactory, "hiveMetadataFactory is null");
-        this.directoryLister = requireNonNull(directoryLister, "directoryLister is null");
-        this.cachingHiveMetastore = requireNonNull(cachingHiveMetastore, "cachingHiveMetastore is null");
-        this.glueCache = requireNonNull(glueCache, "glueCache is null");
+        this.metastoreCacheFlusher = requireNonNull(metastoreCacheFlusher, "metastoreCacheFlusher is null");
     }
 
     @Override
@@ -134,7 +119,7 @@ public class FlushMetadataCacheProcedure
 
     private void doFlushMetadataCache(ConnectorSession session, Optional<String> schemaName, Optional<String> tableName, List<String> partitionColumns, List<String> partitionValues)
     {
-        if (cachingHiveMetastore.isEmpty() && glueCache.isEmpty()) {
+        if (!metastoreCacheFlusher.isMetastoreCacheEnabled()) {
             // TODO this currently does not work. CachingHiveMetastore is always bound for metastores other than Glue, even when caching is disabled,
             //  so for consistency we do not discern between GlueCache NOOP and real.
             throw new TrinoException(HiveErrorCode.HIVE_METASTORE_ERROR, "Cannot flush, metastore cache is not enabled");
@@ -145,43 +130,18 @@ public class FlushMetadataCacheProcedure
                 "Parameters partition_column and partition_value should have same length");
 
         if (schemaName.isEmpty() && tableName.isEmpty() && partitionColumns.isEmpty()) {
-            cachingHiveMetastore.ifPresent(CachingHiveMetastore::flushCache);
-            glueCache.ifPresent(GlueCache::flushCache);
-            directoryLister.ifPresent(DirectoryLister::invalidateAll);
+            metastoreCacheFlusher.flushAll();
         }
         else if (schemaName.isPresent() && tableName.isPresent()) {
             HiveMetastore metastore = hiveMetadataFactory.createMetastore(Optional.of(session.getIdentity()));
             Table table = metastore.getTable(schemaName.get(), tableName.get())
                     .orElseThrow(() -> new TableNotFoundException(new SchemaTableName(schemaName.get(), tableName.get())));
-            List<String> partitions;
 
             if (!partitionColumns.isEmpty()) {
-                cachingHiveMetastore.ifPresent(cachingHiveMetastore -> cachingHiveMetastore.flushPartitionCache(schemaName.get(), tableName.get(), partitionColumns, partitionValues));
-                glueCache.ifPresent(glueCache -> glueCache.invalidatePartition(schemaName.get(), tableName.get(), new PartitionName(partitionValues)));
-
-                partitions = ImmutableList.of(makePartName(partitionColumns, partitionValues));
+                metastoreCacheFlusher.flushPartition(metastore, table, partitionColumns, partitionValues);
             }
             else {
-                cachingHiveMetastore.ifPresent(cachingHiveMetastore -> cachingHiveMetastore.invalidateTable(schemaName.get(), tableName.get()));
-                glueCache.ifPresent(glueCache -> glueCache.invalidateTable(schemaName.get(), tableName.get(), true));
-
-                List<String> partitionColumnNames = table.getPartitionColumns().stream()
-                        .map(Column::getName)
-                        .collect(toImmutableList());
-                partitions = metastore.getPartitionNamesByFilter(schemaName.get(), tableName.get(), partitionColumnNames, TupleDomain.all())
-                        .orElse(ImmutableList.of());
-            }
-
-            if (directoryLister.isPresent()) {
-                if (partitions.isEmpty()) {
-                    directoryLister.get().invalidate(table);
-                }
-                else {
-                    metastore.getPartitionsByNames(table, partitions).values().stream()
-                            .filter(Optional::isPresent)
-                            .map(Optional::get)
-                            .forEach(partition -> directoryLister.get().invalidate(partition));
-                }
+                metastoreCacheFlusher.flushTable(metastore, table);
             }
         }
         else {
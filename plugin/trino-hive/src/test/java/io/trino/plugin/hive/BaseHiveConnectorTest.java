@@ -4740,6 +4740,44 @@ public abstract class BaseHiveConnectorTest
                 .hasMessageMatching("csv_escape must be a single character string, but was: 'EE'");
     }
 
+    @Test
+    public void testZOrderBy()
+    {
+        String tableName = "test_zorder_by_" + randomNameSuffix();
+        assertUpdate("CREATE TABLE " + tableName + " (x bigint, y double, name varchar) WITH (zorder_by = ARRAY['x', 'y'])");
+        assertThat((String) computeScalar("SHOW CREATE TABLE " + tableName))
+                .contains("zorder_by = ARRAY['x','y']");
+
+        assertUpdate("INSERT INTO " + tableName + " SELECT orderkey, totalprice, comment FROM orders", "SELECT count(*) FROM orders");
+        assertQuery("SELECT x, y, name FROM " + tableName, "SELECT orderkey, totalprice, comment FROM orders");
+        assertQueryFails("ALTER TABLE " + tableName + " DROP COLUMN y", "Cannot rename or drop Z-order column y");
+        assertQueryFails("ALTER TABLE " + tableName + " RENAME COLUMN x TO z", "Cannot rename or drop Z-order column x");
+        assertUpdate("DROP TABLE " + tableName);
+
+        // rows are written along the Z-order curve, so that each stripe covers a compact range of both columns
+        // and a filter on both columns skips most stripes, whatever order the rows were inserted in
+        Session smallStripes = Session.builder(getSession())
+                .setCatalogSessionProperty(catalog, "orc_optimized_writer_max_stripe_rows", "256")
+                .build();
+        assertUpdate("CREATE TABLE " + tableName + " (x bigint, y bigint) WITH (format = 'ORC', zorder_by = ARRAY['x', 'y'])");
+        assertUpdate(smallStripes, "INSERT INTO " + tableName + " SELECT x, y FROM UNNEST(sequence(0, 63)) a(x) CROSS JOIN UNNEST(sequence(0, 63)) b(y)", 4096);
+        assertQueryStats(
+                getSession(),
+                "SELECT count(*) FROM " + tableName + " WHERE x < 16 AND y < 16",
+                queryStats -> assertThat(queryStats.getPhysicalInputPositions()).isLessThan(4096 / 2),
+                result -> assertThat(result.getOnlyValue()).isEqualTo(256L));
+        assertUpdate("DROP TABLE " + tableName);
+
+        assertThatThrownBy(() -> assertUpdate("CREATE TABLE invalid_table (x bigint) WITH (zorder_by = ARRAY['y'])"))
+                .hasMessageMatching("Z-order column y not present in schema");
+        assertThatThrownBy(() -> assertUpdate("CREATE TABLE invalid_table (x array(bigint)) WITH (zorder_by = ARRAY['x'])"))
+                .hasMessageMatching("Z-order column x has unsupported type array\\(bigint\\)");
+        assertThatThrownBy(() -> assertUpdate("CREATE TABLE invalid_table (x bigint, p bigint) WITH (zorder_by = ARRAY['p'], partitioned_by = ARRAY['p'])"))
+                .hasMessageMatching("Z-order column p is also used as partitioning column");
+        assertThatThrownBy(() -> assertUpdate("CREATE TABLE invalid_table (x bigint, y bigint) WITH (zorder_by = ARRAY['x'], bucketed_by = ARRAY['y'], bucket_count = 2, sorted_by = ARRAY['y'])"))
+                .hasMessageMatching("Table property zorder_by cannot be combined with sorted_by");
+    }
+
     @Test
     public void testPathHiddenColumn()
     {
@@ -36,6 +36,7 @@ import io.trino.metastore.HiveBucketProperty;
 import io.trino.metastore.HivePartition;
 import io.trino.metastore.StorageFormat;
 import io.trino.metastore.Table;
+import io.trino.plugin.base.metrics.LongCount;
 import io.trino.plugin.hive.HiveColumnHandle.ColumnType;
 import io.trino.plugin.hive.fs.CachingDirectoryLister;
 import io.trino.plugin.hive.fs.DirectoryLister;
@@ -49,6 +50,7 @@ import io.trino.spi.connector.ConnectorSession;
 import io.trino.spi.connector.ConnectorSplitSource.ConnectorSplitBatch;
 import io.trino.spi.connector.DynamicFilter;
 import io.trino.spi.connector.SchemaTableName;
+import io.trino.spi.metrics.Metric;
 import io.trino.spi.predicate.Domain;
 import io.trino.spi.predicate.TupleDomain;
 import io.trino.spi.security.ConnectorIdentity;
@@ -90,6 +92,9 @@ import static io.trino.hive.thrift.metastore.hive_metastoreConstants.FILE_INPUT_
 import static io.trino.metastore.HiveType.HIVE_INT;
 import static io.trino.metastore.HiveType.HIVE_STRING;
 import static io.trino.plugin.hive.BackgroundHiveSplitLoader.BucketSplitInfo.createBucketSplitInfo;
+import static io.trino.plugin.hive.BackgroundHiveSplitLoader.DIRECTORIES_LISTED;
+import static io.trino.plugin.hive.BackgroundHiveSplitLoader.DIRECTORY_LISTING_TIME;
+import static io.trino.plugin.hive.BackgroundHiveSplitLoader.PARTITIONS_LOADED;
 import static io.trino.plugin.hive.BackgroundHiveSplitLoader.getBucketNumber;
 import static io.trino.plugin.hive.BackgroundHiveSplitLoader.hasAttemptId;
 import static io.trino.plugin.hive.HiveColumnHandle.createBaseColumn;
@@ -162,6 +167,22 @@ public class TestBackgroundHiveSplitLoader
         assertThat(drain(hiveSplitSource)).hasSize(2);
     }
 
+    @Test
+    public void testListingMetrics()
+            throws Exception
+    {
+        BackgroundHiveSplitLoader backgroundHiveSplitLoader = backgroundHiveSplitLoader(TEST_LOCATIONS, TupleDomain.none());
+
+        HiveSplitSource hiveSplitSource = hiveSplitSource(backgroundHiveSplitLoader);
+        backgroundHiveSplitLoader.start(hiveSplitSource);
+        assertThat(drain(hiveSplitSource)).hasSize(2);
+
+        Map<String, Metric<?>> metrics = hiveSplitSource.getMetrics().getMetrics();
+        assertThat(metrics.get(PARTITIONS_LOADED)).isEqualTo(new LongCount(1));
+        assertThat(metrics.get(DIRECTORIES_LISTED)).isEqualTo(new LongCount(1));
+        assertThat(metrics).containsKey(DIRECTORY_LISTING_TIME);
+    }
+
     @Test
     public void testCsv()
             throws Exception
@@ -56,6 +56,7 @@ public class TestHiveConfig
                 .setDomainCompactionThreshold(1000)
                 .setTargetMaxFileSize(DataSize.of(1, GIGABYTE))
                 .setIdleWriterMinFileSize(DataSize.of(16, MEGABYTE))
+                .setZOrderBufferSize(DataSize.of(64, MEGABYTE))
                 .setForceLocalScheduling(false)
                 .setMaxConcurrentFileSystemOperations(20)
                 .setMaxConcurrentMetastoreDrops(20)
@@ -80,6 +81,8 @@ public class TestHiveConfig
                 .setOrcLegacyTimeZone(TimeZone.getDefault().getID())
                 .setParquetTimeZone(TimeZone.getDefault().getID())
                 .setUseParquetColumnNames(true)
+                .setParquetWriterColumnEncodingThreads(0)
+                .setParquetReaderRowGroupPrefetchThreads(0)
                 .setRcfileTimeZone(TimeZone.getDefault().getID())
                 .setRcfileWriterValidate(false)
                 .setSkipDeletionForAlter(false)
@@ -143,6 +146,7 @@ public class TestHiveConfig
                 .put("hive.domain-compaction-threshold", "42")
                 .put("hive.target-max-file-size", "72MB")
                 .put("hive.idle-writer-min-file-size", "1MB")
+                .put("hive.zorder-buffer-size", "16MB")
                 .put("hive.recursive-directories", "true")
                 .put("hive.ignore-absent-partitions", "true")
                 .put("hive.storage-format", "SEQUENCEFILE")
@@ -165,6 +169,8 @@ public class TestHiveConfig
                 .put("hive.orc.time-zone", nonDefaultTimeZone().getID())
                 .put("hive.parquet.time-zone", nonDefaultTimeZone().getID())
                 .put("hive.parquet.use-column-names", "false")
+                .put("hive.parquet.writer.column-encoding-threads", "8")
+                .put("hive.parquet.reader.row-group-prefetch-threads", "4")
                 .put("hive.rcfile.time-zone", nonDefaultTimeZone().getID())
                 .put("hive.rcfile.writer.validate", "true")
                 .put("hive.skip-deletion-for-alter", "true")
@@ -227,6 +233,7 @@ public class TestHiveConfig
                 .setDomainCompactionThreshold(42)
                 .setTargetMaxFileSize(DataSize.of(72, Unit.MEGABYTE))
                 .setIdleWriterMinFileSize(DataSize.of(1, MEGABYTE))
+                .setZOrderBufferSize(DataSize.of(16, MEGABYTE))
                 .setForceLocalScheduling(true)
                 .setMaxConcurrentFileSystemOperations(100)
                 .setMaxConcurrentMetastoreDrops(100)
@@ -249,6 +256,8 @@ public class TestHiveConfig
                 .setOrcLegacyTimeZone(nonDefaultTimeZone().getID())
                 .setParquetTimeZone(nonDefaultTimeZone().getID())
                 .setUseParquetColumnNames(false)
+                .setParquetWriterColumnEncodingThreads(8)
+                .setParquetReaderRowGroupPrefetchThreads(4)
                 .setRcfileTimeZone(nonDefaultTimeZone().getID())
                 .setRcfileWriterValidate(true)
                 .setSkipDeletionForAlter(true)
@@ -0,0 +1,201 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.hive;
+
+import com.google.common.collect.ImmutableList;
+import io.airlift.units.DataSize;
+import io.trino.spi.Page;
+import io.trino.spi.block.BlockBuilder;
+import io.trino.spi.type.ArrayType;
+import io.trino.spi.type.Type;
+import org.junit.jupiter.api.Test;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.airlift.slice.Slices.utf8Slice;
+import static io.airlift.units.DataSize.Unit.MEGABYTE;
+import static io.trino.spi.type.BigintType.BIGINT;
+import static io.trino.spi.type.DoubleType.DOUBLE;
+import static io.trino.spi.type.VarcharType.VARCHAR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestZOrderFileWriter
+{
+    private static final List<Type> TYPES = ImmutableList.of(BIGINT, DOUBLE, VARCHAR);
+
+    @Test
+    public void testZOrder()
+    {
+        // a 4x4 grid of points, written row by row
+        List<Object[]> points = new ArrayList<>();
+        for (long x = 0; x < 4; x++) {
+            for (double y = 0; y < 4; y++) {
+                points.add(new Object[] {x, y * y});
+            }
+        }
+
+        RecordingFileWriter outputWriter = new RecordingFileWriter();
+        ZOrderFileWriter writer = new ZOrderFileWriter(outputWriter, DataSize.of(1, MEGABYTE), TYPES, ImmutableList.of(0, 1));
+        writer.appendRows(createPage(points.subList(0, 7)));
+        writer.appendRows(createPage(points.subList(7, 16)));
+        assertThat(outputWriter.pages).isEmpty();
+        assertThat(writer.getMemoryUsage()).isGreaterThan(0);
+        writer.commit();
+
+        assertThat(outputWriter.committed).isTrue();
+        assertThat(readRows(outputWriter.pages)).containsExactly(
+                "0:0.0", "0:1.0", "1:0.0", "1:1.0",
+                "0:4.0", "0:9.0", "1:4.0", "1:9.0",
+                "2:0.0", "2:1.0", "3:0.0", "3:1.0",
+                "2:4.0", "2:9.0", "3:4.0", "3:9.0");
+    }
+
+    @Test
+    public void testNegativeValuesAndNulls()
+    {
+        RecordingFileWriter outputWriter = new RecordingFileWriter();
+        ZOrderFileWriter writer = new ZOrderFileWriter(outputWriter, DataSize.of(1, MEGABYTE), TYPES, ImmutableList.of(0, 1));
+        writer.appendRows(createPage(ImmutableList.of(
+                new Object[] {5L, -2.5},
+                new Object[] {null, null},
+                new Object[] {-5L, 2.5})));
+        writer.commit();
+
+        assertThat(readRows(outputWriter.pages)).containsExactly("null:null", "-5:2.5", "5:-2.5");
+    }
+
+    @Test
+    public void testFlushWhenBufferIsFull()
+    {
+        RecordingFileWriter outputWriter = new RecordingFileWriter();
+        ZOrderFileWriter writer = new ZOrderFileWriter(outputWriter, DataSize.ofBytes(1), TYPES, ImmutableList.of(0));
+        writer.appendRows(createPage(ImmutableList.of(new Object[] {3L, 0.0}, new Object[] {1L, 0.0})));
+        assertThat(readRows(outputWriter.pages)).containsExactly("1:0.0", "3:0.0");
+        writer.appendRows(createPage(ImmutableList.of(new Object[] {2L, 0.0}, new Object[] {0L, 0.0})));
+        assertThat(readRows(outputWriter.pages)).containsExactly("1:0.0", "3:0.0", "0:0.0", "2:0.0");
+
+        writer.rollback();
+        assertThat(outputWriter.rolledBack).isTrue();
+    }
+
+    @Test
+    public void testRollbackReleasesBuffer()
+    {
+        RecordingFileWriter outputWriter = new RecordingFileWriter();
+        ZOrderFileWriter writer = new ZOrderFileWriter(outputWriter, DataSize.of(1, MEGABYTE), TYPES, ImmutableList.of(0, 1));
+        long emptyMemoryUsage = writer.getMemoryUsage();
+        Page page = createPage(ImmutableList.of(new Object[] {1L, 0.0}, new Object[] {2L, 0.0}));
+        writer.appendRows(page);
+        // the temporary arrays of the flush are accounted for up front, on top of the buffered page
+        assertThat(writer.getMemoryUsage()).isGreaterThan(emptyMemoryUsage + page.getRetainedSizeInBytes());
+        assertThat(writer.getWrittenBytes()).isEqualTo(page.getSizeInBytes());
+
+        writer.rollback();
+        assertThat(outputWriter.rolledBack).isTrue();
+        assertThat(writer.getMemoryUsage()).isEqualTo(emptyMemoryUsage);
+        assertThat(writer.getWrittenBytes()).isEqualTo(0);
+        assertThat(outputWriter.pages).isEmpty();
+    }
+
+    @Test
+    public void testUnsupportedType()
+    {
+        assertThatThrownBy(() -> new ZOrderFileWriter(new RecordingFileWriter(), DataSize.of(1, MEGABYTE), ImmutableList.of(new ArrayType(BIGINT)), ImmutableList.of(0)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unsupported clustering type");
+    }
+
+    private static Page createPage(List<Object[]> rows)
+    {
+        BlockBuilder bigintBuilder = BIGINT.createFixedSizeBlockBuilder(rows.size());
+        BlockBuilder doubleBuilder = DOUBLE.createFixedSizeBlockBuilder(rows.size());
+        BlockBuilder varcharBuilder = VARCHAR.createBlockBuilder(null, rows.size());
+        for (Object[] row : rows) {
+            if (row[0] == null) {
+                bigintBuilder.appendNull();
+            }
+            else {
+                BIGINT.writeLong(bigintBuilder, (long) row[0]);
+            }
+            if (row[1] == null) {
+                doubleBuilder.appendNull();
+            }
+            else {
+                DOUBLE.writeDouble(doubleBuilder, (double) row[1]);
+            }
+            VARCHAR.writeSlice(varcharBuilder, utf8Slice(row[0] + ":" + row[1]));
+        }
+        return new Page(bigintBuilder.build(), doubleBuilder.build(), varcharBuilder.build());
+    }
+
+    private static List<String> readRows(List<Page> pages)
+    {
+        // the varchar column carries the original values, so it also verifies that rows were not torn apart
+        List<String> rows = new ArrayList<>();
+        for (Page page : pages) {
+            for (int position = 0; position < page.getPositionCount(); position++) {
+                rows.add(VARCHAR.getSlice(page.getBlock(2), position).toStringUtf8());
+            }
+        }
+        return rows;
+    }
+
+    private static class RecordingFileWriter
+            implements FileWriter
+    {
+        private final List<Page> pages = new ArrayList<>();
+        private boolean committed;
+        private boolean rolledBack;
+
+        @Override
+        public long getWrittenBytes()
+        {
+            return 0;
+        }
+
+        @Override
+        public long getMemoryUsage()
+        {
+            return 0;
+        }
+
+        @Override
+        public void appendRows(Page dataPage)
+        {
+            pages.add(dataPage);
+        }
+
+        @Override
+        public Closeable commit()
+        {
+            committed = true;
+            return () -> {};
+        }
+
+        @Override
+        public void rollback()
+        {
+            rolledBack = true;
+        }
+
+        @Override
+        public long getValidationCpuNanos()
+        {
+            return 0;
+        }
+    }
+}
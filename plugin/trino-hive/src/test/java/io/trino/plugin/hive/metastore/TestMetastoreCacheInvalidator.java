@@ -0,0 +1,463 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.hive.metastore;
+
+import io.trino.filesystem.Location;
+import io.trino.filesystem.TrinoFileSystem;
+import io.trino.filesystem.local.LocalFileSystemFactory;
+import io.trino.metastore.Column;
+import io.trino.metastore.Database;
+import io.trino.metastore.HiveColumnStatistics;
+import io.trino.metastore.HiveMetastore;
+import io.trino.metastore.HiveMetastoreFactory;
+import io.trino.metastore.Partition;
+import io.trino.metastore.PartitionStatistics;
+import io.trino.metastore.PartitionWithStatistics;
+import io.trino.metastore.Table;
+import io.trino.metastore.TableInfo;
+import io.trino.metastore.cache.CachingHiveMetastore;
+import io.trino.plugin.hive.NodeVersion;
+import io.trino.plugin.hive.fs.DirectoryLister;
+import io.trino.plugin.hive.fs.RemoteIterator;
+import io.trino.plugin.hive.fs.TrinoFileStatus;
+import io.trino.plugin.hive.metastore.MetastoreCacheInvalidator.InvalidationEvent;
+import io.trino.plugin.hive.metastore.file.FileHiveMetastore;
+import io.trino.plugin.hive.metastore.file.FileHiveMetastoreConfig;
+import io.trino.plugin.hive.metastore.glue.GlueCache;
+import io.trino.plugin.hive.metastore.glue.PartitionName;
+import io.trino.spi.catalog.CatalogName;
+import io.trino.spi.connector.SchemaTableName;
+import io.trino.spi.function.LanguageFunction;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.google.common.io.MoreFiles.deleteRecursively;
+import static com.google.common.io.RecursiveDeleteOption.ALLOW_INSECURE;
+import static io.trino.metastore.HiveType.HIVE_STRING;
+import static io.trino.metastore.PrincipalPrivileges.NO_PRIVILEGES;
+import static io.trino.metastore.cache.CachingHiveMetastore.createPerTransactionCache;
+import static io.trino.plugin.hive.HiveMetadata.TRINO_QUERY_ID_NAME;
+import static io.trino.plugin.hive.HiveStorageFormat.PARQUET;
+import static io.trino.plugin.hive.TableType.EXTERNAL_TABLE;
+import static io.trino.plugin.hive.metastore.MetastoreCacheInvalidator.READ_CHUNK_SIZE;
+import static io.trino.testing.TestingNames.randomNameSuffix;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.createTempDirectory;
+import static java.nio.file.Files.createTempFile;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
+
+@TestInstance(PER_CLASS)
+public class TestMetastoreCacheInvalidator
+{
+    private static final String SCHEMA = "test_schema";
+
+    private Path tempDir;
+    private HiveMetastore delegate;
+
+    @BeforeAll
+    public void setUp()
+            throws IOException
+    {
+        tempDir = createTempDirectory("test");
+        delegate = new FileHiveMetastore(
+                new NodeVersion("testversion"),
+                new LocalFileSystemFactory(tempDir),
+                false,
+                new FileHiveMetastoreConfig()
+                        .setCatalogDirectory("local:///metastore")
+                        .setMetastoreUser("test")
+                        .setDisableLocationChecks(true));
+        delegate.createDatabase(Database.builder()
+                .setDatabaseName(SCHEMA)
+                .setParameters(Map.of(TRINO_QUERY_ID_NAME, "query_id"))
+                .setOwnerName(Optional.empty())
+                .setOwnerType(Optional.empty())
+                .build());
+    }
+
+    @AfterAll
+    public void tearDown()
+            throws IOException
+    {
+        deleteRecursively(tempDir, ALLOW_INSECURE);
+        delegate = null;
+    }
+
+    @Test
+    public void testInvalidateTable()
+            throws IOException
+    {
+        String tableName = createTable("test_table", false);
+        CachingHiveMetastore cachingMetastore = createPerTransactionCache(delegate, 1000);
+        RecordingDirectoryLister directoryLister = new RecordingDirectoryLister();
+        Path eventsFile = createTempFile(tempDir, "events", null);
+        MetastoreCacheInvalidator invalidator = createInvalidator(eventsFile, cachingMetastore, new MetastoreCacheFlusher(Optional.of(directoryLister), Optional.of(cachingMetastore), Optional.empty()));
+
+        Table table = cachingMetastore.getTable(SCHEMA, tableName).orElseThrow();
+        delegate.dropTable(SCHEMA, tableName, false);
+        assertThat(cachingMetastore.getTable(SCHEMA, tableName)).isPresent();
+
+        sendEvent(eventsFile, SCHEMA + "." + tableName);
+        invalidator.processNewEvents();
+
+        assertThat(cachingMetastore.getTable(SCHEMA, tableName)).isEmpty();
+        assertThat(directoryLister.invalidations).containsExactly(table.getStorage().getLocation());
+        assertThat(invalidator.getTableInvalidations().getTotalCount()).isEqualTo(1);
+        assertThat(invalidator.getFailedEvents().getTotalCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void testInvalidatePartition()
+            throws IOException
+    {
+        String tableName = createTable("test_partitioned_table", true);
+        CachingHiveMetastore cachingMetastore = createPerTransactionCache(delegate, 1000);
+        RecordingDirectoryLister directoryLister = new RecordingDirectoryLister();
+        Path eventsFile = createTempFile(tempDir, "events", null);
+        MetastoreCacheInvalidator invalidator = createInvalidator(eventsFile, cachingMetastore, new MetastoreCacheFlusher(Optional.of(directoryLister), Optional.of(cachingMetastore), Optional.empty()));
+
+        Table table = cachingMetastore.getTable(SCHEMA, tableName).orElseThrow();
+        Partition partition = cachingMetastore.getPartition(table, List.of("2024-01-01")).orElseThrow();
+        String movedLocation = partition.getStorage().getLocation() + "_moved";
+        Files.createDirectories(tempDir.resolve("data").resolve(tableName).resolve("ds=2024-01-01_moved"));
+        Partition movedPartition = Partition.builder(partition)
+                .withStorage(storage -> storage.setLocation(movedLocation))
+                .build();
+        delegate.alterPartition(SCHEMA, tableName, new PartitionWithStatistics(movedPartition, "ds=2024-01-01", PartitionStatistics.empty()));
+        assertThat(cachingMetastore.getPartition(table, List.of("2024-01-01")).orElseThrow().getStorage().getLocation())
+                .isEqualTo(partition.getStorage().getLocation());
+
+        sendEvent(eventsFile, SCHEMA + "." + tableName + " ds=2024-01-01");
+        invalidator.processNewEvents();
+
+        assertThat(cachingMetastore.getPartition(table, List.of("2024-01-01")).orElseThrow().getStorage().getLocation())
+                .isEqualTo(movedLocation);
+        // the location is resolved from the underlying metastore, not from the stale cache entry
+        assertThat(directoryLister.invalidations).containsExactly(movedLocation);
+        assertThat(invalidator.getPartitionInvalidations().getTotalCount()).isEqualTo(1);
+
+        // a dropped partition has no listings left to invalidate
+        delegate.dropPartition(SCHEMA, tableName, List.of("2024-01-01"), false);
+        sendEvent(eventsFile, SCHEMA + "." + tableName + " ds=2024-01-01");
+        invalidator.processNewEvents();
+        assertThat(cachingMetastore.getPartition(table, List.of("2024-01-01"))).isEmpty();
+        assertThat(directoryLister.invalidations).containsExactly(movedLocation);
+        assertThat(invalidator.getPartitionInvalidations().getTotalCount()).isEqualTo(2);
+
+        // a partition name not matching the partition columns of the table is rejected
+        sendEvent(eventsFile, SCHEMA + "." + tableName + " ds=2024-01-01/hr=10");
+        invalidator.processNewEvents();
+        assertThat(invalidator.getFailedEvents().getTotalCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testInvalidateGlueCache()
+            throws IOException
+    {
+        String tableName = createTable("test_glue_table", true);
+        RecordingGlueCache glueCache = new RecordingGlueCache();
+        Path eventsFile = createTempFile(tempDir, "events", null);
+        MetastoreCacheInvalidator invalidator = createInvalidator(eventsFile, delegate, new MetastoreCacheFlusher(Optional.empty(), Optional.empty(), Optional.of(glueCache)));
+
+        sendEvent(eventsFile, SCHEMA + "." + tableName);
+        sendEvent(eventsFile, SCHEMA + "." + tableName + " ds=2024-01-01");
+        invalidator.processNewEvents();
+
+        assertThat(glueCache.invalidations).containsExactly(
+                "table " + SCHEMA + "." + tableName,
+                "partition " + SCHEMA + "." + tableName + " [2024-01-01]");
+    }
+
+    @Test
+    public void testReadEventsInChunks()
+            throws IOException
+    {
+        String tableName = createTable("test_chunked_table", false);
+        CachingHiveMetastore cachingMetastore = createPerTransactionCache(delegate, 1000);
+        Path eventsFile = createTempFile(tempDir, "events", null);
+        MetastoreCacheInvalidator invalidator = createInvalidator(eventsFile, cachingMetastore, new MetastoreCacheFlusher(Optional.empty(), Optional.of(cachingMetastore), Optional.empty()));
+
+        // events spanning several chunks, with lines crossing chunk boundaries
+        String comment = "# " + "x".repeat(1000);
+        for (int i = 0; i < 3 * READ_CHUNK_SIZE / comment.length(); i++) {
+            sendEvent(eventsFile, comment);
+        }
+        sendEvent(eventsFile, SCHEMA + "." + tableName);
+        invalidator.processNewEvents();
+
+        assertThat(invalidator.getTableInvalidations().getTotalCount()).isEqualTo(1);
+        assertThat(invalidator.getFailedEvents().getTotalCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void testSkipEventLongerThanChunk()
+            throws IOException
+    {
+        String tableName = createTable("test_long_event_table", false);
+        CachingHiveMetastore cachingMetastore = createPerTransactionCache(delegate, 1000);
+        Path eventsFile = createTempFile(tempDir, "events", null);
+        MetastoreCacheInvalidator invalidator = createInvalidator(eventsFile, cachingMetastore, new MetastoreCacheFlusher(Optional.empty(), Optional.of(cachingMetastore), Optional.empty()));
+
+        sendEvent(eventsFile, "x".repeat(2 * READ_CHUNK_SIZE + 10));
+        sendEvent(eventsFile, SCHEMA + "." + tableName);
+        invalidator.processNewEvents();
+
+        assertThat(invalidator.getFailedEvents().getTotalCount()).isEqualTo(1);
+        assertThat(invalidator.getTableInvalidations().getTotalCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testParseEvent()
+    {
+        assertThat(InvalidationEvent.parse("")).isEmpty();
+        assertThat(InvalidationEvent.parse("   ")).isEmpty();
+        assertThat(InvalidationEvent.parse("# comment")).isEmpty();
+
+        assertThat(InvalidationEvent.parse("schema.table"))
+                .contains(new InvalidationEvent(new SchemaTableName("schema", "table"), Optional.empty()));
+        assertThat(InvalidationEvent.parse("  schema.table\t"))
+                .contains(new InvalidationEvent(new SchemaTableName("schema", "table"), Optional.empty()));
+        assertThat(InvalidationEvent.parse("schema.table ds=2024-01-01/hr=10"))
+                .contains(new InvalidationEvent(new SchemaTableName("schema", "table"), Optional.of("ds=2024-01-01/hr=10")));
+    }
+
+    @Test
+    public void testParseInvalidEvent()
+    {
+        assertThatThrownBy(() -> InvalidationEvent.parse("table"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid table name: table");
+        assertThatThrownBy(() -> InvalidationEvent.parse("catalog.schema.table"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid table name: catalog.schema.table");
+        assertThatThrownBy(() -> InvalidationEvent.parse("schema.table 2024-01-01"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid partition name: 2024-01-01");
+        assertThatThrownBy(() -> InvalidationEvent.parse("schema.table ds=1 extra"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid event: schema.table ds=1 extra");
+    }
+
+    private String createTable(String prefix, boolean partitioned)
+            throws IOException
+    {
+        String tableName = prefix + "_" + randomNameSuffix();
+        String location = "local:///data/" + tableName;
+        Table.Builder table = Table.builder()
+                .setDatabaseName(SCHEMA)
+                .setTableName(tableName)
+                .setTableType(EXTERNAL_TABLE.name())
+                .setOwner(Optional.of("public"))
+                .addDataColumn(new Column("value", HIVE_STRING, Optional.empty(), Map.of()))
+                .setParameters(Map.of("EXTERNAL", "TRUE"))
+                .withStorage(storage -> storage
+                        .setStorageFormat(PARQUET.toStorageFormat())
+                        .setLocation(location));
+        if (partitioned) {
+            table.setPartitionColumns(List.of(new Column("ds", HIVE_STRING, Optional.empty(), Map.of())));
+        }
+        delegate.createTable(table.build(), NO_PRIVILEGES);
+
+        if (partitioned) {
+            // the file metastore requires external partition locations to exist
+            Files.createDirectories(tempDir.resolve("data").resolve(tableName).resolve("ds=2024-01-01"));
+            Partition partition = Partition.builder()
+                    .setDatabaseName(SCHEMA)
+                    .setTableName(tableName)
+                    .setValues(List.of("2024-01-01"))
+                    .setColumns(List.of(new Column("value", HIVE_STRING, Optional.empty(), Map.of())))
+                    .withStorage(storage -> storage
+                            .setStorageFormat(PARQUET.toStorageFormat())
+                            .setLocation(location + "/ds=2024-01-01"))
+                    .build();
+            delegate.addPartitions(SCHEMA, tableName, List.of(new PartitionWithStatistics(partition, "ds=2024-01-01", PartitionStatistics.empty())));
+        }
+        return tableName;
+    }
+
+    private static MetastoreCacheInvalidator createInvalidator(Path eventsFile, HiveMetastore metastore, MetastoreCacheFlusher metastoreCacheFlusher)
+    {
+        return new MetastoreCacheInvalidator(
+                new CatalogName("hive"),
+                new MetastoreCacheInvalidationConfig().setEventsFile(eventsFile.toString()),
+                HiveMetastoreFactory.ofInstance(metastore),
+                metastoreCacheFlusher);
+    }
+
+    private static void sendEvent(Path eventsFile, String event)
+            throws IOException
+    {
+        Files.writeString(eventsFile, event + "\n", UTF_8, APPEND);
+    }
+
+    private static class RecordingDirectoryLister
+            implements DirectoryLister
+    {
+        private final List<String> invalidations = new ArrayList<>();
+
+        @Override
+        public RemoteIterator<TrinoFileStatus> listFilesRecursively(TrinoFileSystem fs, Table table, Location location)
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void invalidate(Table table)
+        {
+            invalidations.add(table.getStorage().getLocation());
+        }
+
+        @Override
+        public void invalidate(Partition partition)
+        {
+            invalidations.add(partition.getStorage().getLocation());
+        }
+    }
+
+    private static class RecordingGlueCache
+            implements GlueCache
+    {
+        private final List<String> invalidations = new ArrayList<>();
+
+        @Override
+        public List<String> getDatabaseNames(Function<Consumer<Database>, List<String>> loader)
+        {
+            return GlueCache.NOOP.getDatabaseNames(loader);
+        }
+
+        @Override
+        public void invalidateDatabase(String databaseName)
+        {
+            invalidations.add("database " + databaseName);
+        }
+
+        @Override
+        public void invalidateDatabaseNames() {}
+
+        @Override
+        public Optional<Database> getDatabase(String databaseName, Supplier<Optional<Database>> loader)
+        {
+            return GlueCache.NOOP.getDatabase(databaseName, loader);
+        }
+
+        @Override
+        public List<TableInfo> getTables(String databaseName, Function<Consumer<Table>, List<TableInfo>> loader)
+        {
+            return GlueCache.NOOP.getTables(databaseName, loader);
+        }
+
+        @Override
+        public void invalidateTables(String databaseName) {}
+
+        @Override
+        public Optional<Table> getTable(String databaseName, String tableName, Supplier<Optional<Table>> loader)
+        {
+            return GlueCache.NOOP.getTable(databaseName, tableName, loader);
+        }
+
+        @Override
+        public void invalidateTable(String databaseName, String tableName, boolean cascade)
+        {
+            invalidations.add("table " + databaseName + "." + tableName);
+        }
+
+        @Override
+        public Map<String, HiveColumnStatistics> getTableColumnStatistics(String databaseName, String tableName, Set<String> columnNames, Function<Set<String>, Map<String, HiveColumnStatistics>> loader)
+        {
+            return GlueCache.NOOP.getTableColumnStatistics(databaseName, tableName, columnNames, loader);
+        }
+
+        @Override
+        public void invalidateTableColumnStatistics(String databaseName, String tableName) {}
+
+        @Override
+        public Set<PartitionName> getPartitionNames(String databaseName, String tableName, String glueExpression, Function<Consumer<Partition>, Set<PartitionName>> loader)
+        {
+            return GlueCache.NOOP.getPartitionNames(databaseName, tableName, glueExpression, loader);
+        }
+
+        @Override
+        public Optional<Partition> getPartition(String databaseName, String tableName, PartitionName partitionName, Supplier<Optional<Partition>> loader)
+        {
+            return GlueCache.NOOP.getPartition(databaseName, tableName, partitionName, loader);
+        }
+
+        @Override
+        public Collection<Partition> batchGetPartitions(
+                String databaseName,
+                String tableName,
+                Collection<PartitionName> partitionNames,
+                BiFunction<Consumer<Partition>, Collection<PartitionName>, Collection<Partition>> loader)
+        {
+            return GlueCache.NOOP.batchGetPartitions(databaseName, tableName, partitionNames, loader);
+        }
+
+        @Override
+        public void invalidatePartition(String databaseName, String tableName, PartitionName partitionName)
+        {
+            invalidations.add("partition " + databaseName + "." + tableName + " " + partitionName.partitionValues());
+        }
+
+        @Override
+        public Map<String, HiveColumnStatistics> getPartitionColumnStatistics(
+                String databaseName,
+                String tableName,
+                PartitionName partitionName,
+                Set<String> columnNames,
+                Function<Set<String>, Map<String, HiveColumnStatistics>> loader)
+        {
+            return GlueCache.NOOP.getPartitionColumnStatistics(databaseName, tableName, partitionName, columnNames, loader);
+        }
+
+        @Override
+        public Collection<LanguageFunction> getAllFunctions(String databaseName, Supplier<Collection<LanguageFunction>> loader)
+        {
+            return GlueCache.NOOP.getAllFunctions(databaseName, loader);
+        }
+
+        @Override
+        public Collection<LanguageFunction> getFunction(String databaseName, String functionName, Supplier<Collection<LanguageFunction>> loader)
+        {
+            return GlueCache.NOOP.getFunction(databaseName, functionName, loader);
+        }
+
+        @Override
+        public void invalidateFunction(String databaseName, String functionName) {}
+
+        @Override
+        public void flushCache()
+        {
+            invalidations.add("all");
+        }
+    }
+}
@@ -40,6 +40,7 @@ import java.util.stream.IntStream;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.util.concurrent.MoreExecutors.newDirectExecutorService;
 import static io.trino.plugin.hive.HiveColumnHandle.ColumnType.REGULAR;
 import static io.trino.plugin.hive.HiveColumnHandle.createBaseColumn;
 import static io.trino.plugin.hive.acid.AcidTransaction.NO_ACID_TRANSACTION;
@@ -81,7 +82,8 @@ final class ParquetUtil
                 fileSystemFactory,
                 new FileFormatDataSourceStats(),
                 new ParquetReaderConfig(),
-                hiveConfig);
+                hiveConfig,
+                newDirectExecutorService());
 
         return hivePageSourceFactory.createPageSource(
                         session,
@@ -50,6 +50,7 @@ import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.google.common.collect.Sets.immutableEnumSet;
 import static io.trino.plugin.iceberg.IcebergErrorCode.ICEBERG_CATALOG_ERROR;
 import static io.trino.spi.connector.ConnectorCapabilities.MATERIALIZED_VIEW_GRACE_PERIOD;
+import static io.trino.spi.connector.ConnectorCapabilities.MATERIALIZED_VIEW_INCREMENTAL_AGGREGATION_REFRESH;
 import static io.trino.spi.connector.ConnectorCapabilities.NOT_NULL_COLUMN_CONSTRAINT;
 import static io.trino.spi.transaction.IsolationLevel.SERIALIZABLE;
 import static io.trino.spi.transaction.IsolationLevel.checkConnectorSupports;
@@ -125,7 +126,8 @@ public class IcebergConnector
     {
         return immutableEnumSet(
                 NOT_NULL_COLUMN_CONSTRAINT,
-                MATERIALIZED_VIEW_GRACE_PERIOD);
+                MATERIALIZED_VIEW_GRACE_PERIOD,
+                MATERIALIZED_VIEW_INCREMENTAL_AGGREGATION_REFRESH);
     }
 
     @Override
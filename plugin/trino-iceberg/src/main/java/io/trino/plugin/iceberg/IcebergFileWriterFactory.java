@@ -76,6 +76,7 @@ import static io.trino.plugin.iceberg.IcebergSessionProperties.getParquetWriterB
 import static io.trino.plugin.iceberg.IcebergSessionProperties.getParquetWriterPageSize;
 import static io.trino.plugin.iceberg.IcebergSessionProperties.getParquetWriterPageValueCount;
 import static io.trino.plugin.iceberg.IcebergSessionProperties.isOrcWriterValidate;
+import static io.trino.plugin.iceberg.IcebergSessionProperties.isParquetWriterOptimizedFallbackEncodingsEnabled;
 import static io.trino.plugin.iceberg.IcebergTableProperties.ORC_BLOOM_FILTER_FPP_PROPERTY;
 import static io.trino.plugin.iceberg.IcebergUtil.getHiveCompressionCodec;
 import static io.trino.plugin.iceberg.IcebergUtil.getOrcBloomFilterColumns;
@@ -182,6 +183,7 @@ public class IcebergFileWriterFactory
                     .setMaxPageValueCount(getParquetWriterPageValueCount(session))
                     .setMaxBlockSize(getParquetWriterBlockSize(session))
                     .setBatchSize(getParquetWriterBatchSize(session))
+                    .setOptimizedFallbackEncodingsEnabled(isParquetWriterOptimizedFallbackEncodingsEnabled(session))
                     .setBloomFilterColumns(getParquetBloomFilterColumns(storageProperties))
                     .build();
 
@@ -151,6 +151,7 @@ import org.apache.iceberg.BaseTable;
 import org.apache.iceberg.ContentFile;
 import org.apache.iceberg.DataFile;
 import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.DataOperations;
 import org.apache.iceberg.DeleteFile;
 import org.apache.iceberg.DeleteFiles;
 import org.apache.iceberg.FileFormat;
@@ -200,6 +201,7 @@ import org.apache.iceberg.types.Types.IntegerType;
 import org.apache.iceberg.types.Types.NestedField;
 import org.apache.iceberg.types.Types.StringType;
 import org.apache.iceberg.types.Types.StructType;
+import org.apache.iceberg.util.SnapshotUtil;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -480,6 +482,7 @@ public class IcebergMetadata
 
     private Transaction transaction;
     private Optional<Long> fromSnapshotForRefresh = Optional.empty();
+    private Optional<SchemaTableName> aggregationRefreshStorageTable = Optional.empty();
 
     public IcebergMetadata(
             TypeManager typeManager,
@@ -924,9 +927,12 @@ public class IcebergMetadata
         }
 
         IcebergPartitioningHandle newPartitioningHandle = new IcebergPartitioningHandle(false, newPartitionFunctions.build());
-        if (partitioningHandle.isPresent() && !partitioningHandle.get().equals(newPartitioningHandle)) {
-            // todo if bucketing is a power of two, we can adapt the bucketing
-            return Optional.empty();
+        if (partitioningHandle.isPresent()) {
+            Optional<IcebergPartitioningHandle> commonPartitioningHandle = newPartitioningHandle.getCommonPartitioningHandle((IcebergPartitioningHandle) partitioningHandle.get());
+            if (commonPartitioningHandle.isEmpty()) {
+                return Optional.empty();
+            }
+            newPartitioningHandle = commonPartitioningHandle.get();
         }
         if (newPartitioningHandle.partitionFunctions().stream().map(IcebergPartitionFunction::transform).noneMatch(BUCKET::equals)) {
             // The table is only using value-based partitioning, and this can hurt performance if there is a filter
@@ -941,6 +947,13 @@ public class IcebergMetadata
                 newPartitionStructFields.build()))));
     }
 
+    @Override
+    public Optional<ConnectorPartitioningHandle> getCommonPartitioningHandle(ConnectorSession session, ConnectorPartitioningHandle left, ConnectorPartitioningHandle right)
+    {
+        return ((IcebergPartitioningHandle) left).getCommonPartitioningHandle((IcebergPartitioningHandle) right)
+                .map(ConnectorPartitioningHandle.class::cast);
+    }
+
     @Override
     public SchemaTableName getTableName(ConnectorSession session, ConnectorTableHandle table)
     {
@@ -3780,7 +3793,7 @@ public class IcebergMetadata
                 .map(summary -> summary.get(DEPENDS_ON_TABLES));
 
         boolean shouldUseIncremental = isIncrementalRefreshEnabled(session)
-                && refreshType == RefreshType.INCREMENTAL
+                && (refreshType == RefreshType.INCREMENTAL || refreshType == RefreshType.INCREMENTAL_AGGREGATION)
                 // there is a single source table
                 && sourceTableHandles.size() == 1
                 // and there are no other foreign sources
@@ -3796,12 +3809,38 @@ public class IcebergMetadata
             IcebergTableHandle handle = (IcebergTableHandle) getOnlyElement(sourceTableHandles);
             SchemaTableName sourceSchemaTable = new SchemaTableName(schemaTable[0], schemaTable[1]);
             checkState(sourceSchemaTable.equals(handle.getSchemaTableName()), "Source table name %s doesn't match handle table name %s", sourceSchemaTable, handle.getSchemaTableName());
-            fromSnapshotForRefresh = Optional.of(Long.parseLong(sourceTable.getValue()));
+            long fromSnapshot = Long.parseLong(sourceTable.getValue());
+            if (hasOnlyAppendedRows(session, handle, fromSnapshot)) {
+                fromSnapshotForRefresh = Optional.of(fromSnapshot);
+            }
+        }
+        if (refreshType == RefreshType.INCREMENTAL_AGGREGATION) {
+            // the refresh query reads the current rows of the storage table, which are replaced by the result
+            aggregationRefreshStorageTable = Optional.of(table.getSchemaTableName());
         }
 
         return newWritableTableHandle(table.getSchemaTableName(), icebergTable, retryMode);
     }
 
+    private boolean hasOnlyAppendedRows(ConnectorSession session, IcebergTableHandle sourceTable, long fromSnapshot)
+    {
+        if (sourceTable.getSnapshotId().isEmpty()) {
+            return false;
+        }
+        long toSnapshot = sourceTable.getSnapshotId().get();
+        Table icebergTable = getIcebergTable(session, sourceTable.getSchemaTableName());
+        // fromSnapshot can be missing due to snapshot expiration or rollback
+        if (!SnapshotUtil.isAncestorOf(icebergTable, toSnapshot, fromSnapshot)) {
+            return false;
+        }
+        for (Snapshot snapshot : SnapshotUtil.ancestorsBetween(icebergTable, toSnapshot, fromSnapshot)) {
+            if (snapshot.operation().equals(DataOperations.OVERWRITE) || snapshot.operation().equals(DataOperations.DELETE)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public Optional<ConnectorOutputMetadata> finishRefreshMaterializedView(
             ConnectorSession session,
@@ -3817,9 +3856,9 @@ public class IcebergMetadata
 
         Table icebergTable = transaction.table();
         boolean isFullRefresh = fromSnapshotForRefresh.isEmpty();
-        if (isFullRefresh) {
+        if (isFullRefresh || aggregationRefreshStorageTable.isPresent()) {
             // delete before insert .. simulating overwrite
-            log.info("Performing full MV refresh for storage table: %s", table.name());
+            log.info("Performing %s MV refresh for storage table: %s", isFullRefresh ? "full" : "incremental aggregation", table.name());
             transaction.newDelete()
                     .deleteFromRowFilter(Expressions.alwaysTrue())
                     .commit();
@@ -3881,6 +3920,7 @@ public class IcebergMetadata
         commitUpdateAndTransaction(appendFiles, session, transaction, "refresh materialized view");
         transaction = null;
         fromSnapshotForRefresh = Optional.empty();
+        aggregationRefreshStorageTable = Optional.empty();
         return Optional.of(new HiveWrittenPartitions(commitTasks.stream()
                 .map(CommitTaskData::path)
                 .collect(toImmutableList())));
@@ -4126,9 +4166,9 @@ public class IcebergMetadata
         return fromSnapshotForRefresh;
     }
 
-    public void disableIncrementalRefresh()
+    public boolean isAggregationRefreshStorageTable(SchemaTableName table)
     {
-        fromSnapshotForRefresh = Optional.empty();
+        return aggregationRefreshStorageTable.map(table::equals).orElse(false);
     }
 
     private static CollectedStatistics processComputedTableStatistics(Table table, Collection<ComputedStatistics> computedStatistics)
@@ -117,6 +117,7 @@ import java.util.Optional;
 import java.util.OptionalLong;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.ObjLongConsumer;
 import java.util.function.Supplier;
@@ -162,6 +163,7 @@ import static io.trino.plugin.iceberg.IcebergSessionProperties.getParquetMaxRead
 import static io.trino.plugin.iceberg.IcebergSessionProperties.getParquetSmallFileThreshold;
 import static io.trino.plugin.iceberg.IcebergSessionProperties.isOrcBloomFiltersEnabled;
 import static io.trino.plugin.iceberg.IcebergSessionProperties.isOrcNestedLazy;
+import static io.trino.plugin.iceberg.IcebergSessionProperties.isOrcVectorizedDecodingEnabled;
 import static io.trino.plugin.iceberg.IcebergSessionProperties.isParquetIgnoreStatistics;
 import static io.trino.plugin.iceberg.IcebergSessionProperties.isParquetVectorizedDecodingEnabled;
 import static io.trino.plugin.iceberg.IcebergSessionProperties.isUseFileSizeFromMetadata;
@@ -372,11 +374,15 @@ public class IcebergPageSourceProvider
                             deletes,
                             requiredColumns,
                             tableSchema,
+                            unenforcedPredicate,
                             readerPageSourceWithRowPositions,
                             (deleteFile, deleteColumns, tupleDomain) -> openDeletes(session, fileSystem, deleteFile, deleteColumns, tupleDomain)));
+            // the deletes are loaded on the first page, and the memory they retain is reported from then on
+            AtomicReference<Optional<RowPredicate>> loadedDeletePredicate = new AtomicReference<>(Optional.empty());
             pageSource = TransformConnectorPageSource.create(pageSource, page -> {
                 try {
                     Optional<RowPredicate> rowPredicate = deletePredicate.get();
+                    loadedDeletePredicate.set(rowPredicate);
                     rowPredicate.ifPresent(predicate -> predicate.applyFilter(page));
                     if (icebergColumns.size() == page.getChannelCount()) {
                         return page;
@@ -387,7 +393,7 @@ public class IcebergPageSourceProvider
                     throwIfInstanceOf(e, TrinoException.class);
                     throw new TrinoException(ICEBERG_BAD_DATA, e);
                 }
-            });
+            }, () -> loadedDeletePredicate.get().map(RowPredicate::getRetainedSizeInBytes).orElse(0L));
         }
         return pageSource;
     }
@@ -536,6 +542,7 @@ public class IcebergPageSourceProvider
                             .withMaxReadBlockSize(getOrcMaxReadBlockSize(session))
                             .withLazyReadSmallRanges(getOrcLazyReadSmallRanges(session))
                             .withNestedLazy(isOrcNestedLazy(session))
+                            .withVectorizedDecodingEnabled(isOrcVectorizedDecodingEnabled(session))
                             .withBloomFiltersEnabled(isOrcBloomFiltersEnabled(session)),
                     fileFormatDataSourceStats,
                     typeManager,
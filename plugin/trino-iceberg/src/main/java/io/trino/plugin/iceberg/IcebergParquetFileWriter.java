@@ -73,6 +73,7 @@ public final class IcebergParquetFileWriter
                 compressionCodec,
                 trinoVersion,
                 Optional.empty(),
+                Optional.empty(),
                 Optional.empty());
         this.location = outputFile.location();
         this.metricsConfig = requireNonNull(metricsConfig, "metricsConfig is null");
@@ -71,6 +71,12 @@ public record IcebergPartitionFunction(Transform transform, List<Integer> dataPa
                 size);
     }
 
+    public IcebergPartitionFunction withBucketCount(int bucketCount)
+    {
+        checkArgument(transform == Transform.BUCKET, "bucket count is only valid for BUCKET transform");
+        return new IcebergPartitionFunction(transform, dataPath, type, OptionalInt.of(bucketCount));
+    }
+
     public static IcebergPartitionFunction create(String transform, List<Integer> dataPath, Type type)
     {
         return switch (transform) {
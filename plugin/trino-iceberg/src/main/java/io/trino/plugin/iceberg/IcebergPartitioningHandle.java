@@ -27,11 +27,14 @@ import java.util.ArrayDeque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.google.common.collect.ImmutableSet.toImmutableSet;
+import static io.trino.plugin.iceberg.IcebergPartitionFunction.Transform.BUCKET;
 import static io.trino.plugin.iceberg.TypeConverter.toTrinoType;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
@@ -49,6 +52,51 @@ public record IcebergPartitioningHandle(boolean update, List<IcebergPartitionFun
         return new IcebergPartitioningHandle(true, partitionFunctions);
     }
 
+    /**
+     * Returns a partitioning handle both this and the {@code other} handle can be converted to. An Iceberg bucket is the
+     * value hash modulo the bucket count, so when one bucket count is a power of two multiple of the other, the buckets
+     * of the larger count can be folded into the buckets of the smaller one.
+     */
+    public Optional<IcebergPartitioningHandle> getCommonPartitioningHandle(IcebergPartitioningHandle other)
+    {
+        if (equals(other)) {
+            return Optional.of(this);
+        }
+        if (update || other.update() || partitionFunctions.size() != other.partitionFunctions().size()) {
+            return Optional.empty();
+        }
+
+        ImmutableList.Builder<IcebergPartitionFunction> commonPartitionFunctions = ImmutableList.builder();
+        for (int i = 0; i < partitionFunctions.size(); i++) {
+            IcebergPartitionFunction left = partitionFunctions.get(i);
+            IcebergPartitionFunction right = other.partitionFunctions().get(i);
+            if (left.equals(right)) {
+                commonPartitionFunctions.add(left);
+                continue;
+            }
+            if (left.transform() != BUCKET || !left.withBucketCount(right.size().orElse(0)).equals(right)) {
+                return Optional.empty();
+            }
+            OptionalInt commonBucketCount = getCommonBucketCount(left.size().orElseThrow(), right.size().orElseThrow());
+            if (commonBucketCount.isEmpty()) {
+                return Optional.empty();
+            }
+            commonPartitionFunctions.add(left.withBucketCount(commonBucketCount.getAsInt()));
+        }
+        return Optional.of(new IcebergPartitioningHandle(false, commonPartitionFunctions.build()));
+    }
+
+    private static OptionalInt getCommonBucketCount(int left, int right)
+    {
+        int largerBucketCount = Math.max(left, right);
+        int smallerBucketCount = Math.min(left, right);
+
+        if (largerBucketCount % smallerBucketCount != 0 || Integer.bitCount(largerBucketCount / smallerBucketCount) != 1) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(smallerBucketCount);
+    }
+
     public static IcebergPartitioningHandle create(PartitionSpec spec, TypeManager typeManager, List<IcebergColumnHandle> partitioningColumns)
     {
         Map<Integer, List<Integer>> dataPaths = buildDataPaths(spec);
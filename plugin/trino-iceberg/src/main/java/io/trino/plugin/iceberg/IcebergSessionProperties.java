@@ -73,6 +73,7 @@ public final class IcebergSessionProperties
     private static final String ORC_MAX_READ_BLOCK_SIZE = "orc_max_read_block_size";
     private static final String ORC_LAZY_READ_SMALL_RANGES = "orc_lazy_read_small_ranges";
     private static final String ORC_NESTED_LAZY_ENABLED = "orc_nested_lazy_enabled";
+    private static final String ORC_VECTORIZED_DECODING_ENABLED = "orc_vectorized_decoding_enabled";
     private static final String ORC_STRING_STATISTICS_LIMIT = "orc_string_statistics_limit";
     private static final String ORC_WRITER_VALIDATE_PERCENTAGE = "orc_writer_validate_percentage";
     private static final String ORC_WRITER_VALIDATE_MODE = "orc_writer_validate_mode";
@@ -91,6 +92,7 @@ public final class IcebergSessionProperties
     private static final String PARQUET_WRITER_PAGE_SIZE = "parquet_writer_page_size";
     private static final String PARQUET_WRITER_PAGE_VALUE_COUNT = "parquet_writer_page_value_count";
     private static final String PARQUET_WRITER_BATCH_SIZE = "parquet_writer_batch_size";
+    private static final String PARQUET_WRITER_OPTIMIZED_FALLBACK_ENCODINGS_ENABLED = "parquet_writer_optimized_fallback_encodings_enabled";
     public static final String DYNAMIC_FILTERING_WAIT_TIMEOUT = "dynamic_filtering_wait_timeout";
     private static final String STATISTICS_ENABLED = "statistics_enabled";
     public static final String EXTENDED_STATISTICS_ENABLED = "extended_statistics_enabled";
@@ -174,6 +176,11 @@ public final class IcebergSessionProperties
                         "Experimental: ORC: Lazily read nested data",
                         orcReaderConfig.isNestedLazy(),
                         false))
+                .add(booleanProperty(
+                        ORC_VECTORIZED_DECODING_ENABLED,
+                        "Enable using Java Vector API for faster decoding of ORC files",
+                        orcReaderConfig.isVectorizedDecodingEnabled(),
+                        false))
                 .add(dataSizeProperty(
                         ORC_STRING_STATISTICS_LIMIT,
                         "ORC: Maximum size of string statistics; drop if exceeding",
@@ -293,6 +300,11 @@ public final class IcebergSessionProperties
                         "Parquet: Maximum number of rows passed to the writer in each batch",
                         parquetWriterConfig.getBatchSize(),
                         false))
+                .add(booleanProperty(
+                        PARQUET_WRITER_OPTIMIZED_FALLBACK_ENCODINGS_ENABLED,
+                        "Parquet: Use DELTA_BINARY_PACKED, DELTA_BYTE_ARRAY or BYTE_STREAM_SPLIT instead of PLAIN encoding when dictionary encoding is not effective and they make the data smaller",
+                        parquetWriterConfig.isOptimizedFallbackEncodingsEnabled(),
+                        false))
                 .add(durationProperty(
                         DYNAMIC_FILTERING_WAIT_TIMEOUT,
                         "Duration to wait for completion of dynamic filters during split generation",
@@ -458,6 +470,11 @@ public final class IcebergSessionProperties
         return session.getProperty(ORC_NESTED_LAZY_ENABLED, Boolean.class);
     }
 
+    public static boolean isOrcVectorizedDecodingEnabled(ConnectorSession session)
+    {
+        return session.getProperty(ORC_VECTORIZED_DECODING_ENABLED, Boolean.class);
+    }
+
     public static DataSize getOrcStringStatisticsLimit(ConnectorSession session)
     {
         return session.getProperty(ORC_STRING_STATISTICS_LIMIT, DataSize.class);
@@ -560,6 +577,11 @@ public final class IcebergSessionProperties
         return session.getProperty(PARQUET_WRITER_BATCH_SIZE, Integer.class);
     }
 
+    public static boolean isParquetWriterOptimizedFallbackEncodingsEnabled(ConnectorSession session)
+    {
+        return session.getProperty(PARQUET_WRITER_OPTIMIZED_FALLBACK_ENCODINGS_ENABLED, Boolean.class);
+    }
+
     public static boolean useParquetBloomFilter(ConnectorSession session)
     {
         return session.getProperty(PARQUET_USE_BLOOM_FILTER, Boolean.class);
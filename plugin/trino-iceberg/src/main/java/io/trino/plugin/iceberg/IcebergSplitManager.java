@@ -32,15 +32,13 @@ import io.trino.spi.connector.FixedSplitSource;
 import io.trino.spi.function.table.ConnectorTableFunctionHandle;
 import io.trino.spi.type.TypeManager;
 import org.apache.iceberg.CombinedScanTask;
-import org.apache.iceberg.DataOperations;
 import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.Scan;
-import org.apache.iceberg.Snapshot;
 import org.apache.iceberg.Table;
 import org.apache.iceberg.metrics.InMemoryMetricsReporter;
 import org.apache.iceberg.metrics.MetricsReporter;
-import org.apache.iceberg.util.SnapshotUtil;
 
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 
 import static io.trino.plugin.iceberg.IcebergSessionProperties.getDynamicFilteringWaitTimeout;
@@ -95,6 +93,10 @@ public class IcebergSplitManager
         }
 
         IcebergMetadata icebergMetadata = transactionManager.get(transaction, session.getIdentity());
+        if (icebergMetadata.isAggregationRefreshStorageTable(table.getSchemaTableName()) && icebergMetadata.getIncrementalRefreshFromSnapshot().isEmpty()) {
+            // the aggregation is computed over all rows of the source table, so the current rows of the storage table must not be combined with it
+            return emptySplitSource();
+        }
         Table icebergTable = icebergMetadata.getIcebergTable(session, table.getSchemaTableName());
         Duration dynamicFilteringWaitTimeout = getDynamicFilteringWaitTimeout(session);
 
@@ -123,27 +125,14 @@ public class IcebergSplitManager
 
     private Scan<?, FileScanTask, CombinedScanTask> getScan(IcebergMetadata icebergMetadata, Table icebergTable, IcebergTableHandle table, MetricsReporter metricsReporter, ExecutorService executor)
     {
-        Long fromSnapshot = icebergMetadata.getIncrementalRefreshFromSnapshot().orElse(null);
-        if (fromSnapshot != null) {
-            // check if fromSnapshot is still part of the table's snapshot history
-            if (SnapshotUtil.isAncestorOf(icebergTable, fromSnapshot)) {
-                boolean containsModifiedRows = false;
-                for (Snapshot snapshot : SnapshotUtil.ancestorsBetween(icebergTable, icebergTable.currentSnapshot().snapshotId(), fromSnapshot)) {
-                    if (snapshot.operation().equals(DataOperations.OVERWRITE) || snapshot.operation().equals(DataOperations.DELETE)) {
-                        containsModifiedRows = true;
-                        break;
-                    }
-                }
-                if (!containsModifiedRows) {
-                    return icebergTable.newIncrementalAppendScan()
-                            .fromSnapshotExclusive(fromSnapshot)
-                            .planWith(executor)
-                            .metricsReporter(metricsReporter);
-                }
-            }
-            // fromSnapshot is missing (could be due to snapshot expiration or rollback), or snapshot range contains modifications
-            // (deletes or overwrites), so we cannot perform incremental refresh. Falling back to full refresh.
-            icebergMetadata.disableIncrementalRefresh();
+        Optional<Long> fromSnapshot = icebergMetadata.getIncrementalRefreshFromSnapshot();
+        if (fromSnapshot.isPresent() && !icebergMetadata.isAggregationRefreshStorageTable(table.getSchemaTableName())) {
+            // the range contains only appends, which is verified when beginning the materialized view refresh
+            return icebergTable.newIncrementalAppendScan()
+                    .fromSnapshotExclusive(fromSnapshot.get())
+                    .toSnapshot(table.getSnapshotId().get())
+                    .planWith(executor)
+                    .metricsReporter(metricsReporter);
         }
         return icebergTable.newScan()
                 .useSnapshot(table.getSnapshotId().get())
@@ -22,6 +22,7 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.Maps;
 import com.google.common.io.Closer;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.errorprone.annotations.concurrent.GuardedBy;
@@ -32,6 +33,7 @@ import io.trino.cache.NonEvictableCache;
 import io.trino.filesystem.cache.CachingHostAddressProvider;
 import io.trino.plugin.base.metrics.DurationTiming;
 import io.trino.plugin.base.metrics.LongCount;
+import io.trino.plugin.hive.util.AsyncQueue;
 import io.trino.plugin.iceberg.delete.DeleteFile;
 import io.trino.plugin.iceberg.util.DataFileWithDeleteFiles;
 import io.trino.spi.SplitWeight;
@@ -71,7 +73,9 @@ import org.apache.iceberg.types.Type;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -83,16 +87,19 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.base.Suppliers.memoize;
+import static com.google.common.base.Throwables.throwIfUnchecked;
 import static com.google.common.base.Verify.verify;
 import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.google.common.collect.ImmutableSet.toImmutableSet;
 import static com.google.common.collect.Sets.intersection;
 import static com.google.common.math.LongMath.saturatedAdd;
+import static com.google.common.util.concurrent.Futures.immediateFuture;
 import static io.airlift.concurrent.MoreFutures.toCompletableFuture;
 import static io.airlift.slice.Slices.utf8Slice;
 import static io.trino.cache.CacheUtils.uncheckedCacheGet;
@@ -101,6 +108,7 @@ import static io.trino.plugin.iceberg.ExpressionConverter.isConvertibleToIceberg
 import static io.trino.plugin.iceberg.ExpressionConverter.toIcebergExpression;
 import static io.trino.plugin.iceberg.IcebergExceptions.translateMetadataException;
 import static io.trino.plugin.iceberg.IcebergMetadataColumn.isMetadataColumnId;
+import static io.trino.plugin.iceberg.IcebergPartitionFunction.Transform.BUCKET;
 import static io.trino.plugin.iceberg.IcebergSessionProperties.getSplitSize;
 import static io.trino.plugin.iceberg.IcebergTypes.convertIcebergValueToTrino;
 import static io.trino.plugin.iceberg.IcebergUtil.getColumnHandle;
@@ -129,6 +137,7 @@ public class IcebergSplitSource
     private static final Logger log = Logger.get(IcebergSplitSource.class);
     private static final ConnectorSplitBatch EMPTY_BATCH = new ConnectorSplitBatch(ImmutableList.of(), false);
     private static final ConnectorSplitBatch NO_MORE_SPLITS_BATCH = new ConnectorSplitBatch(ImmutableList.of(), true);
+    private static final int FILE_SCAN_TASK_QUEUE_SIZE = 1000;
 
     private final IcebergFileSystemFactory fileSystemFactory;
     private final ConnectorSession session;
@@ -148,6 +157,9 @@ public class IcebergSplitSource
     private boolean closed;
     @GuardedBy("closer")
     private ListenableFuture<ConnectorSplitBatch> currentBatchFuture;
+    // while the loader is running, it closes the planning iterator itself when the split source is closed
+    @GuardedBy("closer")
+    private boolean fileScanTaskLoaderRunning;
     private final double minimumAssignedSplitWeight;
     private final Set<Integer> projectedBaseColumns;
     private final TupleDomain<IcebergColumnHandle> dataColumnPredicate;
@@ -164,8 +176,12 @@ public class IcebergSplitSource
     private CloseableIterable<FileScanTask> fileScanIterable;
     @GuardedBy("this")
     private long targetSplitSize;
+    // only used by the background loader once planning has started
+    private volatile CloseableIterator<FileScanTask> fileScanIterator;
+    private volatile AsyncQueue<FileScanTask> fileScanTaskQueue;
+    private volatile Throwable fileScanTaskLoadingFailure;
     @GuardedBy("this")
-    private CloseableIterator<FileScanTask> fileScanIterator;
+    private final Deque<FileScanTask> pendingFileScanTasks = new ArrayDeque<>();
     @GuardedBy("this")
     private Iterator<FileScanTaskWithDomain> fileTasksIterator = emptyIterator();
 
@@ -255,7 +271,7 @@ public class IcebergSplitSource
 
             // Avoids blocking the calling (scheduler) thread when producing splits, allowing other split sources to
             // start loading splits in parallel to each other
-            nextBatchFuture = executor.submit(() -> getNextBatchInternal(maxSize));
+            nextBatchFuture = Futures.submitAsync(() -> getNextBatchInternal(maxSize), executor);
             currentBatchFuture = nextBatchFuture;
         }
 
@@ -264,7 +280,7 @@ public class IcebergSplitSource
         });
     }
 
-    private synchronized ConnectorSplitBatch getNextBatchInternal(int maxSize)
+    private synchronized ListenableFuture<ConnectorSplitBatch> getNextBatchInternal(int maxSize)
     {
         if (fileScanIterable == null) {
             this.pushedDownDynamicFilterPredicate = dynamicFilter.getCurrentPredicate()
@@ -276,7 +292,7 @@ public class IcebergSplitSource
 
             if (effectivePredicate.isNone()) {
                 finish();
-                return NO_MORE_SPLITS_BATCH;
+                return immediateFuture(NO_MORE_SPLITS_BATCH);
             }
 
             Expression filterExpression = toIcebergExpression(effectivePredicate);
@@ -299,37 +315,116 @@ public class IcebergSplitSource
                         .map(DataSize::toBytes)
                         .orElseGet(tableScan::targetSplitSize);
                 this.fileScanIterator = closer.register(fileScanIterable.iterator());
+                this.fileScanTaskQueue = new AsyncQueue<>(FILE_SCAN_TASK_QUEUE_SIZE, executor);
                 this.fileTasksIterator = emptyIterator();
             }
+            // Manifests are read in the background, so splits are produced as soon as the first files are planned,
+            // instead of waiting for a whole batch of files to be planned
+            executor.execute(this::loadFileScanTasks);
         }
 
         TupleDomain<IcebergColumnHandle> dynamicFilterPredicate = dynamicFilter.getCurrentPredicate()
                 .transformKeys(IcebergColumnHandle.class::cast);
         if (dynamicFilterPredicate.isNone()) {
             finish();
+            return immediateFuture(NO_MORE_SPLITS_BATCH);
+        }
+
+        if (fileTasksIterator.hasNext() || !pendingFileScanTasks.isEmpty()) {
+            return immediateFuture(createSplitBatch(ImmutableList.of(), maxSize, dynamicFilterPredicate));
+        }
+        return Futures.transform(
+                fileScanTaskQueue.getBatchAsync(maxSize),
+                fileScanTasks -> createSplitBatch(fileScanTasks, maxSize, dynamicFilterPredicate),
+                executor);
+    }
+
+    private void loadFileScanTasks()
+    {
+        synchronized (closer) {
+            if (closed) {
+                // the planning iterator was closed along with the split source
+                return;
+            }
+            fileScanTaskLoaderRunning = true;
+        }
+        try {
+            while (!isClosed() && fileScanIterator.hasNext()) {
+                ListenableFuture<Void> queueNotFull = fileScanTaskQueue.offer(fileScanIterator.next());
+                if (!queueNotFull.isDone()) {
+                    synchronized (closer) {
+                        if (!closed) {
+                            // resume once the split generation catches up, without holding on to a thread
+                            fileScanTaskLoaderRunning = false;
+                            queueNotFull.addListener(this::loadFileScanTasks, executor);
+                            return;
+                        }
+                    }
+                }
+            }
+        }
+        catch (Throwable t) {
+            fileScanTaskLoadingFailure = t;
+        }
+        synchronized (closer) {
+            fileScanTaskLoaderRunning = false;
+            if (closed) {
+                closeFileScanTasks();
+            }
+        }
+        fileScanTaskQueue.finish();
+    }
+
+    private boolean isClosed()
+    {
+        synchronized (closer) {
+            return closed;
+        }
+    }
+
+    @GuardedBy("closer")
+    private void closeFileScanTasks()
+    {
+        try {
+            closer.close();
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private synchronized ConnectorSplitBatch createSplitBatch(List<FileScanTask> fileScanTasks, int maxSize, TupleDomain<IcebergColumnHandle> dynamicFilterPredicate)
+    {
+        if (isFinished()) {
             return NO_MORE_SPLITS_BATCH;
         }
+        Throwable loadingFailure = fileScanTaskLoadingFailure;
+        if (loadingFailure != null) {
+            throwIfUnchecked(loadingFailure);
+            throw new RuntimeException(loadingFailure);
+        }
 
+        pendingFileScanTasks.addAll(fileScanTasks);
         List<ConnectorSplit> splits = new ArrayList<>(maxSize);
-        while (splits.size() < maxSize && (fileTasksIterator.hasNext() || fileScanIterator.hasNext())) {
+        while (splits.size() < maxSize && (fileTasksIterator.hasNext() || !pendingFileScanTasks.isEmpty())) {
             if (!fileTasksIterator.hasNext()) {
                 if (limit.isPresent() && limit.getAsLong() <= outputRowsLowerBound) {
                     finish();
                     break;
                 }
 
-                List<FileScanTaskWithDomain> fileScanTasks = processFileScanTask(dynamicFilterPredicate);
-                if (fileScanTasks.isEmpty()) {
+                List<FileScanTaskWithDomain> fileScanTasksWithDomain = processFileScanTask(pendingFileScanTasks.remove(), dynamicFilterPredicate);
+                if (fileScanTasksWithDomain.isEmpty()) {
                     continue;
                 }
 
-                fileTasksIterator = prepareFileTasksIterator(fileScanTasks);
+                fileTasksIterator = prepareFileTasksIterator(fileScanTasksWithDomain);
                 // In theory, .split() could produce empty iterator, so let's evaluate the outer loop condition again.
                 continue;
             }
             splits.add(toIcebergSplit(fileTasksIterator.next()));
         }
-        if (!fileScanIterator.hasNext() && !fileTasksIterator.hasNext()) {
+        if (!fileTasksIterator.hasNext() && pendingFileScanTasks.isEmpty() && fileScanTaskQueue.isFinished()) {
             finish();
         }
         return new ConnectorSplitBatch(splits, isFinished());
@@ -371,9 +466,8 @@ public class IcebergSplitSource
         return scanTaskBuilder.build().iterator();
     }
 
-    private synchronized List<FileScanTaskWithDomain> processFileScanTask(TupleDomain<IcebergColumnHandle> dynamicFilterPredicate)
+    private synchronized List<FileScanTaskWithDomain> processFileScanTask(FileScanTask wholeFileTask, TupleDomain<IcebergColumnHandle> dynamicFilterPredicate)
     {
-        FileScanTask wholeFileTask = fileScanIterator.next();
         boolean fileHasNoDeletions = wholeFileTask.deletes().isEmpty();
         FileScanTaskWithDomain fileScanTaskWithDomain = createFileScanTaskWithDomain(wholeFileTask);
         if (pruneFileScanTask(fileScanTaskWithDomain, fileHasNoDeletions, dynamicFilterPredicate)) {
@@ -477,7 +571,7 @@ public class IcebergSplitSource
         closeInternal(false);
         this.finished = true;
         this.fileScanIterable = CloseableIterable.empty();
-        this.fileScanIterator = CloseableIterator.empty();
+        this.pendingFileScanTasks.clear();
         this.fileTasksIterator = emptyIterator();
     }
 
@@ -545,11 +639,9 @@ public class IcebergSplitSource
                 }
                 // release the reference to the current future unconditionally to avoid OOMs
                 currentBatchFuture = null;
-                try {
-                    closer.close();
-                }
-                catch (IOException e) {
-                    throw new UncheckedIOException(e);
+                // a running loader may be inside the planning iterator, so it closes the iterator once it stops
+                if (!fileScanTaskLoaderRunning) {
+                    closeFileScanTasks();
                 }
             }
         }
@@ -706,11 +798,21 @@ public class IcebergSplitSource
             PartitionSpec partitionSpec = task.spec();
             StructLike partition = task.file().partition();
             List<PartitionField> fields = partitionSpec.fields();
-
-            partitionValues = Optional.of(tableHandle.getTablePartitioning().get().partitionStructFields().stream()
-                    .map(fieldIndex -> convertIcebergValueToTrino(
-                            partitionSpec.partitionType().field(fields.get(fieldIndex).fieldId()).type(),
-                            partition.get(fieldIndex, Object.class)))
+            List<Integer> partitionStructFields = tableHandle.getTablePartitioning().get().partitionStructFields();
+            List<IcebergPartitionFunction> partitionFunctions = tableHandle.getTablePartitioning().get().partitioningHandle().partitionFunctions();
+
+            partitionValues = Optional.of(IntStream.range(0, partitionStructFields.size())
+                    .mapToObj(index -> {
+                        int fieldIndex = partitionStructFields.get(index);
+                        Object value = convertIcebergValueToTrino(
+                                partitionSpec.partitionType().field(fields.get(fieldIndex).fieldId()).type(),
+                                partition.get(fieldIndex, Object.class));
+                        // the table may be read with a smaller compatible bucket count, see IcebergPartitioningHandle#getCommonPartitioningHandle
+                        if (value != null && partitionFunctions.get(index).transform() == BUCKET) {
+                            return (long) value % partitionFunctions.get(index).size().orElseThrow();
+                        }
+                        return value;
+                    })
                     .toList());
         }
 
@@ -50,7 +50,6 @@ import static com.google.common.collect.ImmutableList.toImmutableList;
 import static io.airlift.slice.Slices.utf8Slice;
 import static io.trino.plugin.iceberg.IcebergErrorCode.ICEBERG_BAD_DATA;
 import static io.trino.plugin.iceberg.IcebergUtil.getColumnHandle;
-import static io.trino.plugin.iceberg.IcebergUtil.schemaFromHandles;
 import static io.trino.plugin.iceberg.delete.PositionDeleteFilter.readPositionDeletes;
 import static io.trino.spi.type.VarcharType.VARCHAR;
 import static java.util.Objects.requireNonNull;
@@ -74,6 +73,7 @@ public class DeleteManager
             List<DeleteFile> deleteFiles,
             List<IcebergColumnHandle> readColumns,
             Schema tableSchema,
+            TupleDomain<IcebergColumnHandle> unenforcedPredicate,
             ReaderPageSourceWithRowPositions readerPageSourceWithRowPositions,
             DeletePageSourceProvider deletePageSourceProvider)
     {
@@ -93,7 +93,7 @@ public class DeleteManager
 
         Optional<RowPredicate> positionDeletes = createPositionDeleteFilter(dataFilePath, positionDeleteFiles, readerPageSourceWithRowPositions, deletePageSourceProvider)
                 .map(filter -> filter.createPredicate(readColumns, dataSequenceNumber));
-        Optional<RowPredicate> equalityDeletes = createEqualityDeleteFilter(equalityDeleteFiles, tableSchema, deletePageSourceProvider).stream()
+        Optional<RowPredicate> equalityDeletes = createEqualityDeleteFilter(equalityDeleteFiles, tableSchema, unenforcedPredicate, deletePageSourceProvider).stream()
                 .map(filter -> filter.createPredicate(readColumns, dataSequenceNumber))
                 .reduce(RowPredicate::and);
 
@@ -168,7 +168,11 @@ public class DeleteManager
                 (positionUpperBound.isEmpty() || positionUpperBound.get() >= startRowPosition.get());
     }
 
-    private List<EqualityDeleteFilter> createEqualityDeleteFilter(List<DeleteFile> equalityDeleteFiles, Schema schema, DeletePageSourceProvider deletePageSourceProvider)
+    private List<EqualityDeleteFilter> createEqualityDeleteFilter(
+            List<DeleteFile> equalityDeleteFiles,
+            Schema schema,
+            TupleDomain<IcebergColumnHandle> unenforcedPredicate,
+            DeletePageSourceProvider deletePageSourceProvider)
     {
         if (equalityDeleteFiles.isEmpty()) {
             return List.of();
@@ -186,10 +190,13 @@ public class DeleteManager
                     .collect(toImmutableList());
 
             // each file can have a different set of columns for the equality delete, so we need to create a new builder for each set of columns
-            EqualityDeleteFilterBuilder builder = equalityDeleteFiltersBySchema.computeIfAbsent(fieldIds, _ -> EqualityDeleteFilter.builder(schemaFromHandles(deleteColumns)));
+            EqualityDeleteFilterBuilder builder = equalityDeleteFiltersBySchema.computeIfAbsent(fieldIds, _ -> EqualityDeleteFilter.builder(deleteColumns, typeManager.getTypeOperators()));
             deleteFilters.add(builder);
 
-            ListenableFuture<?> loadFuture = builder.readEqualityDeletes(deleteFile, deleteColumns, deletePageSourceProvider);
+            // The unenforced predicate is evaluated on the data rows after the deletes are applied, and it is the same for all
+            // splits sharing this manager, so delete rows which do not match it can never remove a row from the query result
+            TupleDomain<IcebergColumnHandle> deleteDomain = unenforcedPredicate.filter((column, _) -> deleteColumns.contains(column));
+            ListenableFuture<?> loadFuture = builder.readEqualityDeletes(deleteFile, deleteDomain, deletePageSourceProvider);
             if (loadFuture.state() != SUCCESS) {
                 pendingLoads.add(loadFuture);
             }
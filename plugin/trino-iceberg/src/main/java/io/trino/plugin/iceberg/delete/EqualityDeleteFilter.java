@@ -13,6 +13,7 @@
  */
 package io.trino.plugin.iceberg.delete;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListenableFutureTask;
@@ -20,14 +21,13 @@ import com.google.errorprone.annotations.ThreadSafe;
 import io.trino.plugin.iceberg.IcebergColumnHandle;
 import io.trino.plugin.iceberg.delete.DeleteManager.DeletePageSourceProvider;
 import io.trino.spi.TrinoException;
+import io.trino.spi.block.Block;
 import io.trino.spi.connector.ConnectorPageSource;
 import io.trino.spi.connector.SourcePage;
+import io.trino.spi.predicate.Domain;
 import io.trino.spi.predicate.TupleDomain;
 import io.trino.spi.type.Type;
-import org.apache.iceberg.Schema;
-import org.apache.iceberg.types.Types.StructType;
-import org.apache.iceberg.util.StructLikeWrapper;
-import org.apache.iceberg.util.StructProjection;
+import io.trino.spi.type.TypeOperators;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -36,100 +36,158 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static com.google.common.base.Verify.verify;
+import static com.google.common.collect.ImmutableList.toImmutableList;
 import static io.trino.plugin.iceberg.IcebergErrorCode.ICEBERG_CANNOT_OPEN_SPLIT;
-import static io.trino.plugin.iceberg.IcebergUtil.structTypeFromHandles;
+import static io.trino.plugin.iceberg.delete.EqualityDeleteSet.NOT_DELETED;
+import static io.trino.spi.type.TypeUtils.readNativeValue;
 import static java.util.Objects.requireNonNull;
 
 public final class EqualityDeleteFilter
         implements DeleteFilter
 {
-    private final Schema deleteSchema;
-    private final Map<StructLikeWrapper, DataSequenceNumber> deletedRows;
+    private final List<Integer> deleteFieldIds;
+    private final EqualityDeleteSet deletedRows;
 
-    private EqualityDeleteFilter(Schema deleteSchema, Map<StructLikeWrapper, DataSequenceNumber> deletedRows)
+    private EqualityDeleteFilter(List<Integer> deleteFieldIds, EqualityDeleteSet deletedRows)
     {
-        this.deleteSchema = requireNonNull(deleteSchema, "deleteSchema is null");
+        this.deleteFieldIds = requireNonNull(deleteFieldIds, "deleteFieldIds is null");
         this.deletedRows = requireNonNull(deletedRows, "deletedRows is null");
     }
 
     @Override
     public RowPredicate createPredicate(List<IcebergColumnHandle> columns, long splitDataSequenceNumber)
     {
-        StructType fileStructType = structTypeFromHandles(columns);
-        StructType deleteStructType = deleteSchema.asStruct();
-        if (deleteSchema.columns().stream().anyMatch(column -> fileStructType.field(column.fieldId()) == null)) {
-            throw new TrinoException(ICEBERG_CANNOT_OPEN_SPLIT, "columns list doesn't contain all equality delete columns");
+        List<Integer> columnIds = columns.stream()
+                .map(IcebergColumnHandle::getId)
+                .collect(toImmutableList());
+        int[] deleteChannels = new int[deleteFieldIds.size()];
+        for (int i = 0; i < deleteChannels.length; i++) {
+            deleteChannels[i] = columnIds.indexOf(deleteFieldIds.get(i));
+            if (deleteChannels[i] < 0) {
+                throw new TrinoException(ICEBERG_CANNOT_OPEN_SPLIT, "columns list doesn't contain all equality delete columns");
+            }
         }
+        return new EqualityDeletePredicate(deletedRows, deleteChannels, splitDataSequenceNumber);
+    }
 
-        StructLikeWrapper structLikeWrapper = StructLikeWrapper.forType(deleteStructType);
-        StructProjection projection = StructProjection.create(fileStructType, deleteStructType);
-        Type[] types = columns.stream()
-                .map(IcebergColumnHandle::getType)
-                .toArray(Type[]::new);
-
-        return (page, position) -> {
-            StructProjection row = projection.wrap(new LazyTrinoRow(types, page, position));
-            DataSequenceNumber maxDeleteVersion = deletedRows.get(structLikeWrapper.set(row));
-            // clear reference to avoid memory leak
-            structLikeWrapper.set(null);
-            return maxDeleteVersion == null || maxDeleteVersion.dataSequenceNumber() <= splitDataSequenceNumber;
-        };
+    public static EqualityDeleteFilterBuilder builder(List<IcebergColumnHandle> deleteColumns, TypeOperators typeOperators)
+    {
+        return new EqualityDeleteFilterBuilder(deleteColumns, typeOperators);
     }
 
-    public static EqualityDeleteFilterBuilder builder(Schema deleteSchema)
+    private static final class EqualityDeletePredicate
+            implements RowPredicate
     {
-        return new EqualityDeleteFilterBuilder(deleteSchema);
+        private final EqualityDeleteSet deletedRows;
+        private final int[] deleteChannels;
+        private final long splitDataSequenceNumber;
+
+        private EqualityDeletePredicate(EqualityDeleteSet deletedRows, int[] deleteChannels, long splitDataSequenceNumber)
+        {
+            this.deletedRows = requireNonNull(deletedRows, "deletedRows is null");
+            this.deleteChannels = requireNonNull(deleteChannels, "deleteChannels is null");
+            this.splitDataSequenceNumber = splitDataSequenceNumber;
+        }
+
+        @Override
+        public boolean test(SourcePage page, int position)
+        {
+            return isRetained(deletedRows.getSequenceNumber(getDeleteBlocks(page), position));
+        }
+
+        @Override
+        public int filterPositions(SourcePage page, int[] positions, int positionCount)
+        {
+            long[] sequenceNumbers = new long[positionCount];
+            if (deletedRows.getSequenceNumbers(getDeleteBlocks(page), positions, positionCount, sequenceNumbers) == 0) {
+                return positionCount;
+            }
+
+            int retainedCount = 0;
+            for (int i = 0; i < positionCount; i++) {
+                positions[retainedCount] = positions[i];
+                retainedCount += isRetained(sequenceNumbers[i]) ? 1 : 0;
+            }
+            return retainedCount;
+        }
+
+        @Override
+        public long getRetainedSizeInBytes()
+        {
+            return deletedRows.getRetainedSizeInBytes();
+        }
+
+        private Block[] getDeleteBlocks(SourcePage page)
+        {
+            Block[] blocks = new Block[deleteChannels.length];
+            for (int i = 0; i < deleteChannels.length; i++) {
+                blocks[i] = page.getBlock(deleteChannels[i]);
+            }
+            return blocks;
+        }
+
+        private boolean isRetained(long deleteSequenceNumber)
+        {
+            // equality deletes apply only to data files with a strictly lower data sequence number
+            return deleteSequenceNumber == NOT_DELETED || deleteSequenceNumber <= splitDataSequenceNumber;
+        }
     }
 
     @ThreadSafe
     public static class EqualityDeleteFilterBuilder
     {
-        private final Schema deleteSchema;
-        private final Map<StructLikeWrapper, DataSequenceNumber> deletedRows;
+        private final List<IcebergColumnHandle> deleteColumns;
+        private final EqualityDeleteSet deletedRows;
         private final Map<String, ListenableFutureTask<?>> loadingFiles = new ConcurrentHashMap<>();
 
-        private EqualityDeleteFilterBuilder(Schema deleteSchema)
+        private EqualityDeleteFilterBuilder(List<IcebergColumnHandle> deleteColumns, TypeOperators typeOperators)
         {
-            this.deleteSchema = requireNonNull(deleteSchema, "deleteSchema is null");
-            this.deletedRows = new ConcurrentHashMap<>();
+            this.deleteColumns = ImmutableList.copyOf(requireNonNull(deleteColumns, "deleteColumns is null"));
+            this.deletedRows = new EqualityDeleteSet(
+                    deleteColumns.stream()
+                            .map(IcebergColumnHandle::getType)
+                            .collect(toImmutableList()),
+                    typeOperators);
         }
 
-        public ListenableFuture<?> readEqualityDeletes(DeleteFile deleteFile, List<IcebergColumnHandle> deleteColumns, DeletePageSourceProvider deletePageSourceProvider)
+        /**
+         * Loads the equality delete file, skipping delete rows outside the {@code deleteDomain}.
+         * The domain must be the same for all files and splits using this builder.
+         */
+        public ListenableFuture<?> readEqualityDeletes(DeleteFile deleteFile, TupleDomain<IcebergColumnHandle> deleteDomain, DeletePageSourceProvider deletePageSourceProvider)
         {
-            verify(deleteColumns.size() == deleteSchema.columns().size(), "delete columns size doesn't match delete schema size");
-
             // ensure only one thread loads the file
             ListenableFutureTask<?> futureTask = loadingFiles.computeIfAbsent(
                     deleteFile.path(),
-                    key -> ListenableFutureTask.create(() -> readEqualityDeletesInternal(deleteFile, deleteColumns, deletePageSourceProvider), null));
+                    key -> ListenableFutureTask.create(() -> readEqualityDeletesInternal(deleteFile, deleteDomain, deletePageSourceProvider), null));
             futureTask.run();
             return Futures.nonCancellationPropagating(futureTask);
         }
 
-        private void readEqualityDeletesInternal(DeleteFile deleteFile, List<IcebergColumnHandle> deleteColumns, DeletePageSourceProvider deletePageSourceProvider)
+        private void readEqualityDeletesInternal(DeleteFile deleteFile, TupleDomain<IcebergColumnHandle> deleteDomain, DeletePageSourceProvider deletePageSourceProvider)
         {
-            DataSequenceNumber sequenceNumber = new DataSequenceNumber(deleteFile.dataSequenceNumber());
-            try (ConnectorPageSource pageSource = deletePageSourceProvider.openDeletes(deleteFile, deleteColumns, TupleDomain.all())) {
-                Type[] types = deleteColumns.stream()
-                        .map(IcebergColumnHandle::getType)
-                        .toArray(Type[]::new);
+            if (deleteDomain.isNone()) {
+                return;
+            }
+            Domain[] columnDomains = new Domain[deleteColumns.size()];
+            Map<IcebergColumnHandle, Domain> domains = deleteDomain.getDomains().orElseThrow();
+            for (int channel = 0; channel < columnDomains.length; channel++) {
+                columnDomains[channel] = domains.get(deleteColumns.get(channel));
+            }
 
-                StructLikeWrapper wrapper = StructLikeWrapper.forType(deleteSchema.asStruct());
+            try (ConnectorPageSource pageSource = deletePageSourceProvider.openDeletes(deleteFile, deleteColumns, deleteDomain)) {
                 while (!pageSource.isFinished()) {
                     SourcePage page = pageSource.getNextSourcePage();
                     if (page == null) {
                         continue;
                     }
 
-                    for (int position = 0; position < page.getPositionCount(); position++) {
-                        TrinoRow row = new TrinoRow(types, page, position);
-                        deletedRows.merge(wrapper.copyFor(row), sequenceNumber, (existing, newValue) -> {
-                            if (existing.dataSequenceNumber() > newValue.dataSequenceNumber()) {
-                                return existing;
-                            }
-                            return newValue;
-                        });
+                    verify(page.getChannelCount() == deleteColumns.size(), "page channel count doesn't match delete columns size");
+                    Block[] blocks = new Block[page.getChannelCount()];
+                    for (int channel = 0; channel < blocks.length; channel++) {
+                        blocks[channel] = page.getBlock(channel);
                     }
+                    deletedRows.addAll(filterRows(blocks, columnDomains), deleteFile.dataSequenceNumber());
                 }
             }
             catch (IOException e) {
@@ -137,15 +195,57 @@ public final class EqualityDeleteFilter
             }
         }
 
+        /**
+         * The file readers only use the domain to skip row groups or stripes, so the remaining rows are checked individually.
+         */
+        private Block[] filterRows(Block[] blocks, Domain[] columnDomains)
+        {
+            int positionCount = blocks[0].getPositionCount();
+            int[] retained = null;
+            int retainedCount = positionCount;
+            for (int channel = 0; channel < blocks.length; channel++) {
+                Domain domain = columnDomains[channel];
+                if (domain == null) {
+                    continue;
+                }
+                if (retained == null) {
+                    retained = new int[positionCount];
+                    for (int position = 0; position < positionCount; position++) {
+                        retained[position] = position;
+                    }
+                }
+                Block block = blocks[channel];
+                Type type = deleteColumns.get(channel).getType();
+                int count = 0;
+                for (int i = 0; i < retainedCount; i++) {
+                    int position = retained[i];
+                    retained[count] = position;
+                    count += domain.includesNullableValue(readNativeValue(type, block, position)) ? 1 : 0;
+                }
+                retainedCount = count;
+            }
+            if (retainedCount == positionCount) {
+                return blocks;
+            }
+
+            Block[] filtered = new Block[blocks.length];
+            for (int channel = 0; channel < blocks.length; channel++) {
+                filtered[channel] = blocks[channel].copyPositions(retained, 0, retainedCount);
+            }
+            return filtered;
+        }
+
         /**
          * Builds the EqualityDeleteFilter.
          * After building the EqualityDeleteFilter, additional rows can be added to this builder, and the filter can be rebuilt.
          */
         public EqualityDeleteFilter build()
         {
-            return new EqualityDeleteFilter(deleteSchema, deletedRows);
+            return new EqualityDeleteFilter(
+                    deleteColumns.stream()
+                            .map(IcebergColumnHandle::getId)
+                            .collect(toImmutableList()),
+                    deletedRows);
         }
     }
-
-    private record DataSequenceNumber(long dataSequenceNumber) {}
 }
@@ -0,0 +1,380 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.iceberg.delete;
+
+import com.google.errorprone.annotations.ThreadSafe;
+import com.google.errorprone.annotations.concurrent.GuardedBy;
+import io.trino.spi.block.Block;
+import io.trino.spi.type.Type;
+import io.trino.spi.type.TypeOperators;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.airlift.slice.SizeOf.instanceSize;
+import static io.airlift.slice.SizeOf.sizeOf;
+import static io.trino.spi.function.InvocationConvention.InvocationArgumentConvention.BLOCK_POSITION;
+import static io.trino.spi.function.InvocationConvention.InvocationArgumentConvention.BLOCK_POSITION_NOT_NULL;
+import static io.trino.spi.function.InvocationConvention.InvocationReturnConvention.FAIL_ON_NULL;
+import static io.trino.spi.function.InvocationConvention.simpleConvention;
+import static io.trino.spi.type.TypeUtils.NULL_HASH_CODE;
+import static java.lang.Math.max;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Set of equality delete keys, stored in the delete file blocks and indexed by an open addressing
+ * hash table, mapping each key to the highest data sequence number of the delete files containing it.
+ * Keys are compared using the {@code IS NOT DISTINCT FROM} semantics, so {@code null} values match.
+ */
+@ThreadSafe
+final class EqualityDeleteSet
+{
+    public static final long NOT_DELETED = -1;
+
+    private static final int INSTANCE_SIZE = instanceSize(EqualityDeleteSet.class);
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final float FILL_RATIO = 0.75f;
+    private static final int EMPTY_SLOT = -1;
+
+    private final Type[] types;
+    private final MethodHandle[] hashOperators;
+    private final MethodHandle[] identicalOperators;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @GuardedBy("lock")
+    private final List<Block[]> pages = new ArrayList<>();
+    @GuardedBy("lock")
+    private int[] slots;
+    @GuardedBy("lock")
+    private int mask;
+    @GuardedBy("lock")
+    private int[] entryPage;
+    @GuardedBy("lock")
+    private int[] entryPosition;
+    @GuardedBy("lock")
+    private long[] entryHash;
+    @GuardedBy("lock")
+    private long[] entrySequenceNumber;
+    @GuardedBy("lock")
+    private int size;
+    @GuardedBy("lock")
+    private long retainedBlocksSize;
+
+    public EqualityDeleteSet(List<Type> types, TypeOperators typeOperators)
+    {
+        checkArgument(!types.isEmpty(), "types is empty");
+        requireNonNull(typeOperators, "typeOperators is null");
+        this.types = types.toArray(Type[]::new);
+        this.hashOperators = types.stream()
+                .map(type -> typeOperators.getXxHash64Operator(type, simpleConvention(FAIL_ON_NULL, BLOCK_POSITION_NOT_NULL)))
+                .toArray(MethodHandle[]::new);
+        this.identicalOperators = types.stream()
+                .map(type -> typeOperators.getIdenticalOperator(type, simpleConvention(FAIL_ON_NULL, BLOCK_POSITION, BLOCK_POSITION)))
+                .toArray(MethodHandle[]::new);
+
+        slots = new int[INITIAL_CAPACITY];
+        Arrays.fill(slots, EMPTY_SLOT);
+        mask = INITIAL_CAPACITY - 1;
+        entryPage = new int[INITIAL_CAPACITY];
+        entryPosition = new int[INITIAL_CAPACITY];
+        entryHash = new long[INITIAL_CAPACITY];
+        entrySequenceNumber = new long[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Adds all rows of the delete blocks to the set. Rows that are already present keep the
+     * highest of the existing and the new data sequence number.
+     */
+    public void addAll(Block[] blocks, long dataSequenceNumber)
+    {
+        checkArgument(blocks.length == types.length, "Expected %s blocks, but got %s", types.length, blocks.length);
+        int positionCount = blocks[0].getPositionCount();
+        if (positionCount == 0) {
+            return;
+        }
+        int[] positions = new int[positionCount];
+        for (int position = 0; position < positionCount; position++) {
+            positions[position] = position;
+        }
+        long[] hashes = hashPositions(blocks, positions, positionCount);
+
+        lock.writeLock().lock();
+        try {
+            int pageIndex = pages.size();
+            int firstEntry = size;
+            for (int position = 0; position < positionCount; position++) {
+                long hash = hashes[position];
+                int slot = findSlot(blocks, pageIndex, position, hash);
+                int entry = slots[slot];
+                if (entry != EMPTY_SLOT) {
+                    entrySequenceNumber[entry] = max(entrySequenceNumber[entry], dataSequenceNumber);
+                    continue;
+                }
+                ensureEntryCapacity();
+                entry = size;
+                size++;
+                entryPage[entry] = pageIndex;
+                entryPosition[entry] = position;
+                entryHash[entry] = hash;
+                entrySequenceNumber[entry] = dataSequenceNumber;
+                slots[slot] = entry;
+                if (size > slots.length * FILL_RATIO) {
+                    rehash(slots.length * 2);
+                }
+            }
+
+            int addedCount = size - firstEntry;
+            if (addedCount == 0) {
+                return;
+            }
+            Block[] retainedBlocks = blocks;
+            if (addedCount < positionCount) {
+                // retain only the rows which were added, so duplicated keys do not pin the whole delete page
+                int[] addedPositions = Arrays.copyOfRange(entryPosition, firstEntry, size);
+                retainedBlocks = new Block[blocks.length];
+                for (int channel = 0; channel < blocks.length; channel++) {
+                    retainedBlocks[channel] = blocks[channel].copyPositions(addedPositions, 0, addedCount);
+                }
+                for (int entry = firstEntry; entry < size; entry++) {
+                    entryPosition[entry] = entry - firstEntry;
+                }
+            }
+            for (Block block : retainedBlocks) {
+                retainedBlocksSize += block.getRetainedSizeInBytes();
+            }
+            pages.add(retainedBlocks);
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the highest data sequence number of the delete files containing the row.
+     *
+     * @return the sequence number, or {@link #NOT_DELETED} if the row is not contained in the set
+     */
+    public long getSequenceNumber(Block[] blocks, int position)
+    {
+        checkArgument(blocks.length == types.length, "Expected %s blocks, but got %s", types.length, blocks.length);
+        long hash = 0;
+        for (int channel = 0; channel < blocks.length; channel++) {
+            hash = combineHash(hash, blocks[channel], hashOperators[channel], position);
+        }
+
+        lock.readLock().lock();
+        try {
+            if (size == 0) {
+                return NOT_DELETED;
+            }
+            int entry = slots[findSlot(blocks, -1, position, hash)];
+            return entry == EMPTY_SLOT ? NOT_DELETED : entrySequenceNumber[entry];
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the highest data sequence number of the delete files containing each of the rows at the given positions.
+     *
+     * @param sequenceNumbers receives the sequence number for each of the positions, or {@link #NOT_DELETED}
+     * @return the number of rows which are contained in the set
+     */
+    public int getSequenceNumbers(Block[] blocks, int[] positions, int positionCount, long[] sequenceNumbers)
+    {
+        checkArgument(blocks.length == types.length, "Expected %s blocks, but got %s", types.length, blocks.length);
+        long[] hashes = hashPositions(blocks, positions, positionCount);
+
+        int matches = 0;
+        lock.readLock().lock();
+        try {
+            if (size == 0) {
+                Arrays.fill(sequenceNumbers, 0, positionCount, NOT_DELETED);
+                return 0;
+            }
+            for (int i = 0; i < positionCount; i++) {
+                int entry = slots[findSlot(blocks, -1, positions[i], hashes[i])];
+                if (entry == EMPTY_SLOT) {
+                    sequenceNumbers[i] = NOT_DELETED;
+                }
+                else {
+                    sequenceNumbers[i] = entrySequenceNumber[entry];
+                    matches++;
+                }
+            }
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+        return matches;
+    }
+
+    public int size()
+    {
+        lock.readLock().lock();
+        try {
+            return size;
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getRetainedSizeInBytes()
+    {
+        lock.readLock().lock();
+        try {
+            return INSTANCE_SIZE +
+                    sizeOf(slots) +
+                    sizeOf(entryPage) +
+                    sizeOf(entryPosition) +
+                    sizeOf(entryHash) +
+                    sizeOf(entrySequenceNumber) +
+                    retainedBlocksSize;
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Hashes the rows column by column, so each type operator is invoked in a tight loop.
+     */
+    private long[] hashPositions(Block[] blocks, int[] positions, int positionCount)
+    {
+        long[] hashes = new long[positionCount];
+        for (int channel = 0; channel < blocks.length; channel++) {
+            Block block = blocks[channel];
+            MethodHandle hashOperator = hashOperators[channel];
+            for (int i = 0; i < positionCount; i++) {
+                hashes[i] = combineHash(hashes[i], block, hashOperator, positions[i]);
+            }
+        }
+        return hashes;
+    }
+
+    private static long combineHash(long hash, Block block, MethodHandle hashOperator, int position)
+    {
+        long valueHash = block.isNull(position) ? NULL_HASH_CODE : invokeHash(hashOperator, block, position);
+        return hash * 31 + valueHash;
+    }
+
+    /**
+     * Returns the slot containing the key, or the empty slot where the key should be inserted.
+     *
+     * @param pendingPageIndex index of the page being inserted, whose blocks are not yet in {@link #pages}
+     */
+    @GuardedBy("lock")
+    private int findSlot(Block[] blocks, int pendingPageIndex, int position, long hash)
+    {
+        int slot = bucket(hash);
+        while (true) {
+            int entry = slots[slot];
+            if (entry == EMPTY_SLOT) {
+                return slot;
+            }
+            if (entryHash[entry] == hash) {
+                int page = entryPage[entry];
+                Block[] entryBlocks = page == pendingPageIndex ? blocks : pages.get(page);
+                if (isIdentical(entryBlocks, entryPosition[entry], blocks, position)) {
+                    return slot;
+                }
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private boolean isIdentical(Block[] leftBlocks, int leftPosition, Block[] rightBlocks, int rightPosition)
+    {
+        for (int channel = 0; channel < types.length; channel++) {
+            if (!invokeIdentical(identicalOperators[channel], leftBlocks[channel], leftPosition, rightBlocks[channel], rightPosition)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @GuardedBy("lock")
+    private void ensureEntryCapacity()
+    {
+        if (size < entryPage.length) {
+            return;
+        }
+        int newCapacity = entryPage.length * 2;
+        entryPage = Arrays.copyOf(entryPage, newCapacity);
+        entryPosition = Arrays.copyOf(entryPosition, newCapacity);
+        entryHash = Arrays.copyOf(entryHash, newCapacity);
+        entrySequenceNumber = Arrays.copyOf(entrySequenceNumber, newCapacity);
+    }
+
+    @GuardedBy("lock")
+    private void rehash(int newCapacity)
+    {
+        slots = new int[newCapacity];
+        Arrays.fill(slots, EMPTY_SLOT);
+        mask = newCapacity - 1;
+        for (int entry = 0; entry < size; entry++) {
+            int slot = bucket(entryHash[entry]);
+            while (slots[slot] != EMPTY_SLOT) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = entry;
+        }
+    }
+
+    @GuardedBy("lock")
+    private int bucket(long hash)
+    {
+        // fold the high bits in, as the combined hash of the columns is only mixed towards the high bits
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static long invokeHash(MethodHandle hashOperator, Block block, int position)
+    {
+        try {
+            return (long) hashOperator.invokeExact(block, position);
+        }
+        catch (Throwable throwable) {
+            throw propagate(throwable);
+        }
+    }
+
+    private static boolean invokeIdentical(MethodHandle identicalOperator, Block leftBlock, int leftPosition, Block rightBlock, int rightPosition)
+    {
+        try {
+            return (boolean) identicalOperator.invokeExact(leftBlock, leftPosition, rightBlock, rightPosition);
+        }
+        catch (Throwable throwable) {
+            throw propagate(throwable);
+        }
+    }
+
+    private static RuntimeException propagate(Throwable throwable)
+    {
+        if (throwable instanceof Error error) {
+            throw error;
+        }
+        if (throwable instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new RuntimeException(throwable);
+    }
+}
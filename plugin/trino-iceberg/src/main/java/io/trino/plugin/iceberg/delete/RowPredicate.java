@@ -23,25 +23,69 @@ public interface RowPredicate
 {
     boolean test(SourcePage page, int position);
 
+    /**
+     * Retains the positions matching the predicate, moving them to the front of the array.
+     *
+     * @param positions positions of the page to test, in increasing order
+     * @return the number of retained positions
+     */
+    default int filterPositions(SourcePage page, int[] positions, int positionCount)
+    {
+        int retainedCount = 0;
+        for (int i = 0; i < positionCount; i++) {
+            int position = positions[i];
+            positions[retainedCount] = position;
+            retainedCount += test(page, position) ? 1 : 0;
+        }
+        return retainedCount;
+    }
+
+    default long getRetainedSizeInBytes()
+    {
+        return 0;
+    }
+
     default RowPredicate and(RowPredicate other)
     {
         requireNonNull(other, "other is null");
-        return (page, position) -> test(page, position) && other.test(page, position);
+        RowPredicate self = this;
+        return new RowPredicate()
+        {
+            @Override
+            public boolean test(SourcePage page, int position)
+            {
+                return self.test(page, position) && other.test(page, position);
+            }
+
+            @Override
+            public int filterPositions(SourcePage page, int[] positions, int positionCount)
+            {
+                // both predicates are evaluated on the unfiltered page, so the retained positions are selected on the page only once
+                int retainedCount = self.filterPositions(page, positions, positionCount);
+                if (retainedCount == 0) {
+                    return 0;
+                }
+                return other.filterPositions(page, positions, retainedCount);
+            }
+
+            @Override
+            public long getRetainedSizeInBytes()
+            {
+                return self.getRetainedSizeInBytes() + other.getRetainedSizeInBytes();
+            }
+        };
     }
 
     default void applyFilter(SourcePage page)
     {
         int positionCount = page.getPositionCount();
-        int[] retained = new int[positionCount];
-        int retainedCount = 0;
+        int[] positions = new int[positionCount];
         for (int position = 0; position < positionCount; position++) {
-            if (test(page, position)) {
-                retained[retainedCount] = position;
-                retainedCount++;
-            }
+            positions[position] = position;
         }
+        int retainedCount = filterPositions(page, positions, positionCount);
         if (retainedCount != positionCount) {
-            page.selectPositions(retained, 0, retainedCount);
+            page.selectPositions(positions, 0, retainedCount);
         }
     }
 }
@@ -8496,6 +8496,57 @@ public abstract class BaseIcebergConnectorTest
         }
     }
 
+    @Test
+    public void testBucketedJoinWithCompatibleBucketCounts()
+    {
+        String table16 = "test_bucketed_join_16_" + randomNameSuffix();
+        String table32 = "test_bucketed_join_32_" + randomNameSuffix();
+        String table32Partitioned = "test_bucketed_join_32_partitioned_" + randomNameSuffix();
+        String table24 = "test_bucketed_join_24_" + randomNameSuffix();
+        try {
+            assertUpdate("CREATE TABLE " + table16 + " WITH (partitioning = ARRAY['bucket(key, 16)']) AS SELECT orderkey key, comment value FROM orders", 15000);
+            assertUpdate("CREATE TABLE " + table32 + " WITH (partitioning = ARRAY['bucket(key, 32)']) AS SELECT orderkey key, comment value FROM orders", 15000);
+            assertUpdate("CREATE TABLE " + table32Partitioned + " WITH (partitioning = ARRAY['bucket(key, 32)', 'status']) AS SELECT orderkey key, orderstatus status, comment value FROM orders", 15000);
+            assertUpdate("CREATE TABLE " + table24 + " WITH (partitioning = ARRAY['bucket(key, 24)']) AS SELECT orderkey key, comment value FROM orders", 15000);
+            Session planWithTableNodePartitioning = Session.builder(getSession())
+                    .setCatalogSessionProperty("iceberg", BUCKET_EXECUTION_ENABLED, "true")
+                    .build();
+            @Language("SQL") String expectedQuery = "SELECT a.orderkey, a.comment FROM orders a JOIN orders USING (orderkey)";
+
+            // the bucket count of 32 can be folded into 16 buckets, so the join does not require a remote exchange
+            assertQuery(
+                    planWithTableNodePartitioning,
+                    "SELECT key, a.value FROM " + table32 + " a JOIN " + table16 + " USING (key)",
+                    expectedQuery,
+                    assertRemoteExchangesCount(0));
+            assertQuery(
+                    planWithTableNodePartitioning,
+                    "SELECT key, a.value FROM " + table16 + " a JOIN " + table32 + " USING (key)",
+                    expectedQuery,
+                    assertRemoteExchangesCount(0));
+
+            // an additional identity partitioning on a column which is not joined on is ignored
+            assertQuery(
+                    planWithTableNodePartitioning,
+                    "SELECT key, a.value FROM " + table32Partitioned + " a JOIN " + table16 + " USING (key)",
+                    expectedQuery,
+                    assertRemoteExchangesCount(0));
+
+            // the buckets of 24 cannot be folded into 16 buckets
+            assertQuery(
+                    planWithTableNodePartitioning,
+                    "SELECT key, a.value FROM " + table24 + " a JOIN " + table16 + " USING (key)",
+                    expectedQuery,
+                    assertRemoteExchangesCount(1));
+        }
+        finally {
+            assertUpdate("DROP TABLE IF EXISTS " + table16);
+            assertUpdate("DROP TABLE IF EXISTS " + table32);
+            assertUpdate("DROP TABLE IF EXISTS " + table32Partitioned);
+            assertUpdate("DROP TABLE IF EXISTS " + table24);
+        }
+    }
+
     @Test
     public void testBucketPartitionFilterIncluded()
     {
@@ -44,6 +44,7 @@ import io.trino.sql.tree.ExplainType;
 import io.trino.testing.AbstractTestQueryFramework;
 import io.trino.testing.MaterializedRow;
 import io.trino.testing.QueryRunner;
+import io.trino.testing.QueryRunner.MaterializedResultWithPlan;
 import org.apache.iceberg.PartitionField;
 import org.apache.iceberg.TableMetadata;
 import org.apache.iceberg.TableMetadataParser;
@@ -1062,6 +1063,67 @@ public abstract class BaseIcebergMaterializedViewTest
         assertUpdate("DROP TABLE %s".formatted(sourceTableName));
     }
 
+    @Test
+    public void testIncrementalRefreshForAggregation()
+    {
+        String sourceTableName = "source_table" + randomNameSuffix();
+        String materializedViewName = "test_materialized_view_" + randomNameSuffix();
+
+        Session incrementalRefreshDisabled = Session.builder(getSession())
+                .setCatalogSessionProperty("iceberg", "incremental_refresh_enabled", "false")
+                .build();
+
+        String matViewDef = "SELECT a % 2 AS k, count(*) AS c, sum(a) AS s, min(b) AS mn, max(b) AS mx FROM %s WHERE a > 0 GROUP BY a % 2".formatted(sourceTableName);
+
+        // create source table and two identical MVs
+        assertUpdate("CREATE TABLE %s (a bigint, b varchar)".formatted(sourceTableName));
+        assertUpdate("INSERT INTO %s VALUES (1, 'abc'), (2, 'def'), (-1, 'zzz')".formatted(sourceTableName), 3);
+        assertUpdate("CREATE MATERIALIZED VIEW %s_1 AS %s".formatted(materializedViewName, matViewDef));
+        assertUpdate("CREATE MATERIALIZED VIEW %s_2 AS %s".formatted(materializedViewName, matViewDef));
+        assertUpdate("REFRESH MATERIALIZED VIEW %s_1".formatted(materializedViewName), 2);
+        assertUpdate("REFRESH MATERIALIZED VIEW %s_2".formatted(materializedViewName), 2);
+
+        // add some new rows to source
+        assertUpdate("INSERT INTO %s VALUES (3, 'aaa'), (4, 'jkl'), (6, 'pqr')".formatted(sourceTableName), 3);
+
+        // will aggregate only the new rows, and combine them with the current groups of the storage table,
+        // so the refresh reads the 3 appended rows of the source table and the 2 rows of the storage table
+        assertThat(refreshAndGetPhysicalInputPositions(getSession(), materializedViewName + "_1", 2)).isEqualTo(5);
+        // will aggregate all rows of the source table
+        assertThat(refreshAndGetPhysicalInputPositions(incrementalRefreshDisabled, materializedViewName + "_2", 2)).isEqualTo(6);
+
+        String expected = "VALUES (BIGINT '0', BIGINT '3', BIGINT '12', VARCHAR 'def', VARCHAR 'pqr'), (1, 2, 4, 'aaa', 'abc')";
+        assertThat(query("TABLE %s_1".formatted(materializedViewName))).matches(expected);
+        assertThat(query("TABLE %s_2".formatted(materializedViewName))).matches(expected);
+
+        // refreshing again does not count the rows twice
+        assertUpdate("REFRESH MATERIALIZED VIEW %s_1".formatted(materializedViewName), 2);
+        assertThat(query("TABLE %s_1".formatted(materializedViewName))).matches(expected);
+
+        // will aggregate all rows of the source table due to the delete
+        assertUpdate("DELETE FROM %s WHERE a = 2".formatted(sourceTableName), 1);
+        assertUpdate("INSERT INTO %s VALUES (5, 'stv')".formatted(sourceTableName), 1);
+        assertUpdate("REFRESH MATERIALIZED VIEW %s_1".formatted(materializedViewName), 2);
+        assertThat(query("TABLE %s_1".formatted(materializedViewName)))
+                .matches("VALUES (BIGINT '0', BIGINT '2', BIGINT '10', VARCHAR 'jkl', VARCHAR 'pqr'), (1, 3, 9, 'aaa', 'stv')");
+
+        // cleanup
+        assertUpdate("DROP MATERIALIZED VIEW %s_1".formatted(materializedViewName));
+        assertUpdate("DROP MATERIALIZED VIEW %s_2".formatted(materializedViewName));
+        assertUpdate("DROP TABLE %s".formatted(sourceTableName));
+    }
+
+    private long refreshAndGetPhysicalInputPositions(Session session, String materializedViewName, long expectedRowCount)
+    {
+        MaterializedResultWithPlan result = getDistributedQueryRunner().executeWithPlan(session, "REFRESH MATERIALIZED VIEW " + materializedViewName);
+        assertThat(result.result().getUpdateCount()).hasValue(expectedRowCount);
+        return getDistributedQueryRunner().getCoordinator()
+                .getQueryManager()
+                .getFullQueryInfo(result.queryId())
+                .getQueryStats()
+                .getPhysicalInputPositions();
+    }
+
     @Test
     public void testRefreshWithCompaction()
     {
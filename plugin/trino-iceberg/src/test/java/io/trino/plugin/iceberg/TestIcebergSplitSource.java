@@ -16,6 +16,7 @@ package io.trino.plugin.iceberg;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ListeningExecutorService;
 import io.airlift.units.Duration;
 import io.trino.filesystem.TrinoFileSystemFactory;
 import io.trino.filesystem.cache.DefaultCachingHostAddressProvider;
@@ -34,6 +35,7 @@ import io.trino.spi.SplitWeight;
 import io.trino.spi.catalog.CatalogName;
 import io.trino.spi.connector.ColumnHandle;
 import io.trino.spi.connector.ConnectorSession;
+import io.trino.spi.connector.ConnectorSplitSource.ConnectorSplitBatch;
 import io.trino.spi.connector.DynamicFilter;
 import io.trino.spi.connector.SchemaTableName;
 import io.trino.spi.predicate.Domain;
@@ -78,11 +80,20 @@ import java.util.OptionalLong;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.google.common.io.MoreFiles.deleteRecursively;
 import static com.google.common.io.RecursiveDeleteOption.ALLOW_INSECURE;
 import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static com.google.common.util.concurrent.MoreExecutors.listeningDecorator;
 import static com.google.common.util.concurrent.MoreExecutors.newDirectExecutorService;
+import static com.google.common.util.concurrent.Uninterruptibles.awaitUninterruptibly;
+import static io.airlift.concurrent.Threads.daemonThreadsNamed;
 import static io.trino.metastore.cache.CachingHiveMetastore.createPerTransactionCache;
 import static io.trino.plugin.iceberg.IcebergSplitSource.createFileStatisticsDomain;
 import static io.trino.plugin.iceberg.IcebergTestUtils.FILE_IO_FACTORY;
@@ -91,7 +102,9 @@ import static io.trino.plugin.iceberg.IcebergTestUtils.getHiveMetastore;
 import static io.trino.plugin.iceberg.util.EqualityDeleteUtils.writeEqualityDeleteForTable;
 import static io.trino.spi.connector.Constraint.alwaysTrue;
 import static io.trino.spi.type.BigintType.BIGINT;
+import static io.trino.testing.TestingNames.randomNameSuffix;
 import static io.trino.tpch.TpchTable.NATION;
+import static java.util.concurrent.Executors.newCachedThreadPool;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
@@ -231,6 +244,76 @@ public class TestIcebergSplitSource
         }
     }
 
+    @Test
+    public void testSplitsStreamedInSmallBatches()
+            throws Exception
+    {
+        String tableName = "test_split_streaming_" + randomNameSuffix();
+        assertUpdate("CREATE TABLE " + tableName + " AS SELECT * FROM nation WITH NO DATA", 0);
+        for (int regionKey = 0; regionKey < 5; regionKey++) {
+            assertUpdate("INSERT INTO " + tableName + " SELECT * FROM nation WHERE regionkey = " + regionKey, 5);
+        }
+        SchemaTableName schemaTableName = new SchemaTableName("tpch", tableName);
+        Table icebergTable = catalog.loadTable(SESSION, schemaTableName);
+        IcebergTableHandle tableHandle = createTableHandle(schemaTableName, icebergTable, TupleDomain.all());
+
+        ListeningExecutorService executor = listeningDecorator(newCachedThreadPool(daemonThreadsNamed("test-split-streaming-%s")));
+        // Only the first manifest is read until the gate is opened, so planning cannot finish before that
+        CountDownLatch planningGate = new CountDownLatch(1);
+        AtomicInteger planningTasks = new AtomicInteger();
+        ExecutorService planningExecutor = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, SECONDS, new SynchronousQueue<>(), daemonThreadsNamed("test-split-planning-%s"))
+        {
+            @Override
+            protected void beforeExecute(Thread thread, Runnable task)
+            {
+                if (planningTasks.getAndIncrement() > 0) {
+                    awaitUninterruptibly(planningGate);
+                }
+            }
+        };
+        try (IcebergSplitSource splitSource = new IcebergSplitSource(
+                new DefaultIcebergFileSystemFactory(fileSystemFactory),
+                SESSION,
+                tableHandle,
+                icebergTable,
+                icebergTable.newScan().planWith(planningExecutor),
+                Optional.empty(),
+                DynamicFilter.EMPTY,
+                new Duration(0, SECONDS),
+                alwaysTrue(),
+                new TestingTypeManager(),
+                false,
+                0,
+                new DefaultCachingHostAddressProvider(),
+                new InMemoryMetricsReporter(),
+                executor)) {
+            ImmutableSet.Builder<String> files = ImmutableSet.builder();
+
+            // The split of the first manifest is returned while the remaining manifests are still being planned
+            ConnectorSplitBatch firstBatch = splitSource.getNextBatch(1).get(10, SECONDS);
+            assertThat(firstBatch.getSplits()).hasSize(1);
+            assertThat(firstBatch.isNoMoreSplits()).isFalse();
+            assertThat(splitSource.isFinished()).isFalse();
+            files.add(((IcebergSplit) firstBatch.getSplits().getFirst()).getPath());
+
+            planningGate.countDown();
+            while (!splitSource.isFinished()) {
+                List<IcebergSplit> splits = splitSource.getNextBatch(1).get().getSplits().stream()
+                        .map(IcebergSplit.class::cast)
+                        .collect(toImmutableList());
+                assertThat(splits).hasSizeLessThanOrEqualTo(1);
+                splits.forEach(split -> files.add(split.getPath()));
+            }
+            assertThat((long) files.build().size()).isEqualTo(computeScalar("SELECT count(*) FROM \"" + tableName + "$files\""));
+        }
+        finally {
+            planningGate.countDown();
+            planningExecutor.shutdownNow();
+            executor.shutdownNow();
+            assertUpdate("DROP TABLE " + tableName);
+        }
+    }
+
     @Test
     public void testFileStatisticsDomain()
             throws Exception
@@ -50,6 +50,7 @@ import org.apache.iceberg.BaseTable;
 import org.apache.iceberg.DataFile;
 import org.apache.iceberg.DataFiles;
 import org.apache.iceberg.FileContent;
+import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.Metrics;
 import org.apache.iceberg.PartitionField;
 import org.apache.iceberg.PartitionSpec;
@@ -432,6 +433,29 @@ public class TestIcebergV2
         assertUpdate("DROP TABLE " + tableName);
     }
 
+    @Test
+    public void testEqualityDeletesWithPredicateOnDeleteColumn()
+            throws Exception
+    {
+        String tableName = "test_equality_deletes_predicate_" + randomNameSuffix();
+        assertUpdate("CREATE TABLE " + tableName + " AS SELECT * FROM tpch.tiny.nation", 25);
+        Table icebergTable = loadTable(tableName);
+
+        for (int i = 1; i < 3; i++) {
+            writeEqualityDeleteToNationTable(
+                    icebergTable,
+                    Optional.empty(),
+                    Optional.empty(),
+                    ImmutableMap.of("regionkey", Integer.toUnsignedLong(i)));
+        }
+
+        // the delete rows outside the predicate are skipped while loading the delete files
+        assertQuery("SELECT * FROM " + tableName + " WHERE regionkey IN (1, 3)", "SELECT * FROM nation WHERE regionkey = 3");
+        assertQuery("SELECT * FROM " + tableName + " WHERE regionkey >= 2", "SELECT * FROM nation WHERE regionkey >= 3");
+        assertQuery("SELECT count(*) FROM " + tableName + " WHERE regionkey = 2", "VALUES 0");
+        assertUpdate("DROP TABLE " + tableName);
+    }
+
     @Test
     public void testEqualityDeleteAppliesOnlyToCorrectDataVersion()
             throws Exception
@@ -531,6 +555,41 @@ public class TestIcebergV2
         assertUpdate("DROP TABLE " + tableName);
     }
 
+    @Test
+    public void testPositionAndEqualityDeletes()
+            throws Exception
+    {
+        testPositionAndEqualityDeletes(PARQUET);
+        testPositionAndEqualityDeletes(ORC);
+    }
+
+    private void testPositionAndEqualityDeletes(FileFormat format)
+            throws Exception
+    {
+        String tableName = "test_position_and_equality_deletes_" + randomNameSuffix();
+        assertUpdate("CREATE TABLE " + tableName + " WITH (format = '" + format + "') AS SELECT * FROM tpch.tiny.nation", 25);
+        // written as position deletes, since only part of the data file is deleted
+        assertUpdate("DELETE FROM " + tableName + " WHERE nationkey IN (4, 6)", 2);
+        Table icebergTable = loadTable(tableName);
+        writeEqualityDeleteToNationTableWithDeleteColumns(
+                icebergTable,
+                Optional.empty(),
+                Optional.empty(),
+                ImmutableMap.of("regionkey", 1L),
+                Optional.of(ImmutableList.of("regionkey")));
+        writeEqualityDeleteToNationTableWithDeleteColumns(
+                icebergTable,
+                Optional.empty(),
+                Optional.empty(),
+                ImmutableMap.of("name", "ALGERIA"),
+                Optional.of(ImmutableList.of("name")));
+
+        // the position deletes and the equality deletes of both schemas are applied to the same data pages
+        assertQuery("SELECT * FROM " + tableName, "SELECT * FROM nation WHERE nationkey NOT IN (4, 6) AND regionkey != 1 AND name != 'ALGERIA'");
+        assertQuery("SELECT nationkey, comment FROM " + tableName, "SELECT nationkey, comment FROM nation WHERE nationkey NOT IN (4, 6) AND regionkey != 1 AND name != 'ALGERIA'");
+        assertUpdate("DROP TABLE " + tableName);
+    }
+
     @Test
     public void testEqualityDeletesAcrossPartitions()
             throws Exception
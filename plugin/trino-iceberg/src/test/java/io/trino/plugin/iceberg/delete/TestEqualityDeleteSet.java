@@ -0,0 +1,98 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.trino.plugin.iceberg.delete;
+
+import com.google.common.collect.ImmutableList;
+import io.trino.spi.block.Block;
+import io.trino.spi.type.TypeOperators;
+import org.junit.jupiter.api.Test;
+
+import static io.trino.block.BlockAssertions.createLongSequenceBlock;
+import static io.trino.block.BlockAssertions.createLongsBlock;
+import static io.trino.block.BlockAssertions.createStringsBlock;
+import static io.trino.plugin.iceberg.delete.EqualityDeleteSet.NOT_DELETED;
+import static io.trino.spi.type.BigintType.BIGINT;
+import static io.trino.spi.type.VarcharType.VARCHAR;
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class TestEqualityDeleteSet
+{
+    private static final TypeOperators TYPE_OPERATORS = new TypeOperators();
+
+    @Test
+    void testMultipleColumns()
+    {
+        EqualityDeleteSet set = new EqualityDeleteSet(ImmutableList.of(BIGINT, VARCHAR), TYPE_OPERATORS);
+        set.addAll(new Block[] {createLongsBlock(1L, 2L, null), createStringsBlock("a", "b", "c")}, 5);
+        set.addAll(new Block[] {createLongsBlock(2L, 2L), createStringsBlock("b", "x")}, 7);
+        set.addAll(new Block[] {createLongsBlock(1L), createStringsBlock("a")}, 3);
+        assertThat(set.size()).isEqualTo(4);
+
+        Block[] probe = {createLongsBlock(1L, 2L, null, 2L, 1L, null), createStringsBlock("a", "b", "c", "x", "b", "a")};
+        long[] sequenceNumbers = new long[6];
+        assertThat(set.getSequenceNumbers(probe, new int[] {0, 1, 2, 3, 4, 5}, 6, sequenceNumbers)).isEqualTo(4);
+        assertThat(sequenceNumbers).containsExactly(5, 7, 5, 7, NOT_DELETED, NOT_DELETED);
+
+        assertThat(set.getSequenceNumber(probe, 1)).isEqualTo(7);
+        assertThat(set.getSequenceNumber(probe, 2)).isEqualTo(5);
+        assertThat(set.getSequenceNumber(probe, 4)).isEqualTo(NOT_DELETED);
+    }
+
+    @Test
+    void testSelectedPositions()
+    {
+        EqualityDeleteSet set = new EqualityDeleteSet(ImmutableList.of(BIGINT), TYPE_OPERATORS);
+        set.addAll(new Block[] {createLongsBlock(1L, 3L, 5L)}, 2);
+
+        Block[] probe = {createLongSequenceBlock(0, 6)};
+        long[] sequenceNumbers = new long[3];
+        assertThat(set.getSequenceNumbers(probe, new int[] {1, 2, 5, 4}, 3, sequenceNumbers)).isEqualTo(2);
+        assertThat(sequenceNumbers).containsExactly(2, NOT_DELETED, 2);
+    }
+
+    @Test
+    void testRehash()
+    {
+        EqualityDeleteSet set = new EqualityDeleteSet(ImmutableList.of(BIGINT), TYPE_OPERATORS);
+        set.addAll(new Block[] {createLongSequenceBlock(0, 10_000)}, 1);
+        set.addAll(new Block[] {createLongSequenceBlock(5_000, 15_000)}, 2);
+        assertThat(set.size()).isEqualTo(15_000);
+
+        long[] sequenceNumbers = new long[20_000];
+        assertThat(set.getSequenceNumbers(new Block[] {createLongSequenceBlock(0, 20_000)}, sequentialPositions(20_000), 20_000, sequenceNumbers)).isEqualTo(15_000);
+        for (int value = 0; value < 20_000; value++) {
+            long expected = value < 5_000 ? 1 : value < 15_000 ? 2 : NOT_DELETED;
+            assertThat(sequenceNumbers[value]).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void testEmpty()
+    {
+        EqualityDeleteSet set = new EqualityDeleteSet(ImmutableList.of(BIGINT), TYPE_OPERATORS);
+        long[] sequenceNumbers = new long[2];
+        assertThat(set.getSequenceNumbers(new Block[] {createLongsBlock(1L, null)}, new int[] {0, 1}, 2, sequenceNumbers)).isZero();
+        assertThat(sequenceNumbers).containsExactly(NOT_DELETED, NOT_DELETED);
+        assertThat(set.getSequenceNumber(new Block[] {createLongsBlock(1L)}, 0)).isEqualTo(NOT_DELETED);
+    }
+
+    private static int[] sequentialPositions(int positionCount)
+    {
+        int[] positions = new int[positionCount];
+        for (int position = 0; position < positionCount; position++) {
+            positions[position] = position;
+        }
+        return positions;
+    }
+}
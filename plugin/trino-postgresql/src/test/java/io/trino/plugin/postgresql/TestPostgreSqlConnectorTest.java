@@ -191,6 +191,29 @@ public class TestPostgreSqlConnectorTest
         }
     }
 
+    @Test
+    public void testRangeSplitsOnPrimaryKey()
+    {
+        try (TestTable table = new TestTable(
+                onRemoteDatabase(),
+                "tpch.test_range_splits",
+                "(id bigint PRIMARY KEY, name varchar(20))",
+                range(-50, 50).mapToObj(id -> "%s, 'name %s'".formatted(id, id)).collect(toImmutableList()))) {
+            String sql = "SELECT id, name FROM " + table.getName();
+            Session session = rangeSplits(4, Optional.empty());
+
+            assertThat(assertSplitCount(session, sql, 4).getMaterializedRows())
+                    .containsExactlyInAnyOrderElementsOf(computeActual(sql).getMaterializedRows());
+
+            // a limit or a sort order pushed down applies to the whole table, so the table is read in a single split
+            assertThat(query(session, sql + " LIMIT 10")).isFullyPushedDown();
+            assertThat(assertSplitCount(session, sql + " LIMIT 10", 1).getRowCount()).isEqualTo(10);
+            assertThat(query(session, sql + " ORDER BY id LIMIT 10")).isFullyPushedDown();
+            assertThat(assertSplitCount(session, sql + " ORDER BY id LIMIT 10", 1).getMaterializedRows())
+                    .containsExactlyElementsOf(computeActual(sql + " ORDER BY id LIMIT 10").getMaterializedRows());
+        }
+    }
+
     @Test
     public void testTimestampPrecisionOnCreateTableAsSelect()
     {